@@ -0,0 +1,120 @@
+package com.crimecat.backend.schedule;
+
+import com.crimecat.backend.schedule.util.ICalStreamReader;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import net.fortuna.ical4j.data.CalendarBuilder;
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.Component;
+import net.fortuna.ical4j.model.component.VEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * iCal 파싱 경로 비교 벤치마크
+ * - ical4j: 기존 MultipleCalendarService.fetchEventsFromCalendar (전체 객체 그래프 생성 후 기간 필터)
+ * - regexSplit: 기존 ICalParsingService.extractEventDates (문자열 split + 정규식)
+ * - streaming: ICalStreamReader (줄 단위, 기간 밖 이벤트 건너뜀)
+ * - 입력: 과거 수년치 일정이 쌓인 공유 캘린더를 가정한 이벤트 N개 피드 (10% 는 주간 반복 일정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ICalParsingBenchmark {
+
+    private static final Pattern DTSTART_PATTERN = Pattern.compile("DTSTART(?:;[^:]*)?:([\\d]{8}T?[\\d]{0,6}Z?)");
+    private static final DateTimeFormatter ICAL_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter ICAL_DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    @Param({"10000"})
+    public int eventCount;
+
+    private String feed;
+    private LocalDate windowStart;
+    private LocalDate windowEnd;
+
+    @Setup
+    public void setUp() {
+        windowStart = LocalDate.of(2026, 1, 1);
+        windowEnd = windowStart.plusMonths(3).minusDays(1);
+
+        // 약 4년 전부터 매일 여러 건씩 쌓인 피드
+        LocalDateTime base = windowStart.minusYears(4).atTime(9, 0);
+        StringBuilder builder = new StringBuilder(eventCount * 300);
+        builder.append("BEGIN:VCALENDAR\r\n")
+                .append("PRODID:-//Google Inc//Google Calendar 70.9054//EN\r\n")
+                .append("VERSION:2.0\r\n")
+                .append("X-WR-CALNAME:Benchmark\r\n");
+        for (int i = 0; i < eventCount; i++) {
+            LocalDateTime start = base.plusHours(i * 4L);
+            builder.append("BEGIN:VEVENT\r\n")
+                    .append("DTSTART:").append(start.format(ICAL_DATETIME_FORMAT)).append("Z\r\n")
+                    .append("DTEND:").append(start.plusHours(1).format(ICAL_DATETIME_FORMAT)).append("Z\r\n")
+                    .append("DTSTAMP:20250101T000000Z\r\n")
+                    .append("UID:event-").append(i).append("@benchmark\r\n");
+            if (i % 10 == 0) {
+                builder.append("RRULE:FREQ=WEEKLY;COUNT=52\r\n");
+            }
+            builder.append("SUMMARY:Event ").append(i).append("\r\n")
+                    .append("DESCRIPTION:Generated event number ").append(i)
+                    .append(" with a reasonably long description line\r\n")
+                    .append("LOCATION:Room ").append(i % 20).append("\r\n")
+                    .append("END:VEVENT\r\n");
+        }
+        builder.append("END:VCALENDAR\r\n");
+        feed = builder.toString();
+    }
+
+    @Benchmark
+    public int ical4j() throws Exception {
+        Calendar calendar = new CalendarBuilder().build(new StringReader(feed));
+        List<LocalDateTime> starts = calendar.getComponents(Component.VEVENT).stream()
+                .map(component -> (VEvent) component)
+                .map(event -> event.getStartDate() == null ? null
+                        : event.getStartDate().getDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime())
+                .filter(Objects::nonNull)
+                .filter(start -> !start.toLocalDate().isBefore(windowStart) && !start.toLocalDate().isAfter(windowEnd))
+                .toList();
+        return starts.size();
+    }
+
+    @Benchmark
+    public int regexSplit() {
+        Set<LocalDate> dates = new HashSet<>();
+        for (String event : feed.split("BEGIN:VEVENT")) {
+            if (!event.contains("DTSTART")) {
+                continue;
+            }
+            Matcher matcher = DTSTART_PATTERN.matcher(event);
+            if (!matcher.find()) {
+                continue;
+            }
+            LocalDate date = LocalDate.parse(matcher.group(1).substring(0, 8), ICAL_DATE_FORMAT);
+            if (!date.isBefore(windowStart) && !date.isAfter(windowEnd)) {
+                dates.add(date);
+            }
+        }
+        return dates.size();
+    }
+
+    @Benchmark
+    public int streaming() throws Exception {
+        return ICalStreamReader.read(new StringReader(feed), windowStart, windowEnd).events().size();
+    }
+}
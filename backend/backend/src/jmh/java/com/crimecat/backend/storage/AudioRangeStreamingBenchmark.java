@@ -0,0 +1,153 @@
+package com.crimecat.backend.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.io.UrlResource;
+
+/**
+ * 오디오 Range 전송 경로 비교 벤치마크 (100MB 파일 → loopback 소켓)
+ * - legacyStreamCopy: 기존 AudioAttachmentController (UrlResource InputStream 을 다시 열고 skip 후 8KB 버퍼 복사)
+ * - channelTransferTo: StoredFile.transfer (FileChannel 위치 지정 후 transferTo, 소켓 대상이면 sendfile)
+ * - range: FULL = 파일 전체, SEEK = 90MB 지점부터 1MB (긴 트랙 중간 탐색)
+ * - cpuNanos 보조 카운터: 초당 소비한 벤치마크 스레드 CPU 시간(ns, user+system) → ops/s 로 나누면 요청당 CPU
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AudioRangeStreamingBenchmark {
+
+    private static final long FILE_SIZE = 100L * 1024 * 1024;
+    private static final long SEEK_POSITION = 90L * 1024 * 1024;
+    private static final long SEEK_LENGTH = 1024 * 1024;
+
+    @Param({"FULL", "SEEK"})
+    public String range;
+
+    private Path file;
+    private StoredFile storedFile;
+    private ServerSocketChannel server;
+    private SocketChannel client;
+    private Thread drainer;
+    private long start;
+    private long count;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class CpuCounters {
+
+        private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+        public long cpuNanos;
+
+        long now() {
+            return THREADS.getCurrentThreadCpuTime();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("audio-range-benchmark", ".mp3");
+        byte[] chunk = new byte[1024 * 1024];
+        ThreadLocalRandom.current().nextBytes(chunk);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            for (long written = 0; written < FILE_SIZE; written += chunk.length) {
+                channel.write(ByteBuffer.wrap(chunk));
+            }
+        }
+        storedFile = StoredFile.of(file);
+
+        if ("SEEK".equals(range)) {
+            start = SEEK_POSITION;
+            count = SEEK_LENGTH;
+        } else {
+            start = 0;
+            count = FILE_SIZE;
+        }
+
+        // 받은 바이트를 버리기만 하는 loopback 수신측 (브라우저 역할)
+        server = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        client = SocketChannel.open(server.getLocalAddress());
+        SocketChannel accepted = server.accept();
+        drainer = new Thread(() -> {
+            ByteBuffer sink = ByteBuffer.allocateDirect(256 * 1024);
+            try (accepted) {
+                while (accepted.read(sink) >= 0) {
+                    sink.clear();
+                }
+            } catch (IOException ignored) {
+                // 종료 시 소켓 닫힘
+            }
+        }, "audio-range-benchmark-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        client.close();
+        server.close();
+        drainer.join(5_000);
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long legacyStreamCopy(CpuCounters cpu) throws IOException {
+        long cpuStart = cpu.now();
+        OutputStream out = Channels.newOutputStream(client);
+        long copied = 0;
+        try (InputStream inputStream = new UrlResource(file.toUri()).getInputStream()) {
+            if (inputStream.skip(start) != start) {
+                throw new IOException("skip failed");
+            }
+            byte[] buffer = new byte[8192];
+            long remaining = count;
+            while (remaining > 0) {
+                int bytesRead = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (bytesRead == -1) {
+                    break;
+                }
+                out.write(buffer, 0, bytesRead);
+                remaining -= bytesRead;
+                copied += bytesRead;
+            }
+        }
+        cpu.cpuNanos += cpu.now() - cpuStart;
+        return copied;
+    }
+
+    @Benchmark
+    public long channelTransferTo(CpuCounters cpu) throws IOException {
+        long cpuStart = cpu.now();
+        try (FileChannel channel = storedFile.openChannel()) {
+            StoredFile.transfer(channel, start, count, client);
+        }
+        cpu.cpuNanos += cpu.now() - cpuStart;
+        return count;
+    }
+}
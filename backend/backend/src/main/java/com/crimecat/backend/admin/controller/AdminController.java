@@ -10,6 +10,7 @@ import com.crimecat.backend.admin.dto.permission.RevokePermissionRequest;
 import com.crimecat.backend.admin.dto.permission.UserPermissionResponse;
 import com.crimecat.backend.permission.domain.Permission;
 import com.crimecat.backend.permission.service.PermissionService;
+import com.crimecat.backend.point.service.PointHistoryService;
 import com.crimecat.backend.user.domain.DiscordUser;
 import com.crimecat.backend.user.domain.UserPermission;
 import com.crimecat.backend.user.dto.UserGrantedPermissionDto;
@@ -21,7 +22,6 @@ import com.crimecat.backend.exception.ErrorStatus;
 import com.crimecat.backend.user.domain.User;
 import com.crimecat.backend.user.service.UserService;
 import com.crimecat.backend.utils.AuthenticationUtil;
-import com.crimecat.backend.webUser.domain.WebUser;
 import com.crimecat.backend.webUser.dto.WebUserResponse;
 import com.crimecat.backend.webUser.enums.UserRole;
 import com.crimecat.backend.webUser.service.WebUserService;
@@ -52,6 +52,7 @@ public class AdminController {
     private final UserPermissionQueryService userPermissionQueryService;
     private final DiscordUserQueryService discordUserQueryService;
     private final UserRepository userRepository;
+    private final PointHistoryService pointHistoryService;
     private final EntityManager entityManager;
     
     /**
@@ -76,8 +77,7 @@ public class AdminController {
         AuthenticationUtil.validateUserHasMinimumRole(UserRole.ADMIN);
         
         // 현재 인증된 사용자가 본인의 역할을 변경하려는 경우 방지
-        WebUser currentUser = AuthenticationUtil.getCurrentWebUser();
-        if (currentUser.getId().equals(request.getUserId())) {
+        if (AuthenticationUtil.getCurrentWebUserId().equals(request.getUserId())) {
             throw ErrorStatus.INVALID_REQUEST.asControllerException();
         }
         
@@ -94,12 +94,9 @@ public class AdminController {
         AuthenticationUtil.validateUserHasMinimumRole(UserRole.MANAGER);
         
         User user = userService.getUserById(request.getUserId());
-        user.addPoint(request.getAmount());
-        User savedUser = userService.save(user);
+        pointHistoryService.adminAddPoint(user, request.getAmount());
         
-        // TODO: 포인트 내역 저장 로직 추가 (필요시)
-        
-        return ResponseEntity.ok(savedUser.getPoint());
+        return ResponseEntity.ok(user.getPoint());
     }
     
     /**
@@ -113,12 +110,9 @@ public class AdminController {
         User user = userService.getUserById(request.getUserId());
         
         try {
-            user.subtractPoint(request.getAmount());
-            User savedUser = userService.save(user);
-            
-            // TODO: 포인트 내역 저장 로직 추가 (필요시)
+            pointHistoryService.adminSubtractPoint(user, request.getAmount());
             
-            return ResponseEntity.ok(savedUser.getPoint());
+            return ResponseEntity.ok(user.getPoint());
         } catch (IllegalStateException e) {
             throw ErrorStatus.INVALID_REQUEST.asControllerException();
         }
@@ -133,8 +127,7 @@ public class AdminController {
         AuthenticationUtil.validateUserHasMinimumRole(UserRole.ADMIN);
         
         // 현재 인증된 사용자가 본인을 차단하려는 경우 방지
-        WebUser currentUser = AuthenticationUtil.getCurrentWebUser();
-        if (currentUser.getId().equals(userId)) {
+        if (AuthenticationUtil.getCurrentWebUserId().equals(userId)) {
             throw ErrorStatus.INVALID_REQUEST.asControllerException();
         }
         
@@ -151,8 +144,7 @@ public class AdminController {
         AuthenticationUtil.validateUserHasMinimumRole(UserRole.ADMIN);
         
         // 현재 인증된 사용자가 본인을 차단하려는 경우 방지
-        WebUser currentUser = AuthenticationUtil.getCurrentWebUser();
-        if (currentUser.getId().equals(request.getUserId())) {
+        if (AuthenticationUtil.getCurrentWebUserId().equals(request.getUserId())) {
             throw ErrorStatus.INVALID_REQUEST.asControllerException();
         }
         
@@ -190,8 +182,7 @@ public class AdminController {
     @GetMapping("/block-status")
     public ResponseEntity<BlockInfoResponse> getCurrentUserBlockStatus() {
         try {
-            WebUser currentUser = AuthenticationUtil.getCurrentWebUser();
-            BlockInfoResponse blockInfo = webUserService.getBlockInfo(currentUser.getId());
+            BlockInfoResponse blockInfo = webUserService.getBlockInfo(AuthenticationUtil.getCurrentWebUserId());
             return ResponseEntity.ok(blockInfo);
         } catch (Exception e) {
             // 인증되지 않은 사용자의 경우 차단되지 않은 상태로 반환
@@ -63,7 +63,7 @@ public class AdminCouponController {
         List<AdminCouponResponse> createdCoupons = adminCouponService.createCoupons(request);
         
         log.info("관리자 {}가 쿠폰 {} 개 생성완료", 
-                 AuthenticationUtil.getCurrentWebUser().getNickname(),
+                 AuthenticationUtil.getCurrentPrincipal().nickname(),
                  createdCoupons.size());
         
         return ResponseEntity.ok(createdCoupons);
@@ -94,7 +94,7 @@ public class AdminCouponController {
         adminCouponService.deleteCoupon(couponId);
         
         log.info("관리자 {}가 쿠폰 {} 삭제", 
-                 AuthenticationUtil.getCurrentWebUser().getNickname(),
+                 AuthenticationUtil.getCurrentPrincipal().nickname(),
                  couponId);
         
         return ResponseEntity.ok().build();
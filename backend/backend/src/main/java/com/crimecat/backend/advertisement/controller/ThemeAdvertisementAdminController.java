@@ -76,10 +76,9 @@ public class ThemeAdvertisementAdminController {
             // AuthenticationUtil에서 현재 관리자 ID 가져오기
             com.crimecat.backend.utils.AuthenticationUtil.validateUserHasMinimumRole(
                 com.crimecat.backend.webUser.enums.UserRole.ADMIN);
-            com.crimecat.backend.webUser.domain.WebUser currentAdmin = 
-                com.crimecat.backend.utils.AuthenticationUtil.getCurrentWebUser();
+            UUID currentAdminId = com.crimecat.backend.utils.AuthenticationUtil.getCurrentWebUserId();
             
-            boolean refunded = queueService.forceCancelAdvertisement(requestId, reason, currentAdmin.getId());
+            boolean refunded = queueService.forceCancelAdvertisement(requestId, reason, currentAdminId);
             
             String message = refunded ? 
                 "광고 강제 취소 및 환불 완료" : 
@@ -3,10 +3,10 @@ package com.crimecat.backend.advertisement.controller;
 import com.crimecat.backend.advertisement.domain.AdvertisementStatus;
 import com.crimecat.backend.advertisement.domain.ThemeAdvertisementRequest;
 import com.crimecat.backend.advertisement.service.ThemeAdvertisementQueueService;
+import com.crimecat.backend.auth.jwt.AuthenticatedPrincipal;
 import com.crimecat.backend.exception.ErrorStatus;
 import com.crimecat.backend.exception.ServiceException;
 import com.crimecat.backend.utils.AuthenticationUtil;
-import com.crimecat.backend.webUser.domain.WebUser;
 import com.crimecat.backend.webUser.enums.UserRole;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
@@ -31,10 +31,9 @@ public class ThemeAdvertisementRequestController {
     @PostMapping("/request")
     public ResponseEntity<?> requestAdvertisement(
             @Valid @RequestBody RequestAdvertisementDto dto) {
-        WebUser currentUser = AuthenticationUtil.getCurrentWebUser();
+        UUID userId = AuthenticationUtil.getCurrentWebUserId();
         AuthenticationUtil.validateUserHasMinimumRole(UserRole.USER);
         try {
-            UUID userId = currentUser.getId();
             
             ThemeAdvertisementRequest request = queueService.requestAdvertisement(
                 userId, 
@@ -229,9 +228,9 @@ public class ThemeAdvertisementRequestController {
             @PathVariable UUID requestId,
             @RequestBody ForceCancelDto dto) {
         try {
-            WebUser currentUser = AuthenticationUtil.getCurrentWebUser();
+            AuthenticatedPrincipal currentUser = AuthenticationUtil.getCurrentPrincipal();
             // 관리자 권한 확인
-            if (currentUser.getRole().ordinal() < com.crimecat.backend.webUser.enums.UserRole.ADMIN.ordinal()) {
+            if (currentUser.role().ordinal() < com.crimecat.backend.webUser.enums.UserRole.ADMIN.ordinal()) {
                 return ResponseEntity.status(403).body(
                     new BasicResponseDto(false, "관리자만 강제 취소할 수 있습니다.")
                 );
@@ -251,7 +250,7 @@ public class ThemeAdvertisementRequestController {
             }
             
             // 강제 취소 처리
-            boolean refunded = queueService.forceCancelAdvertisement(requestId, dto.getReason(), currentUser.getId());
+            boolean refunded = queueService.forceCancelAdvertisement(requestId, dto.getReason(), currentUser.id());
             
             return ResponseEntity.ok(new ForceCancelResponseDto(
                 true,
@@ -278,19 +277,19 @@ public class ThemeAdvertisementRequestController {
             @RequestParam(required = false) UUID userId,
             @RequestParam(required = false) UUID themeId) {
         try {
-      WebUser currentUser = AuthenticationUtil.getCurrentWebUser();
+      AuthenticatedPrincipal currentUser = AuthenticationUtil.getCurrentPrincipal();
             UUID targetUserId = userId;
             
             // 권한 검증: 자신의 통계이거나 관리자인 경우만 조회 가능
-            if (targetUserId != null && !targetUserId.equals(currentUser.getId())) {
-                if (currentUser.getRole().ordinal() < com.crimecat.backend.webUser.enums.UserRole.ADMIN.ordinal()) {
+            if (targetUserId != null && !targetUserId.equals(currentUser.id())) {
+                if (currentUser.role().ordinal() < com.crimecat.backend.webUser.enums.UserRole.ADMIN.ordinal()) {
                     return ResponseEntity.status(403).body(
                         new BasicResponseDto(false, "다른 사용자의 통계는 관리자만 조회할 수 있습니다.")
                     );
                 }
             } else if (targetUserId == null) {
                 // userId가 지정되지 않으면 현재 사용자의 통계
-                targetUserId = currentUser.getId();
+                targetUserId = currentUser.id();
             }
             
             // 통계 조회
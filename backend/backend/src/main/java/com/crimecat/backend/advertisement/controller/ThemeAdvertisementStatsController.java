@@ -4,9 +4,9 @@ import com.crimecat.backend.advertisement.dto.AdvertisementStatsResponse;
 import com.crimecat.backend.advertisement.dto.PlatformAdvertisementStats;
 import com.crimecat.backend.advertisement.dto.UserAdvertisementSummary;
 import com.crimecat.backend.advertisement.service.ThemeAdvertisementStatsService;
+import com.crimecat.backend.auth.jwt.AuthenticatedPrincipal;
 import com.crimecat.backend.exception.ErrorStatus;
 import com.crimecat.backend.utils.AuthenticationUtil;
-import com.crimecat.backend.webUser.domain.WebUser;
 import com.crimecat.backend.webUser.enums.UserRole;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,8 +33,8 @@ public class ThemeAdvertisementStatsController {
     @GetMapping("/my-ads")
     public ResponseEntity<List<AdvertisementStatsResponse>> getMyAdvertisementStats() {
         try {
-            WebUser user = AuthenticationUtil.getCurrentWebUser();
-            List<AdvertisementStatsResponse> stats = statsService.getUserAdvertisementStats(user.getId());
+            List<AdvertisementStatsResponse> stats =
+                statsService.getUserAdvertisementStats(AuthenticationUtil.getCurrentWebUserId());
             return ResponseEntity.ok(stats);
         } catch (Exception e) {
             log.error("사용자 광고 상세 통계 조회 실패", e);
@@ -48,8 +48,8 @@ public class ThemeAdvertisementStatsController {
     @GetMapping("/my-summary")
     public ResponseEntity<UserAdvertisementSummary> getMyAdvertisementSummary() {
         try {
-            WebUser user = AuthenticationUtil.getCurrentWebUser();
-            UserAdvertisementSummary summary = statsService.getUserAdvertisementSummary(user.getId());
+            UserAdvertisementSummary summary =
+                statsService.getUserAdvertisementSummary(AuthenticationUtil.getCurrentWebUserId());
             return ResponseEntity.ok(summary);
         } catch (Exception e) {
             log.error("사용자 광고 요약 통계 조회 실패", e);
@@ -63,12 +63,12 @@ public class ThemeAdvertisementStatsController {
     @GetMapping("/{requestId}")
     public ResponseEntity<AdvertisementStatsResponse> getAdvertisementStats(@PathVariable UUID requestId) {
         try {
-            WebUser user = AuthenticationUtil.getCurrentWebUser();
+            AuthenticatedPrincipal user = AuthenticationUtil.getCurrentPrincipal();
             AdvertisementStatsResponse stats = statsService.getAdvertisementStats(requestId);
             
             // 관리자가 아니면서 본인의 광고가 아닌 경우 접근 거부
-            boolean isAdmin = user.getRole() == UserRole.ADMIN || user.getRole() == UserRole.MANAGER;
-            if (!isAdmin && !statsService.isUserAdvertisement(requestId, user.getId())) {
+            boolean isAdmin = user.role() == UserRole.ADMIN || user.role() == UserRole.MANAGER;
+            if (!isAdmin && !statsService.isUserAdvertisement(requestId, user.id())) {
                 throw ErrorStatus.FORBIDDEN.asControllerException();
             }
             
@@ -0,0 +1,16 @@
+package com.crimecat.backend.advertisement.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 버퍼링 후 일괄 반영하는 광고 카운터 (theme_advertisement_requests 컬럼)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AdvertisementCounterType {
+    CLICK("click_count"),
+    EXPOSURE("exposure_count");
+
+    private final String columnName;
+}
@@ -0,0 +1,109 @@
+package com.crimecat.backend.advertisement.repository;
+
+import com.crimecat.backend.advertisement.domain.AdvertisementCounterType;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 누적된 광고 카운터 증분을 UPDATE ... CASE 한 문장으로 반영
+ * - CHUNK_SIZE 개 광고마다 한 문장 → flush 당 SQL 수는 ceil(광고 수 / CHUNK_SIZE)
+ * - 엔티티 로딩 없이 click_count = click_count + CASE id WHEN ? THEN ? ... END 만 수행
+ * - 반영된 광고의 신청자 조회도 같은 단위로 IN 조회 (통계 캐시 삭제용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AdvertisementCounterJdbcRepository {
+
+    static final int CHUNK_SIZE = 500;
+    private static final AdvertisementCounterType[] TYPES = AdvertisementCounterType.values();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 광고별 카운터 증분 일괄 반영
+     * - 청크별 UPDATE 를 한 트랜잭션으로 실행 → 중간 청크가 실패하면 앞선 청크도 롤백되어 호출 측의 전체 재시도가 중복 반영되지 않음
+     * @param deltas 광고 신청 ID → 증분 (AdvertisementCounterType.ordinal() 순서)
+     * @return 실제 반영된 row 수
+     */
+    @Transactional
+    public int addCounts(Map<UUID, long[]> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        List<Map.Entry<UUID, long[]>> entries = new ArrayList<>(deltas.entrySet());
+        int updated = 0;
+        for (int from = 0; from < entries.size(); from += CHUNK_SIZE) {
+            updated += update(entries.subList(from, Math.min(from + CHUNK_SIZE, entries.size())));
+        }
+        return updated;
+    }
+
+    /**
+     * 광고 신청자 ID 조회
+     * @param requestIds 광고 신청 ID
+     * @return 신청자(user_id) 집합
+     */
+    public Set<UUID> findUserIds(Collection<UUID> requestIds) {
+        Set<UUID> userIds = new HashSet<>();
+        List<UUID> ids = new ArrayList<>(requestIds);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            StringBuilder sql = new StringBuilder("SELECT DISTINCT user_id FROM theme_advertisement_requests WHERE id IN (");
+            Object[] args = new Object[chunk.size()];
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+                args[i] = toBytes(chunk.get(i));
+            }
+            sql.append(")");
+            userIds.addAll(jdbcTemplate.query(sql.toString(), (rs, rowNum) -> toUuid(rs.getBytes(1)), args));
+        }
+        return userIds;
+    }
+
+    private int update(List<Map.Entry<UUID, long[]>> chunk) {
+        StringBuilder sql = new StringBuilder("UPDATE theme_advertisement_requests SET ");
+        List<Object> args = new ArrayList<>();
+        for (int t = 0; t < TYPES.length; t++) {
+            if (t > 0) {
+                sql.append(", ");
+            }
+            String column = TYPES[t].getColumnName();
+            sql.append(column).append(" = ").append(column).append(" + CASE id");
+            for (Map.Entry<UUID, long[]> entry : chunk) {
+                sql.append(" WHEN ? THEN ?");
+                args.add(toBytes(entry.getKey()));
+                args.add(entry.getValue()[t]);
+            }
+            sql.append(" ELSE 0 END");
+        }
+        sql.append(" WHERE id IN (");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            args.add(toBytes(chunk.get(i).getKey()));
+        }
+        sql.append(")");
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -47,10 +47,7 @@ public interface ThemeAdvertisementRequestRepository extends JpaRepository<Theme
     // 사용자의 특정 상태 광고 조회
     List<ThemeAdvertisementRequest> findByUserIdAndStatusIn(UUID userId, List<AdvertisementStatus> statuses);
     
-    // 통계 업데이트
-    @Modifying
-    @Query("UPDATE ThemeAdvertisementRequest tar SET tar.clickCount = tar.clickCount + 1 WHERE tar.id = :id")
-    void incrementClickCount(@Param("id") UUID id);
+    // 클릭 수 증가는 AdvertisementCounterJdbcRepository 에서 일괄 반영
     
     // incrementExposureCount 메서드 제거됨 - 단순 수학적 계산으로 대체
     
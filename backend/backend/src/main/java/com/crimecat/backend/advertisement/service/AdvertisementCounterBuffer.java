@@ -0,0 +1,191 @@
+package com.crimecat.backend.advertisement.service;
+
+import com.crimecat.backend.advertisement.domain.AdvertisementCounterType;
+import com.crimecat.backend.advertisement.repository.AdvertisementCounterJdbcRepository;
+import com.crimecat.backend.config.CacheType;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-behind 광고 클릭/노출 카운터
+ * - 클릭마다 DB UPDATE / 캐시 전체 삭제 대신 광고별 LongAdder 에만 누적
+ * - 스케줄러가 몇 초마다 UPDATE ... CASE 한 문장(광고 500개 단위)으로 반영, 종료 시에도 반영
+ * - 카운터는 광고 순서/활성 상태와 무관하므로 캐러셀/활성 광고 캐시는 건드리지 않음
+ * - flush 후 반영된 광고의 통계 캐시 + 신청자별 통계/요약/신청 목록 캐시 + 플랫폼 통계 캐시만 삭제
+ *   → 클릭당이 아니라 flush 주기당 최대 한 번, 통계 화면은 최대 flush 주기만큼 늦게 반영
+ */
+@Slf4j
+@Component
+public class AdvertisementCounterBuffer {
+
+    private static final int TYPE_COUNT = AdvertisementCounterType.values().length;
+    /** 이 횟수만큼 연속으로 기록이 없던 광고만 정리 (정리 직전에 참조를 얻은 기록과 겹칠 가능성 최소화) */
+    private static final int IDLE_FLUSHES_BEFORE_REMOVAL = 12;
+
+    private final AdvertisementCounterJdbcRepository counterJdbcRepository;
+    private final CacheManager redisCacheManager;
+    private final int maxPendingAds;
+
+    /** 광고별 미반영 증분 */
+    private final ConcurrentHashMap<UUID, Counter> pending = new ConcurrentHashMap<>();
+    /** 직전 flush 에서 정리한 카운터 (정리 직전에 참조를 얻은 기록이 늦게 더해질 수 있어 한 주기 뒤에 한 번 더 수거) */
+    private Map<UUID, Counter> retired = new HashMap<>();
+
+    /**
+     * 광고 하나의 카운터 (adders 는 AdvertisementCounterType.ordinal() 순서, idleFlushes 는 flush 스레드만 접근)
+     */
+    private static final class Counter {
+        private final LongAdder[] adders = new LongAdder[TYPE_COUNT];
+        private int idleFlushes;
+
+        private Counter() {
+            for (int i = 0; i < TYPE_COUNT; i++) {
+                adders[i] = new LongAdder();
+            }
+        }
+    }
+
+    public AdvertisementCounterBuffer(
+            AdvertisementCounterJdbcRepository counterJdbcRepository,
+            @Qualifier("redisCacheManager") CacheManager redisCacheManager,
+            @Value("${theme-ad.counter.max-pending-ads:10000}") int maxPendingAds) {
+        this.counterJdbcRepository = counterJdbcRepository;
+        this.redisCacheManager = redisCacheManager;
+        this.maxPendingAds = maxPendingAds;
+    }
+
+    /**
+     * 카운터 증가 기록 (다음 flush 때 DB 반영)
+     */
+    public void record(AdvertisementCounterType type, UUID requestId) {
+        if (requestId == null) {
+            return;
+        }
+        Counter counter = pending.get(requestId);
+        if (counter == null) {
+            // 존재하지 않는 ID 로 메모리가 늘어나지 않도록 대기 중인 광고 수 제한
+            if (pending.size() >= maxPendingAds) {
+                log.warn("⚠️ [AD_COUNTER] 대기 광고 수 초과로 기록 무시 - requestId: {}", requestId);
+                return;
+            }
+            counter = counter(requestId);
+        }
+        counter.adders[type.ordinal()].increment();
+    }
+
+    /**
+     * 누적된 카운터 증분을 DB에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${theme-ad.counter.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<UUID, long[]> deltas = new HashMap<>();
+        Map<UUID, Counter> retiring = new HashMap<>();
+        pending.forEach((requestId, counter) -> {
+            long[] delta = drain(counter);
+            if (delta != null) {
+                counter.idleFlushes = 0;
+                deltas.put(requestId, delta);
+            } else if (++counter.idleFlushes >= IDLE_FLUSHES_BEFORE_REMOVAL && pending.remove(requestId, counter)) {
+                // 오래 기록이 없던 키는 정리
+                retiring.put(requestId, counter);
+            }
+        });
+        retired.forEach((requestId, counter) -> {
+            long[] late = drain(counter);
+            if (late != null) {
+                long[] delta = deltas.computeIfAbsent(requestId, id -> new long[TYPE_COUNT]);
+                for (int i = 0; i < TYPE_COUNT; i++) {
+                    delta[i] += late[i];
+                }
+            }
+        });
+        retired = retiring;
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            int updated = counterJdbcRepository.addCounts(deltas);
+            log.debug("📈 [AD_COUNTER] flush 완료 - {}건 반영", updated);
+        } catch (Exception e) {
+            // 반영 실패 시 증분을 되돌려 다음 주기에 재시도
+            deltas.forEach((requestId, delta) -> {
+                Counter counter = counter(requestId);
+                for (int i = 0; i < TYPE_COUNT; i++) {
+                    counter.adders[i].add(delta[i]);
+                }
+            });
+            log.error("⚠️ [AD_COUNTER] flush 실패 - {}건 재시도 예정", deltas.size(), e);
+            return;
+        }
+        evictStats(deltas.keySet());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 미반영 광고 카운터 flush");
+        flush();
+        // 직전 flush 에서 정리한 카운터까지 수거
+        flush();
+    }
+
+    /**
+     * 증분을 읽고 0 으로 초기화 (모두 0 이면 null)
+     */
+    private static long[] drain(Counter counter) {
+        long[] delta = new long[TYPE_COUNT];
+        boolean changed = false;
+        for (int i = 0; i < TYPE_COUNT; i++) {
+            delta[i] = counter.adders[i].sumThenReset();
+            changed |= delta[i] != 0;
+        }
+        return changed ? delta : null;
+    }
+
+    /**
+     * 반영된 광고의 통계 캐시 삭제 (광고별 통계 + 신청자별 통계/요약/신청 목록 + 플랫폼 통계)
+     */
+    private void evictStats(Set<UUID> requestIds) {
+        evict(CacheType.THEME_AD_STATS, requestIds);
+        try {
+            Set<UUID> userIds = counterJdbcRepository.findUserIds(requestIds);
+            evict(CacheType.THEME_AD_USER_STATS, userIds);
+            evict(CacheType.THEME_AD_USER_SUMMARY, userIds);
+            evict(CacheType.THEME_AD_USER_REQUESTS, userIds);
+        } catch (Exception e) {
+            log.warn("⚠️ [AD_COUNTER] 광고 신청자 조회 실패, 신청자별 통계 캐시는 TTL 로 만료: {}", e.getMessage());
+        }
+        // 키 없는 @Cacheable (getPlatformStats)
+        evict(CacheType.THEME_AD_PLATFORM_STATS, Set.of(SimpleKey.EMPTY));
+    }
+
+    private void evict(String cacheName, Set<?> keys) {
+        try {
+            Cache cache = redisCacheManager.getCache(cacheName);
+            if (cache == null) {
+                return;
+            }
+            for (Object key : keys) {
+                cache.evict(key);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ [AD_COUNTER] 캐시 삭제 실패 - cache: {}, error: {}", cacheName, e.getMessage());
+        }
+    }
+
+    private Counter counter(UUID requestId) {
+        return pending.computeIfAbsent(requestId, id -> new Counter());
+    }
+}
@@ -1,5 +1,6 @@
 package com.crimecat.backend.advertisement.service;
 
+import com.crimecat.backend.advertisement.domain.AdvertisementCounterType;
 import com.crimecat.backend.advertisement.domain.AdvertisementStatus;
 import com.crimecat.backend.advertisement.domain.ThemeAdvertisementRequest;
 import com.crimecat.backend.advertisement.dto.PublicThemeAdvertisementResponse;
@@ -11,6 +12,7 @@ import com.crimecat.backend.user.repository.UserRepository;
 import com.crimecat.backend.gametheme.service.GameThemeService;
 import com.crimecat.backend.gametheme.dto.GetGameThemeResponse;
 import com.crimecat.backend.advertisement.util.ExposureCalculationUtil;
+import com.crimecat.backend.ratelimit.annotation.RateLimited;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -26,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -43,9 +46,9 @@ public class ThemeAdvertisementQueueService {
     private final DiscordBotCacheService discordBotCacheService;
     private final ThemeAdvertisementNotificationService notificationService;
     private final ThemeAdvertisementValidationService validationService;
-    private final RateLimitingService rateLimitingService;
     private final InputSanitizationService sanitizationService;
     private final GameThemeService gameThemeService;
+    private final AdvertisementCounterBuffer counterBuffer;
     
     @Transactional
     @Caching(evict = {
@@ -58,11 +61,13 @@ public class ThemeAdvertisementQueueService {
         @CacheEvict(value = CacheType.THEME_AD_USER_SUMMARY, key = "#userId", cacheManager = "redisCacheManager"),
         @CacheEvict(value = CacheType.THEME_AD_PLATFORM_STATS, allEntries = true, cacheManager = "redisCacheManager")
     })
+    // 사용자별 시간당 5회 / 일일 20회 (인스턴스 간 공유)
+    @RateLimited(name = "theme-ad:request:hourly", key = "#userId", rate = 5, unit = TimeUnit.HOURS)
+    @RateLimited(name = "theme-ad:request:daily", key = "#userId", rate = 20, unit = TimeUnit.DAYS)
     public ThemeAdvertisementRequest requestAdvertisement(UUID userId, UUID themeId, String themeName, 
                                                         ThemeAdvertisementRequest.ThemeType themeType, 
                                                         int requestedDays) {
-        // 1. Rate limiting 검증
-        rateLimitingService.checkRateLimit(userId);
+        // 1. Rate limiting 은 @RateLimited 에서 메서드 진입 전에 검증
         
         // 2. 입력 데이터 검증 및 정화
         sanitizationService.validateNumberRange(requestedDays, 1, MAX_DAYS_PER_AD, "광고 기간");
@@ -342,17 +347,12 @@ public class ThemeAdvertisementQueueService {
         return requestRepository.findByStatusOrderByQueuePositionAsc(AdvertisementStatus.PENDING_QUEUE);
     }
     
-    @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = CacheType.THEME_AD_STATS, key = "#requestId", cacheManager = "redisCacheManager"),
-        @CacheEvict(value = CacheType.THEME_AD_USER_STATS, allEntries = true, cacheManager = "redisCacheManager"),
-        @CacheEvict(value = CacheType.THEME_AD_USER_SUMMARY, allEntries = true, cacheManager = "redisCacheManager"),
-        @CacheEvict(value = CacheType.THEME_AD_PLATFORM_STATS, allEntries = true, cacheManager = "redisCacheManager"),
-        @CacheEvict(value = CacheType.THEME_AD_USER_REQUESTS, allEntries = true, cacheManager = "redisCacheManager"), // ThemeAdvertisements 페이지 캐시 삭제
-        @CacheEvict(value = CacheType.THEME_AD_ACTIVE, allEntries = true, cacheManager = "redisCacheManager") // 활성 광고 캐시 삭제
-    })
+    /**
+     * 클릭 기록 (메모리에 누적 후 AdvertisementCounterBuffer 가 주기적으로 일괄 반영)
+     * - 클릭 수는 광고 순서/활성 상태에 영향이 없으므로 캐러셀/활성 광고 캐시는 유지
+     */
     public void recordClick(UUID requestId) {
-        requestRepository.incrementClickCount(requestId);
+        counterBuffer.record(AdvertisementCounterType.CLICK, requestId);
         log.debug("클릭 수 증가: requestId={}", requestId);
     }
     
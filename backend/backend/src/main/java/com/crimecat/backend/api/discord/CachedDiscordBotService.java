@@ -5,14 +5,20 @@ import com.crimecat.backend.exception.ErrorStatus;
 import com.crimecat.backend.guild.dto.web.ApiGetGuildInfoDto;
 import com.crimecat.backend.guild.dto.web.ChannelDto;
 import com.crimecat.backend.guild.dto.bot.RoleDto;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Discord API 호출을 캐싱하는 서비스
@@ -20,10 +26,17 @@ import java.util.List;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CachedDiscordBotService {
     
     private final DiscordBotApi discordBotApi;
+    private final CacheManager redisCacheManager;
+
+    public CachedDiscordBotService(
+            DiscordBotApi discordBotApi,
+            @Qualifier("redisCacheManager") CacheManager redisCacheManager) {
+        this.discordBotApi = discordBotApi;
+        this.redisCacheManager = redisCacheManager;
+    }
     
     /**
      * 길드 정보 조회 (캐시 적용)
@@ -42,6 +55,50 @@ public class CachedDiscordBotService {
         }
     }
     
+    /**
+     * 여러 길드 정보 조회 (캐시 적용, 캐시에 없는 길드만 동시에 호출)
+     * - getGuildInfo 와 같은 캐시를 사용하므로 단건 조회와 결과를 공유
+     * - Discord 호출에 실패한 길드는 결과에서 제외
+     * @param guildSnowflakes 길드 ID 목록
+     * @return 길드 ID → 길드 정보
+     */
+    public Mono<Map<String, ApiGetGuildInfoDto>> getGuildInfos(Collection<String> guildSnowflakes) {
+        Cache cache = redisCacheManager.getCache(CacheType.DISCORD_GUILD_INFO);
+        Map<String, ApiGetGuildInfoDto> result = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String guildSnowflake : guildSnowflakes) {
+            ApiGetGuildInfoDto cached = null;
+            try {
+                cached = cache != null ? cache.get(guildSnowflake, ApiGetGuildInfoDto.class) : null;
+            } catch (Exception e) {
+                log.warn("Discord 길드 정보 캐시 조회 실패: {}", guildSnowflake, e);
+            }
+            if (cached != null) {
+                result.put(guildSnowflake, cached);
+            } else {
+                misses.add(guildSnowflake);
+            }
+        }
+        if (misses.isEmpty()) {
+            return Mono.just(result);
+        }
+        log.info("Discord API 호출 - 길드 정보 일괄 조회: {}건 (캐시 적중 {}건)", misses.size(), result.size());
+        return discordBotApi.getGuildInfos(misses).map(fetched -> {
+            if (cache != null) {
+                // 캐시 저장 실패는 응답에 영향 없음 (다음 조회 때 다시 호출)
+                fetched.forEach((guildSnowflake, info) -> {
+                    try {
+                        cache.put(guildSnowflake, info);
+                    } catch (Exception e) {
+                        log.warn("Discord 길드 정보 캐시 저장 실패: {}", guildSnowflake, e);
+                    }
+                });
+            }
+            result.putAll(fetched);
+            return result;
+        });
+    }
+
     /**
      * 길드 채널 목록 조회 (캐시 적용)
      * TTL: 15분
@@ -52,7 +109,7 @@ public class CachedDiscordBotService {
     public List<ChannelDto> getGuildChannels(String guildSnowflake) {
         log.info("Discord API 호출 - 채널 목록 조회: {}", guildSnowflake);
         try {
-            return discordBotApi.getGuildChannels(guildSnowflake);
+            return discordBotApi.getGuildChannels(guildSnowflake).block();
         } catch (Exception e) {
             log.error("Discord API 호출 실패 - 채널 목록: {}", guildSnowflake, e);
             throw ErrorStatus.DISCORD_API_ERROR.asDomainException();
@@ -69,7 +126,7 @@ public class CachedDiscordBotService {
     public List<RoleDto> getGuildRoles(String guildSnowflake) {
         log.info("Discord API 호출 - 역할 목록 조회: {}", guildSnowflake);
         try {
-            return discordBotApi.getGuildRoles(guildSnowflake);
+            return discordBotApi.getGuildRoles(guildSnowflake).block();
         } catch (Exception e) {
             log.error("Discord API 호출 실패 - 역할 목록: {}", guildSnowflake, e);
             throw ErrorStatus.DISCORD_GUILD_ROLES_FETCH_FAILED.asDomainException();
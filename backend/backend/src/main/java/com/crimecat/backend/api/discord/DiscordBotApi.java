@@ -7,35 +7,81 @@ import com.crimecat.backend.guild.dto.web.DiscordChannelResponse;
 import com.crimecat.backend.guild.dto.bot.RoleDto;
 import com.crimecat.backend.guild.domain.ChannelType;
 import com.crimecat.backend.trace.annotation.NoTrace;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+/**
+ * Discord 봇 REST 클라이언트 (논블로킹)
+ * - 모든 호출은 Mono 로 반환 → block() 은 컨트롤러 경계에서만
+ * - 라우트별 레이트 리밋 버킷(X-RateLimit-*)을 추적해 한도 소진 시 리셋까지 대기, 429 는 Retry-After 후 재시도
+ * - 같은 길드 / 채널 / 역할에 대한 진행 중 요청은 하나로 합쳐 응답을 공유
+ * - 여러 길드 조회는 maxConcurrency 개까지 동시에 전송
+ */
+@Slf4j
 @Component
 @NoTrace
 public class DiscordBotApi extends AbstractApiService {
 
-  private static final String BASE_URL = "https://discord.com/api/v10";
+  private static final String ROUTE_GUILD = "GET /guilds/{guildId}";
+  private static final String ROUTE_GUILD_CHANNELS = "GET /guilds/{guildId}/channels";
+  private static final String ROUTE_GUILD_ROLES = "GET /guilds/{guildId}/roles";
+  private static final int MAX_RATE_LIMIT_RETRIES = 3;
+
+  private final DiscordRateLimiter rateLimiter = new DiscordRateLimiter();
+  /** 진행 중 요청 (라우트 + major 파라미터 → 공유 응답) */
+  private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+  private final int maxConcurrency;
+
   public DiscordBotApi(
-      @Value("${spring.security.bot-auth.discord-bot-secret-token}") String secretKey
+      @Value("${spring.security.bot-auth.discord-bot-secret-token}") String secretKey,
+      @Value("${discord.api.base-url:https://discord.com/api/v10}") String baseUrl,
+      @Value("${discord.api.max-concurrency:8}") int maxConcurrency
   ) {
-    super(BASE_URL,
+    super(baseUrl,
         WebClient.builder()
             .defaultHeader("Authorization", "Bot " + secretKey)
     );
+    this.maxConcurrency = maxConcurrency;
   }
 
   public Mono<ApiGetGuildInfoDto> getGuildInfo(String guildSnowflake) {
-    return webClient.get()
-        .uri(uriBuilder -> uriBuilder
-            .path("/guilds/{guildId}")
-            .queryParam("with_counts", "true")
-            .build(Map.of("guildId", guildSnowflake)))
-        .retrieve()
-        .bodyToMono(ApiGetGuildInfoDto.class);
+    return send(ROUTE_GUILD, guildSnowflake,
+        () -> webClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/guilds/{guildId}")
+                .queryParam("with_counts", "true")
+                .build(Map.of("guildId", guildSnowflake))),
+        response -> response.bodyToMono(ApiGetGuildInfoDto.class));
+  }
+
+  /**
+   * 여러 길드 정보를 동시에 조회 (최대 maxConcurrency 개씩, 실패한 길드는 결과에서 제외)
+   * @return 길드 ID → 길드 정보
+   */
+  public Mono<Map<String, ApiGetGuildInfoDto>> getGuildInfos(Collection<String> guildSnowflakes) {
+    return Flux.fromIterable(guildSnowflakes)
+        .distinct()
+        .flatMap(guildId -> getGuildInfo(guildId)
+            .map(info -> Map.entry(guildId, info))
+            .onErrorResume(e -> {
+              log.warn("❌ [DISCORD_API] 길드 정보 실패 - guildId: {}, error: {}", guildId, e.toString());
+              return Mono.empty();
+            }), maxConcurrency)
+        .collectMap(Map.Entry::getKey, Map.Entry::getValue);
   }
 
   /**
@@ -45,16 +91,15 @@ public class DiscordBotApi extends AbstractApiService {
    * @param guildSnowflake 길드 ID
    * @return 채널 정보 목록 (타입 정보 포함)
    */
-  public List<ChannelDto> getGuildChannels(String guildSnowflake){
-    return webClient.get()
-        .uri(uriBuilder -> uriBuilder
-            .path("/guilds/{guildId}/channels")
-            .build(guildSnowflake))
-        .retrieve()
-        .bodyToFlux(DiscordChannelResponse.class)
-        .map(this::convertToChannelDto)
-        .collectList()
-        .block();
+  public Mono<List<ChannelDto>> getGuildChannels(String guildSnowflake){
+    return send(ROUTE_GUILD_CHANNELS, guildSnowflake,
+        () -> webClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/guilds/{guildId}/channels")
+                .build(guildSnowflake)),
+        response -> response.bodyToFlux(DiscordChannelResponse.class)
+            .map(this::convertToChannelDto)
+            .collectList());
   }
   
   /**
@@ -82,14 +127,73 @@ public class DiscordBotApi extends AbstractApiService {
     return dto;
   }
 
-  public List<RoleDto> getGuildRoles(String guildSnowflake) {
-    return webClient.get()
-        .uri(uriBuilder -> uriBuilder
-            .path("/guilds/{guildId}/roles")
-            .build(guildSnowflake))
-        .retrieve()
-        .bodyToFlux(RoleDto.class)
-        .collectList()
-        .block();
+  public Mono<List<RoleDto>> getGuildRoles(String guildSnowflake) {
+    return send(ROUTE_GUILD_ROLES, guildSnowflake,
+        () -> webClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/guilds/{guildId}/roles")
+                .build(guildSnowflake)),
+        response -> response.bodyToFlux(RoleDto.class).collectList());
+  }
+
+  /**
+   * 레이트 리밋 대기 → 전송 → 버킷 갱신 (같은 라우트 + major 파라미터의 진행 중 요청은 공유)
+   */
+  @SuppressWarnings("unchecked")
+  private <T> Mono<T> send(String route, String majorParameter,
+      Supplier<WebClient.RequestHeadersSpec<?>> request,
+      Function<ClientResponse, Mono<T>> body) {
+    String key = route + ":" + majorParameter;
+    return Mono.defer(() -> {
+      Mono<?> existing = inFlight.get(key);
+      if (existing != null) {
+        return (Mono<T>) existing;
+      }
+      Mono<T>[] holder = new Mono[1];
+      Mono<T> created = exchange(route, majorParameter, request, body)
+          .doFinally(signal -> inFlight.remove(key, holder[0]))
+          .cache();
+      holder[0] = created;
+      Mono<?> raced = inFlight.putIfAbsent(key, created);
+      return raced != null ? (Mono<T>) raced : created;
+    });
+  }
+
+  private <T> Mono<T> exchange(String route, String majorParameter,
+      Supplier<WebClient.RequestHeadersSpec<?>> request,
+      Function<ClientResponse, Mono<T>> body) {
+    return awaitBucket(route, majorParameter)
+        .then(Mono.defer(() -> request.get().exchangeToMono(response -> {
+          rateLimiter.update(route, majorParameter, response.headers().asHttpHeaders());
+          if (response.statusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            rateLimiter.onRateLimited(route, majorParameter, response.headers().asHttpHeaders());
+            return response.releaseBody().then(Mono.error(new RateLimitedException(route)));
+          }
+          if (response.statusCode().isError()) {
+            return response.createError();
+          }
+          return body.apply(response);
+        })))
+        // 대기 시간은 재구독 시 awaitBucket 에서 다시 계산됨
+        .retryWhen(Retry.max(MAX_RATE_LIMIT_RETRIES).filter(RateLimitedException.class::isInstance));
+  }
+
+  /**
+   * 버킷 한도가 남을 때까지 대기 (리셋 후 다른 요청이 먼저 소진했으면 다시 대기)
+   */
+  private Mono<Void> awaitBucket(String route, String majorParameter) {
+    return Mono.defer(() -> {
+      Duration wait = rateLimiter.acquire(route, majorParameter);
+      if (wait.isZero()) {
+        return Mono.empty();
+      }
+      return Mono.delay(wait).then(awaitBucket(route, majorParameter));
+    });
+  }
+
+  static class RateLimitedException extends RuntimeException {
+    RateLimitedException(String route) {
+      super("Discord rate limited: " + route);
+    }
   }
 }
@@ -0,0 +1,167 @@
+package com.crimecat.backend.api.discord;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Discord REST 레이트 리밋 버킷 추적
+ * - 응답의 X-RateLimit-Bucket / Remaining / Reset-After 로 (버킷, major 파라미터) 별 남은 요청 수와 리셋 시각 기록
+ * - 남은 요청이 없는 버킷은 리셋 시각까지 기다린 뒤 전송 (동시 요청끼리는 남은 수를 미리 차감해 초과 방지)
+ * - 리셋 시각이 지난 버킷은 마지막으로 본 한도(X-RateLimit-Limit, 모르면 1)와 주기로 다시 채움
+ *   → 새 헤더가 오기 전까지 무제한으로 보내지 않음 (한도를 모르면 한 건만 먼저 보내 헤더를 받아 옴)
+ * - 429 응답은 Retry-After 만큼 해당 버킷 (X-RateLimit-Global 이면 전체) 을 멈춤
+ * - 버킷은 길드 / 채널마다 생기므로 BUCKET_IDLE_TTL 동안 쓰이지 않으면 제거
+ *   (Discord 리셋 주기는 수 초 단위라 그 뒤에는 새 버킷과 같음)
+ */
+@Slf4j
+class DiscordRateLimiter {
+
+    static final String BUCKET = "X-RateLimit-Bucket";
+    static final String LIMIT = "X-RateLimit-Limit";
+    static final String REMAINING = "X-RateLimit-Remaining";
+    static final String RESET_AFTER = "X-RateLimit-Reset-After";
+    static final String GLOBAL = "X-RateLimit-Global";
+    static final String RETRY_AFTER = "Retry-After";
+
+    static final Duration BUCKET_IDLE_TTL = Duration.ofMinutes(10);
+
+    /** 라우트 → Discord 버킷 해시 (첫 응답 전에는 라우트 자체를 버킷으로 사용) */
+    private final Map<String, String> bucketByRoute = new ConcurrentHashMap<>();
+    /** 버킷 해시 + major 파라미터 → 상태 */
+    private final Cache<String, Bucket> buckets;
+    private volatile long globalResetAt;
+
+    DiscordRateLimiter() {
+        this(Ticker.systemTicker());
+    }
+
+    DiscordRateLimiter(Ticker ticker) {
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(BUCKET_IDLE_TTL)
+                .ticker(ticker)
+                .build();
+    }
+
+    private static final class Bucket {
+        private int limit = 1;
+        private int remaining = 1;
+        private long resetAt;
+        /** 리셋 주기 추정치 (관측한 Reset-After 중 최댓값, ms) */
+        private long window = 1000;
+    }
+
+    /**
+     * 요청 전 대기 시간 (0 이면 바로 전송)
+     * @param route 메서드 + 경로 템플릿 (예: GET /guilds/{guildId})
+     * @param majorParameter 길드 / 채널 ID (버킷은 major 파라미터별로 따로 계산됨)
+     */
+    Duration acquire(String route, String majorParameter) {
+        long now = System.currentTimeMillis();
+        long wait = Math.max(0, globalResetAt - now);
+        Bucket bucket = buckets.getIfPresent(key(route, majorParameter));
+        if (bucket != null) {
+            synchronized (bucket) {
+                if (bucket.resetAt <= now) {
+                    // 리셋 시각이 지났으면 추정 한도/주기로 다시 채움 (실제 값은 응답 헤더로 보정)
+                    bucket.remaining = bucket.limit;
+                    bucket.resetAt = now + bucket.window;
+                }
+                if (bucket.remaining <= 0) {
+                    wait = Math.max(wait, bucket.resetAt - now);
+                } else {
+                    bucket.remaining--;
+                }
+            }
+        }
+        return Duration.ofMillis(wait);
+    }
+
+    /**
+     * 응답 헤더로 버킷 상태 갱신
+     */
+    void update(String route, String majorParameter, HttpHeaders headers) {
+        String hash = headers.getFirst(BUCKET);
+        if (hash != null) {
+            bucketByRoute.put(route, hash);
+        }
+        String remaining = headers.getFirst(REMAINING);
+        String resetAfter = headers.getFirst(RESET_AFTER);
+        if (remaining == null || resetAfter == null) {
+            return;
+        }
+        String limit = headers.getFirst(LIMIT);
+        long resetAfterMillis = seconds(resetAfter);
+        Bucket bucket = buckets.get(key(route, majorParameter), k -> new Bucket());
+        synchronized (bucket) {
+            if (limit != null) {
+                bucket.limit = Math.max(1, parseInt(limit));
+            }
+            bucket.remaining = parseInt(remaining);
+            bucket.resetAt = System.currentTimeMillis() + resetAfterMillis;
+            bucket.window = Math.max(bucket.window, resetAfterMillis);
+        }
+    }
+
+    /**
+     * 429 응답 반영
+     * @return 재시도 전 대기 시간
+     */
+    Duration onRateLimited(String route, String majorParameter, HttpHeaders headers) {
+        long retryAfter = seconds(headers.getFirst(RETRY_AFTER) != null
+                ? headers.getFirst(RETRY_AFTER)
+                : headers.getFirst(RESET_AFTER));
+        long resetAt = System.currentTimeMillis() + retryAfter;
+        if (Boolean.parseBoolean(headers.getFirst(GLOBAL))) {
+            globalResetAt = Math.max(globalResetAt, resetAt);
+            log.warn("⚠️ [DISCORD_API] 전역 레이트 리밋 - {}ms 대기", retryAfter);
+        } else {
+            Bucket bucket = buckets.get(key(route, majorParameter), k -> new Bucket());
+            synchronized (bucket) {
+                bucket.remaining = 0;
+                bucket.resetAt = Math.max(bucket.resetAt, resetAt);
+            }
+            log.warn("⚠️ [DISCORD_API] 레이트 리밋 - route: {}, major: {}, {}ms 대기", route, majorParameter, retryAfter);
+        }
+        return Duration.ofMillis(retryAfter);
+    }
+
+    /**
+     * 추적 중인 버킷 수 (만료 정리 후)
+     */
+    long bucketCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private String key(String route, String majorParameter) {
+        return bucketByRoute.getOrDefault(route, route) + ":" + majorParameter;
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 초 단위 (소수 포함) 헤더 값을 밀리초로 변환
+     */
+    private static long seconds(String value) {
+        if (value == null) {
+            return 1000;
+        }
+        try {
+            return (long) Math.ceil(Double.parseDouble(value.trim()) * 1000);
+        } catch (NumberFormatException e) {
+            return 1000;
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package com.crimecat.backend.auth.filter;
 
-import com.crimecat.backend.auth.jwt.JwtTokenProvider;
+import com.crimecat.backend.auth.jwt.AuthenticatedPrincipal;
+import com.crimecat.backend.auth.jwt.PrincipalAuthenticationToken;
+import com.crimecat.backend.auth.jwt.VerifiedToken;
+import com.crimecat.backend.auth.jwt.VerifiedTokenCache;
+import com.crimecat.backend.auth.service.AuthenticatedUserCache;
 import com.crimecat.backend.auth.service.JwtBlacklistService;
 import com.crimecat.backend.auth.service.RefreshTokenService;
 import com.crimecat.backend.trace.annotation.NoTrace;
 import com.crimecat.backend.utils.TokenCookieUtil;
-import com.crimecat.backend.webUser.domain.WebUser;
-import com.crimecat.backend.webUser.repository.WebUserRepository;
 import com.crimecat.backend.webUser.service.WebUserService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,7 +19,6 @@ import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -29,8 +30,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @NoTrace
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final WebUserRepository webUserRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AuthenticatedUserCache authenticatedUserCache;
     private final JwtBlacklistService jwtBlacklistService;
     private final RefreshTokenService refreshTokenService;
     private final WebUserService webUserService;
@@ -40,7 +41,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         HttpServletResponse response,
         FilterChain filterChain) throws ServletException, IOException {
 
-        log.info("🔵 Incoming Request URI = {}", request.getRequestURI());
+        log.debug("🔵 Incoming Request URI = {}", request.getRequestURI());
         // 인증 제외 경로
         if (isExcludedPath(request.getRequestURI())) {
             filterChain.doFilter(request, response);
@@ -50,21 +51,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // public api 중 인증 정보가 필요한 경우를 위해 로그인 토큰 처리
         if (request.getRequestURI().startsWith("/api/v1/public/")) {
             String accessToken = extractAccessToken(request);
-            if (accessToken == null || !jwtTokenProvider.validateToken(accessToken)
-            || jwtBlacklistService.isBlacklisted(accessToken) || jwtTokenProvider.isTokenExpired(accessToken)) {
+            if (accessToken == null) {
                 filterChain.doFilter(request, response);
                 return;
             }
-            String userId = jwtTokenProvider.getUserIdFromToken(accessToken);
-            Optional<WebUser> optUser = webUserRepository.findById(UUID.fromString(userId));
+            VerifiedToken verified = verifiedTokenCache.verify(accessToken);
+            if (!verified.isValid() || jwtBlacklistService.isBlacklisted(accessToken)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            Optional<AuthenticatedPrincipal> optUser = authenticatedUserCache.get(UUID.fromString(verified.userId()));
             if (optUser.isPresent()) {
-                WebUser webUser = optUser.get();
+                AuthenticatedPrincipal principal = optUser.get();
                 // 차단 상태 확인 및 자동 해제 처리
-                if (isUserBlocked(webUser)) {
-                    log.warn("🚫 User {} is blocked. Access denied.", webUser.getNickname());
+                if (isUserBlocked(principal)) {
+                    log.warn("🚫 User {} is blocked. Access denied.", principal.nickname());
                     // public API이므로 인증 없이 진행
                 } else {
-                    authenticateUser(webUser, request);
+                    authenticateUser(principal, request);
                 }
             }
             filterChain.doFilter(request, response);
@@ -79,7 +83,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (!jwtTokenProvider.validateToken(accessToken)) {
+        // 서명 검증/파싱은 토큰당 한 번 (이후 요청은 로컬 캐시, 만료 토큰도 invalid 로 응답)
+        VerifiedToken verified = verifiedTokenCache.verify(accessToken);
+        if (!verified.isValid()) {
             unauthorized(response, "Access token invalid");
             return;
         }
@@ -87,29 +93,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             unauthorized(response, "Access token blacklisted");
             return;
         }
-        if (jwtTokenProvider.isTokenExpired(accessToken)) {
-            unauthorized(response, "Access token expired");
-            return;
-        }
-        String userId = jwtTokenProvider.getUserIdFromToken(accessToken);
-        Optional<WebUser> optUser = webUserRepository.findById(UUID.fromString(userId));
+        Optional<AuthenticatedPrincipal> optUser = authenticatedUserCache.get(UUID.fromString(verified.userId()));
         if (optUser.isEmpty()) {
             unauthorized(response, "User not found");
             return;
         }
-        WebUser webUser = optUser.get();
-        log.info("🔍 Found user: {} (ID: {}), isBanned: {}, blockReason: {}, blockExpiresAt: {}",
-                 webUser.getNickname(), webUser.getId(), webUser.getIsBanned(),
-                 webUser.getBlockReason(), webUser.getBlockExpiresAt());
+        AuthenticatedPrincipal principal = optUser.get();
+        log.debug("🔍 Found user: {} (ID: {}), isBanned: {}, blockExpiresAt: {}",
+                 principal.nickname(), principal.id(), principal.banned(), principal.blockExpiresAt());
 
         // 차단 상태 확인 및 자동 해제 처리
-        if (isUserBlocked(webUser)) {
-            log.warn("🚫 User {} is blocked. Access denied.", webUser.getNickname());
+        if (isUserBlocked(principal)) {
+            log.warn("🚫 User {} is blocked. Access denied.", principal.nickname());
             unauthorized(response, "User account is blocked");
             return;
         }
 
-        authenticateUser(webUser, request);
+        authenticateUser(principal, request);
         filterChain.doFilter(request, response);
     }
 
@@ -129,40 +129,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return TokenCookieUtil.getCookieValue(request, "Authorization");
     }
 
-    private void authenticateUser(WebUser webUser, HttpServletRequest request) {
-        UsernamePasswordAuthenticationToken authentication =
-            new UsernamePasswordAuthenticationToken(
-                webUser,                    // WebUser 직접 사용
-                null,
-                webUser.getAuthorities()
-            );
+    private void authenticateUser(AuthenticatedPrincipal principal, HttpServletRequest request) {
+        // 권한은 스냅샷에서, WebUser 는 getPrincipal() 호출 시 요청 안에서 조회
+        PrincipalAuthenticationToken authentication =
+            new PrincipalAuthenticationToken(principal, authenticatedUserCache::loadWebUser);
         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        log.info("✅ Authentication set for userId = {}", webUser.getId());
+        log.debug("✅ Authentication set for userId = {}", principal.id());
     }
 
     /**
      * 사용자의 차단 상태를 확인하고 만료된 차단을 자동 해제합니다.
      */
-    private boolean isUserBlocked(WebUser webUser) {
-        if (!webUser.getIsBanned()) {
+    private boolean isUserBlocked(AuthenticatedPrincipal principal) {
+        if (!principal.banned()) {
             return false;
         }
 
         // 영구 차단인 경우
-        if (webUser.getBlockExpiresAt() == null) {
+        if (principal.blockExpiresAt() == null) {
             return true;
         }
 
         // 차단 기간이 만료된 경우 자동 해제
-        if (java.time.LocalDateTime.now().isAfter(webUser.getBlockExpiresAt())) {
+        if (java.time.LocalDateTime.now().isAfter(principal.blockExpiresAt())) {
             try {
-                webUserService.unblockUser(webUser.getId());
-                log.info("✅ User {} block has expired and been automatically removed.", webUser.getNickname());
+                webUserService.unblockUser(principal.id());
+                log.info("✅ User {} block has expired and been automatically removed.", principal.nickname());
                 return false;
             } catch (Exception e) {
-                log.error("❌ Failed to auto-unblock user {}: {}", webUser.getNickname(), e.getMessage());
+                log.error("❌ Failed to auto-unblock user {}: {}", principal.nickname(), e.getMessage());
                 // 오류 발생 시 안전을 위해 차단 상태 유지
                 return true;
             }
@@ -0,0 +1,34 @@
+package com.crimecat.backend.auth.jwt;
+
+import com.crimecat.backend.webUser.domain.WebUser;
+import com.crimecat.backend.webUser.enums.UserRole;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 인증 필터가 캐시하는 사용자 스냅샷 (불변)
+ * - 인증/차단 판단에 필요한 값만 보관하고 WebUser 엔티티는 요청마다 필요할 때 조회
+ */
+public record AuthenticatedPrincipal(
+        UUID id,
+        String nickname,
+        UserRole role,
+        boolean banned,
+        LocalDateTime blockExpiresAt) {
+
+    public static AuthenticatedPrincipal of(WebUser webUser) {
+        return new AuthenticatedPrincipal(
+                webUser.getId(),
+                webUser.getNickname(),
+                webUser.getRole(),
+                Boolean.TRUE.equals(webUser.getIsBanned()),
+                webUser.getBlockExpiresAt());
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+}
@@ -10,7 +10,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -32,6 +34,10 @@ public class JwtTokenProvider {
     @Value("${spring.oauth.access-token-expire-minutes}")
     private int accessTokenExpireMinutes;
 
+    // 서명 키 / 파서는 한 번만 생성해 재사용 (스레드 안전)
+    private volatile SecretKey signingKey;
+    private volatile JwtParser jwtParser;
+
 
     /**
      * Access 토큰 생성
@@ -65,15 +71,29 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱/서명 검증해 결과 반환
+     * - 만료된 토큰은 EXPIRED, 서명/형식 오류는 INVALID
+     */
+    public VerifiedToken verify(String token) {
+        try {
+            Claims claims = getClaims(token);
+            Date expiration = claims.getExpiration();
+            return VerifiedToken.valid(claims.getSubject(),
+                    expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+        } catch (ExpiredJwtException e) {
+            return VerifiedToken.expired();
+        } catch (JwtException | IllegalArgumentException e) {
+            return VerifiedToken.invalid();
+        }
+    }
+
     /**
      * 토큰 유효성 검사
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            getParser().parseClaimsJws(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -113,16 +133,30 @@ public class JwtTokenProvider {
      * 내부 유틸
      */
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
+        return getParser()
                 .parseClaimsJws(token)
                 .getBody();
     }
 
+    private JwtParser getParser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            parser = Jwts.parserBuilder()
+                    .setSigningKey(getSigningKey())
+                    .build();
+            jwtParser = parser;
+        }
+        return parser;
+    }
+
     private SecretKey getSigningKey() {
-        byte[] keyBytes = Base64.getDecoder().decode(secretKeyString);
-        return Keys.hmacShaKeyFor(keyBytes);
+        SecretKey key = signingKey;
+        if (key == null) {
+            byte[] keyBytes = Base64.getDecoder().decode(secretKeyString);
+            key = Keys.hmacShaKeyFor(keyBytes);
+            signingKey = key;
+        }
+        return key;
     }
 
     public long getRefreshTokenValidity() {
@@ -0,0 +1,53 @@
+package com.crimecat.backend.auth.jwt;
+
+import com.crimecat.backend.webUser.domain.WebUser;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+
+/**
+ * 캐시된 스냅샷으로 만든 인증 정보
+ * - 권한은 스냅샷에서 바로 제공 (AuthenticationUtil 의 ID / 역할 / 인증 여부 판단도 getSnapshot() 사용)
+ * - getPrincipal() 을 처음 호출할 때 WebUser 를 조회해 요청 안에서만 재사용 (노드 간 공유/재사용 없음)
+ *   → 사용자 정보를 쓰지 않는 요청은 DB 조회 없음, 쓰는 요청은 항상 최신 엔티티 사용
+ */
+public class PrincipalAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final AuthenticatedPrincipal snapshot;
+    private final Function<UUID, WebUser> loader;
+    private WebUser webUser;
+    private boolean loaded;
+
+    public PrincipalAuthenticationToken(AuthenticatedPrincipal snapshot, Function<UUID, WebUser> loader) {
+        super(snapshot.authorities());
+        this.snapshot = snapshot;
+        this.loader = loader;
+        setAuthenticated(true);
+    }
+
+    public AuthenticatedPrincipal getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 인증된 WebUser (탈퇴 등으로 조회되지 않으면 null)
+     */
+    @Override
+    public synchronized Object getPrincipal() {
+        if (!loaded) {
+            webUser = loader.apply(snapshot.id());
+            loaded = true;
+        }
+        return webUser;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return snapshot.id().toString();
+    }
+}
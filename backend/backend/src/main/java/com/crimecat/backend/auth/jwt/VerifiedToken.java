@@ -0,0 +1,33 @@
+package com.crimecat.backend.auth.jwt;
+
+/**
+ * 서명 검증을 마친 토큰 정보
+ * - status 가 VALID 일 때만 userId / expiresAtMillis 가 채워짐
+ */
+public record VerifiedToken(Status status, String userId, long expiresAtMillis) {
+
+    public enum Status {
+        VALID,
+        EXPIRED,
+        INVALID
+    }
+
+    private static final VerifiedToken EXPIRED_TOKEN = new VerifiedToken(Status.EXPIRED, null, 0L);
+    private static final VerifiedToken INVALID_TOKEN = new VerifiedToken(Status.INVALID, null, 0L);
+
+    public static VerifiedToken valid(String userId, long expiresAtMillis) {
+        return new VerifiedToken(Status.VALID, userId, expiresAtMillis);
+    }
+
+    public static VerifiedToken expired() {
+        return EXPIRED_TOKEN;
+    }
+
+    public static VerifiedToken invalid() {
+        return INVALID_TOKEN;
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
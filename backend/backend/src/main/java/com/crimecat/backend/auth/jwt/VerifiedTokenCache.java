@@ -0,0 +1,79 @@
+package com.crimecat.backend.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증을 통과한 액세스 토큰 로컬 캐시
+ * - 같은 토큰으로 들어오는 요청은 파싱/서명 검증 없이 캐시 결과 사용
+ * - 항목은 토큰 만료 시각에 맞춰 제거 (최대 max-ttl 까지만 보관)
+ * - 만료/위조 토큰은 캐시하지 않음 (블랙리스트는 JwtBlacklistService 가 별도로 확인)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public VerifiedTokenCache(
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${auth.token-cache.max-size:50000}") long maxSize,
+            @Value("${auth.token-cache.max-ttl-minutes:30}") long maxTtlMinutes) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        long maxTtlNanos = TimeUnit.MINUTES.toNanos(maxTtlMinutes);
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+                        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(
+                                verified.expiresAtMillis() - System.currentTimeMillis());
+                        return Math.max(0, Math.min(remainingNanos, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, VerifiedToken verified, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 토큰 검증 (캐시 적중 시 파싱 생략)
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > System.currentTimeMillis()) {
+                return cached;
+            }
+            verifiedTokens.invalidate(token);
+            return VerifiedToken.expired();
+        }
+
+        VerifiedToken verified = jwtTokenProvider.verify(token);
+        if (verified.isValid()) {
+            verifiedTokens.put(token, verified);
+        }
+        return verified;
+    }
+
+    /**
+     * 토큰 캐시 제거 (로그아웃 등)
+     */
+    public void invalidate(String token) {
+        verifiedTokens.invalidate(token);
+    }
+}
@@ -0,0 +1,120 @@
+package com.crimecat.backend.auth.service;
+
+import com.crimecat.backend.auth.jwt.AuthenticatedPrincipal;
+import com.crimecat.backend.webUser.domain.WebUser;
+import com.crimecat.backend.webUser.repository.WebUserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인증 필터용 사용자 스냅샷 로컬 캐시
+ * - 요청마다 DB 조회 없이 userId → AuthenticatedPrincipal(id, 역할, 차단 상태) 로 인증 판단
+ * - 변경 가능한 WebUser 엔티티는 캐시하지 않음 (필요한 요청에서 loadWebUser 로 조회)
+ * - 차단/역할/프로필 변경 시 WebUserService 가, 그 밖의 WebUser 수정은 AuthenticatedUserCacheListener 가 evict 호출 → 커밋 후 다른 노드에도 Pub/Sub 로 전파
+ * - 전파 실패 대비 짧은 TTL 유지
+ */
+@Slf4j
+@Component
+public class AuthenticatedUserCache implements MessageListener {
+
+    public static final String CHANNEL = "auth:principal:invalidate";
+
+    private final WebUserRepository webUserRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<UUID, AuthenticatedPrincipal> principals;
+
+    public AuthenticatedUserCache(
+            WebUserRepository webUserRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${auth.principal-cache.max-size:20000}") long maxSize,
+            @Value("${auth.principal-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.webUserRepository = webUserRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        log.info("📢 [AUTH_CACHE] Pub/Sub 채널 '{}' 구독 설정 완료", CHANNEL);
+    }
+
+    /**
+     * 사용자 스냅샷 조회 (캐시 미스 시 DB 조회)
+     */
+    public Optional<AuthenticatedPrincipal> get(UUID userId) {
+        AuthenticatedPrincipal cached = principals.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<AuthenticatedPrincipal> loaded = webUserRepository.findById(userId).map(AuthenticatedPrincipal::of);
+        loaded.ifPresent(principal -> principals.put(userId, principal));
+        return loaded;
+    }
+
+    /**
+     * 인증 주체 엔티티 조회 (요청에서 실제로 사용할 때만 호출, 캐시하지 않음)
+     */
+    public WebUser loadWebUser(UUID userId) {
+        return webUserRepository.findById(userId).orElse(null);
+    }
+
+    /**
+     * 사용자 캐시 무효화 (트랜잭션 중이면 커밋 후에도 한 번 더 제거)
+     */
+    public void evict(UUID userId) {
+        principals.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principals.invalidate(userId);
+                    publish(userId);
+                }
+            });
+        } else {
+            publish(userId);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            UUID userId = UUID.fromString(new String(message.getBody(), StandardCharsets.UTF_8));
+            principals.invalidate(userId);
+            log.debug("🗑️ [AUTH_CACHE] 원격 무효화 적용 - userId: {}", userId);
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️ [AUTH_CACHE] 잘못된 무효화 메시지 무시: {}", e.getMessage());
+        }
+    }
+
+    private void publish(UUID userId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, userId.toString());
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드는 TTL 만료까지 이전 값을 볼 수 있음
+            log.warn("⚠️ [AUTH_CACHE] 무효화 메시지 발행 실패 - userId: {}", userId, e);
+        }
+    }
+}
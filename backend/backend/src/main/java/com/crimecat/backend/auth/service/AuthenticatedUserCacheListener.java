@@ -0,0 +1,30 @@
+package com.crimecat.backend.auth.service;
+
+import com.crimecat.backend.webUser.domain.WebUser;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * WebUser 엔티티 리스너 - 어느 경로에서 수정/삭제되든 인증 스냅샷 캐시 무효화
+ * - WebUserService 밖의 저장(디스코드 연동, OAuth 로그인 등)도 포함
+ * - 캐시 빈은 지연 조회 (EntityManagerFactory 초기화 중 순환 참조 방지)
+ */
+@Component
+public class AuthenticatedUserCacheListener {
+
+    private final ObjectProvider<AuthenticatedUserCache> authenticatedUserCache;
+
+    public AuthenticatedUserCacheListener(ObjectProvider<AuthenticatedUserCache> authenticatedUserCache) {
+        this.authenticatedUserCache = authenticatedUserCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(WebUser webUser) {
+        if (webUser.getId() != null) {
+            authenticatedUserCache.ifAvailable(cache -> cache.evict(webUser.getId()));
+        }
+    }
+}
@@ -1,22 +1,208 @@
 package com.crimecat.backend.auth.service;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
-
+/**
+ * JWT 블랙리스트
+ * - Redis 키(토큰 → "blacklisted")가 기준 저장소
+ * - 로컬 Bloom 필터 + 최근 폐기 목록으로 대부분의 요청은 Redis 조회 없이 판정
+ *   - 필터에 없으면 블랙리스트 아님 (거짓 음성 없음)
+ *   - 필터에 있으면 최근 폐기 목록 확인 후, 없으면 Redis 로 확인 (거짓 양성/오래된 항목)
+ * - 폐기 이벤트는 Redis Pub/Sub 로 다른 노드에 전파, 주기적으로 Redis 색인에서 필터 재구성
+ * - 필터 준비 전(시작 직후, Redis 장애)에는 항상 Redis 로 확인
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class JwtBlacklistService {
+public class JwtBlacklistService implements MessageListener {
+
+    public static final String CHANNEL = "auth:jwt:revoked";
+    private static final String INDEX_KEY = "jwt:blacklist:index";
+    private static final String DELIMITER = "|";
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final int expectedRevocations;
+
+    /** 토큰 해시 → 만료 시각 (최근 폐기된 토큰, 재구성 시 만료 항목 정리) */
+    private final Map<String, Long> recentRevocations = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloomFilter;
+    private volatile boolean ready = false;
+
+    public JwtBlacklistService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${auth.blacklist.expected-revocations:100000}") int expectedRevocations) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedRevocations = expectedRevocations;
+        this.bloomFilter = new BloomFilter(expectedRevocations);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        log.info("📢 [JWT_BLACKLIST] Pub/Sub 채널 '{}' 구독 설정 완료", CHANNEL);
+        rebuild();
+    }
 
     public void blacklistToken(String token, long expirationMillis) {
         redisTemplate.opsForValue().set(token, "blacklisted", expirationMillis, TimeUnit.MILLISECONDS);
+
+        String hash = hash(token);
+        long expiresAt = System.currentTimeMillis() + expirationMillis;
+        addLocal(hash, expiresAt);
+        try {
+            redisTemplate.opsForZSet().add(INDEX_KEY, hash, expiresAt);
+            redisTemplate.convertAndSend(CHANNEL, hash + DELIMITER + expiresAt);
+        } catch (Exception e) {
+            // 다른 노드는 Bloom 필터 재구성 전까지 이 토큰을 Redis 조회 없이 통과시킬 수 있음
+            log.warn("⚠️ [JWT_BLACKLIST] 폐기 이벤트 전파 실패: {}", e.getMessage());
+        }
     }
 
     public boolean isBlacklisted(String token) {
+        if (!ready) {
+            return isBlacklistedInRedis(token);
+        }
+        String hash = hash(token);
+        if (!bloomFilter.mightContain(hash)) {
+            return false;
+        }
+        Long expiresAt = recentRevocations.get(hash);
+        if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+            return true;
+        }
+        return isBlacklistedInRedis(token);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(DELIMITER);
+        if (separator <= 0) {
+            return;
+        }
+        try {
+            addLocal(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ [JWT_BLACKLIST] 잘못된 폐기 메시지 무시: {}", body);
+        }
+    }
+
+    /**
+     * Redis 색인에서 Bloom 필터 재구성
+     * - 만료된 항목 정리 + Pub/Sub 유실 보정
+     */
+    @Scheduled(fixedDelayString = "${auth.blacklist.rebuild-interval-ms:300000}",
+               initialDelayString = "${auth.blacklist.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        long now = System.currentTimeMillis();
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, now);
+            Set<String> hashes = redisTemplate.opsForZSet().rangeByScore(INDEX_KEY, now, Double.POSITIVE_INFINITY);
+
+            recentRevocations.values().removeIf(expiresAt -> expiresAt <= now);
+            int size = (hashes != null ? hashes.size() : 0) + recentRevocations.size();
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, size * 2));
+            if (hashes != null) {
+                hashes.forEach(rebuilt::put);
+            }
+            recentRevocations.keySet().forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+            // 교체 중 도착한 폐기 이벤트 반영
+            recentRevocations.keySet().forEach(rebuilt::put);
+            ready = true;
+
+            log.debug("🔄 [JWT_BLACKLIST] Bloom 필터 재구성 완료: {}건", size);
+        } catch (Exception e) {
+            ready = false;
+            log.warn("⚠️ [JWT_BLACKLIST] Bloom 필터 재구성 실패, Redis 직접 조회로 전환: {}", e.getMessage());
+        }
+    }
+
+    private void addLocal(String hash, long expiresAt) {
+        recentRevocations.put(hash, expiresAt);
+        bloomFilter.put(hash);
+    }
+
+    private boolean isBlacklistedInRedis(String token) {
         return "blacklisted".equals(redisTemplate.opsForValue().get(token));
     }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 토큰 해시(SHA-256 hex)용 Bloom 필터 (거짓 양성률 약 1%, 7개 해시)
+     */
+    private static final class BloomFilter {
+        private static final int HASH_COUNT = 7;
+        private static final int BITS_PER_ENTRY = 10;
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+
+        private BloomFilter(int expectedEntries) {
+            long size = Math.max(64, (long) expectedEntries * BITS_PER_ENTRY);
+            this.bits = new AtomicLongArray((int) ((size + 63) >>> 6));
+            this.bitCount = (long) bits.length() << 6;
+        }
+
+        void put(String hash) {
+            long[] h = seeds(hash);
+            for (int i = 0; i < HASH_COUNT; i++) {
+                long index = Math.floorMod(h[0] + i * h[1], bitCount);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                while (((current = bits.get(word)) & mask) == 0
+                        && !bits.compareAndSet(word, current, current | mask)) {
+                    // 경합 시 재시도
+                }
+            }
+        }
+
+        boolean mightContain(String hash) {
+            long[] h = seeds(hash);
+            for (int i = 0; i < HASH_COUNT; i++) {
+                long index = Math.floorMod(h[0] + i * h[1], bitCount);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // SHA-256 hex 앞 32자 = 서로 독립적인 64비트 값 두 개
+        private static long[] seeds(String hash) {
+            ByteBuffer buffer = ByteBuffer.wrap(HexFormat.of().parseHex(hash, 0, 32));
+            return new long[]{buffer.getLong(), buffer.getLong() | 1L};
+        }
+    }
 }
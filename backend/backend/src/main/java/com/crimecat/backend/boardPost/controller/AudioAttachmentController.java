@@ -8,12 +8,13 @@ import com.crimecat.backend.boardPost.service.AudioAttachmentService;
 import com.crimecat.backend.config.ServiceUrlConfig;
 import com.crimecat.backend.exception.ErrorResponse;
 import com.crimecat.backend.exception.ErrorStatus;
+import com.crimecat.backend.storage.StoredFile;
+import com.crimecat.backend.storage.StoredFileStreamer;
 import com.crimecat.backend.webUser.domain.WebUser;
 import java.util.UUID;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -21,7 +22,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.util.StreamUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -44,6 +44,7 @@ public class AudioAttachmentController {
     private final AudioAttachmentService audioAttachmentService;
     private final BoardPostService boardPostService;
     private final ServiceUrlConfig serviceUrlConfig;
+    private final StoredFileStreamer storedFileStreamer;
 
     /**
      * 임시 오디오 파일 업로드
@@ -150,16 +151,12 @@ public class AudioAttachmentController {
             }
 
             AudioUploadDto.StreamingInfo streamingInfo = streamingInfoOpt.get();
-
-            // 응답 헤더 설정
-            response.setContentType(streamingInfo.getContentType());
-            response.setContentLengthLong(streamingInfo.getFileSize());
+            StoredFile audioFile = audioAttachmentService.getAudioFile(filename);
             
             // 다운로드 방지를 위한 헤더 설정 강화
             response.setHeader("Content-Disposition", "inline; filename=\"stream.audio\"");
-            response.setHeader("Cache-Control", "no-cache, no-store, must-revalidate, private");
-            response.setHeader("Pragma", "no-cache");
-            response.setHeader("Expires", "0");
+            // 공유 캐시 저장은 막고 브라우저는 매번 재검증 (ETag 일치 시 304 로 재생 반복 시 재전송 없음)
+            response.setHeader("Cache-Control", "private, no-cache, must-revalidate");
             
             // 외부 접근 방지 및 추가 보안 헤더
             response.setHeader("X-Frame-Options", "SAMEORIGIN");
@@ -168,29 +165,10 @@ public class AudioAttachmentController {
             response.setHeader("X-Robots-Tag", "noindex, nofollow, nosnippet, noarchive");
             
             // 스트리밍 전용 헤더 추가
-            response.setHeader("Accept-Ranges", "bytes");
             response.setHeader("X-Content-Source", "stream-only");
 
-            // Range 요청 처리 (JWT 인증된 사용자는 허용)
-            String rangeHeader = request.getHeader("Range");
-            if (rangeHeader != null) {
-                if (user != null && isValidReferer(request)) {
-                    // 인증된 사용자의 정상적인 스트리밍 요청은 허용
-                    handleRangeRequest(request, response, streamingInfo, filename);
-                    return;
-                } else {
-                    log.warn("Range request blocked for unauthorized access. User: {}, Filename: {}", 
-                            user != null ? user.getId() : "anonymous", filename);
-                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
-                    return;
-                }
-            }
-
-            // 파일 스트리밍
-            try (InputStream inputStream = audioAttachmentService.getAudioStream(filename)) {
-                StreamUtils.copy(inputStream, response.getOutputStream());
-                response.flushBuffer();
-            }
+            // 조건부 요청(304) / Range(206, multipart) / 전체(200) 전송
+            storedFileStreamer.stream(audioFile, streamingInfo.getContentType(), request, response);
 
         } catch (IOException e) {
             log.error("Failed to stream audio file: {}", filename, e);
@@ -378,92 +356,4 @@ public class AudioAttachmentController {
         
         return true;
     }
-    
-    /**
-     * Range 요청 처리 - 부분 스트리밍 지원
-     */
-    private void handleRangeRequest(HttpServletRequest request, HttpServletResponse response, 
-                                   AudioUploadDto.StreamingInfo streamingInfo, String filename) throws IOException {
-        String rangeHeader = request.getHeader("Range");
-        long fileSize = streamingInfo.getFileSize();
-        
-        // Range 헤더 파싱 (bytes=start-end)
-        if (!rangeHeader.startsWith("bytes=")) {
-            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
-            response.setHeader("Content-Range", "bytes */" + fileSize);
-            return;
-        }
-        
-        String rangeValue = rangeHeader.substring(6);
-        String[] ranges = rangeValue.split("-");
-        
-        long start = 0;
-        long end = fileSize - 1;
-        
-        try {
-            if (ranges.length >= 1 && !ranges[0].isEmpty()) {
-                start = Long.parseLong(ranges[0]);
-            }
-            if (ranges.length >= 2 && !ranges[1].isEmpty()) {
-                end = Long.parseLong(ranges[1]);
-            }
-            
-            // 범위 검증
-            if (start < 0 || end >= fileSize || start > end) {
-                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
-                response.setHeader("Content-Range", "bytes */" + fileSize);
-                return;
-            }
-            
-        } catch (NumberFormatException e) {
-            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
-            response.setHeader("Content-Range", "bytes */" + fileSize);
-            return;
-        }
-        
-        // 응답 헤더 설정
-        long contentLength = end - start + 1;
-        response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
-        response.setContentType(streamingInfo.getContentType());
-        response.setHeader("Accept-Ranges", "bytes");
-        response.setHeader("Content-Range", String.format("bytes %d-%d/%d", start, end, fileSize));
-        response.setHeader("Content-Length", String.valueOf(contentLength));
-        
-        // 다운로드 방지 헤더 유지
-        response.setHeader("Content-Disposition", "inline");
-        response.setHeader("Cache-Control", "no-cache, no-store, must-revalidate");
-        
-        // 부분 파일 스트리밍
-        try (InputStream inputStream = audioAttachmentService.getAudioStream(filename)) {
-            // 시작 위치까지 스킵
-            long skipped = inputStream.skip(start);
-            if (skipped != start) {
-                log.warn("Failed to skip to start position {} for file {}", start, filename);
-                response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
-                return;
-            }
-            
-            // 지정된 길이만큼 복사
-            byte[] buffer = new byte[8192];
-            long remaining = contentLength;
-            
-            while (remaining > 0) {
-                int toRead = (int) Math.min(buffer.length, remaining);
-                int bytesRead = inputStream.read(buffer, 0, toRead);
-                
-                if (bytesRead == -1) {
-                    break;
-                }
-                
-                response.getOutputStream().write(buffer, 0, bytesRead);
-                remaining -= bytesRead;
-            }
-            
-            response.flushBuffer();
-            
-        } catch (IOException e) {
-            log.error("Failed to stream range for file: {} (range: {}-{})", filename, start, end, e);
-            throw e;
-        }
-    }
 }
\ No newline at end of file
@@ -35,8 +35,7 @@ public class BoardPostController {
     public ResponseEntity<BoardPostDetailResponse> createBoardPost(
             @RequestBody @Valid BoardPostRequest request
     ) {
-        WebUser currentWebUser = AuthenticationUtil.getCurrentWebUser();
-        BoardPostDetailResponse response = boardPostService.createBoardPost(request, currentWebUser.getId());
+        BoardPostDetailResponse response = boardPostService.createBoardPost(request, AuthenticationUtil.getCurrentWebUserId());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -54,8 +53,7 @@ public class BoardPostController {
             @PathVariable("id") UUID postId,
             @RequestBody @Valid BoardPostRequest request
     ) {
-        WebUser currentWebUser = AuthenticationUtil.getCurrentWebUser();
-        BoardPostDetailResponse response = boardPostService.updateBoardPost(request, postId, currentWebUser.getId());
+        BoardPostDetailResponse response = boardPostService.updateBoardPost(request, postId, AuthenticationUtil.getCurrentWebUserId());
         return ResponseEntity.ok().body(response);
     }
 
@@ -63,7 +61,6 @@ public class BoardPostController {
     public void deleteBoardPost(
             @PathVariable("id") UUID postId
     ) {
-        WebUser currentWebUser = AuthenticationUtil.getCurrentWebUser();
-        boardPostService.deleteBoardPost(postId, currentWebUser.getId());
+        boardPostService.deleteBoardPost(postId, AuthenticationUtil.getCurrentWebUserId());
     }
 }
\ No newline at end of file
@@ -44,8 +44,7 @@ public class BoardPostPublicController {
         Sort resolvedSort = SortUtil.combineSorts(sortTypes);
         
         // 현재 사용자 정보 가져오기
-        WebUser currentWebUser = AuthenticationUtil.getCurrentWebUserOptional().orElse(null);
-        UUID currentUserId = currentWebUser != null ? currentWebUser.getId() : null;
+        UUID currentUserId = AuthenticationUtil.getCurrentWebUserIdOptional().orElse(null);
         
         Page<BoardPostResponse> boardPosts = boardPostService.getBoardPage(page, size, kw, resolvedSort, boardType, postType, currentUserId);
         return ResponseEntity.ok().body(boardPosts);
@@ -41,8 +41,7 @@ public class PostCommentController {
             @PathVariable("id") UUID commentId,
             @RequestBody @Valid PostCommentRequest postCommentRequest
     ) {
-        WebUser currentWebUser = AuthenticationUtil.getCurrentWebUser();
-        PostCommentResponse response = postCommentService.updatePostComment(commentId, currentWebUser.getId(), postCommentRequest);
+        PostCommentResponse response = postCommentService.updatePostComment(commentId, AuthenticationUtil.getCurrentWebUserId(), postCommentRequest);
         return ResponseEntity.ok().body(response);
     }
 
@@ -50,8 +49,7 @@ public class PostCommentController {
     public ResponseEntity<Void> deleteComment(
             @PathVariable("id") UUID commentId
     ) {
-        WebUser currentWebUser = AuthenticationUtil.getCurrentWebUser();
-        postCommentService.deletePostComment(commentId, currentWebUser.getId());
+        postCommentService.deletePostComment(commentId, AuthenticationUtil.getCurrentWebUserId());
         return ResponseEntity.ok().build();
     }
     
@@ -59,8 +57,7 @@ public class PostCommentController {
     public ResponseEntity<Void> toggleCommentLike(
             @PathVariable("id") UUID commentId
     ) {
-        WebUser currentWebUser = AuthenticationUtil.getCurrentWebUser();
-        postCommentService.toggleCommentLike(commentId, currentWebUser.getId());
+        postCommentService.toggleCommentLike(commentId, AuthenticationUtil.getCurrentWebUserId());
         return ResponseEntity.ok().build();
     }
 }
@@ -4,7 +4,6 @@ import com.crimecat.backend.boardPost.dto.PostCommentRequest;
 import com.crimecat.backend.boardPost.dto.PostCommentResponse;
 import com.crimecat.backend.boardPost.service.PostCommentService;
 import com.crimecat.backend.utils.AuthenticationUtil;
-import com.crimecat.backend.webUser.domain.WebUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,9 +28,7 @@ public class PostCommentPublicController {
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "LATEST") String sortType
     ) {
-        WebUser currentWebUser = AuthenticationUtil.getCurrentWebUserOptional()
-            .orElse(null);
-        UUID currentWebUserId = (currentWebUser != null) ? currentWebUser.getId() : null;
+        UUID currentWebUserId = AuthenticationUtil.getCurrentWebUserIdOptional().orElse(null);
         
         return ResponseEntity.ok().body(
                 postCommentService.getCommentResponsesPage(postId, currentWebUserId, page, size)
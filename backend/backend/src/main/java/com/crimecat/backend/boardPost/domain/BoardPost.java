@@ -56,8 +56,12 @@ public class BoardPost {
     @Column(name = "IS_DELETED")
     private Boolean isDeleted = false;
 
+    /**
+     * 조회수는 ViewCountService 의 JDBC 배치로만 갱신
+     * (엔티티 flush 로 덮어쓰지 않도록 updatable = false)
+     */
     @Builder.Default
-    @Column(name = "VIEWS")
+    @Column(name = "VIEWS", updatable = false)
     private Integer views = 0;
 
     @Builder.Default
@@ -140,9 +144,6 @@ public class BoardPost {
         return boardPost;
     }
 
-    public void viewed() {
-        this.views++;
-    }
     public void like() {
         this.likes++;
     }
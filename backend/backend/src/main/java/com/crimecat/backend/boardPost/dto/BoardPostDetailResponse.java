@@ -58,6 +58,13 @@ public class BoardPostDetailResponse {
         return isSecret;
     }
 
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증분을 더함
+     */
+    public void applyPendingViews(long pendingViews) {
+        this.views = (views != null ? views : 0) + (int) pendingViews;
+    }
+
     public static BoardPostDetailResponse from(
             BoardPost boardPost,
             Boolean isOwnPost,
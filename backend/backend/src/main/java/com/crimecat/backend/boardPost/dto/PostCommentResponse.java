@@ -78,5 +78,31 @@ public class PostCommentResponse {
                 .replies(replies)
                 .build();
     }
-}
 
+    /**
+     * 공유 댓글 트리 노드에 조회자별 정보를 덧씌워 응답 생성
+     */
+    public static PostCommentResponse from(
+            PostCommentTree.Node node,
+            boolean isLikedByCurrentUser,
+            boolean isOwnComment,
+            boolean canViewSecret,
+            List<PostCommentResponse> replies) {
+
+        return PostCommentResponse.builder()
+                .id(node.id())
+                .content(node.secret() && !canViewSecret && !isOwnComment ? "[비밀댓글]" : node.content())
+                .authorName(node.authorName())
+                .authorProfileImage(node.authorProfileImage())
+                .authorId(node.authorId())
+                .createdAt(node.createdAt())
+                .updatedAt(node.updatedAt())
+                .isSecret(node.secret())
+                .likes(node.likes())
+                .isLikedByCurrentUser(isLikedByCurrentUser)
+                .isOwnComment(isOwnComment)
+                .isDeleted(node.deleted())
+                .replies(replies)
+                .build();
+    }
+}
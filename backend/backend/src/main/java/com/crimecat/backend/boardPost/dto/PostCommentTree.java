@@ -0,0 +1,90 @@
+package com.crimecat.backend.boardPost.dto;
+
+import com.crimecat.backend.boardPost.domain.PostComment;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 게시글 댓글 트리 (조회자와 무관한 공유 읽기 모델)
+ * - 게시글당 한 번 조회해서 한 벌만 캐시 → 좋아요/본인 여부/비밀댓글 열람은 응답 시점에 조회자별로 덧씌움
+ * - 불변 객체라 여러 요청이 동시에 읽어도 안전
+ */
+public record PostCommentTree(UUID postAuthorId, List<Node> roots) {
+
+    public record Node(
+            UUID id,
+            String content,
+            UUID authorId,
+            String authorName,
+            String authorProfileImage,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            int likes,
+            boolean deleted,
+            boolean secret,
+            List<Node> replies) {
+
+        /**
+         * 이 댓글과 모든 하위 답글의 ID 수집
+         */
+        public void collectIds(Collection<UUID> target) {
+            target.add(id);
+            for (Node reply : replies) {
+                reply.collectIds(target);
+            }
+        }
+    }
+
+    /**
+     * @param comments 게시글의 모든 댓글 (작성 시각 오름차순, 삭제된 댓글 포함)
+     */
+    public static PostCommentTree of(List<PostComment> comments) {
+        if (comments.isEmpty()) {
+            return new PostCommentTree(null, List.of());
+        }
+        Map<UUID, List<PostComment>> children = new HashMap<>();
+        List<PostComment> roots = new ArrayList<>();
+        for (PostComment comment : comments) {
+            if (comment.getParentId() == null) {
+                roots.add(comment);
+            } else {
+                children.computeIfAbsent(comment.getParentId(), id -> new ArrayList<>()).add(comment);
+            }
+        }
+        UUID postAuthorId = comments.getFirst().getBoardPost().getAuthorId();
+        return new PostCommentTree(postAuthorId, toNodes(roots, children));
+    }
+
+    public List<UUID> allIds() {
+        List<UUID> ids = new ArrayList<>();
+        for (Node root : roots) {
+            root.collectIds(ids);
+        }
+        return ids;
+    }
+
+    private static List<Node> toNodes(List<PostComment> comments, Map<UUID, List<PostComment>> children) {
+        List<Node> nodes = new ArrayList<>(comments.size());
+        for (PostComment comment : comments) {
+            nodes.add(new Node(
+                    comment.getId(),
+                    comment.getContent(),
+                    comment.getAuthorId(),
+                    comment.getAuthor().getNickname(),
+                    comment.getAuthor().getProfileImagePath(),
+                    comment.getCreatedAt(),
+                    comment.getUpdatedAt(),
+                    comment.getLikes(),
+                    comment.getIsDeleted(),
+                    comment.getIsSecret(),
+                    toNodes(children.getOrDefault(comment.getId(), List.of()), children)));
+        }
+        return List.copyOf(nodes);
+    }
+}
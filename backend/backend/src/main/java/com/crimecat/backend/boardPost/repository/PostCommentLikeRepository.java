@@ -2,9 +2,13 @@ package com.crimecat.backend.boardPost.repository;
 
 import com.crimecat.backend.boardPost.domain.PostCommentLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -14,4 +18,8 @@ public interface PostCommentLikeRepository extends JpaRepository<PostCommentLike
     
     Optional<PostCommentLike> findByCommentIdAndUserId(UUID commentId, UUID userId);
 
+    // 사용자가 좋아요한 댓글 ID (벌크 조회)
+    @Query("SELECT l.commentId FROM PostCommentLike l WHERE l.userId = :userId AND l.commentId IN :commentIds")
+    Set<UUID> findLikedCommentIds(@Param("userId") UUID userId, @Param("commentIds") Collection<UUID> commentIds);
+
 }
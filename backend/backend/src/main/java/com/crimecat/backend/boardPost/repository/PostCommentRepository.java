@@ -21,16 +21,14 @@ public interface PostCommentRepository extends JpaRepository<PostComment, UUID>
 
     Integer countAllByPostIdAndIsDeletedFalse(UUID postId);
 
-    @EntityGraph(attributePaths = {"author"})
-    List<PostComment> findAllByPostIdAndParentIdIsNull(UUID postId, Sort sort);
+    // 게시글의 모든 댓글 (삭제 포함) + 작성자 + 게시글 작성자 - 댓글 트리 구성용
+    @EntityGraph(attributePaths = {"author", "boardPost.author"})
+    List<PostComment> findAllByPostId(UUID postId, Sort sort);
 
     @EntityGraph(attributePaths = {"author"})
     List<PostComment> findAllByParentId(UUID commentId, Sort sort);
 
     @EntityGraph(attributePaths = {"author"})
     Optional<PostComment> findByIdAndIsDeletedFalse(UUID commentId);
-    
-    @EntityGraph(attributePaths = {"author", "boardPost"})
-    Page<PostComment> findAllByBoardPostAndParentIdIsNullAndIsDeletedFalse(BoardPost boardPost, Pageable pageable);
 
 }
@@ -9,11 +9,11 @@ import com.crimecat.backend.boardPost.repository.TempAttachmentRepository;
 import com.crimecat.backend.exception.ErrorStatus;
 import com.crimecat.backend.storage.StorageFileType;
 import com.crimecat.backend.storage.StorageService;
+import com.crimecat.backend.storage.StoredFile;
 import com.crimecat.backend.utils.FileUtil;
 import com.crimecat.backend.webUser.domain.WebUser;
 import jakarta.transaction.Transactional;
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -239,10 +239,10 @@ public class AudioAttachmentService {
     }
 
     /**
-     * 오디오 파일 스트림 제공
+     * 오디오 파일 제공 (Range 전송은 StoredFile 의 FileChannel 위치 지정으로 처리)
      * identifier는 tempId 또는 storedFilename (확장자 포함/제외 모두 허용)일 수 있습니다.
      */
-    public InputStream getAudioStream(String identifier) throws IOException {
+    public StoredFile getAudioFile(String identifier) throws IOException {
         String filenameToLoad;
 
         // 1. 임시 파일로 조회 (tempId 기준)
@@ -251,7 +251,7 @@ public class AudioAttachmentService {
             TempAttachment temp = tempAttachmentOpt.get();
             String extension = FileUtil.getExtension(temp.getOriginalFilename());
             filenameToLoad = StorageFileType.BOARD_POST_AUDIO.getUploadDir() + "/temp/" + temp.getStoredFilename() + extension;
-            return storageService.loadAsResource(filenameToLoad).getInputStream();
+            return storageService.loadAsStoredFile(filenameToLoad);
         }
 
         // 2. 정식 첨부파일로 조회
@@ -261,7 +261,7 @@ public class AudioAttachmentService {
         if (attachment != null) {
             String extension = FileUtil.getExtension(attachment.getOriginalFilename());
             filenameToLoad = StorageFileType.BOARD_POST_AUDIO.getUploadDir() + "/" + attachment.getStoredFilename() + extension;
-            return storageService.loadAsResource(filenameToLoad).getInputStream();
+            return storageService.loadAsStoredFile(filenameToLoad);
         }
 
         throw new IOException("File not found for identifier: " + identifier);
@@ -140,14 +140,19 @@ public class BoardPostService {
         if(userId == null && boardPost.getIsSecret()){
             throw ErrorStatus.USER_POST_ACCESS_DENIED.asServiceException();
         }
+        BoardPostDetailResponse response;
         if(userId == null) {
-            return BoardPostDetailResponse.from(boardPost, false, false);
+            response = BoardPostDetailResponse.from(boardPost, false, false);
+        } else {
+            boolean isLiked = boardPostLikeRepository.existsByUserIdAndPostId(userId, postId);
+            boolean isOwnPost = boardPost.getAuthorId().equals(userId);
+            if(webUser.getRole() == UserRole.ADMIN || webUser.getRole() == UserRole.MANAGER)
+                isOwnPost = true;
+            response = BoardPostDetailResponse.from(boardPost, isOwnPost, isLiked);
         }
-        boolean isLiked = boardPostLikeRepository.existsByUserIdAndPostId(userId, postId);
-        boolean isOwnPost = boardPost.getAuthorId().equals(userId);
-        if(webUser.getRole() == UserRole.ADMIN || webUser.getRole() == UserRole.MANAGER)
-            isOwnPost = true;
-        return BoardPostDetailResponse.from(boardPost, isOwnPost, isLiked);
+        // 아직 DB에 반영되지 않은 조회수 증분을 더해 표시
+        response.applyPendingViews(viewCountService.getPendingBoardViews(postId));
+        return response;
     }
 
     @Transactional
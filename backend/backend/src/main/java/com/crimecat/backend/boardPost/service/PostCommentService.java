@@ -5,6 +5,7 @@ import com.crimecat.backend.boardPost.domain.PostComment;
 import com.crimecat.backend.boardPost.domain.PostCommentLike;
 import com.crimecat.backend.boardPost.dto.PostCommentRequest;
 import com.crimecat.backend.boardPost.dto.PostCommentResponse;
+import com.crimecat.backend.boardPost.dto.PostCommentTree;
 import com.crimecat.backend.boardPost.repository.BoardPostRepository;
 import com.crimecat.backend.boardPost.repository.PostCommentLikeRepository;
 import com.crimecat.backend.boardPost.repository.PostCommentRepository;
@@ -19,7 +20,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -38,34 +38,23 @@ public class PostCommentService {
     private final BoardPostRepository boardPostRepository;
     private final NotificationEventPublisher notificationEventPublisher;
     private final CacheInvalidationUtil cacheInvalidationUtil;
+    private final PostCommentTreeReader postCommentTreeReader;
 
+    /**
+     * 게시글 댓글 전체 조회
+     * - 트리는 게시글당 한 벌 공유 (PostCommentTreeReader), 조회자별 정보만 여기서 덧씌움
+     */
     @Transactional(readOnly = true)
-    @Cacheable(value = CacheNames.BOARD_POST_COMMENTS,
-               key = "#postId + '_' + (#userId != null ? #userId : 'anonymous')")
     public List<PostCommentResponse> getCommentResponses(
             UUID postId,
             UUID userId
     ) {
-        Sort sort = Sort.by(Sort.Direction.ASC, "createdAt");
-
-        List<PostComment> comments = postCommentRepository.findAllByPostIdAndParentIdIsNull(postId, sort);
-
-        if (!comments.isEmpty()) {
-            boolean isOwnPost = comments.getFirst().getBoardPost().getAuthorId().equals(userId);
-
-            return comments.stream()
-                    .map(comment -> {
-                        boolean isLikedComment = postCommentLikeRepository.existsByCommentIdAndUserId(comment.getId(), userId);
-                        boolean isOwnComment = comment.getAuthorId().equals(userId);
-                        boolean canViewSecret = (isOwnComment || isOwnPost);
-                        List<PostCommentResponse> replies = getCommentReplies(comment.getId(), userId, sort, isOwnComment);
-
-                        return PostCommentResponse.from(comment, isLikedComment, isOwnComment, canViewSecret, replies);
-            }).collect(Collectors.toList());
-        } else {
+        PostCommentTree tree = postCommentTreeReader.read(postId);
+        if (tree.roots().isEmpty()) {
             return new ArrayList<>();
         }
-
+        Set<UUID> likedIds = findLikedCommentIds(userId, tree.allIds());
+        return overlayRoots(tree.roots(), tree.postAuthorId(), userId, likedIds);
     }
 
     @Transactional(readOnly = true)
@@ -75,32 +64,65 @@ public class PostCommentService {
             int page,
             int size
     ) {
-        Sort sort = Sort.by(Sort.Direction.ASC, "createdAt");
-        PageRequest pageRequest = PageRequest.of(page, size, sort);
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "createdAt"));
         
         // 게시글 존재 여부 확인
         BoardPost boardPost = boardPostRepository.findByIdAndIsDeletedFalse(postId)
             .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
         
-        // 루트 댓글만 페이지네이션으로 조회
-        Page<PostComment> commentPage = postCommentRepository.findAllByBoardPostAndParentIdIsNullAndIsDeletedFalse(boardPost, pageRequest);
-        
-        // 현재 사용자가 게시글 작성자인지 확인
-        boolean isOwnPost = userId != null && boardPost.getAuthorId().equals(userId);
-        
-        // 각 댓글을 PostCommentResponse로 변환
-        List<PostCommentResponse> content = commentPage.getContent().stream()
-            .map(comment -> {
-                boolean isLikedComment = userId != null && postCommentLikeRepository.existsByCommentIdAndUserId(comment.getId(), userId);
-                boolean isOwnComment = userId != null && comment.getAuthorId().equals(userId);
-                boolean canViewSecret = (isOwnComment || isOwnPost);
-                List<PostCommentResponse> replies = getCommentReplies(comment.getId(), userId, sort, isOwnComment);
-                
-                return PostCommentResponse.from(comment, isLikedComment, isOwnComment, canViewSecret, replies);
-            })
-            .collect(Collectors.toList());
-        
-        return new PageImpl<>(content, pageRequest, commentPage.getTotalElements());
+        // 삭제되지 않은 루트 댓글만 페이지로 자름 (공유 트리에서)
+        List<PostCommentTree.Node> roots = postCommentTreeReader.read(postId).roots().stream()
+            .filter(root -> !root.deleted())
+            .toList();
+        int from = (int) Math.min(pageRequest.getOffset(), roots.size());
+        int to = Math.min(from + size, roots.size());
+        List<PostCommentTree.Node> pageRoots = roots.subList(from, to);
+
+        // 현재 페이지 댓글(답글 포함)의 좋아요 여부를 한 번에 조회
+        List<UUID> pageIds = new ArrayList<>();
+        pageRoots.forEach(root -> root.collectIds(pageIds));
+        Set<UUID> likedIds = findLikedCommentIds(userId, pageIds);
+
+        List<PostCommentResponse> content = overlayRoots(pageRoots, boardPost.getAuthorId(), userId, likedIds);
+        return new PageImpl<>(content, pageRequest, roots.size());
+    }
+
+    /**
+     * 루트 댓글: 본인 댓글이거나 게시글 작성자면 비밀댓글 열람 가능
+     */
+    private List<PostCommentResponse> overlayRoots(
+            List<PostCommentTree.Node> roots, UUID postAuthorId, UUID userId, Set<UUID> likedIds) {
+        boolean isOwnPost = userId != null && userId.equals(postAuthorId);
+        List<PostCommentResponse> responses = new ArrayList<>(roots.size());
+        for (PostCommentTree.Node root : roots) {
+            boolean isOwnComment = userId != null && root.authorId().equals(userId);
+            boolean canViewSecret = (isOwnComment || isOwnPost);
+            List<PostCommentResponse> replies = overlayReplies(root.replies(), userId, likedIds, isOwnComment);
+            responses.add(PostCommentResponse.from(root, likedIds.contains(root.id()), isOwnComment, canViewSecret, replies));
+        }
+        return responses;
+    }
+
+    /**
+     * 답글: 본인 답글이거나 부모 댓글 작성자면 비밀댓글 열람 가능
+     */
+    private List<PostCommentResponse> overlayReplies(
+            List<PostCommentTree.Node> replies, UUID userId, Set<UUID> likedIds, boolean isOwnParent) {
+        List<PostCommentResponse> responses = new ArrayList<>(replies.size());
+        for (PostCommentTree.Node reply : replies) {
+            boolean isOwnReply = userId != null && reply.authorId().equals(userId);
+            boolean canViewSecret = (isOwnParent || isOwnReply);
+            List<PostCommentResponse> nested = overlayReplies(reply.replies(), userId, likedIds, isOwnReply);
+            responses.add(PostCommentResponse.from(reply, likedIds.contains(reply.id()), isOwnReply, canViewSecret, nested));
+        }
+        return responses;
+    }
+
+    private Set<UUID> findLikedCommentIds(UUID userId, List<UUID> commentIds) {
+        if (userId == null || commentIds.isEmpty()) {
+            return Set.of();
+        }
+        return postCommentLikeRepository.findLikedCommentIds(userId, commentIds);
     }
 
     public List<PostCommentResponse> getCommentReplies(UUID commentId, UUID userId, Sort sort, boolean isOwnParent) {
@@ -261,7 +283,7 @@ public class PostCommentService {
 
         postCommentRepository.save(comment);
 
-        // 댓글 좋아요 상태 변경 시 해당 사용자의 댓글 캐시만 무효화
-        cacheInvalidationUtil.evictCommentLikeCache(comment.getPostId(), userId);
+        // 좋아요 수는 공유 트리에 들어 있으므로 해당 게시글 댓글 트리 무효화
+        cacheInvalidationUtil.evictPostCommentCaches(comment.getPostId());
     }
 }
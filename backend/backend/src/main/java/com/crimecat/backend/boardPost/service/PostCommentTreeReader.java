@@ -0,0 +1,31 @@
+package com.crimecat.backend.boardPost.service;
+
+import com.crimecat.backend.boardPost.dto.PostCommentTree;
+import com.crimecat.backend.boardPost.repository.PostCommentRepository;
+import com.crimecat.backend.config.CacheNames;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * 게시글 댓글 트리 조회 (조회자와 무관, 게시글당 캐시 한 벌)
+ * - 댓글/작성자/게시글 작성자를 쿼리 한 번으로 읽어 트리 구성
+ * - 댓글 작성/수정/삭제/좋아요 시 CacheInvalidationUtil.evictPostCommentCaches 로 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class PostCommentTreeReader {
+
+    private final PostCommentRepository postCommentRepository;
+
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheNames.BOARD_POST_COMMENTS, key = "#postId.toString()")
+    public PostCommentTree read(UUID postId) {
+        return PostCommentTree.of(
+                postCommentRepository.findAllByPostId(postId, Sort.by(Sort.Direction.ASC, "createdAt")));
+    }
+}
@@ -5,7 +5,6 @@ import com.crimecat.backend.comment.service.EscapeRoomCommentService;
 import com.crimecat.backend.comment.sort.CommentSortType;
 import com.crimecat.backend.common.dto.PageResponseDto;
 import com.crimecat.backend.utils.AuthenticationUtil;
-import com.crimecat.backend.webUser.domain.WebUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -39,9 +38,7 @@ public class EscapeRoomCommentPublicController {
                 themeId, page, size, sortType, spoilerOnly);
         
         // 현재 사용자 정보 조회 (선택적)
-        WebUser webUser = AuthenticationUtil.getCurrentWebUserOptional()
-            .orElse(null);
-        UUID currentWebUserId = (webUser != null) ? webUser.getId() : null;
+        UUID currentWebUserId = AuthenticationUtil.getCurrentWebUserIdOptional().orElse(null);
         
         // Pageable 생성 with CommentSortType
         Pageable pageable = PageRequest.of(page, size, sortType.getSort());
@@ -58,4 +58,31 @@ public class CommentResponse {
                 .replies(replies)
                 .build();
     }
+
+    /**
+     * 공유 댓글 트리 노드에 조회자별 정보를 덧씌워 응답 생성
+     */
+    public static CommentResponse from(
+            CommentTree.Node node,
+            boolean isLikedByCurrentUser,
+            boolean isOwnComment,
+            boolean canViewSpoiler,
+            List<CommentResponse> replies) {
+
+        return CommentResponse.builder()
+                .id(node.id())
+                .content(node.spoiler() && !canViewSpoiler && !isOwnComment ? "[스포일러]" : node.content())
+                .authorName(node.authorName())
+                .authorProfileImage(node.authorProfileImage())
+                .authorId(node.authorId())
+                .createdAt(node.createdAt())
+                .updatedAt(node.updatedAt())
+                .isSpoiler(node.spoiler())
+                .likes(node.likes())
+                .isLikedByCurrentUser(isLikedByCurrentUser)
+                .isOwnComment(isOwnComment)
+                .isDeleted(node.deleted())
+                .replies(replies)
+                .build();
+    }
 }
@@ -0,0 +1,96 @@
+package com.crimecat.backend.comment.dto;
+
+import com.crimecat.backend.comment.domain.Comment;
+import com.crimecat.backend.comment.sort.CommentSortType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 게임 테마 댓글 트리 (조회자와 무관한 공유 읽기 모델)
+ * - 테마당 한 번 조회해서 한 벌만 캐시 → 좋아요/본인 여부/스포일러 열람은 응답 시점에 조회자별로 덧씌움
+ * - 루트 댓글은 작성 시각 오름차순으로 보관, 정렬/페이징은 요청마다 메모리에서 처리
+ * - 불변 객체라 여러 요청이 동시에 읽어도 안전
+ */
+public record CommentTree(List<Node> roots) {
+
+    public record Node(
+            UUID id,
+            String content,
+            UUID authorId,
+            String authorName,
+            String authorProfileImage,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            boolean spoiler,
+            int likes,
+            boolean deleted,
+            List<Node> replies) {
+
+        /**
+         * 이 댓글과 모든 하위 답글의 ID 수집
+         */
+        public void collectIds(Collection<UUID> target) {
+            target.add(id);
+            for (Node reply : replies) {
+                reply.collectIds(target);
+            }
+        }
+    }
+
+    /**
+     * @param comments 테마의 모든 댓글 (작성 시각 오름차순, 삭제된 댓글 포함)
+     */
+    public static CommentTree of(List<Comment> comments) {
+        Map<UUID, List<Comment>> children = new HashMap<>();
+        List<Comment> roots = new ArrayList<>();
+        for (Comment comment : comments) {
+            if (comment.getParentId() == null) {
+                roots.add(comment);
+            } else {
+                children.computeIfAbsent(comment.getParentId(), id -> new ArrayList<>()).add(comment);
+            }
+        }
+        return new CommentTree(toNodes(roots, children));
+    }
+
+    /**
+     * 정렬 기준에 맞춘 루트 댓글 (답글은 항상 오래된 순)
+     */
+    public List<Node> sortedRoots(CommentSortType sortType) {
+        Comparator<Node> byCreatedAt = Comparator.comparing(Node::createdAt,
+                Comparator.nullsFirst(Comparator.naturalOrder()));
+        return switch (sortType) {
+            case OLDEST -> roots;
+            case LATEST -> roots.stream().sorted(byCreatedAt.reversed()).toList();
+            case LIKES -> roots.stream()
+                    .sorted(Comparator.comparingInt(Node::likes).reversed().thenComparing(byCreatedAt.reversed()))
+                    .toList();
+        };
+    }
+
+    private static List<Node> toNodes(List<Comment> comments, Map<UUID, List<Comment>> children) {
+        List<Node> nodes = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            nodes.add(new Node(
+                    comment.getId(),
+                    comment.getContent(),
+                    comment.getAuthorId(),
+                    comment.getAuthor().getUser().getName(),
+                    comment.getAuthor().getProfileImagePath(),
+                    comment.getCreatedAt(),
+                    comment.getUpdatedAt(),
+                    comment.isSpoiler(),
+                    comment.getLikes(),
+                    comment.isDeleted(),
+                    toNodes(children.getOrDefault(comment.getId(), List.of()), children)));
+        }
+        return List.copyOf(nodes);
+    }
+}
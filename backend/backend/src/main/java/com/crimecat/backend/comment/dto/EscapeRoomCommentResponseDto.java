@@ -13,8 +13,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-import java.util.stream.Collectors;
-
 @Getter
 @Setter
 @NoArgsConstructor
@@ -90,6 +88,23 @@ public class EscapeRoomCommentResponseDto {
         private Integer storyRating;
         private Double storyRatingStars;
         private LocalDate playDate;
+
+        public static GameHistoryInfo of(EscapeRoomHistory history) {
+            return GameHistoryInfo.builder()
+                    .teamSize(history.getTeamSize())
+                    .successStatus(history.getSuccessStatus())
+                    .clearTime(history.getClearTime())
+                    .formattedClearTime(history.getFormattedClearTime())
+                    .hintCount(history.getHintCount())
+                    .difficultyRating(history.getDifficultyRating())
+                    .difficultyRatingStars(history.getDifficultyRatingStars())
+                    .funRating(history.getFunRating())
+                    .funRatingStars(history.getFunRatingStars())
+                    .storyRating(history.getStoryRating())
+                    .storyRatingStars(history.getStoryRatingStars())
+                    .playDate(history.getPlayDate())
+                    .build();
+        }
     }
 
     private GameHistoryInfo gameHistoryInfo;
@@ -120,22 +135,7 @@ public class EscapeRoomCommentResponseDto {
             builder.escapeRoomHistoryId(history.getId());
             
             // 게임 기록 정보 추가
-            GameHistoryInfo historyInfo = GameHistoryInfo.builder()
-                    .teamSize(history.getTeamSize())
-                    .successStatus(history.getSuccessStatus())
-                    .clearTime(history.getClearTime())
-                    .formattedClearTime(history.getFormattedClearTime())
-                    .hintCount(history.getHintCount())
-                    .difficultyRating(history.getDifficultyRating())
-                    .difficultyRatingStars(history.getDifficultyRatingStars())
-                    .funRating(history.getFunRating())
-                    .funRatingStars(history.getFunRatingStars())
-                    .storyRating(history.getStoryRating())
-                    .storyRatingStars(history.getStoryRatingStars())
-                    .playDate(history.getPlayDate())
-                    .build();
-            
-            builder.gameHistoryInfo(historyInfo);
+            builder.gameHistoryInfo(GameHistoryInfo.of(history));
         }
         
         // 현재 사용자 관련 정보
@@ -192,73 +192,57 @@ public class EscapeRoomCommentResponseDto {
             builder.escapeRoomHistoryId(history.getId());
             
             // 게임 기록 정보 추가
-            GameHistoryInfo historyInfo = GameHistoryInfo.builder()
-                    .teamSize(history.getTeamSize())
-                    .successStatus(history.getSuccessStatus())
-                    .clearTime(history.getClearTime())
-                    .formattedClearTime(history.getFormattedClearTime())
-                    .hintCount(history.getHintCount())
-                    .difficultyRating(history.getDifficultyRating())
-                    .difficultyRatingStars(history.getDifficultyRatingStars())
-                    .funRating(history.getFunRating())
-                    .funRatingStars(history.getFunRatingStars())
-                    .storyRating(history.getStoryRating())
-                    .storyRatingStars(history.getStoryRatingStars())
-                    .playDate(history.getPlayDate())
-                    .build();
-            
-            builder.gameHistoryInfo(historyInfo);
+            builder.gameHistoryInfo(GameHistoryInfo.of(history));
         }
         
         return builder.build();
     }
     
     /**
-     * 댓글 목록을 계층 구조로 구성
-     * 대댓글은 부모 댓글의 replies 필드에 추가
+     * 공유 댓글 트리 노드에 조회자별 정보를 덧씌워 응답 생성 (스포일러/삭제 처리 규칙은 from 과 동일)
      */
-    public static List<EscapeRoomCommentResponseDto> organizeHierarchy(
-            List<EscapeRoomComment> allComments,
+    public static EscapeRoomCommentResponseDto from(
+            EscapeRoomCommentTree.Node node,
             UUID currentUserId,
-            boolean hasGameHistory) {
-        
-        // 모든 댓글을 DTO로 변환
-        List<EscapeRoomCommentResponseDto> allDtos = allComments.stream()
-                .map(comment -> from(comment, currentUserId, hasGameHistory))
-                .collect(Collectors.toList());
-        
-        // 댓글 ID를 키로 하는 맵 생성
-        var dtoMap = allDtos.stream()
-                .collect(Collectors.toMap(
-                        EscapeRoomCommentResponseDto::getId,
-                        dto -> dto
-                ));
-        
-        // 부모 댓글 목록 (최상위 댓글만 포함)
-        List<EscapeRoomCommentResponseDto> parentComments = new ArrayList<>();
-        
-        // 각 댓글을 순회하며 부모-자식 관계 구성
-        for (EscapeRoomComment comment : allComments) {
-            EscapeRoomCommentResponseDto dto = dtoMap.get(comment.getId());
-            
-            if (comment.isReplyComment() && comment.getParentComment() != null) {
-                // 대댓글인 경우
-                UUID parentId = comment.getParentComment().getId();
-                EscapeRoomCommentResponseDto parentDto = dtoMap.get(parentId);
-                
-                if (parentDto != null) {
-                    // 부모 댓글의 replies 목록에 추가
-                    if (parentDto.getReplies() == null) {
-                        parentDto.setReplies(new ArrayList<>());
-                    }
-                    parentDto.getReplies().add(dto);
-                }
-            } else {
-                // 부모 댓글인 경우 (또는 parentComment가 null인 경우)
-                parentComments.add(dto);
-            }
+            boolean hasGameHistory,
+            boolean isLikedByCurrentUser,
+            List<EscapeRoomCommentResponseDto> replies) {
+        boolean isOwnComment = currentUserId != null && node.authorId().equals(currentUserId);
+        boolean canViewSpoiler = !node.spoiler() || hasGameHistory;
+
+        String content;
+        String hiddenMessage = null;
+        if (node.spoiler() && !canViewSpoiler) {
+            content = "[플레이 후 기록추가 시 확인 가능합니다.]";
+            hiddenMessage = "이 댓글은 스포일러를 포함하고 있습니다. 해당 테마를 플레이한 후에 확인할 수 있습니다.";
+        } else if (node.deleted()) {
+            content = "[삭제된 메시지 입니다]";
+        } else {
+            content = node.content();
         }
-        
-        return parentComments;
+
+        return EscapeRoomCommentResponseDto.builder()
+                .id(node.id())
+                .escapeRoomThemeId(node.escapeRoomThemeId())
+                .escapeRoomThemeName(node.escapeRoomThemeName())
+                .authorId(node.authorId())
+                .authorName(node.authorName())
+                .authorProfileImage(node.authorProfileImage())
+                .content(content)
+                .hiddenMessage(hiddenMessage)
+                .isSpoiler(node.spoiler())
+                .isGameHistoryComment(node.gameHistoryComment())
+                .escapeRoomHistoryId(node.escapeRoomHistoryId())
+                .gameHistoryInfo(node.gameHistoryInfo())
+                .likes(node.likes())
+                .isLikedByCurrentUser(isLikedByCurrentUser)
+                .isOwnComment(isOwnComment)
+                .canEdit(isOwnComment && !node.deleted())
+                .canView(canViewSpoiler)
+                .createdAt(node.createdAt())
+                .updatedAt(node.updatedAt())
+                .isDeleted(node.deleted())
+                .replies(replies)
+                .build();
     }
-}
\ No newline at end of file
+}
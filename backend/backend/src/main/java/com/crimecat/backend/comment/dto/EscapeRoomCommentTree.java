@@ -0,0 +1,120 @@
+package com.crimecat.backend.comment.dto;
+
+import com.crimecat.backend.comment.domain.EscapeRoomComment;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 방탈출 테마 댓글 트리 (조회자와 무관한 공유 읽기 모델)
+ * - 테마당 한 번 조회해서 한 벌만 캐시 → 좋아요/본인 여부/스포일러 열람은 응답 시점에 조회자별로 덧씌움
+ * - 댓글은 작성 시각 내림차순으로 보관 (기존 조회 순서), 스포일러 필터/정렬/페이징은 요청마다 메모리에서 처리
+ * - 불변 객체라 여러 요청이 동시에 읽어도 안전 (gameHistoryInfo 는 응답에서 읽기 전용으로만 공유)
+ */
+public record EscapeRoomCommentTree(List<Node> roots) {
+
+    public record Node(
+            UUID id,
+            UUID escapeRoomThemeId,
+            String escapeRoomThemeName,
+            UUID authorId,
+            String authorName,
+            String authorProfileImage,
+            String content,
+            boolean spoiler,
+            boolean gameHistoryComment,
+            UUID escapeRoomHistoryId,
+            EscapeRoomCommentResponseDto.GameHistoryInfo gameHistoryInfo,
+            int likes,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            boolean deleted,
+            List<Node> replies) {
+
+        /**
+         * 이 댓글과 모든 하위 답글의 ID 수집
+         */
+        public void collectIds(Collection<UUID> target) {
+            target.add(id);
+            for (Node reply : replies) {
+                reply.collectIds(target);
+            }
+        }
+
+        /**
+         * 스포일러 댓글만 남긴 사본 (스포일러가 아닌 댓글 아래의 답글도 함께 제외)
+         */
+        Node spoilersOnly() {
+            List<Node> filtered = filterSpoilers(replies);
+            return new Node(id, escapeRoomThemeId, escapeRoomThemeName, authorId, authorName, authorProfileImage,
+                    content, spoiler, gameHistoryComment, escapeRoomHistoryId, gameHistoryInfo, likes,
+                    createdAt, updatedAt, deleted, filtered);
+        }
+    }
+
+    /**
+     * @param comments 테마의 모든 댓글 (작성 시각 내림차순, 삭제된 댓글 포함)
+     */
+    public static EscapeRoomCommentTree of(List<EscapeRoomComment> comments) {
+        Map<UUID, List<EscapeRoomComment>> children = new HashMap<>();
+        List<EscapeRoomComment> roots = new ArrayList<>();
+        for (EscapeRoomComment comment : comments) {
+            if (comment.isReplyComment()) {
+                children.computeIfAbsent(comment.getParentComment().getId(), id -> new ArrayList<>()).add(comment);
+            } else {
+                roots.add(comment);
+            }
+        }
+        return new EscapeRoomCommentTree(toNodes(roots, children));
+    }
+
+    /**
+     * 스포일러 댓글만 남긴 루트 목록
+     */
+    public List<Node> spoilerRoots() {
+        return filterSpoilers(roots);
+    }
+
+    private static List<Node> filterSpoilers(List<Node> nodes) {
+        List<Node> result = new ArrayList<>();
+        for (Node node : nodes) {
+            if (node.spoiler()) {
+                result.add(node.spoilersOnly());
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    private static List<Node> toNodes(List<EscapeRoomComment> comments,
+                                      Map<UUID, List<EscapeRoomComment>> children) {
+        List<Node> nodes = new ArrayList<>(comments.size());
+        for (EscapeRoomComment comment : comments) {
+            boolean historyComment = comment.isGameHistoryComment();
+            nodes.add(new Node(
+                    comment.getId(),
+                    comment.getEscapeRoomTheme().getId(),
+                    comment.getEscapeRoomTheme().getTitle(),
+                    comment.getWebUser().getId(),
+                    comment.getWebUser().getNickname(),
+                    comment.getWebUser().getProfileImagePath(),
+                    comment.getContent(),
+                    comment.getIsSpoiler(),
+                    historyComment,
+                    historyComment ? comment.getEscapeRoomHistory().getId() : null,
+                    historyComment
+                            ? EscapeRoomCommentResponseDto.GameHistoryInfo.of(comment.getEscapeRoomHistory())
+                            : null,
+                    comment.getLikesCount(),
+                    comment.getCreatedAt(),
+                    comment.getUpdatedAt(),
+                    comment.isDeleted(),
+                    toNodes(children.getOrDefault(comment.getId(), List.of()), children)));
+        }
+        return List.copyOf(nodes);
+    }
+}
@@ -2,10 +2,14 @@ package com.crimecat.backend.comment.repository;
 
 import com.crimecat.backend.comment.domain.CommentLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -18,4 +22,8 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, UUID>
     
     // 댓글에 대한 모든 좋아요 찾기
     List<CommentLike> findByCommentId(UUID commentId);
+
+    // 사용자가 좋아요한 댓글 ID (벌크 조회)
+    @Query("SELECT cl.commentId FROM CommentLike cl WHERE cl.userId = :userId AND cl.commentId IN :commentIds")
+    Set<UUID> findLikedCommentIds(@Param("userId") UUID userId, @Param("commentIds") Collection<UUID> commentIds);
 }
@@ -40,6 +40,14 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
            "AND c.parentId IS NULL")
     Page<Comment> findAllCommentsWithGameTheme(@Param("gameThemeId") UUID gameThemeId, Pageable pageable);
 
+    // 테마의 모든 댓글 (삭제 포함) + 작성자 - 댓글 트리 구성용
+    @Query("SELECT c FROM Comment c " +
+           "LEFT JOIN FETCH c.author a " +
+           "LEFT JOIN FETCH a.user " +
+           "WHERE c.gameThemeId = :gameThemeId " +
+           "ORDER BY c.createdAt ASC")
+    List<Comment> findAllForTree(@Param("gameThemeId") UUID gameThemeId);
+
     // 부모 댓글에 대한 대댓글 조회
     @EntityGraph(attributePaths = {"author"})
     List<Comment> findByParentIdAndIsDeletedFalse(UUID parentId, Sort sort);
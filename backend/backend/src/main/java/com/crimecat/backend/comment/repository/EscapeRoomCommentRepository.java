@@ -28,10 +28,11 @@ public interface EscapeRoomCommentRepository extends JpaRepository<EscapeRoomCom
             @Param("themeId") UUID themeId, Pageable pageable);
     
     /**
-     * 특정 테마의 모든 댓글 목록 조회 (페이징 없이)
+     * 특정 테마의 모든 댓글 목록 조회 (페이징 없이) - 댓글 트리 구성용
      */
     @Query("SELECT ec FROM EscapeRoomComment ec " +
            "JOIN FETCH ec.webUser u " +
+           "JOIN FETCH ec.escapeRoomTheme et " +
            "LEFT JOIN FETCH ec.escapeRoomHistory eh " +
            "LEFT JOIN FETCH ec.parentComment pc " +
            "WHERE ec.escapeRoomTheme.id = :themeId " +
@@ -4,6 +4,7 @@ import com.crimecat.backend.comment.domain.Comment;
 import com.crimecat.backend.comment.domain.CommentLike;
 import com.crimecat.backend.comment.dto.CommentRequest;
 import com.crimecat.backend.comment.dto.CommentResponse;
+import com.crimecat.backend.comment.dto.CommentTree;
 import com.crimecat.backend.comment.repository.CommentLikeRepository;
 import com.crimecat.backend.comment.repository.CommentRepository;
 import com.crimecat.backend.comment.sort.CommentSortType;
@@ -24,11 +25,12 @@ import jakarta.persistence.EntityNotFoundException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
@@ -48,6 +50,7 @@ public class CommentService {
     private final NotificationEventPublisher notificationEventPublisher;
     private final MakerTeamMemberRepository makerTeamMemberRepository;
     private final CacheInvalidationUtil cacheInvalidationUtil;
+    private final CommentTreeReader commentTreeReader;
     
     // 댓글 작성
     @Transactional
@@ -158,7 +161,7 @@ public class CommentService {
         }
 
         // 댓글 생성 시 해당 게임 테마의 모든 댓글 캐시 무효화
-        cacheInvalidationUtil.evictByKeyPrefix(CacheNames.GAME_THEME_COMMENTS, gameThemeId + "_");
+        cacheInvalidationUtil.evictSpecificKey(CacheNames.GAME_THEME_COMMENTS, gameThemeId.toString());
 
         return response;
     }
@@ -187,7 +190,7 @@ public class CommentService {
         boolean canViewSpoiler = hasPlayedGameTheme(userId, comment.getGameThemeId());
 
         // 댓글 수정 시 해당 게임 테마의 모든 댓글 캐시 무효화
-        cacheInvalidationUtil.evictByKeyPrefix(CacheNames.GAME_THEME_COMMENTS, comment.getGameThemeId() + "_");
+        cacheInvalidationUtil.evictSpecificKey(CacheNames.GAME_THEME_COMMENTS, comment.getGameThemeId().toString());
 
         return CommentResponse.from(updatedComment, isLiked, true, canViewSpoiler, replies);
     }
@@ -207,7 +210,7 @@ public class CommentService {
         commentRepository.save(comment);
 
         // 댓글 삭제 시 해당 게임 테마의 모든 댓글 캐시 무효화
-        cacheInvalidationUtil.evictByKeyPrefix(CacheNames.GAME_THEME_COMMENTS, comment.getGameThemeId() + "_");
+        cacheInvalidationUtil.evictSpecificKey(CacheNames.GAME_THEME_COMMENTS, comment.getGameThemeId().toString());
         
 //        // 대댓글도 함께 삭제 처리
 //        if (comment.getParentId() == null) {
@@ -220,48 +223,57 @@ public class CommentService {
     }
     
     // 댓글 목록 조회 (SortType을 통한 정렬 옵션 적용)
+    // - 트리는 테마당 한 벌 공유 (CommentTreeReader), 좋아요/본인 여부/스포일러 열람만 조회자별로 덧씌움
     @Transactional(readOnly = true)
-    @Cacheable(value = CacheNames.GAME_THEME_COMMENTS,
-               key = "#gameThemeId + '_' + (#userId != null ? #userId : 'anonymous') + '_' + #page + '_' + #size + '_' + #sortType")
     public Page<CommentResponse> getComments(UUID gameThemeId, UUID userId, int page, int size, CommentSortType sortType) {
         Pageable pageable = PageRequest.of(page, size, sortType.getSort());
-        Page<Comment> comments = commentRepository.findAllCommentsWithGameTheme(
-                gameThemeId, pageable);
-        
+        List<CommentTree.Node> roots = commentTreeReader.gameTheme(gameThemeId).sortedRoots(sortType);
+        List<CommentTree.Node> pageRoots = slice(roots, pageable);
+
         boolean canViewSpoiler = hasPlayedGameTheme(userId, gameThemeId);
+        Set<UUID> likedIds = findLikedCommentIds(userId, pageRoots);
 
-        return comments.map(comment -> {
-            boolean isLiked = commentLikeRepository.existsByUser_IdAndComment_Id(userId, comment.getId());
-            boolean isOwnComment = comment.getAuthorId().equals(userId);
-            List<CommentResponse> replies = getCommentReplies(comment.getId(), userId, CommentSortType.OLDEST);
-            
-            return CommentResponse.from(comment, isLiked, isOwnComment, canViewSpoiler, replies);
-        });
+        List<CommentResponse> content = overlay(pageRoots, userId, likedIds, canViewSpoiler);
+        return new PageImpl<>(content, pageable, roots.size());
     }
     
     // 비로그인 사용자를 위한 댓글 목록 조회 (스포일러 아닌 댓글만 표시)
     @Transactional(readOnly = true)
-    @Cacheable(value = CacheNames.GAME_THEME_COMMENTS,
-               key = "#gameThemeId + '_anonymous_' + #page + '_' + #size + '_' + #sortType")
     public Page<CommentResponse> getPublicComments(UUID gameThemeId, int page, int size, CommentSortType sortType) {
         Pageable pageable = PageRequest.of(page, size, sortType.getSort());
-        Page<Comment> comments = commentRepository.findAllCommentsWithGameTheme(
-                gameThemeId, pageable);
+        List<CommentTree.Node> roots = commentTreeReader.gameTheme(gameThemeId).sortedRoots(sortType);
         
-        // 비로그인 사용자는 스포일러 내용을 볼 수 없음
-        boolean canViewSpoiler = false;
-        
-        return comments.map(comment -> {
-            // 비로그인 사용자는 항상 좋아요를 누르지 않은 상태
-            boolean isLiked = false;
-            // 비로그인 사용자는 항상 자신의 댓글이 아님
-            boolean isOwnComment = false;
-            
-            // 대댓글 처리 - 스포일러 아닌 대댓글만 반환
-            List<CommentResponse> replies = getPublicCommentReplies(comment.getId(), CommentSortType.OLDEST);
-            
-            return CommentResponse.from(comment, isLiked, isOwnComment, canViewSpoiler, replies);
-        });
+        // 비로그인 사용자는 좋아요/본인 댓글 없음, 스포일러 내용을 볼 수 없음
+        List<CommentResponse> content = overlay(slice(roots, pageable), null, Set.of(), false);
+        return new PageImpl<>(content, pageable, roots.size());
+    }
+
+    // 공유 트리 노드에 조회자별 정보 적용 (대댓글까지 재귀)
+    private List<CommentResponse> overlay(List<CommentTree.Node> nodes, UUID userId, Set<UUID> likedIds,
+                                          boolean canViewSpoiler) {
+        List<CommentResponse> responses = new ArrayList<>(nodes.size());
+        for (CommentTree.Node node : nodes) {
+            boolean isOwnComment = userId != null && node.authorId().equals(userId);
+            List<CommentResponse> replies = overlay(node.replies(), userId, likedIds, canViewSpoiler);
+            responses.add(CommentResponse.from(node, likedIds.contains(node.id()), isOwnComment, canViewSpoiler, replies));
+        }
+        return responses;
+    }
+
+    // 현재 페이지 댓글(대댓글 포함) 중 사용자가 좋아요한 댓글 ID (쿼리 한 번)
+    private Set<UUID> findLikedCommentIds(UUID userId, List<CommentTree.Node> roots) {
+        if (userId == null || roots.isEmpty()) {
+            return Set.of();
+        }
+        List<UUID> commentIds = new ArrayList<>();
+        roots.forEach(root -> root.collectIds(commentIds));
+        return commentLikeRepository.findLikedCommentIds(userId, commentIds);
+    }
+
+    private static <T> List<T> slice(List<T> items, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), items.size());
+        int to = Math.min(from + pageable.getPageSize(), items.size());
+        return items.subList(from, to);
     }
     
     // 대댓글 조회
@@ -280,25 +292,6 @@ public class CommentService {
         return replyResponses;
     }
     
-    // 비로그인 사용자를 위한 대댓글 조회 (스포일러 아닌 내용만)
-    private List<CommentResponse> getPublicCommentReplies(UUID commentId, CommentSortType sortType) {
-        List<Comment> replies = commentRepository.findByParentId(commentId, sortType.getSort());
-        List<CommentResponse> replyResponses = new ArrayList<>();
-        
-        for (Comment reply : replies) {
-            // 비로그인 사용자 설정
-            boolean isLiked = false;
-            boolean isOwnReply = false;
-            boolean canViewSpoiler = false; // 스포일러 내용을 볼 수 없음
-            
-            // 재귀 호출로 모든 깊이의 대댓글 처리
-            List<CommentResponse> nestedReplies = getPublicCommentReplies(reply.getId(), sortType);
-            replyResponses.add(CommentResponse.from(reply, isLiked, isOwnReply, canViewSpoiler, nestedReplies));
-        }
-        
-        return replyResponses;
-    }
-    
     // 댓글 좋아요
     @Transactional
     public void likeComment(UUID commentId, UUID userId) {
@@ -314,8 +307,8 @@ public class CommentService {
             comment.incrementLikes();
             commentRepository.save(comment);
 
-            // 좋아요 시 해당 사용자의 댓글 캐시만 무효화 (특정 사용자 키만)
-            cacheInvalidationUtil.evictByKeyPrefix(CacheNames.GAME_THEME_COMMENTS, comment.getGameThemeId() + "_" + userId);
+            // 좋아요 수는 공유 트리에 들어 있으므로 해당 테마 댓글 트리 무효화
+            cacheInvalidationUtil.evictSpecificKey(CacheNames.GAME_THEME_COMMENTS, comment.getGameThemeId().toString());
         }
     }
     
@@ -332,8 +325,8 @@ public class CommentService {
             comment.decrementLikes();
             commentRepository.save(comment);
 
-            // 좋아요 취소 시 해당 사용자의 댓글 캐시만 무효화 (특정 사용자 키만)
-            cacheInvalidationUtil.evictByKeyPrefix(CacheNames.GAME_THEME_COMMENTS, comment.getGameThemeId() + "_" + userId);
+            // 좋아요 수는 공유 트리에 들어 있으므로 해당 테마 댓글 트리 무효화
+            cacheInvalidationUtil.evictSpecificKey(CacheNames.GAME_THEME_COMMENTS, comment.getGameThemeId().toString());
         }
     }
     
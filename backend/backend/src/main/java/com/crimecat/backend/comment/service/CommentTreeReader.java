@@ -0,0 +1,43 @@
+package com.crimecat.backend.comment.service;
+
+import com.crimecat.backend.comment.dto.CommentTree;
+import com.crimecat.backend.comment.dto.EscapeRoomCommentTree;
+import com.crimecat.backend.comment.repository.CommentRepository;
+import com.crimecat.backend.comment.repository.EscapeRoomCommentRepository;
+import com.crimecat.backend.config.CacheNames;
+import com.crimecat.backend.exception.ErrorStatus;
+import com.crimecat.backend.gametheme.repository.EscapeRoomThemeRepository;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 테마 댓글 트리 조회 (조회자와 무관, 테마당 캐시 한 벌)
+ * - 댓글과 작성자를 쿼리 한 번으로 읽어 트리 구성
+ * - 댓글 작성/수정/삭제/좋아요 시 테마 ID 키 하나만 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentTreeReader {
+
+    private final CommentRepository commentRepository;
+    private final EscapeRoomCommentRepository escapeRoomCommentRepository;
+    private final EscapeRoomThemeRepository escapeRoomThemeRepository;
+
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheNames.GAME_THEME_COMMENTS, key = "#gameThemeId.toString()")
+    public CommentTree gameTheme(UUID gameThemeId) {
+        return CommentTree.of(commentRepository.findAllForTree(gameThemeId));
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheNames.ESCAPE_ROOM_COMMENTS, key = "#themeId.toString()")
+    public EscapeRoomCommentTree escapeRoom(UUID themeId) {
+        if (!escapeRoomThemeRepository.existsById(themeId)) {
+            throw ErrorStatus.GAME_THEME_NOT_FOUND.asServiceException();
+        }
+        return EscapeRoomCommentTree.of(escapeRoomCommentRepository.findAllByEscapeRoomThemeId(themeId));
+    }
+}
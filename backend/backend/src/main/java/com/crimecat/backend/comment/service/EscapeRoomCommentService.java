@@ -4,6 +4,7 @@ import com.crimecat.backend.comment.domain.EscapeRoomComment;
 import com.crimecat.backend.comment.domain.EscapeRoomCommentLike;
 import com.crimecat.backend.comment.dto.EscapeRoomCommentCreateDto;
 import com.crimecat.backend.comment.dto.EscapeRoomCommentResponseDto;
+import com.crimecat.backend.comment.dto.EscapeRoomCommentTree;
 import com.crimecat.backend.comment.dto.EscapeRoomCommentUpdateDto;
 import com.crimecat.backend.comment.repository.EscapeRoomCommentRepository;
 import com.crimecat.backend.comment.repository.EscapeRoomCommentLikeRepository;
@@ -53,6 +54,7 @@ public class EscapeRoomCommentService {
     private final EscapeRoomHistoryService escapeRoomHistoryService;
     private final NotificationEventPublisher notificationEventPublisher;
     private final CacheInvalidationUtil cacheInvalidationUtil;
+    private final CommentTreeReader commentTreeReader;
     
     /**
      * 댓글 생성
@@ -124,7 +126,7 @@ public class EscapeRoomCommentService {
                 savedComment.getId(), currentUserId, theme.getId());
 
         // 댓글 생성 시 해당 테마의 모든 댓글 캐시 무효화
-        cacheInvalidationUtil.evictByKeyPrefix(CacheNames.ESCAPE_ROOM_COMMENTS, theme.getId() + "_");
+        cacheInvalidationUtil.evictSpecificKey(CacheNames.ESCAPE_ROOM_COMMENTS, theme.getId().toString());
         cacheInvalidationUtil.evictByKeyPrefix(CacheNames.USER_COMMENTS, currentUserId + "_");
         cacheInvalidationUtil.evictSpecificKey(CacheNames.COMMENT_STATS, theme.getId().toString());
 
@@ -156,107 +158,72 @@ public class EscapeRoomCommentService {
     }
 
     /**
-     * 특정 테마의 댓글 목록 조회 (계층 구조로 변환)
+     * 특정 테마의 댓글 목록 조회 (계층 구조)
+     * - 트리는 테마당 한 벌 공유 (CommentTreeReader), 좋아요/본인 여부/스포일러 열람만 조회자별로 덧씌움
      */
-    @Cacheable(value = CacheNames.ESCAPE_ROOM_COMMENTS,
-               key = "#themeId + '_' + (#currentUserId != null ? #currentUserId : 'anonymous') + '_' + #pageable.pageNumber + '_' + #pageable.pageSize + '_' + (#spoilerOnly != null ? #spoilerOnly : 'all') + '_' + #pageable.sort.toString()")
     public Page<EscapeRoomCommentResponseDto> getCommentsByTheme(UUID themeId, UUID currentUserId, Pageable pageable, Boolean spoilerOnly) {
-        // 테마 존재 확인
-        if (!escapeRoomThemeRepository.existsById(themeId)) {
-            throw ErrorStatus.GAME_THEME_NOT_FOUND.asServiceException();
-        }
-
-        // 현재 사용자가 해당 테마를 플레이했는지 확인
-        boolean hasGameHistory = false;
-        if (currentUserId != null) {
-            hasGameHistory = escapeRoomHistoryService.hasPlayedTheme(currentUserId, themeId);
-        }
+        EscapeRoomCommentTree tree = commentTreeReader.escapeRoom(themeId);
 
-        // 테마의 모든 댓글 조회
-        List<EscapeRoomComment> allComments = escapeRoomCommentRepository
-                .findAllByEscapeRoomThemeId(themeId);
-        
         // 스포일러 필터링
-        if (spoilerOnly != null && spoilerOnly) {
-            allComments = allComments.stream()
-                    .filter(EscapeRoomComment::getIsSpoiler)
-                    .collect(Collectors.toList());
-        }
+        List<EscapeRoomCommentTree.Node> roots = spoilerOnly != null && spoilerOnly
+                ? tree.spoilerRoots()
+                : tree.roots();
 
-        // 현재 사용자가 좋아요한 댓글 ID 목록 조회
-        Set<UUID> likedCommentIds = Set.of();
-        if (currentUserId != null && !allComments.isEmpty()) {
-            Set<UUID> commentIds = allComments.stream()
-                    .map(EscapeRoomComment::getId)
-                    .collect(Collectors.toSet());
-            likedCommentIds = escapeRoomCommentLikeRepository
-                    .findLikedCommentIdsByUserIdAndCommentIds(currentUserId, commentIds);
-        }
-
-        // 댓글을 계층 구조로 구성
-        List<EscapeRoomCommentResponseDto> hierarchicalComments = 
-                EscapeRoomCommentResponseDto.organizeHierarchy(allComments, currentUserId, hasGameHistory);
-
-        // 좋아요 정보 설정
-        hierarchicalComments = setLikedStatus(hierarchicalComments, likedCommentIds);
-        
         // 정렬 적용 (최상위 댓글에만 적용)
         if (pageable.getSort().isSorted()) {
             Sort.Order order = pageable.getSort().iterator().next();
-            String property = order.getProperty();
-            boolean isAscending = order.isAscending();
-            
-            Comparator<EscapeRoomCommentResponseDto> comparator = null;
-            
-            switch (property) {
-                case "createdAt":
-                    comparator = Comparator.comparing(EscapeRoomCommentResponseDto::getCreatedAt);
-                    break;
-                case "likes":
-                    comparator = Comparator.comparing(EscapeRoomCommentResponseDto::getLikes)
-                            .thenComparing(EscapeRoomCommentResponseDto::getCreatedAt, Comparator.reverseOrder());
-                    break;
-                default:
-                    comparator = Comparator.comparing(EscapeRoomCommentResponseDto::getCreatedAt);
-            }
-            
-            if (!isAscending && comparator != null) {
+            Comparator<EscapeRoomCommentTree.Node> comparator = switch (order.getProperty()) {
+                case "likes" -> Comparator.comparingInt(EscapeRoomCommentTree.Node::likes)
+                        .thenComparing(EscapeRoomCommentTree.Node::createdAt, Comparator.reverseOrder());
+                default -> Comparator.comparing(EscapeRoomCommentTree.Node::createdAt);
+            };
+            if (!order.isAscending()) {
                 comparator = comparator.reversed();
             }
-            
-            if (comparator != null) {
-                hierarchicalComments.sort(comparator);
-            }
+            roots = roots.stream().sorted(comparator).toList();
         }
 
         // 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), hierarchicalComments.size());
-        
-        List<EscapeRoomCommentResponseDto> pagedComments = 
-                start < end ? hierarchicalComments.subList(start, end) : new ArrayList<>();
-        
-        return new PageImpl<>(pagedComments, pageable, hierarchicalComments.size());
+        int start = (int) Math.min(pageable.getOffset(), roots.size());
+        int end = Math.min(start + pageable.getPageSize(), roots.size());
+        List<EscapeRoomCommentTree.Node> pageRoots = roots.subList(start, end);
+
+        // 현재 사용자가 해당 테마를 플레이했는지 확인
+        boolean hasGameHistory = false;
+        Set<UUID> likedCommentIds = Set.of();
+        if (currentUserId != null) {
+            hasGameHistory = escapeRoomHistoryService.hasPlayedTheme(currentUserId, themeId);
+
+            // 현재 페이지 댓글(대댓글 포함) 중 좋아요한 댓글 ID 목록 조회
+            List<UUID> commentIds = new ArrayList<>();
+            pageRoots.forEach(root -> root.collectIds(commentIds));
+            if (!commentIds.isEmpty()) {
+                likedCommentIds = escapeRoomCommentLikeRepository
+                        .findLikedCommentIdsByUserIdAndCommentIds(currentUserId, commentIds);
+            }
+        }
+
+        List<EscapeRoomCommentResponseDto> pagedComments =
+                overlay(pageRoots, currentUserId, hasGameHistory, likedCommentIds);
+        return new PageImpl<>(pagedComments, pageable, roots.size());
     }
 
     /**
-     * 좋아요 상태 설정 (계층 구조 댓글)
+     * 공유 트리 노드에 조회자별 정보 적용 (대댓글까지 재귀)
      */
-    private List<EscapeRoomCommentResponseDto> setLikedStatus(
-            List<EscapeRoomCommentResponseDto> comments, 
+    private List<EscapeRoomCommentResponseDto> overlay(
+            List<EscapeRoomCommentTree.Node> nodes,
+            UUID currentUserId,
+            boolean hasGameHistory,
             Set<UUID> likedCommentIds) {
-        
-        for (EscapeRoomCommentResponseDto comment : comments) {
-            // 댓글 좋아요 상태 설정
-            comment.setIsLikedByCurrentUser(likedCommentIds.contains(comment.getId()));
-            
-            // 대댓글이 있는 경우, 재귀적으로 처리
-            if (comment.getReplies() != null && !comment.getReplies().isEmpty()) {
-                setLikedStatus(comment.getReplies(), likedCommentIds);
-            }
+        List<EscapeRoomCommentResponseDto> result = new ArrayList<>(nodes.size());
+        for (EscapeRoomCommentTree.Node node : nodes) {
+            List<EscapeRoomCommentResponseDto> replies =
+                    overlay(node.replies(), currentUserId, hasGameHistory, likedCommentIds);
+            result.add(EscapeRoomCommentResponseDto.from(
+                    node, currentUserId, hasGameHistory, likedCommentIds.contains(node.id()), replies));
         }
-        
-        return comments;
+        return result;
     }
 
     /**
@@ -293,7 +260,7 @@ public class EscapeRoomCommentService {
         log.info("방탈출 댓글 수정 완료 - commentId: {}", commentId);
 
         // 댓글 수정 시 관련 캐시 무효화
-        cacheInvalidationUtil.evictByKeyPrefix(CacheNames.ESCAPE_ROOM_COMMENTS, comment.getEscapeRoomTheme().getId() + "_");
+        cacheInvalidationUtil.evictSpecificKey(CacheNames.ESCAPE_ROOM_COMMENTS, comment.getEscapeRoomTheme().getId().toString());
         cacheInvalidationUtil.evictByKeyPrefix(CacheNames.COMMENT_DETAIL, commentId + "_");
         cacheInvalidationUtil.evictByKeyPrefix(CacheNames.USER_COMMENTS, currentUserId + "_");
 
@@ -326,7 +293,7 @@ public class EscapeRoomCommentService {
             log.info("게임 기록 댓글 삭제 완료 - commentId: {}", commentId);
 
             // 댓글 삭제 시 관련 캐시 무효화
-            cacheInvalidationUtil.evictByKeyPrefix(CacheNames.ESCAPE_ROOM_COMMENTS, comment.getEscapeRoomTheme().getId() + "_");
+            cacheInvalidationUtil.evictSpecificKey(CacheNames.ESCAPE_ROOM_COMMENTS, comment.getEscapeRoomTheme().getId().toString());
             cacheInvalidationUtil.evictByKeyPrefix(CacheNames.COMMENT_DETAIL, commentId + "_");
             cacheInvalidationUtil.evictByKeyPrefix(CacheNames.USER_COMMENTS, currentUserId + "_");
             cacheInvalidationUtil.evictSpecificKey(CacheNames.COMMENT_STATS, comment.getEscapeRoomTheme().getId().toString());
@@ -345,7 +312,7 @@ public class EscapeRoomCommentService {
             log.info("부모 댓글 내용 변경 완료 (자식 댓글 존재) - commentId: {}", commentId);
 
             // 댓글 수정 시 관련 캐시 무효화
-            cacheInvalidationUtil.evictByKeyPrefix(CacheNames.ESCAPE_ROOM_COMMENTS, comment.getEscapeRoomTheme().getId() + "_");
+            cacheInvalidationUtil.evictSpecificKey(CacheNames.ESCAPE_ROOM_COMMENTS, comment.getEscapeRoomTheme().getId().toString());
             cacheInvalidationUtil.evictByKeyPrefix(CacheNames.COMMENT_DETAIL, commentId + "_");
         } else {
             // 자식 댓글이 없으면 소프트 삭제
@@ -354,7 +321,7 @@ public class EscapeRoomCommentService {
             log.info("댓글 소프트 삭제 완룜 - commentId: {}", commentId);
 
             // 댓글 삭제 시 관련 캐시 무효화
-            cacheInvalidationUtil.evictByKeyPrefix(CacheNames.ESCAPE_ROOM_COMMENTS, comment.getEscapeRoomTheme().getId() + "_");
+            cacheInvalidationUtil.evictSpecificKey(CacheNames.ESCAPE_ROOM_COMMENTS, comment.getEscapeRoomTheme().getId().toString());
             cacheInvalidationUtil.evictByKeyPrefix(CacheNames.COMMENT_DETAIL, commentId + "_");
             cacheInvalidationUtil.evictByKeyPrefix(CacheNames.USER_COMMENTS, currentUserId + "_");
             cacheInvalidationUtil.evictSpecificKey(CacheNames.COMMENT_STATS, comment.getEscapeRoomTheme().getId().toString());
@@ -518,8 +485,8 @@ public class EscapeRoomCommentService {
 
         log.info("댓글 좋아요 완룼 - commentId: {}, userId: {}", commentId, currentUserId);
 
-        // 좋아요 시 해당 사용자의 관련 캐시만 무효화
-        cacheInvalidationUtil.evictByKeyPrefix(CacheNames.ESCAPE_ROOM_COMMENTS, comment.getEscapeRoomTheme().getId() + "_" + currentUserId);
+        // 좋아요 수가 바뀌므로 테마 댓글 트리와 해당 사용자의 댓글 상세 캐시 무효화
+        cacheInvalidationUtil.evictSpecificKey(CacheNames.ESCAPE_ROOM_COMMENTS, comment.getEscapeRoomTheme().getId().toString());
         cacheInvalidationUtil.evictByKeyPrefix(CacheNames.COMMENT_DETAIL, commentId + "_" + currentUserId);
     }
 
@@ -549,8 +516,8 @@ public class EscapeRoomCommentService {
 
         log.info("댓글 좋아요 취소 완료 - commentId: {}, userId: {}", commentId, currentUserId);
 
-        // 좋아요 취소 시 해당 사용자의 관련 캐시만 무효화
-        cacheInvalidationUtil.evictByKeyPrefix(CacheNames.ESCAPE_ROOM_COMMENTS, comment.getEscapeRoomTheme().getId() + "_" + currentUserId);
+        // 좋아요 수가 바뀌므로 테마 댓글 트리와 해당 사용자의 댓글 상세 캐시 무효화
+        cacheInvalidationUtil.evictSpecificKey(CacheNames.ESCAPE_ROOM_COMMENTS, comment.getEscapeRoomTheme().getId().toString());
         cacheInvalidationUtil.evictByKeyPrefix(CacheNames.COMMENT_DETAIL, commentId + "_" + currentUserId);
     }
 
@@ -0,0 +1,23 @@
+package com.crimecat.backend.common.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+/**
+ * 커서 페이징 응답 DTO
+ * PageResponseDto 에 다음 페이지 요청에 그대로 넘길 커서를 더한 포맷
+ * @param <T> 페이징 데이터 타입
+ */
+@Getter
+@NoArgsConstructor
+public class CursorPageResponseDto<T> extends PageResponseDto<T> {
+
+    /** 다음 페이지 커서 (마지막 페이지이거나 커서를 쓸 수 없으면 null) */
+    private String nextCursor;
+
+    public CursorPageResponseDto(Page<T> page, String nextCursor) {
+        super(page);
+        this.nextCursor = nextCursor;
+    }
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -41,6 +42,26 @@ public class PageResponseDto<T> {
         this.empty = page.isEmpty();
     }
     
+    /**
+     * Slice 로부터 PageResponseDto 생성 (Page 가 아니면 전체 개수를 모르므로 totalElements / totalPages = -1)
+     * @param slice Spring Data Slice 객체
+     */
+    public PageResponseDto(Slice<T> slice) {
+        this.content = slice.getContent();
+        this.pageNumber = slice.getNumber();
+        this.pageSize = slice.getSize();
+        if (slice instanceof Page<T> page) {
+            this.totalElements = page.getTotalElements();
+            this.totalPages = page.getTotalPages();
+        } else {
+            this.totalElements = -1;
+            this.totalPages = -1;
+        }
+        this.first = slice.isFirst();
+        this.last = slice.isLast();
+        this.empty = slice.isEmpty();
+    }
+
     /**
      * 단순 리스트로부터 단일 페이지 생성 (totalElements = list.size)
      * @param content 데이터 리스트
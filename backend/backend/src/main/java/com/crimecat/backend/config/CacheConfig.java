@@ -1,5 +1,6 @@
 package com.crimecat.backend.config;
 
+import com.crimecat.backend.config.cache.IndexedCaffeineCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -24,6 +25,8 @@ import java.util.stream.Collectors;
 @EnableCaching
 public class CacheConfig {
 
+    private static final Duration COMMON_EXPIRE_AFTER_ACCESS = Duration.ofMinutes(5);
+
     /**
      * Caffeine 기반 로컬 캐시 매니저
      * - 각 캐시 타입별 개별 설정 적용
@@ -36,18 +39,35 @@ public class CacheConfig {
 
         // CaffeineCacheType enum 기반으로 개별 캐시 생성
         List<CaffeineCache> caches = Arrays.stream(CaffeineCacheType.values())
-            .map(cacheType -> new CaffeineCache(
-                cacheType.getCacheName(),
-                Caffeine.newBuilder()
-                    .maximumSize(cacheType.getMaximumSize())           // 개별 최대 크기
-                    .expireAfterWrite(cacheType.getDuration(), cacheType.getTimeUnit()) // 개별 TTL
-                    .expireAfterAccess(Duration.ofMinutes(5))          // 공통 접근 만료 (5분)
-                    .recordStats()                                     // 통계 수집 활성화
-                    .build()
-            ))
+            .map(this::buildCache)
             .collect(Collectors.toList());
 
         cacheManager.setCaches(caches);
         return cacheManager;
     }
+
+    /**
+     * 캐시 타입별 Caffeine 캐시 생성
+     * - 소유자 구분자가 지정된 캐시는 키 인덱스를 함께 유지
+     */
+    private CaffeineCache buildCache(CaffeineCacheType cacheType) {
+        if (cacheType.isIndexed()) {
+            return IndexedCaffeineCache.create(
+                cacheType.getCacheName(),
+                cacheType.getDuration(),
+                cacheType.getTimeUnit(),
+                cacheType.getMaximumSize(),
+                COMMON_EXPIRE_AFTER_ACCESS.toMinutes(),
+                cacheType.getOwnerDelimiter());
+        }
+        return new CaffeineCache(
+            cacheType.getCacheName(),
+            Caffeine.newBuilder()
+                .maximumSize(cacheType.getMaximumSize())           // 개별 최대 크기
+                .expireAfterWrite(cacheType.getDuration(), cacheType.getTimeUnit()) // 개별 TTL
+                .expireAfterAccess(COMMON_EXPIRE_AFTER_ACCESS)     // 공통 접근 만료 (5분)
+                .recordStats()                                     // 통계 수집 활성화
+                .build()
+        );
+    }
 }
\ No newline at end of file
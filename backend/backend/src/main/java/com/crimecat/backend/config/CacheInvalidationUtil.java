@@ -1,16 +1,19 @@
 package com.crimecat.backend.config;
 
+import com.crimecat.backend.config.cache.IndexedCaffeineCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
  * 캐시 무효화 유틸리티 클래스
  * - Caffeine 캐시의 패턴 기반 무효화 지원
+ * - 키 인덱스가 있는 캐시(IndexedCaffeineCache)는 소유자 단위로 O(k) 무효화
  * - 게시글/댓글 관련 캐시 관리 전용
  */
 @Component
@@ -29,6 +32,15 @@ public class CacheInvalidationUtil {
     public void evictByKeyPrefix(String cacheName, String keyPrefix) {
         try {
             Cache cache = caffeineCacheManager.getCache(cacheName);
+            if (cache instanceof IndexedCaffeineCache indexedCache) {
+                String owner = indexedCache.ownerOfPrefix(keyPrefix);
+                if (owner != null) {
+                    int evicted = indexedCache.evictByTag(owner);
+                    log.debug("🗑️ [CACHE] Evicted {} indexed entries for owner '{}' from cache '{}'",
+                             evicted, owner, cacheName);
+                    return;
+                }
+            }
             if (cache != null) {
                 com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
                     (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
@@ -50,6 +62,42 @@ public class CacheInvalidationUtil {
         }
     }
 
+    /**
+     * 키 인덱스의 태그(소유자 또는 의존 태그)에 속한 항목만 무효화
+     * - 인덱스가 없는 캐시는 전체 무효화로 대체
+     * @param cacheName 캐시 이름
+     * @param tag 태그 (예: postId, userId)
+     */
+    public void evictByTag(String cacheName, String tag) {
+        try {
+            Cache cache = caffeineCacheManager.getCache(cacheName);
+            if (cache instanceof IndexedCaffeineCache indexedCache) {
+                int evicted = indexedCache.evictByTag(tag);
+                log.debug("🗑️ [CACHE] Evicted {} entries tagged '{}' from cache '{}'", evicted, tag, cacheName);
+            } else if (cache != null) {
+                cache.clear();
+                log.debug("🗑️ [CACHE] Cache '{}' is not indexed, cleared all entries", cacheName);
+            }
+        } catch (Exception e) {
+            log.error("❌ [CACHE] Failed to evict tag '{}' from cache '{}': {}",
+                     tag, cacheName, e.getMessage());
+        }
+    }
+
+    /**
+     * 계산 중인 캐시 키에 의존 태그 예약 (값이 저장될 때 함께 등록, 인덱스가 없는 캐시는 무시)
+     * - @Cacheable 메서드 안에서 호출 (저장 전에 같은 태그가 무효화되면 결과를 캐시하지 않음)
+     * @param cacheName 캐시 이름
+     * @param key 캐시 키
+     * @param tags 의존 태그
+     */
+    public void tagOnPut(String cacheName, Object key, String... tags) {
+        Cache cache = caffeineCacheManager.getCache(cacheName);
+        if (cache instanceof IndexedCaffeineCache indexedCache) {
+            indexedCache.tagOnPut(key, tags);
+        }
+    }
+
     /**
      * 특정 게시글과 관련된 모든 캐시 무효화
      * @param postId 게시글 ID
@@ -57,9 +105,8 @@ public class CacheInvalidationUtil {
     public void evictPostRelatedCaches(UUID postId) {
         log.debug("🗑️ [CACHE] Evicting all caches for post: {}", postId);
 
-        String postPrefix = postId + "_";
-        evictByKeyPrefix(CacheNames.BOARD_POST_DETAIL, postPrefix);
-        evictByKeyPrefix(CacheNames.BOARD_POST_COMMENTS, postPrefix);
+        evictByTag(CacheNames.BOARD_POST_DETAIL, postId.toString());
+        evictByTag(CacheNames.BOARD_POST_COMMENTS, postId.toString());
 
         // POST_NAVIGATION은 boardType별이므로 전체 무효화가 더 효율적
         evictAllEntries(CacheNames.POST_NAVIGATION);
@@ -75,7 +122,6 @@ public class CacheInvalidationUtil {
 
         String userKey = postId + "_" + userId;
         evictSpecificKey(CacheNames.BOARD_POST_DETAIL, userKey);
-        evictSpecificKey(CacheNames.BOARD_POST_COMMENTS, userKey);
     }
 
     /**
@@ -83,7 +129,7 @@ public class CacheInvalidationUtil {
      * @param cacheName 캐시 이름
      * @param key 캐시 키
      */
-    public void evictSpecificKey(String cacheName, String key) {
+    public void evictSpecificKey(String cacheName, Object key) {
         try {
             Cache cache = caffeineCacheManager.getCache(cacheName);
             if (cache != null) {
@@ -96,6 +142,27 @@ public class CacheInvalidationUtil {
         }
     }
 
+    /**
+     * 여러 캐시 키 일괄 무효화
+     * @param cacheName 캐시 이름
+     * @param keys 캐시 키 목록
+     */
+    public void evictKeys(String cacheName, Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            Cache cache = caffeineCacheManager.getCache(cacheName);
+            if (cache != null) {
+                keys.forEach(cache::evict);
+                log.debug("🗑️ [CACHE] Evicted {} keys from cache '{}'", keys.size(), cacheName);
+            }
+        } catch (Exception e) {
+            log.error("❌ [CACHE] Failed to evict {} keys from cache '{}': {}",
+                     keys.size(), cacheName, e.getMessage());
+        }
+    }
+
     /**
      * 전체 캐시 무효화
      * @param cacheName 캐시 이름
@@ -119,8 +186,7 @@ public class CacheInvalidationUtil {
     public void evictPostCommentCaches(UUID postId) {
         log.debug("🗑️ [CACHE] Evicting comment caches for post: {}", postId);
 
-        String postPrefix = postId + "_";
-        evictByKeyPrefix(CacheNames.BOARD_POST_COMMENTS, postPrefix);
+        evictByTag(CacheNames.BOARD_POST_COMMENTS, postId.toString());
     }
 
     /**
@@ -134,16 +200,4 @@ public class CacheInvalidationUtil {
         String userKey = postId + "_" + userId;
         evictSpecificKey(CacheNames.BOARD_POST_DETAIL, userKey);
     }
-
-    /**
-     * 댓글 좋아요 관련 캐시 무효화 (특정 사용자의 특정 게시글 댓글만)
-     * @param postId 게시글 ID
-     * @param userId 사용자 ID
-     */
-    public void evictCommentLikeCache(UUID postId, UUID userId) {
-        log.debug("🗑️ [CACHE] Evicting comment like cache for post: {}, user: {}", postId, userId);
-
-        String userKey = postId + "_" + userId;
-        evictSpecificKey(CacheNames.BOARD_POST_COMMENTS, userKey);
-    }
 }
\ No newline at end of file
@@ -42,6 +42,7 @@ public final class CacheNames {
     public static final String COMMENT_DETAIL = "comment:detail";
     public static final String COMMENT_STATS = "comment:stats";
     public static final String USER_COMMENTS = "user:comments";
+    public static final String NOTIFICATION_UNREAD_COUNT = "notification:unread:count";
     public static final String ALL_NOTICES = "notices:all";
     public static final String NOTICE_CATEGORIES = "notices:categories";
     public static final String TOTAL_SERVERS = "totalServers";
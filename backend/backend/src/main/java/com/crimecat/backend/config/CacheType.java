@@ -26,7 +26,7 @@ public class CacheType {
   
   // 게임 테마 관련 캐시 타입
   public static final String GAME_THEME = "game:theme";
-  public static final String GAME_THEME_ENTITY = "game:theme:entity";
+  public static final String GAME_THEME_SNAPSHOT = "game:theme:snapshot";
   public static final String GAME_THEME_RESPONSE = "game:theme:response";
   public static final String GAME_THEME_LIST = "game:theme:list";
   public static final String GAME_THEME_LIST_BY_TYPE = "game:theme:list:type";
@@ -98,7 +98,7 @@ public class CacheType {
       USER_RANKING,
       NOTIFICATION_UNREAD,
       GAME_THEME,
-      GAME_THEME_ENTITY,
+      GAME_THEME_SNAPSHOT,
       GAME_THEME_RESPONSE,
       GAME_THEME_LIST,
       GAME_THEME_LIST_BY_TYPE,
@@ -8,6 +8,9 @@ import java.util.concurrent.TimeUnit;
  * - 메모리 기반 로컬 캐시용
  * - Redis와 분리된 독립적인 캐시 관리
  *
+ * - 마지막 인자(소유자 구분자)가 있는 캐시는 키 인덱스(IndexedCaffeineCache)로 생성되어
+ *   소유자 단위 무효화를 전체 키 스캔 없이 처리
+ *
  * Gradle generateCacheNames 태스크를 통해 CacheNames 클래스가 자동 생성됩니다.
  * Spring @Cacheable, @CacheEvict 애너테이션에서 CacheNames.XXX 상수를 사용하세요.
  */
@@ -23,8 +26,8 @@ public enum CaffeineCacheType {
 
     // === 게시판 관련 (짧은 TTL - 새로 추가) ===
     POST_NAVIGATION("post:navigation", 5, TimeUnit.MINUTES, 1000),
-    BOARD_POST_DETAIL("board:post:detail", 3, TimeUnit.MINUTES, 3000),
-    BOARD_POST_COMMENTS("board:post:comments", 5, TimeUnit.MINUTES, 2000),
+    BOARD_POST_DETAIL("board:post:detail", 3, TimeUnit.MINUTES, 3000, "_"),
+    BOARD_POST_COMMENTS("board:post:comments", 5, TimeUnit.MINUTES, 2000, "_"),
 
     // === 통계 관련 (매우 긴 TTL) ===
     VIEW_COUNT("view:count", 60, TimeUnit.MINUTES, 10000),
@@ -35,14 +38,14 @@ public enum CaffeineCacheType {
     SCHEDULE_EVENTS("schedule:events", 15, TimeUnit.MINUTES, 1000),
     SCHEDULE_EVENT_LIST("schedule:event:list", 10, TimeUnit.MINUTES, 2000),
     SCHEDULE_EVENT_DETAIL("schedule:event:detail", 15, TimeUnit.MINUTES, 3000),
-    SCHEDULE_AVAILABILITY("schedule:availability", 5, TimeUnit.MINUTES, 1500),
+    SCHEDULE_AVAILABILITY("schedule:availability", 5, TimeUnit.MINUTES, 1500, ":"),
     SCHEDULE_PARTICIPANTS("schedule:participants", 10, TimeUnit.MINUTES, 1000),
-    SCHEDULE_RECOMMENDED_TIMES("schedule:recommended:times", 30, TimeUnit.MINUTES, 500),
+    SCHEDULE_RECOMMENDED_TIMES("schedule:recommended:times", 30, TimeUnit.MINUTES, 500, "_"),
     SCHEDULE_USER_BLOCKED_DATES("schedule:user:blocked:dates", 60, TimeUnit.MINUTES, 1000),
 
     // === 캘린더 관련 ===
     USER_CALENDARS("user:calendars", 10, TimeUnit.MINUTES, 1000),
-    UNIFIED_CALENDAR_EVENTS("unified:calendar:events", 10, TimeUnit.MINUTES, 2000),
+    UNIFIED_CALENDAR_EVENTS("unified:calendar:events", 10, TimeUnit.MINUTES, 2000, ":"),
     PERSONAL_CALENDAR_EVENTS("personal_calendar_events", 10, TimeUnit.MINUTES, 2000),
     PERSONAL_BLOCKED_DATES("personal_blocked_dates", 15, TimeUnit.MINUTES, 1000),
     COLOR_PALETTE("color_palette", 60, TimeUnit.MINUTES, 100),
@@ -60,6 +63,9 @@ public enum CaffeineCacheType {
     COMMENT_STATS("comment:stats", 15, TimeUnit.MINUTES, 500),
     USER_COMMENTS("user:comments", 10, TimeUnit.MINUTES, 1000),
 
+    // === 알림 관련 (폴링 빈도 높음, 짧은 TTL) ===
+    NOTIFICATION_UNREAD_COUNT("notification:unread:count", 30, TimeUnit.SECONDS, 10000),
+
     // === 공지사항 관련 ===
     ALL_NOTICES("notices:all", 24, TimeUnit.HOURS, 200),
     NOTICE_CATEGORIES("notices:categories", 24, TimeUnit.HOURS, 20),
@@ -84,12 +90,18 @@ public enum CaffeineCacheType {
     private final long duration;
     private final TimeUnit timeUnit;
     private final int maximumSize;
+    private final String ownerDelimiter;
 
     CaffeineCacheType(String cacheName, long duration, TimeUnit timeUnit, int maximumSize) {
+        this(cacheName, duration, timeUnit, maximumSize, null);
+    }
+
+    CaffeineCacheType(String cacheName, long duration, TimeUnit timeUnit, int maximumSize, String ownerDelimiter) {
         this.cacheName = cacheName;
         this.duration = duration;
         this.timeUnit = timeUnit;
         this.maximumSize = maximumSize;
+        this.ownerDelimiter = ownerDelimiter;
     }
 
     /**
@@ -120,6 +132,20 @@ public enum CaffeineCacheType {
         return maximumSize;
     }
 
+    /**
+     * 키 소유자 구분자 반환 (null 이면 인덱스 미사용)
+     */
+    public String getOwnerDelimiter() {
+        return ownerDelimiter;
+    }
+
+    /**
+     * 키 인덱스 사용 여부
+     */
+    public boolean isIndexed() {
+        return ownerDelimiter != null;
+    }
+
     /**
      * 디버그용 정보 반환
      */
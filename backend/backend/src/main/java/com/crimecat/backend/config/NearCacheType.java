@@ -0,0 +1,68 @@
+package com.crimecat.backend.config;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 캐시 앞단 Caffeine 니어 캐시(L1) 적용 대상
+ * - CacheType 의 Redis 캐시 중 조회가 많은 항목만 opt-in
+ * - L1 TTL 은 Pub/Sub 무효화 메시지 유실 시 안전장치이므로 L2 TTL 보다 짧게 설정
+ * - L1 에는 역직렬화된 객체를 그대로 보관하고 여러 요청이 공유 (불변 값 또는 읽기 전용으로만 쓰는 값)
+ * - 호출자가 변경할 수 있는 가변 타입은 copyOnRead 로 지정해 L1 에 바이트를 두고 조회마다 복사본 반환
+ */
+public enum NearCacheType {
+
+    // === 게임 테마 상세 (테마 상세 페이지 p99) ===
+    GAME_THEME_SNAPSHOT(CacheType.GAME_THEME_SNAPSHOT, 2, TimeUnit.MINUTES, 2000, false),
+
+    // === 테마 광고 (메인 캐러셀, L2 TTL 1분) ===
+    THEME_AD_ACTIVE(CacheType.THEME_AD_ACTIVE, 20, TimeUnit.SECONDS, 50, false),
+    THEME_AD_ACTIVE_CAROUSEL(CacheType.THEME_AD_ACTIVE_CAROUSEL, 20, TimeUnit.SECONDS, 50, false),
+
+    // === 외부 API (Discord 길드 정보, ApiGetGuildInfoDto 는 @Data 가변 DTO) ===
+    DISCORD_GUILD_INFO(CacheType.DISCORD_GUILD_INFO, 5, TimeUnit.MINUTES, 1000, true);
+
+    private final String cacheName;
+    private final long duration;
+    private final TimeUnit timeUnit;
+    private final int maximumSize;
+    private final boolean copyOnRead;
+
+    NearCacheType(String cacheName, long duration, TimeUnit timeUnit, int maximumSize, boolean copyOnRead) {
+        this.cacheName = cacheName;
+        this.duration = duration;
+        this.timeUnit = timeUnit;
+        this.maximumSize = maximumSize;
+        this.copyOnRead = copyOnRead;
+    }
+
+    /**
+     * 캐시명으로 니어 캐시 설정 조회
+     */
+    public static Optional<NearCacheType> fromCacheName(String cacheName) {
+        return Arrays.stream(values())
+                .filter(type -> type.cacheName.equals(cacheName))
+                .findFirst();
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public long getDuration() {
+        return duration;
+    }
+
+    public TimeUnit getTimeUnit() {
+        return timeUnit;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public boolean isCopyOnRead() {
+        return copyOnRead;
+    }
+}
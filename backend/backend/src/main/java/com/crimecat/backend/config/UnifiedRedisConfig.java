@@ -1,5 +1,7 @@
 package com.crimecat.backend.config;
 
+import com.crimecat.backend.config.cache.NearCacheInvalidationPublisher;
+import com.crimecat.backend.config.cache.TwoTierCacheManager;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -7,7 +9,9 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -143,13 +147,27 @@ public class UnifiedRedisConfig {
         return template;
     }
 
+    /**
+     * 니어 캐시(L1) 무효화 메시지 발행기
+     */
+    @Bean
+    public NearCacheInvalidationPublisher nearCacheInvalidationPublisher(
+            RedisTemplate<String, String> redisTemplate) {
+        return new NearCacheInvalidationPublisher(redisTemplate);
+    }
+
     /**
      * Redis 캐시 매니저 - 분산 환경 및 영속성이 필요한 캐시용
+     * - NearCacheType 에 등록된 캐시는 Caffeine L1 + Redis L2 로 동작
+     * - cache.near.enabled=false 이면 Redis 단독으로 동작
      */
     @Bean("redisCacheManager")
-    public RedisCacheManager redisCacheManager(
+    public CacheManager redisCacheManager(
             RedisConnectionFactory connectionFactory,
-            @Qualifier("redisObjectMapper") ObjectMapper redisObjectMapper) {
+            @Qualifier("redisObjectMapper") ObjectMapper redisObjectMapper,
+            NearCacheInvalidationPublisher nearCacheInvalidationPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${cache.near.enabled:true}") boolean nearCacheEnabled) {
         
         Jackson2JsonRedisSerializer<Object> serializer = 
                 new Jackson2JsonRedisSerializer<>(redisObjectMapper, Object.class);
@@ -264,10 +282,17 @@ public class UnifiedRedisConfig {
 
         // 스케줄 관련 캐시는 Caffeine으로 이동됨 (더 나은 성능을 위해)
         
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .transactionAware()
                 .build();
+
+        if (!nearCacheEnabled) {
+            return redisCacheManager;
+        }
+        // 내부 매니저는 빈으로 등록되지 않으므로 초기 캐시 설정을 직접 로드
+        redisCacheManager.afterPropertiesSet();
+        return new TwoTierCacheManager(redisCacheManager, nearCacheInvalidationPublisher, meterRegistry);
     }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.crimecat.backend.config.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시 키 보조 인덱스 (태그 → 키 목록)
+ * - 태그는 키의 소유자(postId, userId, eventId 등)나 명시적인 의존 관계를 나타냄
+ * - 태그 단위 무효화를 전체 키 스캔(O(n)) 대신 해당 키 수(O(k))로 처리
+ * - 키별 compute 로 등록/삭제를 직렬화하여 인덱스 누락을 방지
+ *   (삭제된 키가 인덱스에 남는 경우는 무효화 시 no-op 이므로 허용)
+ */
+public class CacheKeyIndex {
+
+    private final ConcurrentHashMap<String, Set<Object>> keysByTag = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Object, Set<String>> tagsByKey = new ConcurrentHashMap<>();
+
+    /**
+     * 키에 태그 추가
+     */
+    public void register(Object key, Collection<String> tags) {
+        if (key == null || tags == null || tags.isEmpty()) {
+            return;
+        }
+        tagsByKey.compute(key, (k, current) -> {
+            Set<String> merged = current != null ? current : ConcurrentHashMap.newKeySet();
+            for (String tag : tags) {
+                if (tag != null && merged.add(tag)) {
+                    keysByTag.compute(tag, (t, keys) -> {
+                        Set<Object> set = keys != null ? keys : ConcurrentHashMap.newKeySet();
+                        set.add(k);
+                        return set;
+                    });
+                }
+            }
+            return merged;
+        });
+    }
+
+    /**
+     * 키 삭제 시 인덱스에서 제거
+     */
+    public void remove(Object key) {
+        if (key == null) {
+            return;
+        }
+        tagsByKey.computeIfPresent(key, (k, tags) -> {
+            for (String tag : tags) {
+                keysByTag.computeIfPresent(tag, (t, keys) -> {
+                    keys.remove(k);
+                    return keys.isEmpty() ? null : keys;
+                });
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 태그에 속한 키 스냅샷
+     */
+    public Set<Object> keysOf(String tag) {
+        Set<Object> keys = keysByTag.get(tag);
+        return keys != null ? new HashSet<>(keys) : Collections.emptySet();
+    }
+
+    public void clear() {
+        tagsByKey.clear();
+        keysByTag.clear();
+    }
+
+    public int tagCount() {
+        return keysByTag.size();
+    }
+}
@@ -0,0 +1,206 @@
+package com.crimecat.backend.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * 소유자 인덱스를 가진 Caffeine 캐시
+ * - put 시 키의 첫 번째 구분자 앞부분(소유자)을 태그로 자동 등록
+ *   예) "postId_userId" → postId, "userId:start:end" → userId
+ * - 값 저장/삭제와 인덱스 갱신은 asMap().compute 안에서 함께 수행 (키 단위 잠금으로 원자적)
+ * - get(key, loader) 는 로더가 실제로 실행될 때만 인덱스 등록 (캐시 히트 시 인덱스 쓰기 없음)
+ * - 만료/용량 초과 제거는 Caffeine evictionListener 에서 인덱스 정리
+ * - tagOnPut() 으로 계산 중인 값의 추가 의존 태그(예: 결과 계산에 사용된 사용자)를 예약,
+ *   값이 저장될 때 같은 compute 안에서 등록
+ *   (예약 후 저장 전에 같은 태그가 무효화되면 계산 결과는 저장하지 않음)
+ */
+public class IndexedCaffeineCache extends CaffeineCache {
+
+    /** 예약 태그 보관 시간 (값이 저장되지 않은 계산의 예약 정리) */
+    private static final long PENDING_TAGS_TTL_MINUTES = 5;
+
+    private final CacheKeyIndex index;
+    private final String ownerDelimiter;
+
+    /** 계산 중인 키 → 저장 시 등록할 태그 */
+    private final com.github.benmanes.caffeine.cache.Cache<Object, PendingTags> pendingTags = Caffeine.newBuilder()
+            .expireAfterWrite(PENDING_TAGS_TTL_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    private static final class PendingTags {
+        private final List<String> tags;
+        private volatile boolean invalidated;
+
+        private PendingTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+
+    private IndexedCaffeineCache(String name,
+                                 com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                 CacheKeyIndex index,
+                                 String ownerDelimiter) {
+        super(name, cache);
+        this.index = index;
+        this.ownerDelimiter = ownerDelimiter;
+    }
+
+    /**
+     * 인덱스 정리 리스너가 연결된 캐시 생성
+     */
+    public static IndexedCaffeineCache create(String name, long duration, TimeUnit timeUnit,
+                                              int maximumSize, long expireAfterAccessMinutes,
+                                              String ownerDelimiter) {
+        CacheKeyIndex index = new CacheKeyIndex();
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(duration, timeUnit)
+                .expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES)
+                .evictionListener((key, value, cause) -> index.remove(key))
+                .recordStats()
+                .build();
+        return new IndexedCaffeineCache(name, nativeCache, index, ownerDelimiter);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        getNativeCache().asMap().compute(key, (k, current) -> store(k, storeValue));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        Object[] existing = new Object[1];
+        getNativeCache().asMap().compute(key, (k, current) -> {
+            if (current != null) {
+                existing[0] = current;
+                return current;
+            }
+            return store(k, storeValue);
+        });
+        return toValueWrapper(existing[0]);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object[] loaded = new Object[1];
+        Object stored = getNativeCache().get(key, k -> {
+            try {
+                loaded[0] = toStoreValue(valueLoader.call());
+            } catch (Exception e) {
+                throw new ValueRetrievalException(k, valueLoader, e);
+            }
+            return store(k, loaded[0]);
+        });
+        // 무효화되어 저장하지 않은 경우에도 호출자에게는 계산 결과 반환
+        return (T) fromStoreValue(stored != null ? stored : loaded[0]);
+    }
+
+    @Override
+    public void evict(Object key) {
+        getNativeCache().asMap().compute(key, (k, current) -> {
+            index.remove(k);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean[] evicted = new boolean[1];
+        getNativeCache().asMap().compute(key, (k, current) -> {
+            evicted[0] = current != null;
+            index.remove(k);
+            return null;
+        });
+        return evicted[0];
+    }
+
+    @Override
+    public void clear() {
+        invalidatePending(null);
+        // 인덱스를 먼저 비움 (사이에 들어온 항목은 인덱스에 남아도 무효화 시 no-op)
+        index.clear();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        invalidatePending(null);
+        index.clear();
+        return super.invalidate();
+    }
+
+    /**
+     * 계산 중인 키에 추가 의존 태그 예약 (@Cacheable 메서드 안에서 호출, 값 저장 시 함께 등록)
+     */
+    public void tagOnPut(Object key, String... tags) {
+        pendingTags.put(key, new PendingTags(List.of(tags)));
+    }
+
+    /**
+     * 태그에 속한 키만 무효화
+     * - 같은 태그를 예약한 계산 중인 키는 결과를 저장하지 않도록 표시
+     * @return 무효화한 키 수
+     */
+    public int evictByTag(String tag) {
+        invalidatePending(tag);
+        Set<Object> keys = index.keysOf(tag);
+        keys.forEach(this::evict);
+        return keys.size();
+    }
+
+    /**
+     * 접두사가 "{소유자}{구분자}" 형태면 인덱스로 처리 가능
+     */
+    public String ownerOfPrefix(String keyPrefix) {
+        if (keyPrefix == null || !keyPrefix.endsWith(ownerDelimiter)) {
+            return null;
+        }
+        String owner = keyPrefix.substring(0, keyPrefix.length() - ownerDelimiter.length());
+        return owner.isEmpty() || owner.contains(ownerDelimiter) ? null : owner;
+    }
+
+    public CacheKeyIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * compute 안에서 값 저장 + 소유자/예약 태그 등록 (예약이 무효화됐으면 저장하지 않음)
+     */
+    private Object store(Object key, Object storeValue) {
+        PendingTags pending = pendingTags.asMap().remove(key);
+        if (pending != null && pending.invalidated) {
+            index.remove(key);
+            return null;
+        }
+        indexOwner(key);
+        if (pending != null) {
+            index.register(key, pending.tags);
+        }
+        return storeValue;
+    }
+
+    /**
+     * tag 를 예약한 계산 표시 (null 이면 전체)
+     */
+    private void invalidatePending(String tag) {
+        pendingTags.asMap().values().forEach(pending -> {
+            if (tag == null || pending.tags.contains(tag)) {
+                pending.invalidated = true;
+            }
+        });
+    }
+
+    private void indexOwner(Object key) {
+        String keyString = String.valueOf(key);
+        int delimiterAt = keyString.indexOf(ownerDelimiter);
+        String owner = delimiterAt > 0 ? keyString.substring(0, delimiterAt) : keyString;
+        index.register(key, List.of(owner));
+    }
+}
@@ -0,0 +1,62 @@
+package com.crimecat.backend.config.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드에서 발생한 캐시 변경을 수신해 로컬 L1 만 무효화
+ */
+@Slf4j
+@Component
+public class NearCacheInvalidationListener implements MessageListener {
+
+    private final CacheManager redisCacheManager;
+    private final NearCacheInvalidationPublisher publisher;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public NearCacheInvalidationListener(
+            @Qualifier("redisCacheManager") CacheManager redisCacheManager,
+            NearCacheInvalidationPublisher publisher,
+            RedisMessageListenerContainer listenerContainer) {
+        this.redisCacheManager = redisCacheManager;
+        this.publisher = publisher;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(NearCacheInvalidationPublisher.CHANNEL));
+        log.info("📢 [NEAR_CACHE] Pub/Sub 채널 '{}' 구독 설정 완료", NearCacheInvalidationPublisher.CHANNEL);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + NearCacheInvalidationPublisher.DELIMITER, 3);
+        if (parts.length != 3 || publisher.getNodeId().equals(parts[0])) {
+            return;
+        }
+        if (!(redisCacheManager instanceof TwoTierCacheManager manager)) {
+            return;
+        }
+        TwoTierCache cache = manager.getNearCache(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if (NearCacheInvalidationPublisher.ALL_KEYS.equals(parts[2])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+        log.debug("🗑️ [NEAR_CACHE] 원격 무효화 적용 - cache: {}, key: {}", parts[1], parts[2]);
+    }
+}
@@ -0,0 +1,46 @@
+package com.crimecat.backend.config.cache;
+
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 니어 캐시(L1) 무효화 메시지 발행
+ * - 메시지 형식: {nodeId}|{cacheName}|{key}  (전체 삭제는 key 자리에 *)
+ * - 자기 노드가 보낸 메시지는 수신 측에서 무시
+ */
+@Slf4j
+public class NearCacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:near:invalidate";
+    public static final String ALL_KEYS = "*";
+    static final String DELIMITER = "|";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public NearCacheInvalidationPublisher(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(cacheName, key);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(cacheName, ALL_KEYS);
+    }
+
+    private void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + DELIMITER + cacheName + DELIMITER + key);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드는 L1 TTL 만료까지 이전 값을 볼 수 있음
+            log.warn("⚠️ [NEAR_CACHE] 무효화 메시지 발행 실패 - cache: {}, key: {}", cacheName, key, e);
+        }
+    }
+}
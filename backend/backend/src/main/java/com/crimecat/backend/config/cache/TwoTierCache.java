@@ -0,0 +1,231 @@
+package com.crimecat.backend.config.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Callable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+/**
+ * L1(Caffeine) + L2(Redis) 2단계 캐시
+ * - 조회: L1 → L2 → 로더 순서, L2 히트 시 L1 에 적재
+ * - 변경(put/evict/clear): L2 반영 후 L1 갱신, 다른 노드에 Pub/Sub 무효화 발행
+ * - L1 키는 노드 간 무효화 메시지와 맞추기 위해 문자열로 통일
+ * - L1 에는 L2 → L1 적재 시 한 번 역직렬화한 객체를 보관하고 L1 히트는 역직렬화 없이 그대로 반환
+ *   (값은 여러 요청이 공유하므로 캐시 대상은 불변 스냅샷/읽기 전용 DTO 로 제한, NearCacheType 참고)
+ * - copyOnRead 캐시(가변 타입)만 L1 에 직렬화 바이트를 두고 조회마다 새 객체로 역직렬화
+ */
+@Slf4j
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final RedisCache redisCache;
+    private final NearCacheInvalidationPublisher publisher;
+    private final SerializationPair<Object> valuePair;
+    private final boolean copyOnRead;
+
+    private final Counter l1Hit;
+    private final Counter l1Miss;
+    private final Counter l2Hit;
+    private final Counter l2Miss;
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                        RedisCache redisCache,
+                        NearCacheInvalidationPublisher publisher,
+                        MeterRegistry meterRegistry,
+                        boolean copyOnRead) {
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.publisher = publisher;
+        this.valuePair = redisCache.getCacheConfiguration().getValueSerializationPair();
+        this.copyOnRead = copyOnRead;
+        this.l1Hit = counter(meterRegistry, name, "l1", "hit");
+        this.l1Miss = counter(meterRegistry, name, "l1", "miss");
+        this.l2Hit = counter(meterRegistry, name, "l2", "hit");
+        this.l2Miss = counter(meterRegistry, name, "l2", "miss");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        Object local = readLocal(localKey);
+        if (local != null) {
+            l1Hit.increment();
+            return new SimpleValueWrapper(local);
+        }
+        l1Miss.increment();
+
+        ValueWrapper remote = redisCache.get(key);
+        if (remote != null && remote.get() != null) {
+            l2Hit.increment();
+            // L2 에서 막 역직렬화한 인스턴스를 그대로 L1 에 적재 (copyOnRead 면 바이트로 적재)
+            putLocal(localKey, remote.get());
+        } else {
+            l2Miss.increment();
+        }
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            return (T) wrapper.get();
+        }
+        T value = redisCache.get(key, valueLoader);
+        if (value != null) {
+            putLocal(toLocalKey(key), value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        String localKey = toLocalKey(key);
+        if (value != null) {
+            putLocal(localKey, value);
+        } else {
+            localCache.invalidate(localKey);
+        }
+        publisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = redisCache.putIfAbsent(key, value);
+        if (existing == null && value != null) {
+            putLocal(toLocalKey(key), value);
+            publisher.publishEvict(name, toLocalKey(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        evictLocal(toLocalKey(key));
+        publisher.publishEvict(name, toLocalKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = redisCache.evictIfPresent(key);
+        evictLocal(toLocalKey(key));
+        publisher.publishEvict(name, toLocalKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        clearLocal();
+        publisher.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = redisCache.invalidate();
+        clearLocal();
+        publisher.publishClear(name);
+        return invalidated;
+    }
+
+    /**
+     * 다른 노드의 변경 통지로 L1 항목만 제거
+     */
+    public void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    /**
+     * 다른 노드의 전체 삭제 통지로 L1 전체 제거
+     */
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    public com.github.benmanes.caffeine.cache.Cache<String, Object> getLocalCache() {
+        return localCache;
+    }
+
+    private void putLocal(String localKey, Object value) {
+        if (!copyOnRead) {
+            localCache.put(localKey, value);
+            return;
+        }
+        try {
+            ByteBuffer buffer = valuePair.write(value);
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            localCache.put(localKey, bytes);
+        } catch (Exception e) {
+            // 직렬화 실패 시 L1 에 두지 않음 (원본 인스턴스를 공유하지 않도록, L2 저장은 이미 완료된 상태)
+            log.debug("[NEAR_CACHE] L1 직렬화 실패, L1 적재 생략 - cache: {}", name, e);
+            localCache.invalidate(localKey);
+        }
+    }
+
+    /**
+     * L1 조회 (없으면 null → L2 조회)
+     * - copyOnRead 캐시는 바이트를 새 인스턴스로 역직렬화 (실패하면 null)
+     */
+    private Object readLocal(String localKey) {
+        Object local = localCache.getIfPresent(localKey);
+        if (!copyOnRead || local == null) {
+            return local;
+        }
+        if (!(local instanceof byte[] serialized)) {
+            return null;
+        }
+        try {
+            return valuePair.read(ByteBuffer.wrap(serialized));
+        } catch (Exception e) {
+            log.debug("[NEAR_CACHE] L1 역직렬화 실패 - cache: {}", name, e);
+            localCache.invalidate(localKey);
+            return null;
+        }
+    }
+
+    private static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static Counter counter(MeterRegistry registry, String cache, String tier, String result) {
+        return Counter.builder("cache.near.requests")
+                .tag("cache", cache)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+}
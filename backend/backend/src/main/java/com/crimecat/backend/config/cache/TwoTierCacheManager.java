@@ -0,0 +1,82 @@
+package com.crimecat.backend.config.cache;
+
+import com.crimecat.backend.config.NearCacheType;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+/**
+ * Redis 캐시 매니저를 감싸는 L1/L2 캐시 매니저
+ * - NearCacheType 에 등록된 캐시만 TwoTierCache(Caffeine + Redis)로 제공
+ * - 나머지 캐시는 기존 RedisCacheManager 결과를 그대로 반환
+ * - 트랜잭션 커밋 이후 put/evict 적용 (기존 transactionAware 동작 유지)
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager {
+
+    private final RedisCacheManager redisCacheManager;
+    private final NearCacheInvalidationPublisher publisher;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TwoTierCache> nearCaches = new ConcurrentHashMap<>();
+    private final Map<String, Cache> decoratedCaches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(RedisCacheManager redisCacheManager,
+                               NearCacheInvalidationPublisher publisher,
+                               MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.publisher = publisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        if (NearCacheType.fromCacheName(name).isEmpty()) {
+            return redisCacheManager.getCache(name);
+        }
+        return decoratedCaches.computeIfAbsent(name,
+                cacheName -> new TransactionAwareCacheDecorator(getNearCache(cacheName)));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    /**
+     * 니어 캐시 조회 (Pub/Sub 리스너에서 L1 무효화용)
+     * @return 니어 캐시 대상이 아니면 null
+     */
+    public TwoTierCache getNearCache(String name) {
+        NearCacheType type = NearCacheType.fromCacheName(name).orElse(null);
+        if (type == null) {
+            return null;
+        }
+        return nearCaches.computeIfAbsent(name, cacheName -> {
+            Cache delegate = redisCacheManager.getCache(cacheName);
+            if (delegate instanceof TransactionAwareCacheDecorator decorator) {
+                delegate = decorator.getTargetCache();
+            }
+            log.info("🔧 [NEAR_CACHE] L1/L2 캐시 생성 - {} (L1 TTL {} {}, 최대 {}개)",
+                    cacheName, type.getDuration(), type.getTimeUnit(), type.getMaximumSize());
+            return new TwoTierCache(
+                    cacheName,
+                    Caffeine.newBuilder()
+                            .maximumSize(type.getMaximumSize())
+                            .expireAfterWrite(type.getDuration(), type.getTimeUnit())
+                            .recordStats()
+                            .build(),
+                    (RedisCache) delegate,
+                    publisher,
+                    meterRegistry,
+                    type.isCopyOnRead());
+        });
+    }
+}
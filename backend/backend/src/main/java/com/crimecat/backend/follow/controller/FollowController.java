@@ -3,7 +3,6 @@ package com.crimecat.backend.follow.controller;
 import com.crimecat.backend.follow.dto.FollowDto;
 import com.crimecat.backend.follow.service.FollowService;
 import com.crimecat.backend.utils.AuthenticationUtil;
-import com.crimecat.backend.webUser.domain.WebUser;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -22,24 +21,21 @@ public class FollowController {
     // 팔로우하기
     @PostMapping("/{followingId}")
     public ResponseEntity<FollowDto> follow(@PathVariable UUID followingId) {
-        WebUser currentUser = AuthenticationUtil.getCurrentWebUser();
-        FollowDto followDto = followService.follow(currentUser.getId(), followingId);
+        FollowDto followDto = followService.follow(AuthenticationUtil.getCurrentWebUserId(), followingId);
         return new ResponseEntity<>(followDto, HttpStatus.CREATED);
     }
 
     // 언팔로우하기
     @DeleteMapping("/{followingId}")
     public ResponseEntity<Void> unfollow(@PathVariable UUID followingId) {
-        WebUser currentUser = AuthenticationUtil.getCurrentWebUser();
-        followService.unfollow(currentUser.getId(), followingId);
+        followService.unfollow(AuthenticationUtil.getCurrentWebUserId(), followingId);
         return ResponseEntity.noContent().build();
     }
 
     // 팔로우 여부 확인
     @GetMapping("/{userId}/following")
     public ResponseEntity<Map<String, Boolean>> isFollowing(@PathVariable UUID userId) {
-        WebUser currentUser = AuthenticationUtil.getCurrentWebUser();
-        boolean isFollowing = followService.isFollowing(currentUser.getId(), userId);
+        boolean isFollowing = followService.isFollowing(AuthenticationUtil.getCurrentWebUserId(), userId);
         
         Map<String, Boolean> response = new HashMap<>();
         response.put("isFollowing", isFollowing);
@@ -50,8 +46,7 @@ public class FollowController {
     // 나의 팔로워/팔로잉 카운트
     @GetMapping("/my/counts")
     public ResponseEntity<Map<String, Long>> getMyFollowCounts() {
-        WebUser currentUser = AuthenticationUtil.getCurrentWebUser();
-        UUID userId = currentUser.getId();
+        UUID userId = AuthenticationUtil.getCurrentWebUserId();
         
         long followerCount = followService.getFollowerCount(userId);
         long followingCount = followService.getFollowingCount(userId);
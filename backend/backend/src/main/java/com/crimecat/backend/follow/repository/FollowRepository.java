@@ -46,4 +46,8 @@ public interface FollowRepository extends JpaRepository<Follow, UUID> {
     // 특정 사용자가 팔로우 관계를 맺고 있는 사용자 ID 목록 조회 (쿼리 최적화용)
     @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId")
     List<UUID> findFollowingIdsByUserId(UUID userId);
+
+    // 특정 사용자를 팔로우하고 있는 사용자 ID 목록 조회 (타임라인 fan-out 용)
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.following.id = :userId")
+    List<UUID> findFollowerIdsByUserId(UUID userId);
 }
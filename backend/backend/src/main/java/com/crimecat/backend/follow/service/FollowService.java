@@ -3,6 +3,7 @@ package com.crimecat.backend.follow.service;
 import com.crimecat.backend.follow.domain.Follow;
 import com.crimecat.backend.follow.dto.FollowDto;
 import com.crimecat.backend.follow.repository.FollowRepository;
+import com.crimecat.backend.userPost.service.UserPostTimeline;
 import com.crimecat.backend.webUser.domain.WebUser;
 import com.crimecat.backend.webUser.repository.WebUserRepository;
 import com.crimecat.backend.exception.ErrorStatus;
@@ -22,6 +23,7 @@ public class FollowService {
 
     private final FollowRepository followRepository;
     private final WebUserRepository webUserRepository;
+    private final UserPostTimeline userPostTimeline;
 
     // 팔로우하기
     @Transactional
@@ -46,6 +48,7 @@ public class FollowService {
         // 팔로우 관계 생성
         Follow follow = Follow.of(follower, following);
         Follow savedFollow = followRepository.save(follow);
+        userPostTimeline.onFollow(followerId, followingId);
         
         return FollowDto.from(savedFollow);
     }
@@ -57,6 +60,7 @@ public class FollowService {
                 .orElseThrow(ErrorStatus.FOLLOW_NOT_FOUND::asServiceException);
         
         followRepository.delete(follow);
+        userPostTimeline.onUnfollow(followerId, followingId);
     }
     
     // 팔로우 여부 확인
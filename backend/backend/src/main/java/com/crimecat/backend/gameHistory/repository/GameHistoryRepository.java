@@ -3,6 +3,7 @@ package com.crimecat.backend.gameHistory.repository;
 import com.crimecat.backend.gameHistory.domain.GameHistory;
 import com.crimecat.backend.gameHistory.dto.IGameHistoryRankingDto;
 import com.crimecat.backend.user.domain.User;
+import com.crimecat.backend.user.dto.ILeaderboardScoreDto;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -45,6 +46,18 @@ public interface GameHistoryRepository extends JpaRepository<GameHistory, UUID>
 	@Query("SELECT u.discordSnowflake AS userSnowflake, COUNT(gh) AS playCount FROM GameHistory gh JOIN gh.user u GROUP BY u.discordSnowflake ORDER BY COUNT(gh) DESC")
 	List<IGameHistoryRankingDto> getGameHistorySortingByPlayTimeWithPagination(Pageable pageable);
 
+	/**
+	 * 유저별 플레이 횟수 (플레이 횟수 랭킹 보드 재구성용)
+	 */
+	@Query("SELECT u.discordSnowflake AS member, COUNT(gh) AS score FROM GameHistory gh JOIN gh.user u " +
+			"WHERE u.discordSnowflake IS NOT NULL GROUP BY u.discordSnowflake")
+	List<ILeaderboardScoreDto> countPlaysByUser();
+
+	/**
+	 * 길드별 플레이 횟수 (길드 플레이 랭킹 보드 재구성용)
+	 */
+	@Query("SELECT g.snowflake AS member, COUNT(gh) AS score FROM GameHistory gh JOIN gh.guild g GROUP BY g.snowflake")
+	List<ILeaderboardScoreDto> countPlaysByGuild();
 
 	/**
 	 * 특정 유저가 특정 길드에서 게임 기록이 있는지 조회 (단건)
@@ -141,8 +154,6 @@ public interface GameHistoryRepository extends JpaRepository<GameHistory, UUID>
 	);
 
 
-	List<GameHistory> findByGuild_Id(UUID guildId);
-
 	boolean existsByUser_WebUser_IdAndGameTheme_Id(UUID userWebUserId, UUID gameThemeId);
 
 	boolean existsByGameTheme_IdAndUser_Id(UUID gameThemeId, UUID userId);
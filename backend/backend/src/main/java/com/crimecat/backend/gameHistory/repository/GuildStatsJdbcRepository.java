@@ -0,0 +1,140 @@
+package com.crimecat.backend.gameHistory.repository;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 길드별 게임 통계 (guild_stats / guild_player_stats)
+ * - 기록 저장/수정/삭제와 같은 트랜잭션에서 증분 UPDATE → 조회는 PK 단건 SELECT
+ * - guild_player_stats 는 길드 + 유저별 기록 수로, 0 → 1 / 1 → 0 전환 시에만 고유 플레이어 수 증감
+ * - 마지막 플레이 시각은 저장 시 GREATEST, 수정/삭제 시 (guild_snowflake, created_at) 인덱스로 MAX 재계산
+ * - 유저가 없는 기록(user_id NULL)은 집계하지 않음 (GuildStatsService 증분 반영과 재구성 기준 동일)
+ */
+@Repository
+@RequiredArgsConstructor
+public class GuildStatsJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record GuildStats(long playCount, long winCount, long uniquePlayerCount, LocalDateTime lastPlayedAt) {
+
+        public static final GuildStats EMPTY = new GuildStats(0, 0, 0, null);
+
+        /**
+         * 승률 (기록이 없으면 0)
+         */
+        public double winRate() {
+            return playCount > 0 ? (double) winCount / playCount : 0d;
+        }
+    }
+
+    public Optional<GuildStats> find(String guildSnowflake) {
+        List<GuildStats> rows = jdbcTemplate.query(
+                "SELECT play_count, win_count, unique_player_count, last_played_at FROM guild_stats WHERE guild_snowflake = ?",
+                (rs, rowNum) -> {
+                    Timestamp lastPlayedAt = rs.getTimestamp("last_played_at");
+                    return new GuildStats(
+                            rs.getLong("play_count"),
+                            rs.getLong("win_count"),
+                            rs.getLong("unique_player_count"),
+                            lastPlayedAt != null ? lastPlayedAt.toLocalDateTime() : null);
+                },
+                guildSnowflake);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 기록 추가 반영
+     */
+    public void addPlay(String guildSnowflake, UUID userId, boolean win, LocalDateTime playedAt) {
+        byte[] user = toBytes(userId);
+        jdbcTemplate.update(
+                "INSERT INTO guild_player_stats (guild_snowflake, user_id, play_count) VALUES (?, ?, 1) " +
+                        "ON DUPLICATE KEY UPDATE play_count = play_count + 1",
+                guildSnowflake, user);
+        jdbcTemplate.update(
+                "INSERT INTO guild_stats (guild_snowflake, play_count, win_count, unique_player_count, last_played_at) " +
+                        "VALUES (?, 1, ?, 1, ?) " +
+                        "ON DUPLICATE KEY UPDATE play_count = play_count + 1, " +
+                        "win_count = win_count + VALUES(win_count), " +
+                        "unique_player_count = unique_player_count + (SELECT IF(p.play_count = 1, 1, 0) " +
+                        "FROM guild_player_stats p WHERE p.guild_snowflake = ? AND p.user_id = ?), " +
+                        "last_played_at = GREATEST(COALESCE(last_played_at, VALUES(last_played_at)), VALUES(last_played_at))",
+                guildSnowflake, win ? 1 : 0, Timestamp.valueOf(playedAt), guildSnowflake, user);
+    }
+
+    /**
+     * 기록 수정 반영 (game_histories 변경이 flush 된 뒤 호출)
+     * @param winDelta 승리 여부 변화 (-1, 0, 1)
+     */
+    public void applyUpdate(String guildSnowflake, int winDelta) {
+        jdbcTemplate.update(
+                "UPDATE guild_stats SET win_count = GREATEST(win_count + ?, 0), " +
+                        "last_played_at = (SELECT MAX(h.created_at) FROM game_histories h " +
+                        "WHERE h.guild_snowflake = ? AND h.user_id IS NOT NULL) " +
+                        "WHERE guild_snowflake = ?",
+                winDelta, guildSnowflake, guildSnowflake);
+    }
+
+    /**
+     * 기록 삭제 반영 (game_histories 삭제가 flush 된 뒤 호출)
+     */
+    public void removePlay(String guildSnowflake, UUID userId, boolean win) {
+        byte[] user = toBytes(userId);
+        jdbcTemplate.update(
+                "UPDATE guild_player_stats SET play_count = play_count - 1 WHERE guild_snowflake = ? AND user_id = ?",
+                guildSnowflake, user);
+        jdbcTemplate.update(
+                "UPDATE guild_stats SET play_count = GREATEST(play_count - 1, 0), " +
+                        "win_count = GREATEST(win_count - ?, 0), " +
+                        "unique_player_count = GREATEST(unique_player_count - (SELECT COUNT(*) FROM guild_player_stats p " +
+                        "WHERE p.guild_snowflake = ? AND p.user_id = ? AND p.play_count <= 0), 0), " +
+                        "last_played_at = (SELECT MAX(h.created_at) FROM game_histories h " +
+                        "WHERE h.guild_snowflake = ? AND h.user_id IS NOT NULL) " +
+                        "WHERE guild_snowflake = ?",
+                win ? 1 : 0, guildSnowflake, user, guildSnowflake, guildSnowflake);
+        jdbcTemplate.update(
+                "DELETE FROM guild_player_stats WHERE guild_snowflake = ? AND user_id = ? AND play_count <= 0",
+                guildSnowflake, user);
+    }
+
+    /**
+     * game_histories 그룹 집계로 전체 통계 재구성 (유저 삭제 CASCADE 등 증분으로 잡히지 않는 변경 보정)
+     */
+    public void rebuildAll() {
+        jdbcTemplate.update(
+                "INSERT INTO guild_player_stats (guild_snowflake, user_id, play_count) " +
+                        "SELECT guild_snowflake, user_id, COUNT(*) FROM game_histories " +
+                        "WHERE guild_snowflake IS NOT NULL AND user_id IS NOT NULL " +
+                        "GROUP BY guild_snowflake, user_id " +
+                        "ON DUPLICATE KEY UPDATE play_count = VALUES(play_count)");
+        jdbcTemplate.update(
+                "DELETE FROM guild_player_stats WHERE NOT EXISTS (SELECT 1 FROM game_histories h " +
+                        "WHERE h.guild_snowflake = guild_player_stats.guild_snowflake AND h.user_id = guild_player_stats.user_id)");
+        jdbcTemplate.update(
+                "INSERT INTO guild_stats (guild_snowflake, play_count, win_count, unique_player_count, last_played_at) " +
+                        "SELECT guild_snowflake, COUNT(*), SUM(IF(is_win, 1, 0)), COUNT(DISTINCT user_id), MAX(created_at) " +
+                        "FROM game_histories WHERE guild_snowflake IS NOT NULL AND user_id IS NOT NULL " +
+                        "GROUP BY guild_snowflake " +
+                        "ON DUPLICATE KEY UPDATE play_count = VALUES(play_count), win_count = VALUES(win_count), " +
+                        "unique_player_count = VALUES(unique_player_count), last_played_at = VALUES(last_played_at)");
+        jdbcTemplate.update(
+                "UPDATE guild_stats SET play_count = 0, win_count = 0, unique_player_count = 0, last_played_at = NULL " +
+                        "WHERE NOT EXISTS (SELECT 1 FROM game_histories h " +
+                        "WHERE h.guild_snowflake = guild_stats.guild_snowflake AND h.user_id IS NOT NULL)");
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
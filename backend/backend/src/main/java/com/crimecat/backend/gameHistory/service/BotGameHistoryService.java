@@ -106,9 +106,10 @@ public class BotGameHistoryService {
 		if (gameHistory == null) {
 			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "game history not exists");
 		}
+		boolean wasWin = gameHistory.isWin();
 		gameHistory.setCreatedAt(gameHistoryUpdateRequestDto.getCreatedAt());
 		gameHistory.setIsWin(gameHistoryUpdateRequestDto.getWin());
 		gameHistory.setCharacterName(gameHistoryUpdateRequestDto.getCharacterName());
-		gameHistoryQueryService.save(gameHistory);
+		gameHistoryQueryService.update(gameHistory, wasWin);
 	}
 }
\ No newline at end of file
@@ -138,11 +138,11 @@ public class EscapeRoomHistoryService {
      * 내 방탈출 기록 조회 (페이징)
      */
     public Page<EscapeRoomHistoryResponse> getMyHistories(Pageable pageable) {
-        WebUser webUser = AuthenticationUtil.getCurrentWebUserOptional().orElseThrow(ErrorStatus.USER_NOT_FOUND::asServiceException);
+        UUID webUserId = AuthenticationUtil.getCurrentWebUserIdOptional().orElseThrow(ErrorStatus.USER_NOT_FOUND::asServiceException);
         Page<EscapeRoomHistory> histories = escapeRoomHistoryRepository
-                .findByWebUserIdAndDeletedAtIsNullOrderByPlayDateDesc(webUser.getId(), pageable);
+                .findByWebUserIdAndDeletedAtIsNullOrderByPlayDateDesc(webUserId, pageable);
         
-        return histories.map(history -> EscapeRoomHistoryResponse.from(history, webUser.getId()));
+        return histories.map(history -> EscapeRoomHistoryResponse.from(history, webUserId));
     }
     
     /**
@@ -12,6 +12,7 @@ import com.crimecat.backend.gameHistory.dto.IGameHistoryRankingDto;
 import com.crimecat.backend.gameHistory.repository.GameHistoryRepository;
 import com.crimecat.backend.guild.domain.Guild;
 import com.crimecat.backend.user.domain.User;
+import com.crimecat.backend.user.service.LeaderboardService;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,11 +22,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class GameHistoryQueryService {
 
 	private final GameHistoryRepository gameHistoryRepository;
+	private final LeaderboardService leaderboardService;
+	private final GuildStatsService guildStatsService;
 
 	@Transactional
 	public void saveCrimeSceneUserGameHistory(boolean isWin,
 									LocalDateTime createdAt, String characterName, User user, Guild guild, GameTheme gameTheme) {
-		gameHistoryRepository.save(new GameHistory(isWin, createdAt, characterName, user, guild, gameTheme));
+		GameHistory gameHistory = gameHistoryRepository.save(new GameHistory(isWin, createdAt, characterName, user, guild, gameTheme));
+		guildStatsService.recordSaved(gameHistory);
+		leaderboardService.recordGamePlayed(user.getDiscordSnowflake(), guild != null ? guild.getSnowflake() : null);
 	}
 
 	@Transactional(readOnly = true)
@@ -62,4 +67,30 @@ public class GameHistoryQueryService {
 	public void save(GameHistory gameHistory) {
 		gameHistoryRepository.save(gameHistory);
 	}
+
+	/**
+	 * 기존 기록 수정 저장 (길드 통계의 승리 수 / 마지막 플레이 시각 함께 갱신)
+	 * @param wasWin 수정 전 승리 여부
+	 */
+	@Transactional
+	public void update(GameHistory gameHistory, boolean wasWin) {
+		gameHistoryRepository.saveAndFlush(gameHistory);
+		guildStatsService.recordUpdated(gameHistory, wasWin);
+	}
+
+	/**
+	 * 기록 삭제 (길드 통계 / 플레이 횟수 랭킹 함께 갱신)
+	 * - 현재 애플리케이션에는 기록 단건 삭제 API 가 없음, 기록 삭제를 추가할 때는 repository 를 직접 쓰지 말고 이 메서드로 삭제
+	 * - 유일한 기존 삭제 경로는 users 삭제 시 DB CASCADE (애플리케이션을 거치지 않음)
+	 *   → GuildStatsService.rebuildAll / LeaderboardService 야간 재구성으로 보정
+	 */
+	@Transactional
+	public void delete(GameHistory gameHistory) {
+		gameHistoryRepository.delete(gameHistory);
+		gameHistoryRepository.flush();
+		guildStatsService.recordDeleted(gameHistory);
+		leaderboardService.recordGameDeleted(
+				gameHistory.getUser() != null ? gameHistory.getUser().getDiscordSnowflake() : null,
+				gameHistory.getGuild() != null ? gameHistory.getGuild().getSnowflake() : null);
+	}
 }
@@ -0,0 +1,104 @@
+package com.crimecat.backend.gameHistory.service;
+
+import com.crimecat.backend.gameHistory.domain.GameHistory;
+import com.crimecat.backend.gameHistory.repository.GuildStatsJdbcRepository;
+import com.crimecat.backend.gameHistory.repository.GuildStatsJdbcRepository.GuildStats;
+import com.crimecat.backend.utils.RedisLockService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 길드별 게임 통계 (플레이 수 / 마지막 플레이 / 고유 플레이어 수 / 승률)
+ * - 게임 기록 저장/수정/삭제 트랜잭션 안에서 증분 반영 → 기록이 롤백되면 통계도 함께 롤백
+ * - 공개 길드 정보는 guild_stats 단건 조회만 수행 (기록 수와 무관)
+ * - 주기적으로 game_histories 그룹 집계로 재구성 (여러 인스턴스 중 잠금을 얻은 한 곳만 수행)
+ * - 유저가 없는 기록(user_id NULL)은 증분/재구성 모두 집계에서 제외
+ */
+@Slf4j
+@Service
+public class GuildStatsService {
+
+    private static final String LOCK_KEY = "guild-stats:rebuild:lock";
+
+    private final GuildStatsJdbcRepository guildStatsJdbcRepository;
+    private final RedisLockService redisLockService;
+    private final Duration lockTtl;
+
+    public GuildStatsService(
+            GuildStatsJdbcRepository guildStatsJdbcRepository,
+            RedisLockService redisLockService,
+            @Value("${guild-stats.rebuild.lock-ttl-minutes:10}") long lockTtlMinutes) {
+        this.guildStatsJdbcRepository = guildStatsJdbcRepository;
+        this.redisLockService = redisLockService;
+        this.lockTtl = Duration.ofMinutes(lockTtlMinutes);
+    }
+
+    @Transactional(readOnly = true)
+    public GuildStats getStats(String guildSnowflake) {
+        return guildStatsJdbcRepository.find(guildSnowflake).orElse(GuildStats.EMPTY);
+    }
+
+    /**
+     * 새 기록 반영 (기록 저장과 같은 트랜잭션에서 호출)
+     */
+    @Transactional
+    public void recordSaved(GameHistory history) {
+        if (history.getGuild() == null || history.getUser() == null) {
+            return;
+        }
+        LocalDateTime playedAt = history.getCreatedAt() != null ? history.getCreatedAt() : LocalDateTime.now();
+        guildStatsJdbcRepository.addPlay(
+                history.getGuild().getSnowflake(), history.getUser().getId(), history.isWin(), playedAt);
+    }
+
+    /**
+     * 기록 수정 반영 (수정 내용이 flush 된 뒤 같은 트랜잭션에서 호출)
+     * @param wasWin 수정 전 승리 여부
+     */
+    @Transactional
+    public void recordUpdated(GameHistory history, boolean wasWin) {
+        if (history.getGuild() == null || history.getUser() == null) {
+            return;
+        }
+        int winDelta = (history.isWin() ? 1 : 0) - (wasWin ? 1 : 0);
+        guildStatsJdbcRepository.applyUpdate(history.getGuild().getSnowflake(), winDelta);
+    }
+
+    /**
+     * 기록 삭제 반영 (삭제가 flush 된 뒤 같은 트랜잭션에서 호출)
+     */
+    @Transactional
+    public void recordDeleted(GameHistory history) {
+        if (history.getGuild() == null || history.getUser() == null) {
+            return;
+        }
+        guildStatsJdbcRepository.removePlay(
+                history.getGuild().getSnowflake(), history.getUser().getId(), history.isWin());
+    }
+
+    /**
+     * 전체 재구성 (증분으로 잡히지 않는 유저 삭제 CASCADE 등 보정)
+     */
+    @Scheduled(cron = "${guild-stats.rebuild.cron:0 50 4 * * *}")
+    public void rebuildAll() {
+        String lockToken = redisLockService.tryLock(LOCK_KEY, lockTtl);
+        if (lockToken == null) {
+            log.debug("⏭️ [GUILD_STATS] 다른 인스턴스에서 재구성 중");
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            guildStatsJdbcRepository.rebuildAll();
+            log.info("📊 [GUILD_STATS] 재구성 완료 - {}ms", System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("⚠️ [GUILD_STATS] 재구성 실패", e);
+        } finally {
+            redisLockService.unlock(LOCK_KEY, lockToken);
+        }
+    }
+}
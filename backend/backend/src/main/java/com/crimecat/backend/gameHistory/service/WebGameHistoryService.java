@@ -205,6 +205,7 @@ public class WebGameHistoryService {
 			throw ErrorStatus.INVALID_ACCESS.asServiceException();  //플레이한 유저도 아니고 오너도 아닐경우
 		}
 
+		boolean wasWin = gameHistory.isWin();
 // 공통: 승패, 캐릭터명 수정
 		gameHistory.setIsWin(gameHistoryUpdateRequestDto.getWin());
 		gameHistory.setCharacterName(gameHistoryUpdateRequestDto.getCharacterName());
@@ -218,7 +219,7 @@ public class WebGameHistoryService {
 			gameHistory.setMemo(gameHistoryUpdateRequestDto.getMemo());
 		}
 
-		gameHistoryQueryService.save(gameHistory);
+		gameHistoryQueryService.update(gameHistory, wasWin);
 	}
 
 	/**
@@ -346,6 +347,7 @@ public class WebGameHistoryService {
         }
 
         // 기록 업데이트
+        boolean wasWin = gameHistory.isWin();
         if (gameHistoryUpdateRequestDto.getCharacterName() != null) {
             gameHistory.setCharacterName(gameHistoryUpdateRequestDto.getCharacterName());
         }
@@ -359,7 +361,7 @@ public class WebGameHistoryService {
             gameHistory.setCreatedAt(gameHistoryUpdateRequestDto.getCreatedAt());
         }
 
-        gameHistoryRepository.save(gameHistory);
+        gameHistoryQueryService.update(gameHistory, wasWin);
         log.info("게임 기록이 업데이트되었습니다. themeId: {}, userId: {}", themeId, user.getId());
         
         // 캐시 무효화
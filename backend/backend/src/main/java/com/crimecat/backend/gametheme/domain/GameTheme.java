@@ -50,7 +50,11 @@ public abstract class GameTheme {
     @Builder.Default
     private int recommendations = 0;
 
-    @Column(name = "VIEWS")
+    /**
+     * 조회수는 ViewCountService 의 JDBC 배치로만 갱신
+     * (엔티티 flush 로 덮어쓰지 않도록 updatable = false)
+     */
+    @Column(name = "VIEWS", updatable = false)
     @Builder.Default
     private int views = 0;
 
@@ -142,10 +146,6 @@ public abstract class GameTheme {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public void viewed() {
-        this.views++;
-    }
-
     public void liked() {
         this.recommendations++;
     }
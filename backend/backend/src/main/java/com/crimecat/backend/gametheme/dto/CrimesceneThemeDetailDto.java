@@ -15,7 +15,7 @@ import java.util.Map;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 public class CrimesceneThemeDetailDto extends GameThemeDetailDto {
     private TeamDto team;
     private GuildDto guild;
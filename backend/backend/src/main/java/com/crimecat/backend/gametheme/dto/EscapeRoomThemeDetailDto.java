@@ -16,7 +16,7 @@ import java.util.Set;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 public class EscapeRoomThemeDetailDto extends GameThemeDetailDto {
     private Integer horrorLevel;
     private Integer deviceRatio;
@@ -16,7 +16,7 @@ import java.util.UUID;
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 public class GameThemeDetailDto {
     private UUID id;
     private String title;
@@ -72,6 +72,17 @@ public class GameThemeDetailDto {
                 .build();
     }
     
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증분을 더한 복사본
+     * - 캐시된 인스턴스는 여러 요청이 공유하므로 직접 변경하지 않음 (하위 타입도 그대로 복사)
+     */
+    public GameThemeDetailDto withPendingViews(long pendingViews) {
+        if (pendingViews == 0) {
+            return this;
+        }
+        return toBuilder().views(views + (int) pendingViews).build();
+    }
+
     private static AuthorDto buildAuthorDto(GameTheme theme) {
         try {
             if (theme.getAuthor() != null) {
@@ -0,0 +1,45 @@
+package com.crimecat.backend.gametheme.dto;
+
+import com.crimecat.backend.gametheme.domain.GameTheme;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 캐시용 테마 스냅샷
+ * - 엔티티(지연 로딩 연관관계 포함) 대신 조회에 필요한 값만 DTO 로 복사해 저장
+ * - 니어 캐시(L1)에서 여러 요청이 같은 인스턴스를 공유하므로 변경 메서드를 두지 않음
+ * - Redis 기본 타입 정보(NON_FINAL)가 기록되도록 record 가 아닌 클래스로 선언
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GameThemeSnapshot {
+    private UUID id;
+    private UUID authorId;
+    private boolean deleted;
+    private boolean publicStatus;
+    private GameThemeDetailDto detail;
+
+    /**
+     * 트랜잭션 안에서 엔티티를 스냅샷으로 변환 (지연 로딩 연관관계는 여기서 모두 DTO 로 복사)
+     */
+    public static GameThemeSnapshot of(GameTheme theme) {
+        return new GameThemeSnapshot(
+                theme.getId(),
+                theme.getAuthorId(),
+                theme.isDeleted(),
+                theme.isPublicStatus(),
+                GameThemeDetailDto.of(theme));
+    }
+
+    /**
+     * 삭제되지 않았고 공개 상태이거나 요청자가 작성자인 경우 조회 가능
+     */
+    public boolean isVisibleTo(UUID webUserId) {
+        return !deleted && (publicStatus || (authorId != null && authorId.equals(webUserId)));
+    }
+}
@@ -0,0 +1,32 @@
+package com.crimecat.backend.gametheme.enums;
+
+/**
+ * 조회수 집계 대상
+ * - 대상별 테이블과 Redis 키 접두사를 함께 관리
+ */
+public enum ViewCountTarget {
+    THEME("game_themes", "theme"),
+    BOARD_POST("board_posts", "board");
+
+    private final String tableName;
+    private final String keyName;
+
+    ViewCountTarget(String tableName, String keyName) {
+        this.tableName = tableName;
+        this.keyName = keyName;
+    }
+
+    /**
+     * 조회수 컬럼을 가진 테이블명
+     */
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * Redis 키 / 중복 방지 키에 사용하는 짧은 이름
+     */
+    public String getKeyName() {
+        return keyName;
+    }
+}
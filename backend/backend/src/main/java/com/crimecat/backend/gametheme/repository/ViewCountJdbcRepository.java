@@ -0,0 +1,69 @@
+package com.crimecat.backend.gametheme.repository;
+
+import com.crimecat.backend.gametheme.enums.ViewCountTarget;
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 누적된 조회수 증분을 JDBC 배치 UPDATE 한 번으로 반영
+ * - 엔티티 로딩 / 전체 row 저장 없이 VIEWS = VIEWS + ? 만 수행
+ */
+@Repository
+@RequiredArgsConstructor
+public class ViewCountJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 대상 테이블에 조회수 증분을 일괄 반영 (한 트랜잭션 → 실패 시 전부 롤백되어 전체 재시도해도 중복 반영 없음)
+     * @param target 조회수 대상
+     * @param deltas 엔티티 ID별 증분
+     * @return 실제 반영된 row 수
+     */
+    @Transactional
+    public int addViews(ViewCountTarget target, Map<UUID, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        List<Map.Entry<UUID, Long>> entries = new ArrayList<>(deltas.entrySet());
+        String sql = "UPDATE " + target.getTableName() + " SET VIEWS = VIEWS + ? WHERE ID = ?";
+
+        int[] results = jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<UUID, Long> entry = entries.get(i);
+                ps.setLong(1, entry.getValue());
+                ps.setBytes(2, toBytes(entry.getKey()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+
+        int updated = 0;
+        for (int result : results) {
+            // 드라이버가 SUCCESS_NO_INFO(-2)를 반환하는 경우도 성공으로 간주
+            updated += result > 0 ? result : (result == java.sql.Statement.SUCCESS_NO_INFO ? 1 : 0);
+        }
+        return updated;
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
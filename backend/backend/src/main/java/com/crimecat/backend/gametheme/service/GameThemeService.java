@@ -41,7 +41,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -64,6 +63,7 @@ public class GameThemeService {
     private final NotificationService notificationService;
     private final com.crimecat.backend.webUser.repository.WebUserRepository webUserRepository;
     private final ThemeCacheService themeCacheService;
+    private final GameThemeSnapshotCacheService gameThemeSnapshotCacheService;
     private final MakerTeamRepository makerTeamRepository;
     private final CachedNaverMapService cachedNaverMapService;
 
@@ -161,7 +161,7 @@ public class GameThemeService {
         }
     }
 
-    @CacheEvict(value = {CacheType.GAME_THEME, CacheType.GAME_THEME_ENTITY, CacheType.GAME_THEME_RESPONSE, CacheType.GAME_THEME_LIST}, key = "#themeId.toString()", cacheManager = "redisCacheManager")
+    @CacheEvict(value = {CacheType.GAME_THEME, CacheType.GAME_THEME_SNAPSHOT, CacheType.GAME_THEME_RESPONSE, CacheType.GAME_THEME_LIST}, key = "#themeId.toString()", cacheManager = "redisCacheManager")
     @Transactional
     public void deleteGameTheme(UUID themeId) {
         GameTheme gameTheme = themeRepository.findById(themeId).orElseThrow(ErrorStatus.GAME_THEME_NOT_FOUND::asServiceException);
@@ -190,20 +190,22 @@ public class GameThemeService {
     public GetGameThemeResponse getGameTheme(UUID themeId) {
         log.debug("📖 테마 조회 시작 - ID: {}", themeId);
         
-        // 1. 엔티티 조회 (캐시됨)
-        GameTheme gameTheme = getGameThemeEntity(themeId);
-        log.debug("✅ 테마 엔티티 조회 완료 - 제목: {}", gameTheme.getTitle());
+        // 1. 스냅샷 조회 (캐시됨)
+        GameThemeSnapshot snapshot = getGameThemeSnapshot(themeId);
+        log.debug("✅ 테마 스냅샷 조회 완료 - 제목: {}", snapshot.getDetail().getTitle());
         
         // 2. IP 추출 (캐시와 무관)
         String clientIp = extractClientIp();
         log.debug("🌐 클라이언트 IP 추출: {}", clientIp);
         
-        // 3. 조회수 증가 - 별도 트랜잭션으로 처리 (IP별 캐시로 중복 방지)
-        incrementViewCount(gameTheme, clientIp);
+        // 3. 조회수 증가 - write-behind 카운터에 누적 (IP별 중복 방지)
+        incrementViewCount(themeId, clientIp);
         
-        // 4. 응답 생성 (이 부분만 캐시됨)
+        // 4. 응답 생성 - 아직 DB에 반영되지 않은 조회수 증분을 더한 복사본 (캐시된 DTO 는 변경하지 않음)
+        GameThemeDetailDto themeDetail = snapshot.getDetail()
+                .withPendingViews(viewCountService.getPendingThemeViews(themeId));
         GetGameThemeResponse response = GetGameThemeResponse.builder()
-                .theme(GameThemeDetailDto.of(gameTheme))
+                .theme(themeDetail)
                 .build();
         
         log.debug("✅ 테마 조회 완료 - ID: {}", themeId);
@@ -211,26 +213,23 @@ public class GameThemeService {
     }
     
     /**
-     * 게임 테마 엔티티 조회 (캐시됨)
+     * 게임 테마 스냅샷 조회 (캐시됨)
+     * - 스냅샷은 GameThemeSnapshotCacheService 프록시를 통해 캐시에서 가져오고, 권한 검증은 매 요청 수행
      * @param themeId 테마 ID
-     * @return 게임 테마 엔티티
+     * @return 게임 테마 스냅샷
      */
-    @Cacheable(value = CacheType.GAME_THEME_ENTITY, key = "#themeId.toString()", cacheManager = "redisCacheManager")
-    public GameTheme getGameThemeEntity(UUID themeId) {
-        log.debug("🔍 테마 엔티티 조회 (캐시 체크) - ID: {}", themeId);
-        
-        GameTheme gameTheme = themeRepository.findById(themeId)
-                .orElseThrow(ErrorStatus.GAME_THEME_NOT_FOUND::asServiceException);
-        
+    public GameThemeSnapshot getGameThemeSnapshot(UUID themeId) {
+        GameThemeSnapshot snapshot = gameThemeSnapshotCacheService.getGameThemeSnapshot(themeId);
+
         // 권한 검증 로직
         UUID webUserId = AuthenticationUtil.getCurrentWebUserIdOptional().orElse(null);
-        if (gameTheme.isDeleted() || (!gameTheme.isPublicStatus() && !gameTheme.isAuthor(webUserId))) {
+        if (!snapshot.isVisibleTo(webUserId)) {
             throw ErrorStatus.GAME_THEME_NOT_FOUND.asServiceException();
         }
         
-        log.debug("✅ 테마 엔티티 조회 성공 - 제목: {}, 조회수: {}", 
-            gameTheme.getTitle(), gameTheme.getViews());
-        return gameTheme;
+        log.debug("✅ 테마 스냅샷 조회 성공 - 제목: {}, 조회수: {}", 
+            snapshot.getDetail().getTitle(), snapshot.getDetail().getViews());
+        return snapshot;
     }
     
     /**
@@ -248,17 +247,16 @@ public class GameThemeService {
     }
     
     /**
-     * 조회수 증가 처리 (별도 트랜잭션)
-     * @param gameTheme 게임 테마
+     * 조회수 증가 처리 (메모리/Redis 누적, 주기적으로 DB 반영)
+     * @param themeId 테마 ID
      * @param clientIp 클라이언트 IP
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    protected void incrementViewCount(GameTheme gameTheme, String clientIp) {
+    protected void incrementViewCount(UUID themeId, String clientIp) {
         try {
-            viewCountService.themeIncrement(gameTheme, clientIp);
+            viewCountService.themeIncrement(themeId, clientIp);
         } catch (Exception e) {
             // 조회수 증가 실패는 메인 로직에 영향을 주지 않도록 로그만 남김
-            log.warn("Failed to increment view count for theme: {} from IP: {}", gameTheme.getId(), clientIp, e);
+            log.warn("Failed to increment view count for theme: {} from IP: {}", themeId, clientIp, e);
         }
     }
 
@@ -267,7 +265,7 @@ public class GameThemeService {
     // ================================
 
     @Transactional
-    @CacheEvict(value = {CacheType.GAME_THEME, CacheType.GAME_THEME_ENTITY, CacheType.GAME_THEME_RESPONSE, CacheType.GAME_THEME_LIST}, key = "#themeId.toString()", cacheManager = "redisCacheManager")
+    @CacheEvict(value = {CacheType.GAME_THEME, CacheType.GAME_THEME_SNAPSHOT, CacheType.GAME_THEME_RESPONSE, CacheType.GAME_THEME_LIST}, key = "#themeId.toString()", cacheManager = "redisCacheManager")
     public void updateCrimesceneTheme(UUID themeId, MultipartFile file, UpdateCrimesceneThemeRequest request) {
         GameTheme gameTheme = getThemeForUpdate(themeId);
 
@@ -305,7 +303,7 @@ public class GameThemeService {
     // ================================
 
     @Transactional
-    @CacheEvict(value = {CacheType.GAME_THEME, CacheType.GAME_THEME_ENTITY, CacheType.GAME_THEME_RESPONSE, CacheType.GAME_THEME_LIST}, key = "#themeId.toString()", cacheManager = "redisCacheManager")
+    @CacheEvict(value = {CacheType.GAME_THEME, CacheType.GAME_THEME_SNAPSHOT, CacheType.GAME_THEME_RESPONSE, CacheType.GAME_THEME_LIST}, key = "#themeId.toString()", cacheManager = "redisCacheManager")
     public void updateEscapeRoomTheme(UUID themeId, MultipartFile file, UpdateEscapeRoomThemeRequest request) {
         GameTheme gameTheme = getThemeForUpdate(themeId);
 
@@ -324,7 +322,7 @@ public class GameThemeService {
     // ================================
 
     @Transactional
-    @CacheEvict(value = {CacheType.GAME_THEME, CacheType.GAME_THEME_ENTITY, CacheType.GAME_THEME_RESPONSE, CacheType.GAME_THEME_LIST}, key = "#themeId.toString()", cacheManager = "redisCacheManager")
+    @CacheEvict(value = {CacheType.GAME_THEME, CacheType.GAME_THEME_SNAPSHOT, CacheType.GAME_THEME_RESPONSE, CacheType.GAME_THEME_LIST}, key = "#themeId.toString()", cacheManager = "redisCacheManager")
     public void updateMurderMysteryTheme(UUID themeId, MultipartFile file, UpdateGameThemeRequest request) {
         GameTheme gameTheme = getThemeForUpdate(themeId);
 
@@ -346,7 +344,7 @@ public class GameThemeService {
     // ================================
 
     @Transactional
-    @CacheEvict(value = {CacheType.GAME_THEME, CacheType.GAME_THEME_ENTITY, CacheType.GAME_THEME_RESPONSE, CacheType.GAME_THEME_LIST}, key = "#themeId.toString()", cacheManager = "redisCacheManager")
+    @CacheEvict(value = {CacheType.GAME_THEME, CacheType.GAME_THEME_SNAPSHOT, CacheType.GAME_THEME_RESPONSE, CacheType.GAME_THEME_LIST}, key = "#themeId.toString()", cacheManager = "redisCacheManager")
     public void updateRealWorldTheme(UUID themeId, MultipartFile file, UpdateGameThemeRequest request) {
         GameTheme gameTheme = getThemeForUpdate(themeId);
 
@@ -0,0 +1,41 @@
+package com.crimecat.backend.gametheme.service;
+
+import com.crimecat.backend.config.CacheType;
+import com.crimecat.backend.exception.ErrorStatus;
+import com.crimecat.backend.gametheme.dto.GameThemeSnapshot;
+import com.crimecat.backend.gametheme.repository.GameThemeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * 테마 스냅샷 캐시 조회
+ * GameThemeService 내부 호출은 프록시를 거치지 않아 캐시가 적용되지 않으므로 별도 서비스로 분리
+ * 엔티티는 저장소에서만 읽고 캐시에는 지연 로딩 연관관계가 없는 스냅샷(DTO)만 저장
+ * 캐시 값은 요청자와 무관해야 하므로 공개/작성자 권한 검증은 호출하는 쪽에서 수행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameThemeSnapshotCacheService {
+
+    private final GameThemeRepository themeRepository;
+
+    /**
+     * 게임 테마 스냅샷 조회 (캐시됨)
+     * @param themeId 테마 ID
+     * @return 게임 테마 스냅샷
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheType.GAME_THEME_SNAPSHOT, key = "#themeId.toString()", cacheManager = "redisCacheManager")
+    public GameThemeSnapshot getGameThemeSnapshot(UUID themeId) {
+        log.debug("🔍 테마 스냅샷 조회 (캐시 미스) - ID: {}", themeId);
+        return themeRepository.findById(themeId)
+                .map(GameThemeSnapshot::of)
+                .orElseThrow(ErrorStatus.GAME_THEME_NOT_FOUND::asServiceException);
+    }
+}
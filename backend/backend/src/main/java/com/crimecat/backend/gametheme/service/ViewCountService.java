@@ -1,35 +1,310 @@
 package com.crimecat.backend.gametheme.service;
 
 import com.crimecat.backend.boardPost.domain.BoardPost;
-import com.crimecat.backend.boardPost.repository.BoardPostRepository;
-import com.crimecat.backend.gametheme.domain.GameTheme;
-import com.crimecat.backend.gametheme.repository.GameThemeRepository;
-import lombok.RequiredArgsConstructor;
+import com.crimecat.backend.config.CacheType;
+import com.crimecat.backend.gametheme.enums.ViewCountTarget;
+import com.crimecat.backend.gametheme.repository.ViewCountJdbcRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Write-behind 조회수 카운터
+ * - 조회 시점에는 메모리(LongAdder) 또는 Redis HINCRBY 로만 증가
+ * - clientIp 기준 중복 조회는 일정 시간 동안 한 번만 집계
+ * - 스케줄러가 누적 증분을 배치 UPDATE 로 DB에 반영
+ * - 조회 응답은 getPending*Views 로 미반영 증분을 더해 실시간처럼 표시
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ViewCountService {
-  private final GameThemeRepository themeRepository;
-  private final BoardPostRepository boardPostRepository;
-
-  @Transactional
-  public boolean themeIncrement(GameTheme theme, String ip) {
-    log.info("🔍 조회수 증가 처리 - 테마: {}, IP: {}, 현재 조회수: {}", 
-        theme.getId(), ip, theme.getViews());
-    theme.viewed();
-    themeRepository.save(theme);
-    log.info("✅ 조회수 증가 완료 - 테마: {}, 새 조회수: {}", 
-        theme.getId(), theme.getViews());
-    return true;
+
+  private static final String PENDING_KEY_PREFIX = "view:pending:";
+  private static final String FLUSHING_KEY_PREFIX = "view:flushing:";
+  private static final String DEDUPE_KEY_PREFIX = "view:dedupe:";
+  private static final String UNKNOWN_IP = "unknown";
+
+  private final ViewCountJdbcRepository viewCountJdbcRepository;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final CacheManager redisCacheManager;
+  private final boolean redisEnabled;
+  private final Duration dedupeWindow;
+  private final Duration orphanAfter;
+
+  /** 대상별 미반영 증분 (ConcurrentHashMap 버킷 + LongAdder 셀로 경합 분산) */
+  private final Map<ViewCountTarget, ConcurrentHashMap<UUID, LongAdder>> pending =
+      new EnumMap<>(ViewCountTarget.class);
+
+  /** 로컬 모드 중복 조회 방지 윈도우 */
+  private final Cache<String, Boolean> recentViewers;
+
+  public ViewCountService(
+      ViewCountJdbcRepository viewCountJdbcRepository,
+      RedisTemplate<String, String> redisTemplate,
+      @Qualifier("redisCacheManager") CacheManager redisCacheManager,
+      @Value("${view-count.redis.enabled:false}") boolean redisEnabled,
+      @Value("${view-count.dedupe-window-minutes:10}") long dedupeWindowMinutes,
+      @Value("${view-count.dedupe-max-size:100000}") long dedupeMaxSize,
+      @Value("${view-count.orphan-flush-after-minutes:10}") long orphanFlushAfterMinutes) {
+    this.viewCountJdbcRepository = viewCountJdbcRepository;
+    this.redisTemplate = redisTemplate;
+    this.redisCacheManager = redisCacheManager;
+    this.redisEnabled = redisEnabled;
+    this.dedupeWindow = Duration.ofMinutes(dedupeWindowMinutes);
+    this.orphanAfter = Duration.ofMinutes(orphanFlushAfterMinutes);
+    this.recentViewers = Caffeine.newBuilder()
+        .expireAfterWrite(dedupeWindow)
+        .maximumSize(dedupeMaxSize)
+        .build();
+    for (ViewCountTarget target : ViewCountTarget.values()) {
+      pending.put(target, new ConcurrentHashMap<>());
+    }
   }
-  @Transactional
+
+  public boolean themeIncrement(UUID themeId, String ip) {
+    return increment(ViewCountTarget.THEME, themeId, ip);
+  }
+
   public boolean boardIncrement(BoardPost board, String ip) {
-    board.viewed();
-    boardPostRepository.save(board);
+    return increment(ViewCountTarget.BOARD_POST, board.getId(), ip);
+  }
+
+  /**
+   * 아직 DB에 반영되지 않은 테마 조회수 증분
+   */
+  public long getPendingThemeViews(UUID themeId) {
+    return getPendingViews(ViewCountTarget.THEME, themeId);
+  }
+
+  /**
+   * 아직 DB에 반영되지 않은 게시글 조회수 증분
+   */
+  public long getPendingBoardViews(UUID postId) {
+    return getPendingViews(ViewCountTarget.BOARD_POST, postId);
+  }
+
+  /**
+   * 조회수 증가 (중복 조회면 false)
+   */
+  public boolean increment(ViewCountTarget target, UUID id, String ip) {
+    if (id == null || isDuplicateView(target, id, ip)) {
+      return false;
+    }
+    if (redisEnabled) {
+      try {
+        redisTemplate.opsForHash().increment(pendingKey(target), id.toString(), 1L);
+        return true;
+      } catch (Exception e) {
+        // Redis 장애 시 로컬 카운터로 대체 (다음 flush 에서 DB 반영)
+        log.warn("Redis 조회수 증가 실패, 로컬 카운터 사용 - {}: {}", target, id, e);
+      }
+    }
+    // compute 안에서 증가 → flush 의 remove 와 같은 버킷 잠금으로 직렬화되어 떼어낸 카운터에 늦게 더해지지 않음
+    pending.get(target).compute(id, (k, adder) -> {
+      LongAdder counter = adder != null ? adder : new LongAdder();
+      counter.increment();
+      return counter;
+    });
     return true;
   }
+
+  public long getPendingViews(ViewCountTarget target, UUID id) {
+    long local = 0;
+    LongAdder adder = pending.get(target).get(id);
+    if (adder != null) {
+      local = adder.sum();
+    }
+    if (!redisEnabled) {
+      return local;
+    }
+    try {
+      Object value = redisTemplate.opsForHash().get(pendingKey(target), id.toString());
+      return local + (value != null ? Long.parseLong(value.toString()) : 0L);
+    } catch (Exception e) {
+      log.debug("Redis 미반영 조회수 조회 실패 - {}: {}", target, id, e);
+      return local;
+    }
+  }
+
+  /**
+   * 누적된 조회수 증분을 DB에 일괄 반영
+   */
+  @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:10000}")
+  public void flush() {
+    for (ViewCountTarget target : ViewCountTarget.values()) {
+      try {
+        flushLocal(target);
+        if (redisEnabled) {
+          flushRedis(target);
+        }
+      } catch (Exception e) {
+        log.error("조회수 flush 실패 - {}", target, e);
+      }
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    log.info("종료 전 미반영 조회수 flush");
+    flush();
+  }
+
+  private void flushLocal(ViewCountTarget target) {
+    ConcurrentHashMap<UUID, LongAdder> counters = pending.get(target);
+    Map<UUID, Long> deltas = new HashMap<>();
+    for (UUID id : counters.keySet()) {
+      // 카운터를 맵에서 떼어낸 뒤 합산 (이후 증가는 새 카운터로 들어감)
+      LongAdder adder = counters.remove(id);
+      if (adder != null && adder.sum() > 0) {
+        deltas.put(id, adder.sum());
+      }
+    }
+    if (deltas.isEmpty()) {
+      return;
+    }
+    try {
+      apply(target, deltas);
+    } catch (Exception e) {
+      // 반영 실패 시 증분을 되돌려 다음 주기에 재시도
+      deltas.forEach((id, delta) -> counters.compute(id, (k, adder) -> {
+        LongAdder counter = adder != null ? adder : new LongAdder();
+        counter.add(delta);
+        return counter;
+      }));
+      throw e;
+    }
+  }
+
+  /**
+   * 멀티 노드 모드: 대기 해시를 RENAME 으로 떼어내 한 노드만 처리하도록 함
+   */
+  private void flushRedis(ViewCountTarget target) {
+    recoverOrphanedFlushes(target);
+
+    String flushingKey = flushingKey(target);
+    try {
+      redisTemplate.rename(pendingKey(target), flushingKey);
+    } catch (Exception e) {
+      // 대기 키가 없으면 (다른 노드가 이미 처리했거나 조회가 없음) 건너뜀
+      return;
+    }
+    applyFlushingKey(target, flushingKey);
+  }
+
+  /**
+   * 처리 도중 종료된 노드가 남긴 flushing 키 재처리
+   * - 키 이름의 생성 시각이 orphanAfter 보다 오래된 것만 대상 (진행 중인 다른 노드의 flush 와 구분)
+   * - 새 flushing 키로 RENAME 해 가져간 노드 하나만 처리
+   */
+  private void recoverOrphanedFlushes(ViewCountTarget target) {
+    String prefix = FLUSHING_KEY_PREFIX + target.getKeyName() + ":";
+    List<String> orphans = new ArrayList<>();
+    long staleBefore = System.currentTimeMillis() - orphanAfter.toMillis();
+    ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(100).build();
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      cursor.forEachRemaining(key -> {
+        if (createdAt(key, prefix) < staleBefore) {
+          orphans.add(key);
+        }
+      });
+    } catch (Exception e) {
+      log.debug("flushing 키 조회 실패 - {}", target, e);
+      return;
+    }
+    for (String orphan : orphans) {
+      String claimed = flushingKey(target);
+      try {
+        redisTemplate.rename(orphan, claimed);
+      } catch (Exception e) {
+        // 다른 노드가 먼저 가져감
+        continue;
+      }
+      log.warn("⚠️ [VIEW_COUNT] 중단된 flush 재처리 - {}", orphan);
+      applyFlushingKey(target, claimed);
+    }
+  }
+
+  private void applyFlushingKey(ViewCountTarget target, String flushingKey) {
+    Map<Object, Object> entries = redisTemplate.opsForHash().entries(flushingKey);
+    Map<UUID, Long> deltas = new HashMap<>();
+    entries.forEach((k, v) -> deltas.put(UUID.fromString(k.toString()), Long.parseLong(v.toString())));
+    try {
+      apply(target, deltas);
+      redisTemplate.delete(flushingKey);
+    } catch (Exception e) {
+      deltas.forEach((id, delta) ->
+          redisTemplate.opsForHash().increment(pendingKey(target), id.toString(), delta));
+      redisTemplate.delete(flushingKey);
+      throw e;
+    }
+  }
+
+  private void apply(ViewCountTarget target, Map<UUID, Long> deltas) {
+    int updated = viewCountJdbcRepository.addViews(target, deltas);
+    log.debug("조회수 flush 완료 - {}: {}건 반영", target, updated);
+
+    // 테마 스냅샷은 Redis 캐시에 조회수가 함께 저장되므로 반영된 항목만 갱신
+    if (target == ViewCountTarget.THEME) {
+      org.springframework.cache.Cache cache = redisCacheManager.getCache(CacheType.GAME_THEME_SNAPSHOT);
+      if (cache != null) {
+        deltas.keySet().forEach(id -> cache.evict(id.toString()));
+      }
+    }
+  }
+
+  private boolean isDuplicateView(ViewCountTarget target, UUID id, String ip) {
+    if (ip == null || ip.isBlank() || UNKNOWN_IP.equals(ip)) {
+      return false;
+    }
+    String key = target.getKeyName() + ":" + id + ":" + ip;
+    if (redisEnabled) {
+      try {
+        Boolean first = redisTemplate.opsForValue().setIfAbsent(DEDUPE_KEY_PREFIX + key, "1", dedupeWindow);
+        return !Boolean.TRUE.equals(first);
+      } catch (Exception e) {
+        log.debug("Redis 중복 조회 확인 실패, 로컬 윈도우 사용 - {}", key, e);
+      }
+    }
+    return recentViewers.asMap().putIfAbsent(key, Boolean.TRUE) != null;
+  }
+
+  private static String pendingKey(ViewCountTarget target) {
+    return PENDING_KEY_PREFIX + target.getKeyName();
+  }
+
+  /**
+   * view:flushing:{대상}:{생성 시각 ms}:{UUID}
+   */
+  private static String flushingKey(ViewCountTarget target) {
+    return FLUSHING_KEY_PREFIX + target.getKeyName() + ":" + System.currentTimeMillis() + ":" + UUID.randomUUID();
+  }
+
+  private static long createdAt(String flushingKey, String prefix) {
+    String rest = flushingKey.substring(prefix.length());
+    int separator = rest.indexOf(':');
+    try {
+      return Long.parseLong(separator > 0 ? rest.substring(0, separator) : rest);
+    } catch (NumberFormatException e) {
+      // 생성 시각이 없는 이전 형식 키는 바로 재처리
+      return 0L;
+    }
+  }
 }
@@ -29,7 +29,7 @@ public class WebGuildController {
     @GetMapping("")
     public ResponseEntity<?>getGuildList() {
         WebUser webUser = AuthenticationUtil.getCurrentWebUser();
-        return ResponseEntity.ok(webGuildService.guildBotInfoDTOS(webUser));
+        return ResponseEntity.ok(webGuildService.guildBotInfoDTOS(webUser).block());
     }
 
     @GetMapping("/channels/{guildSnowflake}")
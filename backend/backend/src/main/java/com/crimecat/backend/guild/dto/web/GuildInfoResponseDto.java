@@ -1,5 +1,6 @@
 package com.crimecat.backend.guild.dto.web;
 
+import com.crimecat.backend.gameHistory.repository.GuildStatsJdbcRepository.GuildStats;
 import com.crimecat.backend.guild.domain.Guild;
 import com.fasterxml.jackson.annotation.JsonGetter;
 import java.time.LocalDateTime;
@@ -16,6 +17,8 @@ public class GuildInfoResponseDto {
   private Integer guildOnlineMemberCount;
   private Integer guildMemberCount;
   private Integer totalHistoryUserCount;
+  private Long uniquePlayerCount;
+  private Double winRate;
   private LocalDateTime guildCreatedAt;
   private LocalDateTime lastPlayTime;
 
@@ -44,12 +47,11 @@ public class GuildInfoResponseDto {
    * 
    * @param guild 길드 엔티티
    * @param apiGetGuildInfoDto Discord API로부터 얻은 길드 정보
-   * @param totalCount 게임 히스토리 총 개수
-   * @param lastPlayTime 마지막 플레이 시간
+   * @param stats 길드 게임 통계 (플레이 수, 마지막 플레이 시간, 고유 플레이어 수, 승률)
    * @return 생성된 GuildInfoResponseDto 객체
    * @throws NullPointerException guild나 apiGetGuildInfoDto가 null인 경우
    */
-  public static GuildInfoResponseDto from(Guild guild, ApiGetGuildInfoDto apiGetGuildInfoDto, Long totalCount, LocalDateTime lastPlayTime){
+  public static GuildInfoResponseDto from(Guild guild, ApiGetGuildInfoDto apiGetGuildInfoDto, GuildStats stats){
     if (guild == null) {
       throw new NullPointerException("Guild entity cannot be null");
     }
@@ -66,8 +68,10 @@ public class GuildInfoResponseDto {
         .guildOwnerName(guild.getUser() != null ? guild.getUser().getName() : "Unknown")
         .guildMemberCount(apiGetGuildInfoDto.getApproximateMemberCount())
         .guildOnlineMemberCount(apiGetGuildInfoDto.getApproximatePresenceCount())
-        .totalHistoryUserCount(totalCount != null ? totalCount.intValue() : 0)
-        .lastPlayTime(lastPlayTime)
+        .totalHistoryUserCount(stats != null ? (int) stats.playCount() : 0)
+        .uniquePlayerCount(stats != null ? stats.uniquePlayerCount() : 0L)
+        .winRate(stats != null ? stats.winRate() : 0d)
+        .lastPlayTime(stats != null ? stats.lastPlayedAt() : null)
         .build();
   }
 }
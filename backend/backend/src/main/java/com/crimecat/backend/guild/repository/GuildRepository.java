@@ -1,6 +1,7 @@
 package com.crimecat.backend.guild.repository;
 
 import com.crimecat.backend.guild.domain.Guild;
+import com.crimecat.backend.user.dto.ILeaderboardScoreDto;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -26,6 +27,14 @@ public interface GuildRepository extends JpaRepository<Guild, UUID> {
     @Query("SELECT g FROM Guild g WHERE g.isWithdraw = false AND g.isPublic = true")
     List<Guild> findAllActiveGuilds();
 
+    // 오너별 공개 길드 수 (제작자 랭킹 보드 재구성용)
+    @Query("SELECT g.ownerSnowflake AS member, COUNT(g) AS score FROM Guild g " +
+           "WHERE g.isWithdraw = false AND g.isPublic = true GROUP BY g.ownerSnowflake")
+    List<ILeaderboardScoreDto> countPublicActiveGuildsByOwner();
+
+    @Query("SELECT COUNT(g) FROM Guild g WHERE g.ownerSnowflake = :ownerSnowflake AND g.isWithdraw = false AND g.isPublic = true")
+    long countPublicActiveGuildsByOwner(@Param("ownerSnowflake") String ownerSnowflake);
+
     boolean existsBySnowflakeAndOwnerSnowflake(String guildSnowflake, String ownerSnowflake);
 
     // 1. 전체 운영 중인 길드 수
@@ -10,6 +10,7 @@ import com.crimecat.backend.guild.exception.GuildAlreadyExistsException;
 import com.crimecat.backend.guild.repository.GuildRepository;
 import com.crimecat.backend.user.domain.User;
 import com.crimecat.backend.user.repository.UserRepository;
+import com.crimecat.backend.user.service.LeaderboardService;
 import com.crimecat.backend.exception.ErrorStatus;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ public class GuildService {
     private final GuildRepository guildRepository;
     private final UserRepository userRepository;
     private final CachedDiscordBotService cachedDiscordBotService;
+    private final LeaderboardService leaderboardService;
 
     // TODO: MessageDto 안 쓰고 생성과 복구를 구별할 방법?
 
@@ -44,10 +46,12 @@ public class GuildService {
             }
             guild.setIsWithdraw(false);
             guildRepository.save(guild);
+            leaderboardService.refreshMaker(guild.getOwnerSnowflake());
             return new MessageDto<>("Guild restored successfully", new GuildResponseDto(new GuildDto(guild)));
         }
         guild = Guild.of(guildDto,user);
         guildRepository.save(guild);
+        leaderboardService.refreshMaker(guild.getOwnerSnowflake());
         return new MessageDto<>("Guild created successfully", new GuildResponseDto(new GuildDto(guild)));
     }
 
@@ -65,6 +69,7 @@ public class GuildService {
         }
         guild.setIsWithdraw(true);
         guildRepository.save(guild);
+        leaderboardService.refreshMaker(guild.getOwnerSnowflake());
     }
 
     /*
@@ -111,6 +116,7 @@ public class GuildService {
         boolean newStatus = !guild.getIsPublic();
         guild.setIsPublic(newStatus);
         guildRepository.save(guild);
+        leaderboardService.refreshMaker(guild.getOwnerSnowflake());
         return newStatus;
     }
 
@@ -147,6 +153,8 @@ public class GuildService {
             .orElseThrow(ErrorStatus.USER_NOT_FOUND::asServiceException);
     guild.setOwnerSnowflake(user.getDiscordSnowflake());
     guildRepository.save(guild);
+    leaderboardService.refreshMaker(dto.getOldOwnerSnowflake());
+    leaderboardService.refreshMaker(user.getDiscordSnowflake());
     cachedDiscordBotService.evictGuildCache(guildSnowflake);
     }
 }
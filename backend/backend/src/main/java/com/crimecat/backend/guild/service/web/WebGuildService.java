@@ -3,8 +3,8 @@ package com.crimecat.backend.guild.service.web;
 import com.crimecat.backend.api.discord.CachedDiscordBotService;
 import com.crimecat.backend.api.discord.DiscordBotApi;
 import com.crimecat.backend.exception.ErrorStatus;
-import com.crimecat.backend.gameHistory.domain.GameHistory;
-import com.crimecat.backend.gameHistory.repository.GameHistoryRepository;
+import com.crimecat.backend.gameHistory.repository.GuildStatsJdbcRepository.GuildStats;
+import com.crimecat.backend.gameHistory.service.GuildStatsService;
 import com.crimecat.backend.guild.domain.Guild;
 import com.crimecat.backend.guild.dto.web.ApiGetGuildInfoDto;
 import com.crimecat.backend.guild.dto.web.ChannelDto;
@@ -13,18 +13,19 @@ import com.crimecat.backend.guild.dto.web.GuildInfoResponseDto;
 import com.crimecat.backend.guild.dto.web.GuildResponseDto;
 import com.crimecat.backend.guild.repository.GuildRepository;
 import com.crimecat.backend.guild.dto.bot.RoleDto;
+import com.crimecat.backend.user.service.LeaderboardService;
 import com.crimecat.backend.webUser.domain.WebUser;
 import com.crimecat.backend.webUser.repository.WebUserRepository;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Service
@@ -34,38 +35,41 @@ public class WebGuildService {
     private final GuildRepository guildRepository;
     private final DiscordBotApi discordBotApi;
     private final CachedDiscordBotService cachedDiscordBotService;
-    private final GameHistoryRepository gameHistoryRepository;
     private final WebUserRepository webUserRepository;
+    private final LeaderboardService leaderboardService;
+    private final GuildStatsService guildStatsService;
 
-    public GuildResponseDto guildBotInfoDTOS(WebUser webUser) {
+    /**
+     * 사용자가 소유한 길드 목록 (Discord 길드 정보는 캐시 미스분만 동시에 조회)
+     */
+    public Mono<GuildResponseDto> guildBotInfoDTOS(WebUser webUser) {
         String discordUserSnowflake = webUser.getDiscordUserSnowflake();
         List<Guild> guildList = guildRepository.findActiveGuildsByOwner(discordUserSnowflake);
         log.info("🎯 사용자 {}의 길드 목록: {}", discordUserSnowflake, guildList);
 
-        Map<String, GuildBotInfoDto> resultMap = new HashMap<>();
-
+        Set<String> guildIds = new LinkedHashSet<>();
         for (Guild guild : guildList) {
-            String guildId = guild.getSnowflake();
-
-            try {
-                // ✅ 캐싱 서비스를 통한 Discord API 호출
-                ApiGetGuildInfoDto apiGuildInfo = cachedDiscordBotService.getGuildInfo(guildId);
-
-                log.info("🌐 [응답] guildId={} → {}", guildId, apiGuildInfo);
+            guildIds.add(guild.getSnowflake());
+        }
 
+        // ✅ 캐싱 서비스를 통한 Discord API 호출
+        return cachedDiscordBotService.getGuildInfos(guildIds).map(infos -> {
+            List<GuildBotInfoDto> result = new ArrayList<>();
+            for (String guildId : guildIds) {
+                ApiGetGuildInfoDto apiGuildInfo = infos.get(guildId);
+                if (apiGuildInfo == null) {
+                    log.warn("❌ [길드 정보 실패] guildId={}", guildId);
+                    continue;
+                }
                 GuildBotInfoDto converted = convertToGuildBotInfo(apiGuildInfo, discordUserSnowflake);
                 if (converted != null) {
-                    resultMap.putIfAbsent(guildId, converted);
-                    log.info("✅ [길드 변환 성공] guildId={}", guildId);
+                    result.add(converted);
                 } else {
                     log.info("🚫 [오너 불일치] guildId={}", guildId);
                 }
-            } catch (Exception e) {
-                log.warn("❌ [길드 정보 실패] guildId={}, error={}", guildId, e.toString());
             }
-        }
-
-        return new GuildResponseDto(new ArrayList<>(resultMap.values()));
+            return new GuildResponseDto(result);
+        });
     }
 
 
@@ -175,6 +179,7 @@ public class WebGuildService {
       boolean newStatus = !guild.getIsPublic();
       guild.setIsPublic(newStatus);
       guildRepository.save(guild);
+      leaderboardService.refreshMaker(guild.getOwnerSnowflake());
       log.info("길드 공개 상태 변경: guildId={}, newStatus={}", guildSnowflake, newStatus);
       return newStatus;
   }
@@ -196,7 +201,6 @@ public class WebGuildService {
               return ErrorStatus.GUILD_NOT_FOUND.asServiceException();
           });
 
-      UUID guildUuid = guild.getId();
       String guildId = guild.getId().toString();
 
       // 3. Discord API 호출 (캐싱 서비스 사용)
@@ -212,26 +216,19 @@ public class WebGuildService {
           throw ErrorStatus.INTERNAL_ERROR.asServiceException();
       }
       
-      // 4. 게임 히스토리 조회 (예외 처리 추가)
-      long totalCount = 0;
-      LocalDateTime latestPlayTime = null;
+      // 4. 게임 통계 조회 (guild_stats 단건 조회, 기록 수와 무관)
+      GuildStats stats = GuildStats.EMPTY;
       
       try {
-          List<GameHistory> allById = gameHistoryRepository.findByGuild_Id(guildUuid);
-          totalCount = allById.size();
-          
-          latestPlayTime = allById.stream()
-              .map(GameHistory::getCreatedAt)
-              .max(LocalDateTime::compareTo)
-              .orElse(null);  // 기록이 없으면 null
+          stats = guildStatsService.getStats(guild.getSnowflake());
       } catch (Exception e) {
-          log.error("게임 히스토리 조회 실패: guildId={}, error={}", guildId, e.getMessage(), e);
+          log.error("길드 통계 조회 실패: guildId={}, error={}", guildId, e.getMessage(), e);
           // 조회 실패 시 기본값 사용 (예외를 던지지 않고 진행)
       }
       
       // 5. DTO 변환 및 반환
       try {
-          return GuildInfoResponseDto.from(guild, apiGuildInfo, totalCount, latestPlayTime);
+          return GuildInfoResponseDto.from(guild, apiGuildInfo, stats);
       } catch (Exception e) {
           log.error("DTO 변환 실패: guildId={}, error={}", guildId, e.getMessage(), e);
           throw ErrorStatus.INTERNAL_ERROR.asServiceException();
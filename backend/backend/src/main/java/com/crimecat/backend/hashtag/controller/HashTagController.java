@@ -16,6 +16,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @RestController
@@ -28,10 +29,11 @@ public class HashTagController {
     @GetMapping("/{tagName}/posts")
     public ResponseEntity<PageResponseDto<UserPostGalleryPageDto>> getPostsByHashTag(
             @PathVariable String tagName,
+            @RequestParam(required = false) UUID cursor,
             @AuthenticationPrincipal WebUser currentUser,
             @PageableDefault(size = 20) Pageable pageable) {
         
-        Page<UserPostGalleryPageDto> posts = userPostService.getPostsByHashTag(tagName, currentUser, pageable);
+        Page<UserPostGalleryPageDto> posts = userPostService.getPostsByHashTags(List.of(tagName), currentUser, cursor, pageable);
         
         return ResponseEntity.ok(new PageResponseDto<>(posts));
     }
@@ -39,10 +41,11 @@ public class HashTagController {
     @GetMapping("/posts")
     public ResponseEntity<PageResponseDto<UserPostGalleryPageDto>> getPostsByMultipleHashTags(
             @RequestParam List<String> tags,
+            @RequestParam(required = false) UUID cursor,
             @AuthenticationPrincipal WebUser currentUser,
             @PageableDefault(size = 20) Pageable pageable) {
         
-        Page<UserPostGalleryPageDto> posts = userPostService.getPostsByAllHashTags(tags, currentUser, pageable);
+        Page<UserPostGalleryPageDto> posts = userPostService.getPostsByHashTags(tags, currentUser, cursor, pageable);
         
         return ResponseEntity.ok(new PageResponseDto<>(posts));
     }
@@ -0,0 +1,473 @@
+package com.crimecat.backend.hashtag.index;
+
+import com.crimecat.backend.hashtag.repository.PostHashTagRepository;
+import com.crimecat.backend.userPost.domain.UserPost;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 해시태그 → 게시물 역색인 (노드 로컬 메모리)
+ * - 태그별 PostingList (작성 시각 순 키) → 태그 페이지 / 다중 태그 AND 검색을 DB 집계나 IN 목록 없이 처리
+ * - 다중 태그는 가장 짧은 목록 기준 leapfrog 교집합, 페이지가 차면 조기 종료
+ * - 공개 범위(비밀글/팔로워 공개)와 작성자도 함께 보관 → 접근 가능 여부를 메모리에서 판정
+ * - 게시물 태그 변경 시 커밋 후 로컬 반영 + Pub/Sub 로 다른 노드에 전파 (수신 노드는 DB 에서 해당 게시물만 다시 읽음)
+ * - 기동 시 / 주기적으로 전체 재구성 → 전파 누락 보정, 구성 전에는 isReady() = false (호출자가 DB 조회로 대체)
+ * - 전체 개수(count)는 교집합 전체를 순회하므로 (태그, 조회자)별로 짧게 캐시한 근사값
+ */
+@Slf4j
+@Component
+public class HashTagPostingIndex implements MessageListener {
+
+    public static final String CHANNEL = "hashtag:index:post";
+
+    private final PostHashTagRepository postHashTagRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Object writeLock = new Object();
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private volatile State state = new State();
+    private volatile boolean ready = false;
+    /** 재구성 중 갱신된 게시물 (교체 후 다시 반영), writeLock 으로 보호 */
+    private Set<UUID> touchedDuringRebuild;
+    /** "정렬된 태그|조회자 ID" → 게시물 수 */
+    private final Cache<String, Long> counts;
+
+    public HashTagPostingIndex(
+            PostHashTagRepository postHashTagRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${hashtag.index.count-cache.ttl-seconds:30}") long countTtlSeconds,
+            @Value("${hashtag.index.count-cache.max-size:10000}") long countMaxSize) {
+        this.postHashTagRepository = postHashTagRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(countMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(countTtlSeconds))
+                .build();
+    }
+
+    private record Entry(UUID postId, long key, UUID authorId, boolean isPrivate, boolean isFollowersOnly,
+                         Set<String> tags) {
+    }
+
+    private static final class State {
+        private final Map<String, PostingList> lists = new ConcurrentHashMap<>();
+        private final Map<UUID, Entry> posts = new ConcurrentHashMap<>();
+        private final Map<Long, UUID> keys = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * 조회자 (접근 가능 여부 판정용)
+     */
+    public record Viewer(UUID userId, Set<UUID> followingIds) {
+
+        public static final Viewer ANONYMOUS = new Viewer(null, Set.of());
+
+        // UserPostRepository.findAccessiblePostsByIds 와 같은 조건
+        private boolean canSee(Entry entry) {
+            if (!entry.isPrivate() && !entry.isFollowersOnly()) {
+                return true;
+            }
+            if (userId == null) {
+                return false;
+            }
+            return userId.equals(entry.authorId())
+                    || (entry.isFollowersOnly() && followingIds.contains(entry.authorId()));
+        }
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        log.info("📢 [HASHTAG_INDEX] Pub/Sub 채널 '{}' 구독 설정 완료", CHANNEL);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 모든 태그를 가진 접근 가능한 게시물 ID (최신순)
+     * @param cursor 이전 페이지 마지막 게시물 ID (null 이면 처음부터)
+     * @param skip 커서가 없거나 더 이상 색인에 없을 때(삭제/태그 제거) 처음부터 건너뛸 개수 (오프셋 페이지용)
+     */
+    public List<UUID> find(Collection<String> tagNames, Viewer viewer, UUID cursor, int skip, int limit) {
+        State current = state;
+        List<PostingList> lists = listsOf(current, tagNames);
+        List<UUID> result = new ArrayList<>(Math.max(limit, 0));
+        if (lists == null || limit <= 0) {
+            return result;
+        }
+        long maxKey = Long.MAX_VALUE;
+        Entry cursorEntry = cursor != null ? current.posts.get(cursor) : null;
+        if (cursorEntry != null && cursorEntry.tags().containsAll(normalize(tagNames))) {
+            maxKey = cursorEntry.key() - 1;
+            skip = 0;
+        } else if (cursor != null) {
+            // 커서 게시물이 태그에서 빠졌거나 삭제됨 → 오프셋 기준으로 대체
+            log.debug("[HASHTAG_INDEX] 만료된 커서, 오프셋으로 대체 - cursor: {}, skip: {}", cursor, skip);
+        }
+
+        int[] skipped = {0};
+        PostingList.intersect(lists, maxKey, key -> {
+            Entry entry = entryOf(current, key);
+            if (entry == null || !viewer.canSee(entry)) {
+                return true;
+            }
+            if (skipped[0] < skip) {
+                skipped[0]++;
+                return true;
+            }
+            result.add(entry.postId());
+            return result.size() < limit;
+        });
+        return result;
+    }
+
+    /**
+     * 모든 태그를 가진 접근 가능한 게시물 수 (캐시된 근사값, 최대 count-cache TTL 만큼 늦을 수 있음)
+     */
+    public long count(Collection<String> tagNames, Viewer viewer) {
+        String key = String.join(",", new TreeSet<>(normalize(tagNames))) + "|" + viewer.userId();
+        return counts.get(key, k -> countNow(tagNames, viewer));
+    }
+
+    private long countNow(Collection<String> tagNames, Viewer viewer) {
+        State current = state;
+        List<PostingList> lists = listsOf(current, tagNames);
+        if (lists == null) {
+            return 0;
+        }
+        long[] count = {0};
+        PostingList.intersect(lists, Long.MAX_VALUE, key -> {
+            Entry entry = entryOf(current, key);
+            if (entry != null && viewer.canSee(entry)) {
+                count[0]++;
+            }
+            return true;
+        });
+        return count[0];
+    }
+
+    /**
+     * 모든 태그를 가진 게시물 ID 전체 (접근 권한 미적용, 최신순)
+     */
+    public List<UUID> findAll(Collection<String> tagNames) {
+        State current = state;
+        List<PostingList> lists = listsOf(current, tagNames);
+        List<UUID> result = new ArrayList<>();
+        if (lists == null) {
+            return result;
+        }
+        PostingList.intersect(lists, Long.MAX_VALUE, key -> {
+            UUID postId = current.keys.get(key);
+            if (postId != null) {
+                result.add(postId);
+            }
+            return true;
+        });
+        return result;
+    }
+
+    // ===== 갱신 =====
+
+    /**
+     * 게시물 태그/공개 범위 변경 반영 (트랜잭션 중이면 커밋 후)
+     */
+    public void indexAfterCommit(UserPost post, Collection<String> tagNames) {
+        UUID postId = post.getId();
+        UUID authorId = post.getUser().getId();
+        LocalDateTime createdAt = post.getCreatedAt();
+        boolean isPrivate = post.isPrivate();
+        boolean isFollowersOnly = post.isFollowersOnly();
+        Set<String> tags = normalize(tagNames);
+        afterCommit(() -> {
+            apply(postId, authorId, createdAt, isPrivate, isFollowersOnly, tags);
+            publish(postId);
+        });
+    }
+
+    /**
+     * 게시물 삭제 반영 (트랜잭션 중이면 커밋 후)
+     */
+    public void removeAfterCommit(UUID postId) {
+        afterCommit(() -> {
+            remove(postId);
+            publish(postId);
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return; // 자기 노드 메시지는 이미 반영됨
+        }
+        try {
+            reload(UUID.fromString(body.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️ [HASHTAG_INDEX] 잘못된 갱신 메시지 무시: {}", e.getMessage());
+        } catch (Exception e) {
+            // 다음 재구성에서 보정됨
+            log.warn("⚠️ [HASHTAG_INDEX] 원격 갱신 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 기준으로 게시물 하나 다시 반영 (태그가 없거나 삭제된 게시물이면 제거)
+     */
+    void reload(UUID postId) {
+        List<Object[]> rows = postHashTagRepository.findIndexRowsByPostId(postId);
+        if (rows.isEmpty()) {
+            remove(postId);
+            return;
+        }
+        Object[] first = rows.get(0);
+        Set<String> tags = new LinkedHashSet<>();
+        for (Object[] row : rows) {
+            tags.add(((String) row[5]).toLowerCase());
+        }
+        apply(postId, (UUID) first[1], (LocalDateTime) first[2], (Boolean) first[3], (Boolean) first[4], tags);
+    }
+
+    private void apply(UUID postId, UUID authorId, LocalDateTime createdAt, boolean isPrivate,
+                       boolean isFollowersOnly, Set<String> tags) {
+        if (tags.isEmpty()) {
+            remove(postId);
+            return;
+        }
+        synchronized (writeLock) {
+            markTouched(postId);
+            State current = state;
+            Entry previous = current.posts.get(postId);
+            long key = previous != null ? previous.key() : newKey(current, createdAt);
+            if (previous != null) {
+                for (String tag : previous.tags()) {
+                    if (!tags.contains(tag)) {
+                        removeKey(current, tag, key);
+                    }
+                }
+            }
+            for (String tag : tags) {
+                current.lists.merge(tag, PostingList.of(new long[]{key}), (list, ignored) -> list.with(key));
+            }
+            current.posts.put(postId, new Entry(postId, key, authorId, isPrivate, isFollowersOnly, Set.copyOf(tags)));
+            current.keys.put(key, postId);
+        }
+    }
+
+    private void remove(UUID postId) {
+        synchronized (writeLock) {
+            markTouched(postId);
+            State current = state;
+            Entry previous = current.posts.remove(postId);
+            if (previous == null) {
+                return;
+            }
+            for (String tag : previous.tags()) {
+                removeKey(current, tag, previous.key());
+            }
+            current.keys.remove(previous.key());
+        }
+    }
+
+    // ===== 재구성 =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${hashtag.index.rebuild.cron:0 40 4 * * *}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        synchronized (writeLock) {
+            touchedDuringRebuild = new HashSet<>();
+        }
+        try {
+            State next = build(postHashTagRepository.findIndexRows());
+            Set<UUID> touched;
+            synchronized (writeLock) {
+                state = next;
+                touched = touchedDuringRebuild;
+                touchedDuringRebuild = null;
+            }
+            // 조회 이후 커밋된 변경은 새 색인에 다시 반영
+            touched.forEach(this::reload);
+            ready = true;
+            log.info("🏷️ [HASHTAG_INDEX] 재구성 완료 - tags: {}, posts: {}, {}ms",
+                    next.lists.size(), next.posts.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            synchronized (writeLock) {
+                touchedDuringRebuild = null;
+            }
+            log.warn("⚠️ [HASHTAG_INDEX] 재구성 실패: {}", e.getMessage());
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private State build(List<Object[]> rows) {
+        Map<UUID, Object[]> metas = new HashMap<>();
+        Map<UUID, Set<String>> tagsByPost = new HashMap<>();
+        for (Object[] row : rows) {
+            UUID postId = (UUID) row[0];
+            metas.putIfAbsent(postId, row);
+            tagsByPost.computeIfAbsent(postId, id -> new LinkedHashSet<>()).add(((String) row[5]).toLowerCase());
+        }
+
+        State next = new State();
+        Map<String, List<Long>> keysByTag = new HashMap<>();
+        List<Object[]> ordered = new ArrayList<>(metas.values());
+        ordered.sort(Comparator.comparing(row -> (LocalDateTime) row[2], Comparator.nullsFirst(Comparator.naturalOrder())));
+        for (Object[] row : ordered) {
+            UUID postId = (UUID) row[0];
+            Set<String> tags = tagsByPost.get(postId);
+            long key = newKey(next, (LocalDateTime) row[2]);
+            next.posts.put(postId, new Entry(postId, key, (UUID) row[1], (Boolean) row[3], (Boolean) row[4],
+                    Set.copyOf(tags)));
+            next.keys.put(key, postId);
+            for (String tag : tags) {
+                keysByTag.computeIfAbsent(tag, t -> new ArrayList<>()).add(key);
+            }
+        }
+        keysByTag.forEach((tag, keys) -> {
+            long[] sorted = keys.stream().mapToLong(Long::longValue).sorted().toArray();
+            next.lists.put(tag, PostingList.of(sorted));
+        });
+        return next;
+    }
+
+    // ===== 내부 =====
+
+    private List<PostingList> listsOf(State current, Collection<String> tagNames) {
+        Set<String> tags = normalize(tagNames);
+        if (tags.isEmpty()) {
+            return null;
+        }
+        List<PostingList> lists = new ArrayList<>(tags.size());
+        for (String tag : tags) {
+            PostingList list = current.lists.get(tag);
+            if (list == null || list.isEmpty()) {
+                return null;
+            }
+            lists.add(list);
+        }
+        return lists;
+    }
+
+    private static Entry entryOf(State current, long key) {
+        UUID postId = current.keys.get(key);
+        return postId != null ? current.posts.get(postId) : null;
+    }
+
+    private static void removeKey(State current, String tag, long key) {
+        current.lists.computeIfPresent(tag, (t, list) -> {
+            PostingList next = list.without(key);
+            return next.isEmpty() ? null : next;
+        });
+    }
+
+    /**
+     * 작성 시각(ms) << 16 → 같은 ms 에 작성된 게시물은 하위 비트로 구분
+     */
+    private static long newKey(State current, LocalDateTime createdAt) {
+        long millis = createdAt != null ? createdAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+        long key = Math.max(millis, 0L) << 16;
+        while (current.keys.containsKey(key)) {
+            key++;
+        }
+        return key;
+    }
+
+    private void markTouched(UUID postId) {
+        if (touchedDuringRebuild != null) {
+            touchedDuringRebuild.add(postId);
+        }
+    }
+
+    public static Set<String> normalize(Collection<String> tagNames) {
+        Set<String> result = new LinkedHashSet<>();
+        if (tagNames == null) {
+            return result;
+        }
+        for (String tagName : tagNames) {
+            if (tagName == null) {
+                continue;
+            }
+            String tag = tagName.trim().toLowerCase();
+            if (tag.startsWith("#")) {
+                tag = tag.substring(1);
+            }
+            if (!tag.isEmpty()) {
+                result.add(tag);
+            }
+        }
+        return result;
+    }
+
+    private void publish(UUID postId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + ":" + postId);
+        } catch (Exception e) {
+            // 다른 노드는 다음 재구성 때 반영
+            log.warn("⚠️ [HASHTAG_INDEX] 갱신 메시지 발행 실패 - postId: {}", postId, e);
+        }
+    }
+
+    private void afterCommit(Runnable update) {
+        Runnable safeUpdate = () -> {
+            try {
+                update.run();
+            } catch (Exception e) {
+                log.warn("⚠️ [HASHTAG_INDEX] 색인 갱신 실패: {}", e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeUpdate.run();
+                }
+            });
+        } else {
+            safeUpdate.run();
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package com.crimecat.backend.hashtag.index;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * 해시태그별 게시물 목록 (불변, 오름차순 정렬된 long 키)
+ * - 키 = 게시물 작성 시각 기반 (큰 값 = 최신) → 내림차순 순회가 최신순
+ * - BLOCK_SIZE 단위 블록으로 나누고 블록 안은 직전 키와의 차이를 varint 로 저장 (키당 보통 2~4바이트)
+ * - 블록별 첫/마지막 키로 건너뛰기 → 교집합 시 필요한 블록만 풀어서 비교
+ * - 추가/삭제는 해당 블록만 다시 인코딩한 새 인스턴스 반환 (읽기는 잠금 없이 이전 인스턴스를 계속 사용)
+ */
+public final class PostingList {
+
+    static final int BLOCK_SIZE = 128;
+    public static final long NONE = Long.MIN_VALUE;
+
+    private static final PostingList EMPTY = new PostingList(new long[0], new long[0], new byte[0][], new int[0], 0);
+
+    private final long[] firstKeys;
+    private final long[] lastKeys;
+    private final byte[][] deltas;
+    private final int[] counts;
+    private final int size;
+
+    private PostingList(long[] firstKeys, long[] lastKeys, byte[][] deltas, int[] counts, int size) {
+        this.firstKeys = firstKeys;
+        this.lastKeys = lastKeys;
+        this.deltas = deltas;
+        this.counts = counts;
+        this.size = size;
+    }
+
+    public static PostingList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param sortedKeys 오름차순, 중복 없는 키
+     */
+    public static PostingList of(long[] sortedKeys) {
+        int blocks = (sortedKeys.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        long[] firstKeys = new long[blocks];
+        long[] lastKeys = new long[blocks];
+        byte[][] deltas = new byte[blocks][];
+        int[] counts = new int[blocks];
+        for (int b = 0; b < blocks; b++) {
+            int from = b * BLOCK_SIZE;
+            int to = Math.min(from + BLOCK_SIZE, sortedKeys.length);
+            firstKeys[b] = sortedKeys[from];
+            lastKeys[b] = sortedKeys[to - 1];
+            deltas[b] = encode(sortedKeys, from, to);
+            counts[b] = to - from;
+        }
+        return new PostingList(firstKeys, lastKeys, deltas, counts, sortedKeys.length);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(long key) {
+        int block = blockFor(key);
+        if (block < 0 || key > lastKeys[block]) {
+            return false;
+        }
+        long[] keys = decode(block, new long[counts[block]]);
+        return Arrays.binarySearch(keys, 0, counts[block], key) >= 0;
+    }
+
+    /**
+     * 키 추가 (이미 있으면 this)
+     */
+    public PostingList with(long key) {
+        if (size == 0) {
+            return of(new long[]{key});
+        }
+        int block = Math.max(blockFor(key), 0);
+        long[] keys = decode(block, new long[counts[block] + 1]);
+        int count = counts[block];
+        int pos = Arrays.binarySearch(keys, 0, count, key);
+        if (pos >= 0) {
+            return this;
+        }
+        int insertAt = -pos - 1;
+        System.arraycopy(keys, insertAt, keys, insertAt + 1, count - insertAt);
+        keys[insertAt] = key;
+        count++;
+
+        if (count <= BLOCK_SIZE * 2) {
+            return replaceBlock(block, keys, count, size + 1);
+        }
+        // 블록이 너무 커지면 둘로 분할
+        int half = count / 2;
+        return splitBlock(block, keys, half, count, size + 1);
+    }
+
+    /**
+     * 키 제거 (없으면 this)
+     */
+    public PostingList without(long key) {
+        int block = blockFor(key);
+        if (block < 0 || key > lastKeys[block]) {
+            return this;
+        }
+        long[] keys = decode(block, new long[counts[block]]);
+        int count = counts[block];
+        int pos = Arrays.binarySearch(keys, 0, count, key);
+        if (pos < 0) {
+            return this;
+        }
+        System.arraycopy(keys, pos + 1, keys, pos, count - pos - 1);
+        count--;
+        if (count == 0) {
+            return removeBlock(block);
+        }
+        return replaceBlock(block, keys, count, size - 1);
+    }
+
+    public long[] toArray() {
+        long[] result = new long[size];
+        int offset = 0;
+        long[] buffer = new long[BLOCK_SIZE * 2];
+        for (int b = 0; b < counts.length; b++) {
+            decode(b, buffer);
+            System.arraycopy(buffer, 0, result, offset, counts[b]);
+            offset += counts[b];
+        }
+        return result;
+    }
+
+    /**
+     * 최신순(내림차순) 커서
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * 여러 목록의 교집합을 최신순으로 순회 (leapfrog)
+     * - 가장 짧은 목록을 기준으로 나머지 목록을 seek → 교집합 크기에 비례하는 만큼만 블록을 풂
+     * - sink 가 false 를 반환하면 즉시 종료 (페이지가 찼을 때 조기 종료)
+     * @param maxKey 이 값 이하의 키부터 순회 (커서 페이지네이션)
+     */
+    public static void intersect(List<PostingList> lists, long maxKey, LongPredicate sink) {
+        if (lists.isEmpty()) {
+            return;
+        }
+        Cursor[] cursors = lists.stream()
+                .sorted((a, b) -> Integer.compare(a.size, b.size))
+                .map(PostingList::cursor)
+                .toArray(Cursor[]::new);
+        if (cursors[0].list().isEmpty()) {
+            return;
+        }
+
+        long candidate = cursors[0].seek(maxKey);
+        while (candidate != NONE) {
+            long agreed = candidate;
+            for (int i = 1; i < cursors.length; i++) {
+                long found = cursors[i].seek(candidate);
+                if (found == NONE) {
+                    return;
+                }
+                if (found != candidate) {
+                    agreed = NONE;
+                    candidate = cursors[0].seek(found);
+                    break;
+                }
+            }
+            if (agreed != NONE) {
+                if (!sink.test(agreed)) {
+                    return;
+                }
+                candidate = cursors[0].advance();
+            }
+        }
+    }
+
+    // ===== 내부 구현 =====
+
+    /** 첫 키가 key 이하인 마지막 블록 (없으면 -1) */
+    private int blockFor(long key) {
+        return lastAtMost(firstKeys, firstKeys.length - 1, key);
+    }
+
+    private static int lastAtMost(long[] sorted, int toInclusive, long key) {
+        int low = 0;
+        int high = toInclusive;
+        int result = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= key) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    private long[] decode(int block, long[] target) {
+        byte[] bytes = deltas[block];
+        long key = firstKeys[block];
+        target[0] = key;
+        int pos = 0;
+        for (int i = 1; i < counts[block]; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[pos++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            key += delta;
+            target[i] = key;
+        }
+        return target;
+    }
+
+    private static byte[] encode(long[] keys, int from, int to) {
+        byte[] buffer = new byte[(to - from) * 10];
+        int pos = 0;
+        for (int i = from + 1; i < to; i++) {
+            long delta = keys[i] - keys[i - 1];
+            while ((delta & ~0x7FL) != 0) {
+                buffer[pos++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            buffer[pos++] = (byte) delta;
+        }
+        return Arrays.copyOf(buffer, pos);
+    }
+
+    private PostingList replaceBlock(int block, long[] keys, int count, int newSize) {
+        long[] newFirst = firstKeys.clone();
+        long[] newLast = lastKeys.clone();
+        byte[][] newDeltas = deltas.clone();
+        int[] newCounts = counts.clone();
+        newFirst[block] = keys[0];
+        newLast[block] = keys[count - 1];
+        newDeltas[block] = encode(keys, 0, count);
+        newCounts[block] = count;
+        return new PostingList(newFirst, newLast, newDeltas, newCounts, newSize);
+    }
+
+    private PostingList splitBlock(int block, long[] keys, int half, int count, int newSize) {
+        int blocks = counts.length + 1;
+        long[] newFirst = new long[blocks];
+        long[] newLast = new long[blocks];
+        byte[][] newDeltas = new byte[blocks][];
+        int[] newCounts = new int[blocks];
+        copyBlocks(0, block, newFirst, newLast, newDeltas, newCounts, 0);
+        copyBlocks(block + 1, counts.length, newFirst, newLast, newDeltas, newCounts, block + 2);
+
+        newFirst[block] = keys[0];
+        newLast[block] = keys[half - 1];
+        newDeltas[block] = encode(keys, 0, half);
+        newCounts[block] = half;
+
+        newFirst[block + 1] = keys[half];
+        newLast[block + 1] = keys[count - 1];
+        newDeltas[block + 1] = encode(keys, half, count);
+        newCounts[block + 1] = count - half;
+        return new PostingList(newFirst, newLast, newDeltas, newCounts, newSize);
+    }
+
+    private PostingList removeBlock(int block) {
+        int blocks = counts.length - 1;
+        if (blocks == 0) {
+            return EMPTY;
+        }
+        long[] newFirst = new long[blocks];
+        long[] newLast = new long[blocks];
+        byte[][] newDeltas = new byte[blocks][];
+        int[] newCounts = new int[blocks];
+        copyBlocks(0, block, newFirst, newLast, newDeltas, newCounts, 0);
+        copyBlocks(block + 1, counts.length, newFirst, newLast, newDeltas, newCounts, block);
+        return new PostingList(newFirst, newLast, newDeltas, newCounts, size - 1);
+    }
+
+    private void copyBlocks(int from, int to, long[] newFirst, long[] newLast, byte[][] newDeltas,
+                            int[] newCounts, int at) {
+        int length = to - from;
+        System.arraycopy(firstKeys, from, newFirst, at, length);
+        System.arraycopy(lastKeys, from, newLast, at, length);
+        System.arraycopy(deltas, from, newDeltas, at, length);
+        System.arraycopy(counts, from, newCounts, at, length);
+    }
+
+    /**
+     * 내림차순 커서 (한 방향으로만 이동)
+     */
+    public final class Cursor {
+        private final long[] buffer = new long[BLOCK_SIZE * 2];
+        private int block = counts.length - 1;
+        private int decodedBlock = -1;
+        private int index = Integer.MAX_VALUE; // 아직 위치 없음
+        private boolean exhausted = size == 0;
+
+        PostingList list() {
+            return PostingList.this;
+        }
+
+        /**
+         * 현재 위치 이하에서 target 이하인 가장 큰 키로 이동
+         * @return 해당 키, 없으면 NONE
+         */
+        public long seek(long target) {
+            if (exhausted) {
+                return NONE;
+            }
+            if (decodedBlock == block && index < counts[block] && buffer[index] <= target) {
+                return buffer[index];
+            }
+            int candidate = lastAtMost(firstKeys, block, target);
+            if (candidate < 0) {
+                exhausted = true;
+                return NONE;
+            }
+            int upper;
+            if (candidate == block && decodedBlock == block) {
+                upper = Math.min(index, counts[block] - 1);
+            } else {
+                block = candidate;
+                load();
+                upper = counts[block] - 1;
+            }
+            int found = lastAtMost(buffer, upper, target);
+            if (found < 0) {
+                // 같은 블록의 현재 위치 아래에 target 이하 키가 없음 → 이전 블록 마지막 키
+                return moveToPreviousBlock();
+            }
+            index = found;
+            return buffer[index];
+        }
+
+        /**
+         * 다음(더 작은) 키로 이동
+         */
+        public long advance() {
+            if (exhausted) {
+                return NONE;
+            }
+            if (decodedBlock != block) {
+                load();
+                index = counts[block] - 1;
+                return buffer[index];
+            }
+            if (--index >= 0) {
+                return buffer[index];
+            }
+            return moveToPreviousBlock();
+        }
+
+        private long moveToPreviousBlock() {
+            if (--block < 0) {
+                exhausted = true;
+                return NONE;
+            }
+            load();
+            index = counts[block] - 1;
+            return buffer[index];
+        }
+
+        private void load() {
+            decode(block, buffer);
+            decodedBlock = block;
+        }
+    }
+}
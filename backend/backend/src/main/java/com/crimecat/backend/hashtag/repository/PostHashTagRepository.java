@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -41,4 +42,27 @@ public interface PostHashTagRepository extends JpaRepository<PostHashTag, UUID>
      */
     @Query("SELECT p FROM PostHashTag p WHERE p.post.id = :postId AND LOWER(p.hashTag.name) = LOWER(:hashTagName)")
     PostHashTag findByPostIdAndHashTagName(@Param("postId") UUID postId, @Param("hashTagName") String hashTagName);
+
+    /**
+     * 여러 게시물의 해시태그 이름 일괄 조회
+     * @return [postId, hashTagName] 목록
+     */
+    @Query("SELECT p.post.id, h.name FROM PostHashTag p JOIN p.hashTag h WHERE p.post.id IN :postIds")
+    List<Object[]> findHashTagNamesByPostIds(@Param("postIds") Collection<UUID> postIds);
+
+    /**
+     * 해시태그 색인 구성용 전체 행 조회
+     * @return [postId, authorId, createdAt, isPrivate, isFollowersOnly, hashTagName] 목록
+     */
+    @Query("SELECT p.post.id, p.post.user.id, p.post.createdAt, p.post.isPrivate, p.post.isFollowersOnly, h.name " +
+           "FROM PostHashTag p JOIN p.hashTag h")
+    List<Object[]> findIndexRows();
+
+    /**
+     * 해시태그 색인 갱신용 단일 게시물 행 조회 (태그가 없으면 빈 목록)
+     * @return [postId, authorId, createdAt, isPrivate, isFollowersOnly, hashTagName] 목록
+     */
+    @Query("SELECT p.post.id, p.post.user.id, p.post.createdAt, p.post.isPrivate, p.post.isFollowersOnly, h.name " +
+           "FROM PostHashTag p JOIN p.hashTag h WHERE p.post.id = :postId")
+    List<Object[]> findIndexRowsByPostId(@Param("postId") UUID postId);
 }
@@ -2,6 +2,7 @@ package com.crimecat.backend.hashtag.service;
 
 import com.crimecat.backend.hashtag.domain.HashTag;
 import com.crimecat.backend.hashtag.domain.PostHashTag;
+import com.crimecat.backend.hashtag.index.HashTagPostingIndex;
 import com.crimecat.backend.hashtag.repository.HashTagRepository;
 import com.crimecat.backend.hashtag.repository.PostHashTagRepository;
 import com.crimecat.backend.userPost.domain.UserPost;
@@ -22,6 +23,7 @@ public class HashTagService {
     
     private final HashTagRepository hashTagRepository;
     private final PostHashTagRepository postHashTagRepository;
+    private final HashTagPostingIndex hashTagPostingIndex;
     
     // 해시태그 추출 정규식 패턴
     private static final Pattern HASHTAG_PATTERN = Pattern.compile("#([\\p{L}\\p{N}_]+)");
@@ -70,6 +72,9 @@ public class HashTagService {
             HashTag hashTag = getOrCreateHashTag(tagText);
             PostHashTag postHashTag = PostHashTag.create(post, hashTag);
         }
+
+        // 역색인 갱신 (커밋 후)
+        hashTagPostingIndex.indexAfterCommit(post, hashTagTexts);
     }
     
     /**
@@ -98,6 +103,9 @@ public class HashTagService {
                 }
             }
         }
+
+        // 역색인 갱신 (커밋 후, 태그가 없어도 호출 → 기존 태그 제거 및 공개 범위 반영)
+        hashTagPostingIndex.indexAfterCommit(post, hashtags);
     }
     
     /**
@@ -139,6 +147,11 @@ public class HashTagService {
             return Collections.emptyList();
         }
         
+        // 역색인 구성 후에는 메모리 교집합 사용
+        if (hashTagPostingIndex.isReady()) {
+            return hashTagPostingIndex.findAll(tagNames);
+        }
+
         // 태그명 소문자 변환
         List<String> normalizedTagNames = tagNames.stream()
                 .map(String::toLowerCase)
@@ -168,8 +168,8 @@ public abstract class NotificationBuilder<T extends NotificationBuilder<T>> {
         // 5. 공통 검증
         validate();
         
-        // 6. 실제 알림 생성 및 발송
-        return notificationService.createAndSendNotification(
+        // 6. 실제 알림 생성 및 발송 (일괄 저장 파이프라인 경유)
+        return notificationService.enqueueNotification(
             type, receiverId, senderId, title, message, data
         );
     }
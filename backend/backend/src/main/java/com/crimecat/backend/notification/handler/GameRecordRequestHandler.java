@@ -3,6 +3,7 @@ package com.crimecat.backend.notification.handler;
 import com.crimecat.backend.exception.ErrorStatus;
 import com.crimecat.backend.gameHistory.domain.GameHistory;
 import com.crimecat.backend.gameHistory.repository.GameHistoryRepository;
+import com.crimecat.backend.gameHistory.service.GuildStatsService;
 import com.crimecat.backend.gametheme.domain.CrimesceneTheme;
 import com.crimecat.backend.gametheme.domain.GameTheme;
 import com.crimecat.backend.gametheme.repository.CrimesceneThemeRepository;
@@ -17,6 +18,7 @@ import com.crimecat.backend.notification.enums.NotificationType;
 import com.crimecat.backend.notification.utils.JsonUtil;
 import com.crimecat.backend.user.domain.User;
 import com.crimecat.backend.user.repository.UserRepository;
+import com.crimecat.backend.user.service.LeaderboardService;
 import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +37,9 @@ public class GameRecordRequestHandler extends AbstractNotificationHandler {
     private final UserRepository userRepository;
     private final GameThemeRepository gameThemeRepository;
     private final CrimesceneThemeRepository crimesceneThemeRepository;
+    private final LeaderboardService leaderboardService;
+    private final GuildStatsService guildStatsService;
+
     @Override
     public boolean supports(NotificationType type) {
         return type == NotificationType.GAME_RECORD_REQUEST;
@@ -93,6 +98,9 @@ public class GameRecordRequestHandler extends AbstractNotificationHandler {
         );
         gameHistory.setOwnerMemo(dto.getOwnerMemo());
         gameHistoryRepository.save(gameHistory);
+        guildStatsService.recordSaved(gameHistory);
+        leaderboardService.recordGamePlayed(
+            notification.getSender().getDiscordSnowflake(), guild != null ? guild.getSnowflake() : null);
         
         // 요청자에게 승인 알림 발송 (Event-Driven 방식)
         UUID requesterId = extractRequesterId(notification.getDataJson());
@@ -6,6 +6,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 이벤트 처리를 위한 설정
@@ -30,6 +31,9 @@ public class NotificationAsyncConfig {
         // 큐 용량
         executor.setQueueCapacity(100);
         
+        // 큐가 가득 차면 거절하지 않고 이벤트 발행 스레드에서 실행 (배압)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        
         // 스레드 이름 접두사
         executor.setThreadNamePrefix("NotificationEvent-");
         
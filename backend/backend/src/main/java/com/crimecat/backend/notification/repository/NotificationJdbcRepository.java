@@ -0,0 +1,87 @@
+package com.crimecat.backend.notification.repository;
+
+import com.crimecat.backend.notification.enums.NotificationStatus;
+import com.crimecat.backend.notification.service.PendingNotification;
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 알림 일괄 저장 (JDBC 배치 INSERT)
+ * - 엔티티/영속성 컨텍스트를 거치지 않고 한 번의 배치로 여러 알림 저장
+ * - ID 는 호출자가 미리 생성 (발송 즉시 ID 반환 가능)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO notifications "
+            + "(id, receiver_id, sender_id, type, title, message, data_json, status, created_at, updated_at, expires_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림 일괄 저장
+     * @return 저장된 row 수
+     */
+    public int insertAll(List<PendingNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return 0;
+        }
+
+        int[] results = jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PendingNotification notification = notifications.get(i);
+                Timestamp createdAt = Timestamp.valueOf(notification.createdAt());
+                ps.setBytes(1, toBytes(notification.id()));
+                ps.setBytes(2, toBytes(notification.receiverId()));
+                if (notification.senderId() != null) {
+                    ps.setBytes(3, toBytes(notification.senderId()));
+                } else {
+                    ps.setNull(3, Types.BINARY);
+                }
+                ps.setString(4, notification.type().name());
+                ps.setString(5, notification.title());
+                ps.setString(6, notification.message());
+                ps.setString(7, notification.dataJson());
+                ps.setString(8, NotificationStatus.UNREAD.name());
+                ps.setTimestamp(9, createdAt);
+                ps.setTimestamp(10, createdAt);
+                if (notification.expiresAt() != null) {
+                    ps.setTimestamp(11, Timestamp.valueOf(notification.expiresAt()));
+                } else {
+                    ps.setNull(11, Types.TIMESTAMP);
+                }
+            }
+
+            @Override
+            public int getBatchSize() {
+                return notifications.size();
+            }
+        });
+
+        int inserted = 0;
+        for (int result : results) {
+            // 드라이버가 SUCCESS_NO_INFO(-2)를 반환하는 경우도 성공으로 간주
+            inserted += result > 0 ? result : (result == java.sql.Statement.SUCCESS_NO_INFO ? 1 : 0);
+        }
+        return inserted;
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,224 @@
+package com.crimecat.backend.notification.service;
+
+import com.crimecat.backend.config.CacheInvalidationUtil;
+import com.crimecat.backend.config.CacheNames;
+import com.crimecat.backend.notification.enums.NotificationType;
+import com.crimecat.backend.notification.repository.NotificationJdbcRepository;
+import com.crimecat.backend.notification.utils.JsonUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 알림 일괄 저장 파이프라인
+ * - 발송 요청은 제한된 크기의 큐에 쌓고, 전용 스레드가 모아서 JDBC 배치 INSERT
+ * - 큐가 가득 차면 거절하지 않고 발송 스레드를 잠시 대기시킴 (대기 시간 초과 시 발송 스레드에서 직접 저장)
+ * - 직접 저장은 새 트랜잭션에서 수행 (afterCommit 콜백처럼 커밋이 끝난 트랜잭션 자원이 남아 있어도 확실히 커밋)
+ * - 배치마다 수신자별 미읽음 개수 캐시를 한 번에 무효화
+ * - 큐 길이 / 배치 크기 / 저장 지연 지표 제공
+ */
+@Slf4j
+@Component
+public class NotificationBatchWriter {
+
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final CacheInvalidationUtil cacheInvalidationUtil;
+    private final TransactionTemplate directWriteTransaction;
+
+    private final BlockingQueue<PendingNotification> queue;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final long offerTimeoutMillis;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchWriteTimer;
+    private final Timer endToEndTimer;
+    private final Counter directWriteCounter;
+    private final Counter failureCounter;
+
+    private volatile boolean running = true;
+    private Thread writerThread;
+
+    public NotificationBatchWriter(
+            NotificationJdbcRepository notificationJdbcRepository,
+            CacheInvalidationUtil cacheInvalidationUtil,
+            JsonUtil jsonUtil, // JsonUtil.toJson 의 static ObjectMapper 초기화 보장
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${notification.batch.queue-capacity:10000}") int queueCapacity,
+            @Value("${notification.batch.size:200}") int batchSize,
+            @Value("${notification.batch.linger-ms:50}") long lingerMillis,
+            @Value("${notification.batch.offer-timeout-ms:2000}") long offerTimeoutMillis) {
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.cacheInvalidationUtil = cacheInvalidationUtil;
+        this.directWriteTransaction = new TransactionTemplate(transactionManager);
+        this.directWriteTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+
+        Gauge.builder("notification.batch.queue.depth", queue, BlockingQueue::size)
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("notification.batch.size")
+                .register(meterRegistry);
+        this.batchWriteTimer = Timer.builder("notification.batch.write")
+                .register(meterRegistry);
+        this.endToEndTimer = Timer.builder("notification.batch.latency")
+                .description("접수부터 저장 완료까지")
+                .register(meterRegistry);
+        this.directWriteCounter = Counter.builder("notification.batch.direct.writes")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("notification.batch.failures")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread = new Thread(this::runLoop, "NotificationBatchWriter");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 알림 저장 요청 (ID 는 즉시 확정되고 저장은 비동기)
+     * @return 알림 ID
+     */
+    public UUID enqueue(NotificationType type, UUID receiverId, UUID senderId,
+                        String title, String message, Map<String, Object> data, LocalDateTime expiresAt) {
+        return enqueue(UUID.randomUUID(), type, receiverId, senderId, title, message, data, expiresAt);
+    }
+
+    /**
+     * 미리 발급한 ID 로 알림 저장 요청 (커밋 후 등록처럼 ID 를 먼저 돌려줘야 하는 경우)
+     */
+    public UUID enqueue(UUID id, NotificationType type, UUID receiverId, UUID senderId,
+                        String title, String message, Map<String, Object> data, LocalDateTime expiresAt) {
+        PendingNotification notification = new PendingNotification(
+                id, type, receiverId, senderId, title, message,
+                JsonUtil.toJson(data), LocalDateTime.now(), expiresAt, System.nanoTime());
+
+        boolean queued = false;
+        if (running) {
+            try {
+                queued = queue.offer(notification, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!queued) {
+            // 큐 포화 또는 종료 중 → 발송 스레드에서 직접 저장 (유실 없음)
+            directWriteCounter.increment();
+            directWriteTransaction.executeWithoutResult(status -> write(List.of(notification)));
+        }
+        return notification.id();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        // 남은 알림 저장
+        flushRemaining();
+    }
+
+    private void runLoop() {
+        List<PendingNotification> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingNotification first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 팬아웃 중이면 잠시 기다려 배치를 채움
+                if (queue.size() < batchSize - 1 && lingerMillis > 0) {
+                    Thread.sleep(lingerMillis);
+                }
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                if (!batch.isEmpty()) {
+                    write(batch);
+                }
+                break;
+            } catch (Exception e) {
+                log.error("❌ [NOTIFICATION_BATCH] 배치 처리 루프 오류: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushRemaining() {
+        List<PendingNotification> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * 배치 저장 후 미읽음 개수 캐시 무효화
+     * - 배치 저장 실패 시 한 건씩 재시도해 문제 알림만 제외
+     */
+    private void write(List<PendingNotification> batch) {
+        long startedAt = System.nanoTime();
+        try {
+            notificationJdbcRepository.insertAll(batch);
+        } catch (Exception e) {
+            log.warn("⚠️ [NOTIFICATION_BATCH] 배치 저장 실패, 개별 저장으로 재시도: size={}, error={}",
+                    batch.size(), e.getMessage());
+            retryIndividually(batch);
+        }
+        long finishedAt = System.nanoTime();
+
+        batchWriteTimer.record(finishedAt - startedAt, TimeUnit.NANOSECONDS);
+        batchSizeSummary.record(batch.size());
+
+        Set<String> receivers = new LinkedHashSet<>();
+        for (PendingNotification notification : batch) {
+            receivers.add(notification.receiverId().toString());
+            endToEndTimer.record(finishedAt - notification.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+        }
+        cacheInvalidationUtil.evictKeys(CacheNames.NOTIFICATION_UNREAD_COUNT, receivers);
+
+        log.debug("📨 [NOTIFICATION_BATCH] {}건 저장 ({}명 수신자), 대기 {}건",
+                batch.size(), receivers.size(), queue.size());
+    }
+
+    private void retryIndividually(List<PendingNotification> batch) {
+        for (PendingNotification notification : batch) {
+            try {
+                notificationJdbcRepository.insertAll(List.of(notification));
+            } catch (Exception e) {
+                failureCounter.increment();
+                log.error("❌ [NOTIFICATION_BATCH] 알림 저장 실패: id={}, receiverId={}, type={}, error={}",
+                        notification.id(), notification.receiverId(), notification.type(), e.getMessage());
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.crimecat.backend.notification.service;
 
+import com.crimecat.backend.config.CacheInvalidationUtil;
+import com.crimecat.backend.config.CacheNames;
 import com.crimecat.backend.notification.domain.Notification;
 import com.crimecat.backend.notification.enums.NotificationStatus;
 import com.crimecat.backend.notification.enums.NotificationType;
@@ -25,6 +27,7 @@ public class NotificationHandlerService {
     
     private final List<NotificationHandler> handlers;
     private final NotificationRepository notificationRepository;
+    private final CacheInvalidationUtil cacheInvalidationUtil;
     
     /**
      * 알림 액션 처리
@@ -79,6 +82,7 @@ public class NotificationHandlerService {
         notification.setStatus(NotificationStatus.PROCESSED);
         notification.setUpdatedAt(LocalDateTime.now());
         notificationRepository.save(notification);
+        cacheInvalidationUtil.evictSpecificKey(CacheNames.NOTIFICATION_UNREAD_COUNT, notification.getReceiverId().toString());
     }
     
     /**
@@ -1,5 +1,7 @@
 package com.crimecat.backend.notification.service;
 
+import com.crimecat.backend.config.CacheInvalidationUtil;
+import com.crimecat.backend.config.CacheNames;
 import com.crimecat.backend.notification.domain.Notification;
 import com.crimecat.backend.notification.dto.response.NotificationDto;
 import com.crimecat.backend.notification.enums.NotificationStatus;
@@ -11,10 +13,14 @@ import com.crimecat.backend.utils.AuthenticationUtil;
 import com.crimecat.backend.webUser.enums.UserRole;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 
 import java.time.LocalDateTime;
@@ -34,6 +40,8 @@ public class NotificationService {
     
     private final NotificationRepository notificationRepository;
     private final JsonUtil jsonUtil;
+    private final NotificationBatchWriter notificationBatchWriter;
+    private final CacheInvalidationUtil cacheInvalidationUtil;
     
     /**
      * 알림 생성 및 저장 (다른 서비스에서 호출)
@@ -57,6 +65,7 @@ public class NotificationService {
         
         // 3. 데이터베이스 저장
         List<Notification> savedNotifications = notificationRepository.saveAll(notifications);
+        recipients.forEach(this::evictUnreadCache);
         
         // 4. 실시간 발송 (추후 확장점)
         // publishNotificationEvents(savedNotifications);
@@ -64,6 +73,27 @@ public class NotificationService {
         return savedNotifications.getFirst().getId();
     }
     
+    /**
+     * 알림 저장 요청 (일괄 저장 파이프라인 경유)
+     * - 이벤트 리스너/팬아웃 발송용: ID 는 즉시 반환되고 저장은 배치로 처리
+     * - 호출자 트랜잭션이 있으면 커밋 후에 큐에 등록 (롤백되면 알림도 발송되지 않음)
+     * - 반환된 ID 의 행은 커밋 + 배치 저장 이후에 조회 가능 (즉시 조회가 필요하면 createAndSendNotification 사용)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public UUID enqueueNotification(
+        NotificationType type,
+        UUID recipientId,
+        UUID senderId,
+        String title,
+        String message,
+        Map<String, Object> data
+    ) {
+        UUID notificationId = UUID.randomUUID();
+        afterCommit(() -> notificationBatchWriter.enqueue(
+            notificationId, type, recipientId, senderId, title, message, data, null));
+        return notificationId;
+    }
+    
     /**
      * 사용자별 알림 목록 조회
      */
@@ -178,14 +208,36 @@ public class NotificationService {
         }
     }
     
-    ////@CacheEvict(value = "notification:unread", key = "#receiverId.toString()")
+    /**
+     * 미읽은 알림 개수 캐시 무효화
+     * - 트랜잭션 안이면 커밋 후 무효화 (커밋 전 조회가 이전 개수를 다시 캐시하지 않도록)
+     */
     public void evictUnreadCache(UUID receiverId) {
-        // 캐시 무효화 전용 메서드
+        afterCommit(() -> cacheInvalidationUtil.evictSpecificKey(
+            CacheNames.NOTIFICATION_UNREAD_COUNT, receiverId.toString()));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 즉시 실행)
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
     
     /**
      * 미읽은 알림 개수 조회
      */
+    @Cacheable(value = CacheNames.NOTIFICATION_UNREAD_COUNT, key = "#userId.toString()",
+               cacheManager = "caffeineCacheManager")
     @Transactional(readOnly = true)
     public long getUnreadCount(UUID userId) {
         return notificationRepository.countByUserIdAndStatus(userId, NotificationStatus.UNREAD);
@@ -0,0 +1,23 @@
+package com.crimecat.backend.notification.service;
+
+import com.crimecat.backend.notification.enums.NotificationType;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 일괄 저장 대기 중인 알림
+ * - id, createdAt 은 접수 시점에 확정
+ */
+public record PendingNotification(
+        UUID id,
+        NotificationType type,
+        UUID receiverId,
+        UUID senderId,
+        String title,
+        String message,
+        String dataJson,
+        LocalDateTime createdAt,
+        LocalDateTime expiresAt,
+        long enqueuedAtNanos
+) {
+}
@@ -32,6 +32,14 @@ public abstract class AbstractHandlebarsNotificationTemplate implements Notifica
         return handlebarsMessageRenderer.render(getMessageTemplate(), enrichedContext);
     }
     
+    /**
+     * 제목/메시지 템플릿 미리 컴파일 (TemplateRegistry 등록 시 호출)
+     */
+    public void precompile() {
+        handlebarsMessageRenderer.precompile(getTitleTemplate());
+        handlebarsMessageRenderer.precompile(getMessageTemplate());
+    }
+    
     @Override
     public Map<String, Object> getDefaultData() {
         return Map.of();
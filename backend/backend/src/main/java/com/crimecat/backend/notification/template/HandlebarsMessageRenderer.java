@@ -1,27 +1,80 @@
 package com.crimecat.backend.notification.template;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.jknack.handlebars.Context;
 import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.Template;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Handlebars 기반 템플릿 메시지 렌더러
  * 조건부 처리, 반복문, 헬퍼 함수 등을 지원
+ * - 등록된 알림 템플릿은 시작 시 미리 컴파일해 고정 보관 (TemplateRegistry 에서 등록)
+ * - 그 외 임시 템플릿은 크기 제한 캐시에 보관
+ * - 치환 변수가 없는 문자열은 컴파일 없이 그대로 반환
+ * - 렌더링은 스레드별로 재사용하는 버퍼에 출력
  */
 @Component
 public class HandlebarsMessageRenderer {
-    
+
+    private static final int MAX_RETAINED_BUFFER_CHARS = 16 * 1024;
+
     private final Handlebars handlebars;
-    
-    public HandlebarsMessageRenderer() {
+
+    /** 템플릿 원문 → 컴파일 결과 (등록 템플릿, 제거하지 않음) */
+    private final Map<String, Template> precompiled = new ConcurrentHashMap<>();
+
+    /** 템플릿 원문 → 컴파일 결과 (임시 템플릿) */
+    private final Cache<String, Template> adHocTemplates;
+
+    private final ThreadLocal<StringBuilderWriter> buffers = ThreadLocal.withInitial(StringBuilderWriter::new);
+
+    private final Timer precompiledRenderTimer;
+    private final Timer adHocRenderTimer;
+    private final Counter compileCounter;
+
+    public HandlebarsMessageRenderer(
+            MeterRegistry meterRegistry,
+            @Value("${notification.template.ad-hoc-cache-size:256}") long adHocCacheSize) {
         this.handlebars = new Handlebars();
+        this.adHocTemplates = Caffeine.newBuilder()
+                .maximumSize(adHocCacheSize)
+                .build();
+        this.precompiledRenderTimer = Timer.builder("notification.template.render")
+                .tag("source", "precompiled")
+                .register(meterRegistry);
+        this.adHocRenderTimer = Timer.builder("notification.template.render")
+                .tag("source", "ad_hoc")
+                .register(meterRegistry);
+        this.compileCounter = Counter.builder("notification.template.compile")
+                .register(meterRegistry);
         setupHelpers();
     }
-    
+
+    /**
+     * 템플릿을 미리 컴파일해 고정 등록
+     * @param template 템플릿 문자열 (Handlebars 문법)
+     */
+    public void precompile(String template) {
+        if (!needsCompile(template) || precompiled.containsKey(template)) {
+            return;
+        }
+        Template compiled = adHocTemplates.getIfPresent(template);
+        precompiled.put(template, compiled != null ? compiled : compile(template));
+        adHocTemplates.invalidate(template);
+    }
+
     /**
      * 템플릿 문자열을 렌더링하여 최종 메시지 생성
      * @param template 템플릿 문자열 (Handlebars 문법)
@@ -29,25 +82,46 @@ public class HandlebarsMessageRenderer {
      * @return 렌더링된 문자열
      */
     public String render(String template, Map<String, Object> context) {
-        if (template == null || template.isEmpty()) {
+        if (!needsCompile(template)) {
             return template;
         }
-        
+
+        Template compiledTemplate = precompiled.get(template);
+        Timer timer = precompiledRenderTimer;
+        if (compiledTemplate == null) {
+            compiledTemplate = adHocTemplates.get(template, this::compile);
+            timer = adHocRenderTimer;
+        }
+
+        long startedAt = System.nanoTime();
+        StringBuilderWriter writer = buffers.get();
         try {
-            // 인라인 템플릿 컴파일
-            Template compiledTemplate = handlebars.compileInline(template);
-            
-            // Context 생성 및 렌더링
+            // Context 생성 및 재사용 버퍼에 렌더링
             Context handlebarsContext = Context.newContext(context);
-            return compiledTemplate.apply(handlebarsContext);
-            
+            compiledTemplate.apply(handlebarsContext, writer);
+            return writer.toString();
+
         } catch (IOException e) {
-            // 템플릿 컴파일 또는 렌더링 실패 시 원본 템플릿 반환
-            // 로깅은 추후 추가 가능
             throw new RuntimeException("Failed to render template: " + template, e);
+        } finally {
+            writer.reset();
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Template compile(String template) {
+        try {
+            compileCounter.increment();
+            return handlebars.compileInline(template);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to compile template: " + template, e);
         }
     }
-    
+
+    private static boolean needsCompile(String template) {
+        return template != null && template.contains("{{");
+    }
+
     /**
      * 커스텀 헬퍼 함수 등록
      * 필요에 따라 확장 가능
@@ -60,11 +134,56 @@ public class HandlebarsMessageRenderer {
             }
             return context;
         });
-        
+
         // 예시: 날짜 포맷 헬퍼 (필요시 사용)
         handlebars.registerHelper("formatDate", (context, options) -> {
             // 날짜 포맷 로직 추가 가능
             return context != null ? context.toString() : "";
         });
     }
+
+    /**
+     * 동기화 없는 StringBuilder 기반 Writer (스레드별 재사용)
+     * - 긴 메시지로 커진 버퍼는 보관하지 않고 새로 할당
+     */
+    private static final class StringBuilderWriter extends Writer {
+        private StringBuilder buffer = new StringBuilder(512);
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(String str, int offset, int length) {
+            buffer.append(str, offset, offset + length);
+        }
+
+        @Override
+        public Writer append(CharSequence csq) {
+            buffer.append(csq);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        void reset() {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER_CHARS) {
+                buffer = new StringBuilder(512);
+            } else {
+                buffer.setLength(0);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
 }
@@ -40,6 +40,7 @@ public class TemplateRegistry {
                 TypedNotificationTemplate typedTemplate = (TypedNotificationTemplate) template;
                 NotificationType type = typedTemplate.getNotificationType();
                 templates.put(type, template);
+                precompile(template);
                 log.info("Registered template for type: {} (class: {})", type, template.getClass().getSimpleName());
             } else {
                 log.warn("Template {} does not implement TypedNotificationTemplate", template.getClass().getSimpleName());
@@ -73,9 +74,24 @@ public class TemplateRegistry {
      */
     public void registerTemplate(NotificationType type, NotificationTemplate template) {
         templates.put(type, template);
+        precompile(template);
         log.info("Dynamically registered template for type: {}", type);
     }
     
+    /**
+     * Handlebars 템플릿이면 제목/메시지를 미리 컴파일
+     * - 알림 발송(팬아웃 포함) 시에는 컴파일 없이 렌더링만 수행
+     */
+    private void precompile(NotificationTemplate template) {
+        if (template instanceof AbstractHandlebarsNotificationTemplate handlebarsTemplate) {
+            try {
+                handlebarsTemplate.precompile();
+            } catch (Exception e) {
+                log.error("Failed to precompile template {}: {}", template.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+    
     /**
      * 등록된 모든 템플릿 타입 조회
      */
@@ -0,0 +1,129 @@
+package com.crimecat.backend.point.repository;
+
+import com.crimecat.backend.point.dto.PointHistorySummaryDto;
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 포인트 원장 (JDBC)
+ * - 잔액 변경은 조건부 UPDATE 한 번으로 처리 (엔티티 read-modify-write 없음)
+ * - 사용자별 누적 합계는 point_balance_summaries 에 배치 UPSERT
+ * - 모든 메서드는 호출자의 트랜잭션 안에서 실행되어야 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerJdbcRepository {
+
+    private static final String CREDIT_SQL = "UPDATE users SET point = point + ? WHERE id = ?";
+    private static final String DEBIT_SQL = "UPDATE users SET point = point - ? WHERE id = ? AND point >= ?";
+    private static final String BALANCE_SQL = "SELECT point FROM users WHERE id = ?";
+    private static final String LOCK_BALANCE_SQL = "SELECT point FROM users WHERE id = ? FOR UPDATE";
+
+    private static final String UPSERT_SUMMARY_SQL = "INSERT INTO point_balance_summaries "
+            + "(user_id, total_earned, total_spent, total_received, total_gifted, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "total_earned = total_earned + VALUES(total_earned), "
+            + "total_spent = total_spent + VALUES(total_spent), "
+            + "total_received = total_received + VALUES(total_received), "
+            + "total_gifted = total_gifted + VALUES(total_gifted), "
+            + "updated_at = CURRENT_TIMESTAMP";
+
+    private static final String SUMMARY_BY_WEB_USER_SQL = "SELECT u.point, "
+            + "COALESCE(s.total_earned, 0) AS total_earned, COALESCE(s.total_spent, 0) AS total_spent, "
+            + "COALESCE(s.total_received, 0) AS total_received, COALESCE(s.total_gifted, 0) AS total_gifted "
+            + "FROM users u LEFT JOIN point_balance_summaries s ON s.user_id = u.id "
+            + "WHERE u.web_user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 포인트 적립
+     * @return 대상 유저가 존재해 반영되었는지
+     */
+    public boolean credit(UUID userId, int amount) {
+        return jdbcTemplate.update(CREDIT_SQL, amount, toBytes(userId)) == 1;
+    }
+
+    /**
+     * 포인트 차감 (잔액이 충분할 때만 반영)
+     * @return 반영 여부 (잔액 부족 또는 유저 없음이면 false)
+     */
+    public boolean debit(UUID userId, int amount) {
+        return jdbcTemplate.update(DEBIT_SQL, amount, toBytes(userId), amount) == 1;
+    }
+
+    /**
+     * 현재 잔액 (같은 트랜잭션에서 변경한 직후면 그 결과)
+     */
+    public int balance(UUID userId) {
+        Integer point = jdbcTemplate.queryForObject(BALANCE_SQL, Integer.class, (Object) toBytes(userId));
+        return point != null ? point : 0;
+    }
+
+    /**
+     * 잔액 row 잠금 (트랜잭션 종료까지 유지)
+     */
+    public int lockBalance(UUID userId) {
+        Integer point = jdbcTemplate.queryForObject(LOCK_BALANCE_SQL, Integer.class, (Object) toBytes(userId));
+        return point != null ? point : 0;
+    }
+
+    /**
+     * 사용자별 누적 합계 증가 (earned, spent, received, gifted 순서)
+     */
+    public void addToSummaries(Map<UUID, long[]> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<UUID, long[]>> rows = List.copyOf(deltas.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_SUMMARY_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<UUID, long[]> row = rows.get(i);
+                long[] totals = row.getValue();
+                ps.setBytes(1, toBytes(row.getKey()));
+                ps.setLong(2, totals[0]);
+                ps.setLong(3, totals[1]);
+                ps.setLong(4, totals[2]);
+                ps.setLong(5, totals[3]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    /**
+     * 잔액 + 누적 합계 조회 (users PK 조인 한 번)
+     */
+    public Optional<PointHistorySummaryDto> findSummaryByWebUserId(UUID webUserId) {
+        List<PointHistorySummaryDto> result = jdbcTemplate.query(SUMMARY_BY_WEB_USER_SQL,
+                (rs, rowNum) -> PointHistorySummaryDto.of(
+                        rs.getInt("point"),
+                        rs.getInt("total_earned"),
+                        rs.getInt("total_spent"),
+                        rs.getInt("total_received"),
+                        rs.getInt("total_gifted")),
+                (Object) toBytes(webUserId));
+        return result.stream().findFirst();
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -1,100 +0,0 @@
-package com.crimecat.backend.point.service;
-
-import com.crimecat.backend.coupon.domain.Coupon;
-import com.crimecat.backend.permission.domain.Permission;
-import com.crimecat.backend.point.domain.ItemType;
-import com.crimecat.backend.point.domain.PointHistory;
-import com.crimecat.backend.point.domain.TransactionType;
-import com.crimecat.backend.point.repository.PointHistoryRepository;
-import com.crimecat.backend.user.domain.User;
-import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.UUID;
-
-@Service
-@RequiredArgsConstructor
-public class PointHistoryQueryService {
-
-	private final PointHistoryRepository pointHistoryRepository;
-
-	@Transactional
-	public void  logPermissionPurchase(User user, TransactionType type, Permission permission) {
-		PointHistory history = PointHistory.builder()
-				.user(user)
-				.type(type)
-				.amount(permission.getPrice())
-				.balanceAfter(user.getPoint())
-				.itemType(ItemType.PERMISSION)
-				.permission(permission)
-				.memo("권한 구매: " + permission.getName())
-				.build();
-
-		pointHistoryRepository.save(history);
-	}
-
-	@Transactional
-	public void logPointTransaction(User user, TransactionType type, int amount, String memo) {
-		PointHistory history = PointHistory.builder()
-				.user(user)
-				.type(type)
-				.amount(amount)
-				.balanceAfter(user.getPoint())
-				.memo(memo)
-				.build();
-
-		pointHistoryRepository.save(history);
-	}
-
-	@Transactional
-	public void logGiftTransaction(User fromUser, User toUser, int amount) {
-		PointHistory senderHistory = PointHistory.builder()
-				.user(fromUser)
-				.type(TransactionType.GIFT)
-				.amount(amount)
-				.balanceAfter(fromUser.getPoint())
-				.relatedUserId(toUser)
-				.memo("→ " + toUser.getWebUser().getNickname() + "에게 선물")
-				.build();
-
-		PointHistory receiverHistory = PointHistory.builder()
-				.user(toUser)
-				.type(TransactionType.RECEIVE)
-				.amount(amount)
-				.balanceAfter(toUser.getPoint())
-				.relatedUserId(fromUser)
-				.memo("← " + fromUser.getWebUser().getNickname() + "에게 받음")
-				.build();
-
-		pointHistoryRepository.save(senderHistory);
-		pointHistoryRepository.save(receiverHistory);
-	}
-
-	@Transactional
-	public void logCouponTransaction(User user, Coupon coupon) {
-		PointHistory couponHistory = PointHistory.builder()
-				.user(user)
-				.type(TransactionType.COUPON)
-				.amount(coupon.getPoint())
-				.balanceAfter(user.getPoint())
-				.memo("쿠폰 등록으로 "+ coupon.getPoint() + "포인트 충전됨")
-				.build();
-		pointHistoryRepository.save(couponHistory);
-	}
-
-	@Transactional
-	public void logThemeRewardTransaction(User user, int amount, UUID themeId, String themeName) {
-		PointHistory history = PointHistory.builder()
-				.user(user)
-				.type(TransactionType.THEME_REWARD)
-				.amount(amount)
-				.balanceAfter(user.getPoint())
-				.itemType(ItemType.THEME_WRITING)
-				.itemId(themeId)
-				.memo("테마 작성 보상: " + themeName)
-				.build();
-		pointHistoryRepository.save(history);
-	}
-}
-
@@ -3,14 +3,16 @@ package com.crimecat.backend.point.service;
 import com.crimecat.backend.coupon.domain.Coupon;
 import com.crimecat.backend.exception.ErrorStatus;
 import com.crimecat.backend.permission.domain.Permission;
+import com.crimecat.backend.point.domain.ItemType;
 import com.crimecat.backend.point.domain.PointHistory;
 import com.crimecat.backend.point.domain.TransactionType;
 import com.crimecat.backend.point.dto.PointHistorySummaryDto;
 import com.crimecat.backend.point.repository.PointHistoryRepository;
+import com.crimecat.backend.point.repository.PointLedgerJdbcRepository;
 import com.crimecat.backend.user.domain.User;
 import com.crimecat.backend.user.repository.UserRepository;
+import com.crimecat.backend.user.service.LeaderboardService;
 import jakarta.transaction.Transactional;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -21,60 +23,99 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class PointHistoryService {
 
-	private final PointHistoryQueryService pointHistoryQueryService;
+	private final PointLedger pointLedger;
 	private final PointHistoryRepository pointHistoryRepository;
+	private final PointLedgerJdbcRepository pointLedgerJdbcRepository;
 	private final UserRepository userRepository;
+	private final LeaderboardService leaderboardService;
 
-	@Transactional
+	@Transactional(dontRollbackOn = IllegalStateException.class)
 	public void buyPermission(User user, Permission permission) {
-		user.subtractPoint(permission.getPrice());
-		pointHistoryQueryService.logPermissionPurchase(user, TransactionType.USE, permission);
+		pointLedger.debit(user, permission.getPrice(), PointHistory.builder()
+				.type(TransactionType.USE)
+				.itemType(ItemType.PERMISSION)
+				.permission(permission)
+				.memo("권한 구매: " + permission.getName()));
+		leaderboardService.updatePoint(user);
 	}
 
 	@Transactional
 	public void chargePoint(User user, int amount) {
-		user.addPoint(amount);
-		pointHistoryQueryService.logPointTransaction(user, TransactionType.CHARGE, amount, "포인트 충전");
+		pointLedger.credit(user, amount, transaction(TransactionType.CHARGE, "포인트 충전"));
+		leaderboardService.updatePoint(user);
 	}
 
 	@Transactional
 	public void dailyCheckPoint(User user, int amount) {
-		user.addPoint(amount);
-		pointHistoryQueryService.logPointTransaction(user, TransactionType.DAILY, amount, "출석 체크");
+		pointLedger.credit(user, amount, transaction(TransactionType.DAILY, "출석 체크"));
+		leaderboardService.updatePoint(user);
 	}
-	@Transactional
+	@Transactional(dontRollbackOn = IllegalStateException.class)
 	public void gift(User from, User to, int amount) {
-		from.subtractPoint(amount);
-		to.addPoint(amount);
-		pointHistoryQueryService.logGiftTransaction(from,to,amount);
+		pointLedger.transfer(from, to, amount,
+				PointHistory.builder()
+						.type(TransactionType.GIFT)
+						.relatedUserId(to)
+						.memo("→ " + to.getWebUser().getNickname() + "에게 선물"),
+				PointHistory.builder()
+						.type(TransactionType.RECEIVE)
+						.relatedUserId(from)
+						.memo("← " + from.getWebUser().getNickname() + "에게 받음"));
+		leaderboardService.updatePoint(from);
+		leaderboardService.updatePoint(to);
 
 	}
 	@Transactional
 	public void redeemCoupon(User user, Coupon coupon){
-		user.addPoint(coupon.getPoint());
-		pointHistoryQueryService.logCouponTransaction(user,coupon);
+		pointLedger.credit(user, coupon.getPoint(),
+				transaction(TransactionType.COUPON, "쿠폰 등록으로 " + coupon.getPoint() + "포인트 충전됨"));
+		leaderboardService.updatePoint(user);
 	}
 
 	@Transactional
 	public void rewardThemeWriting(User user, int amount, UUID themeId, String themeName) {
-		user.addPoint(amount);
-		pointHistoryQueryService.logThemeRewardTransaction(user, amount, themeId, themeName);
+		pointLedger.credit(user, amount, PointHistory.builder()
+				.type(TransactionType.THEME_REWARD)
+				.itemType(ItemType.THEME_WRITING)
+				.itemId(themeId)
+				.memo("테마 작성 보상: " + themeName));
+		leaderboardService.updatePoint(user);
 	}
 
-	@Transactional
+	@Transactional(dontRollbackOn = IllegalStateException.class)
 	public boolean usePointsForAdvertisement(User user, int amount, String description) {
-		if (user.getPoint() < amount) {
+		try {
+			pointLedger.debit(user, amount, transaction(TransactionType.ADVERTISEMENT, description));
+		} catch (IllegalStateException e) {
 			return false;
 		}
-		user.subtractPoint(amount);
-		pointHistoryQueryService.logPointTransaction(user, TransactionType.ADVERTISEMENT, amount, description);
+		leaderboardService.updatePoint(user);
 		return true;
 	}
 
 	@Transactional
 	public void refundAdvertisementPoints(User user, int amount, String description) {
-		user.addPoint(amount);
-		pointHistoryQueryService.logPointTransaction(user, TransactionType.ADVERTISEMENT_REFUND, amount, description);
+		pointLedger.credit(user, amount, transaction(TransactionType.ADVERTISEMENT_REFUND, description));
+		leaderboardService.updatePoint(user);
+	}
+
+	/**
+	 * 관리자 포인트 지급
+	 */
+	@Transactional
+	public void adminAddPoint(User user, int amount) {
+		pointLedger.credit(user, amount, transaction(TransactionType.CHARGE, "관리자 지급"));
+		leaderboardService.updatePoint(user);
+	}
+
+	/**
+	 * 관리자 포인트 차감
+	 * @throws IllegalStateException 잔여 포인트 부족
+	 */
+	@Transactional(dontRollbackOn = IllegalStateException.class)
+	public void adminSubtractPoint(User user, int amount) {
+		pointLedger.debit(user, amount, transaction(TransactionType.USE, "관리자 차감"));
+		leaderboardService.updatePoint(user);
 	}
 
 	public Page<PointHistory> getUserPointHistory(String userId, TransactionType type, Pageable pageable) {
@@ -88,31 +129,16 @@ public class PointHistoryService {
 		}
 	}
 
+	/**
+	 * 잔액 + 누적 합계 (point_balance_summaries 조회, 거래 내역 집계 없음)
+	 */
 	public PointHistorySummaryDto getPointHistorySummary(String userId) {
-		User user = userRepository.findByWebUserId(UUID.fromString(userId))
+		return pointLedgerJdbcRepository.findSummaryByWebUserId(UUID.fromString(userId))
 				.orElseThrow(ErrorStatus.USER_NOT_FOUND::asServiceException);
+	}
 
-		Integer currentBalance = user.getPoint();
-		Integer totalEarned = pointHistoryRepository.sumAmountByUserAndTypes(
-				user, List.of(TransactionType.CHARGE, TransactionType.DAILY, TransactionType.RECEIVE, TransactionType.COUPON)
-		).orElse(0);
-		Integer totalSpent = pointHistoryRepository.sumAmountByUserAndTypes(
-				user, List.of(TransactionType.USE)
-		).orElse(0);
-		Integer totalReceived = pointHistoryRepository.sumAmountByUserAndTypes(
-				user, List.of(TransactionType.RECEIVE)
-		).orElse(0);
-		Integer totalGifted = pointHistoryRepository.sumAmountByUserAndTypes(
-				user, List.of(TransactionType.GIFT)
-		).orElse(0);
-
-		return PointHistorySummaryDto.of(
-				currentBalance,
-				totalEarned,
-				totalSpent,
-				totalReceived,
-				totalGifted
-		);
+	private static PointHistory.PointHistoryBuilder transaction(TransactionType type, String memo) {
+		return PointHistory.builder().type(type).memo(memo);
 	}
 }
 
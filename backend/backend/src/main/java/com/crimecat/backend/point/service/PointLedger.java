@@ -0,0 +1,177 @@
+package com.crimecat.backend.point.service;
+
+import com.crimecat.backend.exception.ErrorStatus;
+import com.crimecat.backend.point.domain.PointHistory;
+import com.crimecat.backend.point.domain.TransactionType;
+import com.crimecat.backend.point.repository.PointHistoryRepository;
+import com.crimecat.backend.point.repository.PointLedgerJdbcRepository;
+import com.crimecat.backend.user.domain.User;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 포인트 원장
+ * - 잔액 변경은 조건부 UPDATE 한 번 (동시 요청에서도 갱신 유실 없음, 잔액 부족이면 반영 안 됨)
+ * - 선물은 두 유저 row 를 ID 순서로 잠근 뒤 이동 (교착 방지)
+ * - 거래 내역은 영속성 컨텍스트에 쌓였다가 flush 시 한 번에 INSERT
+ * - 누적 합계(적립/사용/받음/선물) 증분은 트랜잭션 단위로 모아 커밋 직전 사용자별 UPSERT 한 번으로 반영
+ * - 변경 후 잔액은 전달받은 User 엔티티에도 반영 (User.point 는 updatable=false 라 엔티티 flush 로 덮어쓰지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class PointLedger {
+
+    private static final int EARNED = 0;
+    private static final int SPENT = 1;
+    private static final int RECEIVED = 2;
+    private static final int GIFTED = 3;
+
+    private final PointLedgerJdbcRepository ledgerRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+
+    /**
+     * 포인트 적립
+     * @param history 거래 정보 (type, memo 등) - user/amount/balanceAfter 는 원장이 채움
+     * @return 적립 후 잔액
+     */
+    @Transactional
+    public int credit(User user, int amount, PointHistory.PointHistoryBuilder history) {
+        if (amount < 0) throw new IllegalArgumentException("음수는 더할 수 없습니다.");
+        if (!ledgerRepository.credit(user.getId(), amount)) {
+            throw ErrorStatus.USER_NOT_FOUND.asServiceException();
+        }
+        int balance = syncBalance(user);
+        record(List.of(history.user(user).amount(amount).balanceAfter(balance).build()));
+        return balance;
+    }
+
+    /**
+     * 포인트 차감
+     * @return 차감 후 잔액
+     * @throws IllegalStateException 잔여 포인트 부족 (변경 없음 → 롤백 표시 안 함)
+     */
+    @Transactional(noRollbackFor = IllegalStateException.class)
+    public int debit(User user, int amount, PointHistory.PointHistoryBuilder history) {
+        if (amount < 0) throw new IllegalArgumentException("음수를 뺄 수 없습니다.");
+        if (!ledgerRepository.debit(user.getId(), amount)) {
+            syncBalance(user);
+            throw new IllegalStateException("잔여 포인트 부족");
+        }
+        int balance = syncBalance(user);
+        record(List.of(history.user(user).amount(amount).balanceAfter(balance).build()));
+        return balance;
+    }
+
+    /**
+     * 유저 간 포인트 이동 (선물)
+     * @throws IllegalStateException 보내는 유저의 잔여 포인트 부족 (변경 없음 → 롤백 표시 안 함)
+     */
+    @Transactional(noRollbackFor = IllegalStateException.class)
+    public void transfer(User from, User to, int amount,
+                         PointHistory.PointHistoryBuilder senderHistory,
+                         PointHistory.PointHistoryBuilder receiverHistory) {
+        if (amount < 0) throw new IllegalArgumentException("음수를 뺄 수 없습니다.");
+        if (from.getId().equals(to.getId())) {
+            throw ErrorStatus.INVALID_INPUT.asServiceException();
+        }
+
+        // 항상 같은 순서로 잠가서 A→B / B→A 동시 선물 시 교착 방지
+        boolean fromFirst = compare(from.getId(), to.getId()) < 0;
+        ledgerRepository.lockBalance(fromFirst ? from.getId() : to.getId());
+        ledgerRepository.lockBalance(fromFirst ? to.getId() : from.getId());
+
+        if (!ledgerRepository.debit(from.getId(), amount)) {
+            syncBalance(from);
+            throw new IllegalStateException("잔여 포인트 부족");
+        }
+        ledgerRepository.credit(to.getId(), amount);
+
+        int fromBalance = syncBalance(from);
+        int toBalance = syncBalance(to);
+        record(List.of(
+                senderHistory.user(from).amount(amount).balanceAfter(fromBalance).build(),
+                receiverHistory.user(to).amount(amount).balanceAfter(toBalance).build()));
+    }
+
+    private int syncBalance(User user) {
+        int balance = ledgerRepository.balance(user.getId());
+        user.setPoint(balance);
+        return balance;
+    }
+
+    private void record(List<PointHistory> histories) {
+        pointHistoryRepository.saveAll(histories);
+
+        Map<UUID, long[]> deltas = pendingSummaryDeltas();
+        for (PointHistory history : histories) {
+            long[] totals = deltas.computeIfAbsent(history.getUser().getId(), id -> new long[4]);
+            accumulate(totals, history.getType(), history.getAmount());
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ledgerRepository.addToSummaries(deltas);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션의 누적 합계 증분 (커밋 직전 한 번에 반영)
+     * - 트랜잭션 동기화 객체에 보관 → REQUIRES_NEW 로 중단된 바깥 트랜잭션과 섞이지 않음
+     */
+    private Map<UUID, long[]> pendingSummaryDeltas() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new HashMap<>();
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof SummaryFlush flush && flush.owner() == this) {
+                return flush.deltas;
+            }
+        }
+        SummaryFlush flush = new SummaryFlush();
+        TransactionSynchronizationManager.registerSynchronization(flush);
+        return flush.deltas;
+    }
+
+    /**
+     * 거래 유형별 누적 합계 반영 (기존 요약 집계 기준과 동일)
+     * - 적립: CHARGE, DAILY, RECEIVE, COUPON / 사용: USE / 받음: RECEIVE / 선물: GIFT
+     */
+    static void accumulate(long[] totals, TransactionType type, int amount) {
+        switch (type) {
+            case CHARGE, DAILY, COUPON -> totals[EARNED] += amount;
+            case RECEIVE -> {
+                totals[EARNED] += amount;
+                totals[RECEIVED] += amount;
+            }
+            case USE -> totals[SPENT] += amount;
+            case GIFT -> totals[GIFTED] += amount;
+            default -> {
+                // 요약에 포함되지 않는 유형
+            }
+        }
+    }
+
+    private final class SummaryFlush implements TransactionSynchronization {
+        private final Map<UUID, long[]> deltas = new HashMap<>();
+
+        PointLedger owner() {
+            return PointLedger.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            ledgerRepository.addToSummaries(deltas);
+        }
+    }
+
+    // MariaDB BINARY(16) 인덱스 순서 (부호 없는 바이트 비교)
+    private static int compare(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
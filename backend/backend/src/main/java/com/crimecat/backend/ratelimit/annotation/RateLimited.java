@@ -0,0 +1,41 @@
+package com.crimecat.backend.ratelimit.annotation;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메서드 호출 Rate Limit (GCRA 토큰 버킷)
+ * - period 마다 rate 개의 토큰이 보충되고, 한 번에 최대 burst 개까지 허용
+ * - 초과 시 ErrorStatus.TOO_MANY_REQUESTS 예외
+ * - 여러 개를 붙이면 모두 통과해야 호출 (예: 시간당 + 일일 제한)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Repeatable(RateLimits.class)
+public @interface RateLimited {
+
+    /**
+     * 제한 이름 (저장소 키 접두사)
+     */
+    String name();
+
+    /**
+     * 제한 대상 SpEL (메서드 파라미터를 #이름 으로 참조), 비우면 모든 호출이 버킷 하나를 공유
+     */
+    String key() default "";
+
+    /**
+     * period 당 보충되는 토큰 수
+     */
+    long rate();
+
+    long period() default 1;
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * 연속으로 허용하는 최대 호출 수 (0 이면 rate 와 동일)
+     */
+    long burst() default 0;
+}
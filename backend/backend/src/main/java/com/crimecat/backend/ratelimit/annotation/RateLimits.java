@@ -0,0 +1,13 @@
+package com.crimecat.backend.ratelimit.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 여러 개의 @RateLimited 를 담는 컨테이너 (직접 사용하지 않음)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimits {
+    RateLimited[] value();
+}
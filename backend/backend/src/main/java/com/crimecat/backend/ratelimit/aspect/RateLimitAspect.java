@@ -0,0 +1,69 @@
+package com.crimecat.backend.ratelimit.aspect;
+
+import com.crimecat.backend.exception.ErrorStatus;
+import com.crimecat.backend.ratelimit.annotation.RateLimited;
+import com.crimecat.backend.ratelimit.limiter.RateLimiter;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+/**
+ * RateLimited 가 붙은 메서드 호출 전에 토큰 소비
+ * - 트랜잭션/캐시 어드바이스보다 먼저 실행되어 거부된 호출은 트랜잭션을 열지 않음
+ * - 버킷 키: name + ":" + key(SpEL 평가 결과)
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class RateLimitAspect {
+
+    private final RateLimiter rateLimiter;
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    @Around("@annotation(com.crimecat.backend.ratelimit.annotation.RateLimited) || "
+            + "@annotation(com.crimecat.backend.ratelimit.annotation.RateLimits)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        for (RateLimited limit : AnnotatedElementUtils.findMergedRepeatableAnnotations(method, RateLimited.class)) {
+            String key = resolveKey(limit, method, joinPoint.getArgs());
+            long burst = limit.burst() > 0 ? limit.burst() : limit.rate();
+            Duration period = Duration.of(limit.period(), limit.unit().toChronoUnit());
+            RateLimiter.Decision decision = rateLimiter.tryAcquire(key, limit.rate(), period, burst);
+            if (!decision.allowed()) {
+                log.warn("⚠️ [RATE_LIMIT] 요청 제한 초과 - key: {}, retryAfter: {}ms", key, decision.retryAfterMillis());
+                throw ErrorStatus.TOO_MANY_REQUESTS.asServiceException();
+            }
+        }
+        return joinPoint.proceed();
+    }
+
+    private String resolveKey(RateLimited limit, Method method, Object[] args) {
+        if (limit.key().isEmpty()) {
+            return limit.name();
+        }
+        Expression expression = expressions.computeIfAbsent(limit.key(), parser::parseExpression);
+        MethodBasedEvaluationContext context =
+                new MethodBasedEvaluationContext(null, method, args, parameterNameDiscoverer);
+        return limit.name() + ":" + expression.getValue(context);
+    }
+}
@@ -0,0 +1,76 @@
+package com.crimecat.backend.ratelimit.limiter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로세스 내 GCRA Rate Limiter
+ * - rate-limit.store=local 일 때 사용, 그 외에는 Redis 장애 시 RedisRateLimiter 의 대체 구현
+ * - 키당 long 하나만 저장하고 ConcurrentHashMap.compute 로 원자적으로 갱신
+ * - TAT 가 지난 키는 버킷이 가득 찬 상태와 같으므로 주기적으로 정리
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "local")
+public class LocalRateLimiter implements RateLimiter {
+
+    /** 이 횟수의 요청마다 만료된 키 정리 (2의 거듭제곱) */
+    private static final int SWEEP_INTERVAL = 1024;
+
+    private final Clock clock;
+    private final ConcurrentHashMap<String, Long> theoreticalArrivals = new ConcurrentHashMap<>();
+    private final AtomicLong acquisitions = new AtomicLong();
+
+    public LocalRateLimiter() {
+        this(Clock.systemUTC());
+    }
+
+    public LocalRateLimiter(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Decision tryAcquire(String key, long rate, Duration period, long burst) {
+        long emission = RateLimiter.emissionIntervalMillis(rate, period);
+        long tolerance = RateLimiter.toleranceMillis(emission, burst);
+        long now = clock.millis();
+        long[] retryAfter = {0};
+        theoreticalArrivals.compute(key, (k, tat) -> {
+            long base = tat == null || tat < now ? now : tat;
+            long allowAt = base - tolerance;
+            if (allowAt > now) {
+                retryAfter[0] = allowAt - now;
+                return tat;
+            }
+            return base + emission;
+        });
+        if ((acquisitions.incrementAndGet() & (SWEEP_INTERVAL - 1)) == 0) {
+            sweep(now);
+        }
+        return retryAfter[0] > 0 ? Decision.denied(retryAfter[0]) : Decision.ALLOWED;
+    }
+
+    @Override
+    public Decision check(String key, long rate, Duration period, long burst) {
+        long emission = RateLimiter.emissionIntervalMillis(rate, period);
+        long tolerance = RateLimiter.toleranceMillis(emission, burst);
+        long now = clock.millis();
+        Long tat = theoreticalArrivals.get(key);
+        long allowAt = (tat == null || tat < now ? now : tat) - tolerance;
+        return allowAt > now ? Decision.denied(allowAt - now) : Decision.ALLOWED;
+    }
+
+    /**
+     * 만료된 키 정리
+     */
+    void sweep(long now) {
+        theoreticalArrivals.values().removeIf(tat -> tat <= now);
+    }
+
+    int size() {
+        return theoreticalArrivals.size();
+    }
+}
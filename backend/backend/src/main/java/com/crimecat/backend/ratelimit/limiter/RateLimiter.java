@@ -0,0 +1,57 @@
+package com.crimecat.backend.ratelimit.limiter;
+
+import java.time.Duration;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 토큰 버킷 Rate Limiter
+ * - 키마다 다음 토큰이 보충되는 이론상 도착 시각(TAT)만 저장
+ * - emission = period / rate, 허용 조건: max(TAT, now) - now <= emission * (burst - 1)
+ * - 구현: RedisRateLimiter (Lua 스크립트, 인스턴스 간 공유) / LocalRateLimiter (프로세스 내)
+ */
+public interface RateLimiter {
+
+    /**
+     * key 의 토큰 1개 소비 시도
+     * @param rate period 당 보충되는 토큰 수
+     * @param burst 연속으로 허용하는 최대 요청 수
+     */
+    Decision tryAcquire(String key, long rate, Duration period, long burst);
+
+    /**
+     * 토큰을 소비하지 않고 지금 tryAcquire 하면 허용되는지만 판정
+     * - 실패한 경우에만 tryAcquire 로 소비하는 흐름(예: 비밀번호 시도)에서 사전 검사용
+     */
+    Decision check(String key, long rate, Duration period, long burst);
+
+    /**
+     * @param retryAfterMillis 거부된 경우 다음 토큰까지 남은 시간
+     */
+    record Decision(boolean allowed, long retryAfterMillis) {
+
+        public static final Decision ALLOWED = new Decision(true, 0);
+
+        public static Decision denied(long retryAfterMillis) {
+            return new Decision(false, retryAfterMillis);
+        }
+    }
+
+    /**
+     * 토큰 1개가 보충되는 간격 (ms)
+     */
+    static long emissionIntervalMillis(long rate, Duration period) {
+        if (rate <= 0 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("rate 와 period 는 0 보다 커야 합니다.");
+        }
+        return Math.max(1, period.toMillis() / rate);
+    }
+
+    /**
+     * TAT 가 현재 시각보다 앞설 수 있는 최대 시간 (ms)
+     */
+    static long toleranceMillis(long emissionIntervalMillis, long burst) {
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst 는 0 보다 커야 합니다.");
+        }
+        return emissionIntervalMillis * (burst - 1);
+    }
+}
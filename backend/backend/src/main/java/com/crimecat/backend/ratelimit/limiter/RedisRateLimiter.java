@@ -0,0 +1,100 @@
+package com.crimecat.backend.ratelimit.limiter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Lua 스크립트 기반 GCRA Rate Limiter (기본 구현)
+ * - 조회/판정/갱신을 스크립트 하나로 실행 → 여러 인스턴스가 같은 버킷을 원자적으로 공유
+ * - 시각은 Redis TIME 사용 (인스턴스 간 시계 차이 무관), 키는 TAT 가 지나면 PX 로 자동 만료
+ * - Redis 장애 시 프로세스 내 LocalRateLimiter 로 대체 (인스턴스별 제한으로 완화되지만 차단은 유지)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRateLimiter implements RateLimiter {
+
+    static final String KEY_PREFIX = "rate-limit:";
+
+    /**
+     * KEYS[1] = 버킷 키, ARGV[1] = emission(ms), ARGV[2] = tolerance(ms), ARGV[3] = 소비 여부(1/0)
+     * 반환: {허용 여부(1/0), 재시도까지 남은 ms}
+     */
+    static final String GCRA_LUA = """
+            local emission = tonumber(ARGV[1])
+            local tolerance = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local tat = tonumber(redis.call('GET', KEYS[1]))
+            if not tat or tat < now then
+              tat = now
+            end
+            local allowAt = tat - tolerance
+            if allowAt > now then
+              return {0, allowAt - now}
+            end
+            if ARGV[3] ~= '1' then
+              return {1, 0}
+            end
+            local newTat = tat + emission
+            redis.call('SET', KEYS[1], string.format('%.0f', newTat), 'PX', newTat - now)
+            return {1, 0}
+            """;
+
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> GCRA_SCRIPT = new DefaultRedisScript<>(GCRA_LUA, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimiter fallback;
+    private final AtomicBoolean degraded = new AtomicBoolean();
+
+    @Autowired
+    public RedisRateLimiter(RedisTemplate<String, String> redisTemplate) {
+        this(redisTemplate, new LocalRateLimiter());
+    }
+
+    RedisRateLimiter(RedisTemplate<String, String> redisTemplate, RateLimiter fallback) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Decision tryAcquire(String key, long rate, Duration period, long burst) {
+        return evaluate(key, rate, period, burst, true);
+    }
+
+    @Override
+    public Decision check(String key, long rate, Duration period, long burst) {
+        return evaluate(key, rate, period, burst, false);
+    }
+
+    private Decision evaluate(String key, long rate, Duration period, long burst, boolean consume) {
+        long emission = RateLimiter.emissionIntervalMillis(rate, period);
+        long tolerance = RateLimiter.toleranceMillis(emission, burst);
+        List<?> result;
+        try {
+            result = redisTemplate.execute(GCRA_SCRIPT, List.of(KEY_PREFIX + key),
+                    String.valueOf(emission), String.valueOf(tolerance), consume ? "1" : "0");
+        } catch (Exception e) {
+            if (degraded.compareAndSet(false, true)) {
+                log.warn("⚠️ [RATE_LIMIT] Redis 사용 불가 - 프로세스 내 제한으로 대체: {}", e.getMessage());
+            }
+            return consume
+                    ? fallback.tryAcquire(key, rate, period, burst)
+                    : fallback.check(key, rate, period, burst);
+        }
+        if (degraded.compareAndSet(true, false)) {
+            log.info("✅ [RATE_LIMIT] Redis 복구 - 공유 제한으로 복귀");
+        }
+        boolean allowed = ((Number) result.get(0)).longValue() == 1;
+        return allowed ? Decision.ALLOWED : Decision.denied(((Number) result.get(1)).longValue());
+    }
+}
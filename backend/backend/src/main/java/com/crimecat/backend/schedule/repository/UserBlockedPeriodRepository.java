@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,6 +28,13 @@ public interface UserBlockedPeriodRepository extends JpaRepository<UserBlockedPe
     Optional<UserBlockedPeriod> findByUserIdAndPeriodStart(@Param("userId") UUID userId, 
                                                            @Param("periodStart") LocalDate periodStart);
     
+    /**
+     * 여러 사용자의 특정 기간 비활성화 정보 일괄 조회 (추천 계산용)
+     */
+    @Query("SELECT ubp FROM UserBlockedPeriod ubp WHERE ubp.user.id IN :userIds AND ubp.periodStart = :periodStart")
+    List<UserBlockedPeriod> findByUserIdInAndPeriodStart(@Param("userIds") Collection<UUID> userIds,
+                                                         @Param("periodStart") LocalDate periodStart);
+    
     /**
      * 특정 사용자의 모든 비활성화 기간 조회
      */
@@ -23,6 +23,14 @@ public interface UserCalendarRepository extends JpaRepository<UserCalendar, UUID
     
     List<UserCalendar> findByUserIdAndIsActiveOrderBySortOrder(UUID userId, Boolean isActive);
     
+    // 백그라운드 갱신 대상 (전체 활성 캘린더)
+    @Query("SELECT uc FROM UserCalendar uc WHERE uc.isActive = true")
+    List<UserCalendar> findAllActiveCalendars();
+
+    // 백그라운드 갱신 대상 변경분 (생성 또는 수정 시각 기준, 비활성 포함)
+    @Query("SELECT uc FROM UserCalendar uc WHERE uc.createdAt >= :since OR uc.updatedAt >= :since")
+    List<UserCalendar> findChangedSince(@Param("since") LocalDateTime since);
+    
     int countByUserIdAndIsActive(UUID userId, Boolean isActive);
     
     Optional<UserCalendar> findByUserIdAndIcalUrl(UUID userId, String icalUrl);
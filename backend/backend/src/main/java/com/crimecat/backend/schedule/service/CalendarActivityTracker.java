@@ -0,0 +1,87 @@
+package com.crimecat.backend.schedule.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 캘린더 조회 활동 기록
+ * - 최근 조회 시각: 백그라운드 갱신 주기 단축 대상 판단
+ * - 최근 조회 기간(start~end): 갱신 후 같은 키로 캐시를 미리 채우기 위해 보관
+ */
+@Component
+public class CalendarActivityTracker {
+
+    private static final int MAX_WINDOWS_PER_USER = 3;
+
+    private final Cache<UUID, UserActivity> activities;
+    private final Duration activeWindow;
+
+    public CalendarActivityTracker(
+            @Value("${calendar.refresh.active-user-minutes:30}") long activeUserMinutes,
+            @Value("${calendar.refresh.activity-retention-hours:24}") long retentionHours) {
+        this.activeWindow = Duration.ofMinutes(activeUserMinutes);
+        this.activities = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofHours(retentionHours))
+                .maximumSize(50_000)
+                .build();
+    }
+
+    /**
+     * 캘린더 조회 기록
+     */
+    public void recordView(UUID userId, LocalDate startDate, LocalDate endDate) {
+        UserActivity activity = activities.get(userId, id -> new UserActivity());
+        synchronized (activity) {
+            activity.lastViewedAt = System.currentTimeMillis();
+            String window = startDate + ":" + endDate;
+            activity.windows.remove(window);
+            activity.windows.add(window);
+            if (activity.windows.size() > MAX_WINDOWS_PER_USER) {
+                activity.windows.remove(activity.windows.iterator().next());
+            }
+        }
+        activities.put(userId, activity);
+    }
+
+    /**
+     * 최근(active-user-minutes 이내) 조회한 사용자인지
+     */
+    public boolean isActive(UUID userId) {
+        UserActivity activity = activities.getIfPresent(userId);
+        return activity != null
+                && System.currentTimeMillis() - activity.lastViewedAt <= activeWindow.toMillis();
+    }
+
+    /**
+     * 최근 조회한 기간 목록 (오래된 순)
+     */
+    public List<LocalDate[]> recentWindows(UUID userId) {
+        UserActivity activity = activities.getIfPresent(userId);
+        if (activity == null) {
+            return List.of();
+        }
+        List<LocalDate[]> windows = new ArrayList<>();
+        synchronized (activity) {
+            for (String window : activity.windows) {
+                int separator = window.indexOf(':');
+                windows.add(new LocalDate[]{
+                        LocalDate.parse(window.substring(0, separator)),
+                        LocalDate.parse(window.substring(separator + 1))});
+            }
+        }
+        return windows;
+    }
+
+    private static class UserActivity {
+        private volatile long lastViewedAt;
+        private final LinkedHashSet<String> windows = new LinkedHashSet<>();
+    }
+}
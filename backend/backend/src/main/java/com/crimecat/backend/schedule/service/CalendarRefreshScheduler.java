@@ -0,0 +1,519 @@
+package com.crimecat.backend.schedule.service;
+
+import com.crimecat.backend.schedule.domain.UserCalendar;
+import com.crimecat.backend.schedule.dto.response.CalendarEventsResponse;
+import com.crimecat.backend.schedule.repository.UserCalendarRepository;
+import com.crimecat.backend.utils.RedisLockService;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * iCal 캘린더 백그라운드 갱신 스케줄러
+ * - 캘린더별 다음 갱신 시각을 Redis ZSET 으로 공유하고, 각 인스턴스는 도래한 캘린더를 처리할 수 있는 만큼만 가져감(claim)
+ *   (가져간 항목은 잠시 뒤로 미뤄 두어 다른 인스턴스가 중복 처리하지 않고, 인스턴스가 죽으면 그 시각에 다시 도래)
+ * - 갱신 주기는 적응형: 변경이 잦으면 짧게, 변경이 없으면 길게, 오류 시 지수 백오프 (상태도 Redis 에 공유)
+ * - 최근 조회한 사용자는 주기 상한을 낮춰 조회 시점에 캐시가 이미 최신이 되도록 함
+ * - 동기화 후 최근 조회 기간의 통합 캘린더 캐시를 미리 채움 → 조회 요청은 원격 서버를 기다리지 않음
+ * - 워커 풀/대기열 크기를 제한해 원격 서버와 DB 부하 상한 유지 (대기열 여유만큼만 가져감)
+ * - 대상 목록은 한 인스턴스만 생성/수정 시각 기준 변경분으로 반영하고, 전체 대조는 reconcile 주기마다 한 번
+ * - 같은 사용자를 동시에 갱신하지 않도록 Redis 잠금 사용 (토큰 비교 후 해제)
+ */
+@Slf4j
+@Component
+public class CalendarRefreshScheduler {
+
+    private static final String LOCK_KEY_PREFIX = "calendar:refresh:lock:";
+    private static final String RELOAD_LOCK_KEY = "calendar:refresh:reload:lock";
+    /** 다음 갱신 시각 (score: epoch millis, member: {calendarId}:{userId}) */
+    private static final String DUE_KEY = "calendar:refresh:due";
+    /** 캘린더 ID → 적응형 주기 상태 */
+    private static final String STATE_KEY = "calendar:refresh:state";
+    /** 마지막 변경분 조회 시각 / 마지막 전체 대조 시각 (epoch millis) */
+    private static final String WATERMARK_KEY = "calendar:refresh:watermark";
+    private static final String RECONCILED_KEY = "calendar:refresh:reconciled-at";
+    private static final int DEFAULT_WINDOW_MONTHS = 2;
+    /** 변경분 조회 겹침 (DB/인스턴스 시계 차이 여유) */
+    private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(1);
+
+    /** 도래한 항목을 가져가면서 lease 시각으로 미룸 */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            for _, member in ipairs(due) do
+              redis.call('ZADD', KEYS[1], ARGV[3], member)
+            end
+            return due
+            """, List.class);
+
+    /** 아직 등록된 항목만 다음 시각으로 이동 (그 사이 비활성/삭제된 캘린더를 되살리지 않음) */
+    private static final RedisScript<Long> RESCHEDULE_SCRIPT = new DefaultRedisScript<>("""
+            local moved = 0
+            for i = 2, #ARGV do
+              if redis.call('ZSCORE', KEYS[1], ARGV[i]) then
+                redis.call('ZADD', KEYS[1], ARGV[1], ARGV[i])
+                moved = moved + 1
+              end
+            end
+            return moved
+            """, Long.class);
+
+    private final UserCalendarRepository userCalendarRepository;
+    private final MultipleCalendarService multipleCalendarService;
+    private final UnifiedCalendarCacheService unifiedCalendarCacheService;
+    private final CalendarActivityTracker calendarActivityTracker;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLockService redisLockService;
+
+    private final Duration baseInterval;
+    private final Duration minInterval;
+    private final Duration maxInterval;
+    private final Duration activeMaxInterval;
+    private final Duration maxErrorBackoff;
+    private final Duration reconcileInterval;
+    private final Duration lockTtl;
+    private final int maxUsersPerTick;
+
+    /** 현재 처리 중인 사용자 (같은 사용자 중복 실행 방지) */
+    private final Set<UUID> runningUsers = ConcurrentHashMap.newKeySet();
+
+    private final ThreadPoolExecutor workers;
+
+    public CalendarRefreshScheduler(
+            UserCalendarRepository userCalendarRepository,
+            MultipleCalendarService multipleCalendarService,
+            UnifiedCalendarCacheService unifiedCalendarCacheService,
+            CalendarActivityTracker calendarActivityTracker,
+            RedisTemplate<String, String> redisTemplate,
+            RedisLockService redisLockService,
+            @Value("${calendar.refresh.base-interval-minutes:30}") long baseIntervalMinutes,
+            @Value("${calendar.refresh.min-interval-minutes:5}") long minIntervalMinutes,
+            @Value("${calendar.refresh.max-interval-minutes:360}") long maxIntervalMinutes,
+            @Value("${calendar.refresh.active-max-interval-minutes:10}") long activeMaxIntervalMinutes,
+            @Value("${calendar.refresh.max-error-backoff-minutes:1440}") long maxErrorBackoffMinutes,
+            @Value("${calendar.refresh.reconcile-interval-minutes:60}") long reconcileIntervalMinutes,
+            @Value("${calendar.refresh.worker-threads:4}") int workerThreads,
+            @Value("${calendar.refresh.queue-capacity:200}") int queueCapacity,
+            @Value("${calendar.refresh.max-users-per-tick:100}") int maxUsersPerTick) {
+        this.userCalendarRepository = userCalendarRepository;
+        this.multipleCalendarService = multipleCalendarService;
+        this.unifiedCalendarCacheService = unifiedCalendarCacheService;
+        this.calendarActivityTracker = calendarActivityTracker;
+        this.redisTemplate = redisTemplate;
+        this.redisLockService = redisLockService;
+        this.baseInterval = Duration.ofMinutes(baseIntervalMinutes);
+        this.minInterval = Duration.ofMinutes(minIntervalMinutes);
+        this.maxInterval = Duration.ofMinutes(maxIntervalMinutes);
+        this.activeMaxInterval = Duration.ofMinutes(activeMaxIntervalMinutes);
+        this.maxErrorBackoff = Duration.ofMinutes(maxErrorBackoffMinutes);
+        this.reconcileInterval = Duration.ofMinutes(reconcileIntervalMinutes);
+        this.lockTtl = Duration.ofMinutes(5);
+        this.maxUsersPerTick = maxUsersPerTick;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(
+                workerThreads, workerThreads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "CalendarRefresh-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 갱신 대상 반영 (한 인스턴스만 실행)
+     * - 평소: 마지막 조회 이후 생성/수정된 캘린더만 읽어 등록(활성) 또는 제거(비활성)
+     * - reconcile 주기마다: 전체 활성 캘린더와 대조해 누락 등록 + 삭제된 캘린더 제거
+     */
+    @Scheduled(initialDelayString = "${calendar.refresh.initial-delay-ms:60000}",
+               fixedDelayString = "${calendar.refresh.reload-interval-ms:300000}")
+    public void reloadCalendars() {
+        String token = redisLockService.tryLock(RELOAD_LOCK_KEY, lockTtl);
+        if (token == null) {
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            String watermark = redisTemplate.opsForValue().get(WATERMARK_KEY);
+            String reconciledAt = redisTemplate.opsForValue().get(RECONCILED_KEY);
+            if (watermark == null || reconciledAt == null
+                    || startedAt - Long.parseLong(reconciledAt) >= reconcileInterval.toMillis()) {
+                reconcileAll(startedAt);
+                redisTemplate.opsForValue().set(RECONCILED_KEY, String.valueOf(startedAt));
+            } else {
+                applyChanges(Long.parseLong(watermark) - WATERMARK_OVERLAP.toMillis(), startedAt);
+            }
+            redisTemplate.opsForValue().set(WATERMARK_KEY, String.valueOf(startedAt));
+        } catch (Exception e) {
+            log.error("❌ [CALENDAR_REFRESH] 대상 캘린더 조회 실패: {}", e.getMessage(), e);
+        } finally {
+            redisLockService.unlock(RELOAD_LOCK_KEY, token);
+        }
+    }
+
+    /**
+     * 갱신 시각이 도래한 캘린더를 워커 대기열 여유만큼 가져와 사용자 단위로 묶어 전달
+     */
+    @Scheduled(initialDelayString = "${calendar.refresh.initial-delay-ms:60000}",
+               fixedDelayString = "${calendar.refresh.tick-ms:15000}")
+    public void dispatchDueCalendars() {
+        int capacity = Math.min(maxUsersPerTick, workers.getQueue().remainingCapacity());
+        if (capacity <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<String> claimed;
+        try {
+            claimed = claim(now, capacity, now + lockTtl.toMillis());
+        } catch (Exception e) {
+            log.warn("⚠️ [CALENDAR_REFRESH] 도래 캘린더 조회 실패: {}", e.getMessage());
+            return;
+        }
+
+        Map<UUID, List<String>> dueByUser = new LinkedHashMap<>();
+        for (String member : claimed) {
+            UUID userId = userIdOf(member);
+            if (userId != null) {
+                dueByUser.computeIfAbsent(userId, id -> new ArrayList<>()).add(member);
+            }
+        }
+
+        for (Map.Entry<UUID, List<String>> entry : dueByUser.entrySet()) {
+            UUID userId = entry.getKey();
+            List<String> members = entry.getValue();
+            if (!runningUsers.add(userId)) {
+                reschedule(members, now + minInterval.toMillis());
+                continue;
+            }
+            try {
+                workers.execute(() -> {
+                    try {
+                        refreshUser(userId, members);
+                    } finally {
+                        runningUsers.remove(userId);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                runningUsers.remove(userId);
+                reschedule(members, now + minInterval.toMillis());
+                log.warn("⚠️ [CALENDAR_REFRESH] 워커 대기열 가득 참, 다음 틱으로 연기: userId={}", userId);
+            }
+        }
+
+        if (!dueByUser.isEmpty()) {
+            log.debug("📅 [CALENDAR_REFRESH] {}명 사용자 갱신 요청 (대기 {}건)", dueByUser.size(), workers.getQueue().size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * 사용자 단위 갱신: 도래한 캘린더 동기화 → 캐시 미리 채우기 → 다음 주기 계산
+     */
+    private void refreshUser(UUID userId, List<String> members) {
+        String lockKey = LOCK_KEY_PREFIX + userId;
+        String token = redisLockService.tryLock(lockKey, lockTtl);
+        if (token == null) {
+            // 다른 인스턴스가 처리 중 → 그 결과가 DB 에 반영되므로 짧게 미룸
+            reschedule(members, System.currentTimeMillis() + minInterval.toMillis());
+            return;
+        }
+
+        List<UUID> calendarIds = new ArrayList<>();
+        Map<UUID, String> memberById = new LinkedHashMap<>();
+        for (String member : members) {
+            UUID calendarId = calendarIdOf(member);
+            calendarIds.add(calendarId);
+            memberById.put(calendarId, member);
+        }
+
+        Map<UUID, SyncResult> results = Map.of();
+        CalendarEventsResponse defaultWindow = null;
+        Set<UUID> activeIds = new HashSet<>();
+        try {
+            List<UserCalendar> calendars = new ArrayList<>();
+            for (UserCalendar calendar : userCalendarRepository.findAllById(calendarIds)) {
+                if (Boolean.TRUE.equals(calendar.getIsActive())) {
+                    calendars.add(calendar);
+                    activeIds.add(calendar.getId());
+                }
+            }
+            results = multipleCalendarService.syncCalendars(calendars);
+            defaultWindow = warmCaches(userId);
+        } catch (Exception e) {
+            log.error("❌ [CALENDAR_REFRESH] 사용자 캘린더 갱신 실패: userId={}, error={}", userId, e.getMessage(), e);
+            activeIds.addAll(calendarIds);
+        } finally {
+            redisLockService.unlock(lockKey, token);
+        }
+
+        boolean active = calendarActivityTracker.isActive(userId);
+        List<Object> states = redisTemplate.opsForHash().multiGet(STATE_KEY, new ArrayList<>(
+                calendarIds.stream().map(UUID::toString).toList()));
+        for (int i = 0; i < calendarIds.size(); i++) {
+            UUID calendarId = calendarIds.get(i);
+            if (!activeIds.contains(calendarId)) {
+                // 삭제/비활성 캘린더는 대상에서 제거
+                unregister(memberById.get(calendarId), calendarId);
+                continue;
+            }
+            RefreshState state = RefreshState.parse(states.get(i), baseInterval);
+            SyncResult result = results.get(calendarId);
+            boolean failed = result == null || result.isFailure();
+            Integer fingerprint = failed ? null : fingerprint(defaultWindow, calendarId);
+            scheduleNext(memberById.get(calendarId), calendarId, state, failed, fingerprint, active);
+        }
+    }
+
+    /**
+     * 최근 조회 기간 + 기본 기간(오늘 ~ 2개월)의 통합 캘린더 캐시 갱신
+     * @return 기본 기간 응답 (변경 감지용)
+     */
+    private CalendarEventsResponse warmCaches(UUID userId) {
+        LocalDate today = LocalDate.now();
+        LocalDate defaultEnd = today.plusMonths(DEFAULT_WINDOW_MONTHS);
+        CalendarEventsResponse defaultWindow = null;
+
+        for (LocalDate[] window : calendarActivityTracker.recentWindows(userId)) {
+            CalendarEventsResponse response = unifiedCalendarCacheService.warmCalendarEvents(userId, window[0], window[1]);
+            if (window[0].equals(today) && window[1].equals(defaultEnd)) {
+                defaultWindow = response;
+            }
+        }
+        if (defaultWindow == null) {
+            defaultWindow = unifiedCalendarCacheService.warmCalendarEvents(userId, today, defaultEnd);
+        }
+        return defaultWindow;
+    }
+
+    /**
+     * 다음 갱신 시각 계산
+     * - 오류: 기본 주기 × 2^연속오류 (상한 max-error-backoff)
+     * - 변경됨: 주기 절반 (하한 min-interval)
+     * - 변경 없음: 주기 2배 (상한 max-interval)
+     * - 최근 조회 사용자: 상한 active-max-interval
+     */
+    private void scheduleNext(String member, UUID calendarId, RefreshState state, boolean failed,
+                              Integer fingerprint, boolean active) {
+        Duration next;
+        if (failed) {
+            state.consecutiveErrors = Math.min(state.consecutiveErrors + 1, 16);
+            next = min(baseInterval.multipliedBy(1L << state.consecutiveErrors), maxErrorBackoff);
+        } else {
+            state.consecutiveErrors = 0;
+            if (state.fingerprint == null || fingerprint == null) {
+                next = state.interval;
+            } else if (!state.fingerprint.equals(fingerprint)) {
+                next = max(state.interval.dividedBy(2), minInterval);
+            } else {
+                next = min(state.interval.multipliedBy(2), maxInterval);
+            }
+            state.interval = next;
+            if (fingerprint != null) {
+                state.fingerprint = fingerprint;
+            }
+            if (active) {
+                next = min(next, activeMaxInterval);
+            }
+        }
+
+        redisTemplate.opsForHash().put(STATE_KEY, calendarId.toString(), state.serialize());
+        reschedule(List.of(member), System.currentTimeMillis() + next.toMillis());
+        log.debug("📅 [CALENDAR_REFRESH] 다음 갱신 예약: calendarId={}, after={}m, errors={}",
+                calendarId, next.toMinutes(), state.consecutiveErrors);
+    }
+
+    /**
+     * 전체 활성 캘린더와 대조 (누락 등록 + 없어진 캘린더 제거)
+     */
+    private void reconcileAll(long now) {
+        List<UserCalendar> calendars = userCalendarRepository.findAllActiveCalendars();
+        Set<String> activeMembers = new HashSet<>();
+        int added = 0;
+        for (UserCalendar calendar : calendars) {
+            activeMembers.add(memberOf(calendar));
+            if (register(calendar, now)) {
+                added++;
+            }
+        }
+
+        int removed = 0;
+        Set<String> registered = redisTemplate.opsForZSet().range(DUE_KEY, 0, -1);
+        if (registered != null) {
+            for (String member : registered) {
+                if (!activeMembers.contains(member)) {
+                    unregister(member, calendarIdOf(member));
+                    removed++;
+                }
+            }
+        }
+        log.debug("📅 [CALENDAR_REFRESH] 전체 대조: total={}, added={}, removed={}", calendars.size(), added, removed);
+    }
+
+    /**
+     * since 이후 생성/수정된 캘린더만 반영
+     */
+    private void applyChanges(long since, long now) {
+        List<UserCalendar> changed = userCalendarRepository.findChangedSince(
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(since), ZoneId.systemDefault()));
+        int added = 0;
+        int removed = 0;
+        for (UserCalendar calendar : changed) {
+            if (Boolean.TRUE.equals(calendar.getIsActive())) {
+                if (register(calendar, now)) {
+                    added++;
+                }
+            } else {
+                unregister(memberOf(calendar), calendar.getId());
+                removed++;
+            }
+        }
+        log.debug("📅 [CALENDAR_REFRESH] 변경분 반영: changed={}, added={}, removed={}", changed.size(), added, removed);
+    }
+
+    /**
+     * 아직 없는 캘린더만 등록 (마지막 동기화 시각 + 기본 주기)
+     */
+    private boolean register(UserCalendar calendar, long now) {
+        long dueAt = calendar.getLastSyncedAt() == null
+                ? now
+                : Math.max(now, toEpochMillis(calendar.getLastSyncedAt()) + baseInterval.toMillis());
+        return Boolean.TRUE.equals(redisTemplate.opsForZSet().addIfAbsent(DUE_KEY, memberOf(calendar), dueAt));
+    }
+
+    private void unregister(String member, UUID calendarId) {
+        redisTemplate.opsForZSet().remove(DUE_KEY, member);
+        redisTemplate.opsForHash().delete(STATE_KEY, calendarId.toString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> claim(long now, int limit, long leaseUntil) {
+        List<String> claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(DUE_KEY),
+                String.valueOf(now), String.valueOf(limit), String.valueOf(leaseUntil));
+        return claimed != null ? claimed : List.of();
+    }
+
+    private void reschedule(List<String> members, long dueAt) {
+        if (members.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(members.size() + 1);
+        args.add(String.valueOf(dueAt));
+        args.addAll(members);
+        try {
+            redisTemplate.execute(RESCHEDULE_SCRIPT, List.of(DUE_KEY), args.toArray());
+        } catch (Exception e) {
+            // 실패해도 claim 시 설정한 lease 시각에 다시 도래
+            log.warn("⚠️ [CALENDAR_REFRESH] 다음 갱신 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String memberOf(UserCalendar calendar) {
+        return calendar.getId() + ":" + calendar.getUser().getId();
+    }
+
+    private static UUID calendarIdOf(String member) {
+        return UUID.fromString(member.substring(0, member.indexOf(':')));
+    }
+
+    private static UUID userIdOf(String member) {
+        int separator = member.indexOf(':');
+        try {
+            return separator > 0 ? UUID.fromString(member.substring(separator + 1)) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 캘린더별 이벤트 지문 (제목 + 시작/종료 시각)
+     */
+    private static Integer fingerprint(CalendarEventsResponse response, UUID calendarId) {
+        if (response == null || response.getCalendarGroups() == null) {
+            return null;
+        }
+        MultipleCalendarService.CalendarGroup group = response.getCalendarGroups().get(calendarId.toString());
+        if (group == null || group.getEvents() == null) {
+            return null;
+        }
+        int hash = 1;
+        for (MultipleCalendarService.CalendarEvent event : group.getEvents()) {
+            hash = 31 * hash + Objects.hash(event.getTitle(), event.getStartTime(), event.getEndTime());
+        }
+        return hash;
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    /**
+     * 적응형 주기 상태 (Redis 값: "{주기 ms}|{연속 오류}|{지문}")
+     */
+    private static class RefreshState {
+        private Duration interval;
+        private int consecutiveErrors;
+        private Integer fingerprint;
+
+        private static RefreshState parse(Object value, Duration defaultInterval) {
+            RefreshState state = new RefreshState();
+            state.interval = defaultInterval;
+            if (value == null) {
+                return state;
+            }
+            String[] parts = value.toString().split("\\|", -1);
+            try {
+                state.interval = Duration.ofMillis(Long.parseLong(parts[0]));
+                state.consecutiveErrors = Integer.parseInt(parts[1]);
+                state.fingerprint = parts[2].isEmpty() ? null : Integer.valueOf(parts[2]);
+            } catch (RuntimeException e) {
+                // 형식이 다르면 기본 상태에서 다시 시작
+                state.interval = defaultInterval;
+                state.consecutiveErrors = 0;
+                state.fingerprint = null;
+            }
+            return state;
+        }
+
+        private String serialize() {
+            return interval.toMillis() + "|" + consecutiveErrors + "|" + (fingerprint != null ? fingerprint : "");
+        }
+    }
+}
@@ -35,6 +35,7 @@ public class EventLeaveService {
     private final EventRepository eventRepository;
     private final EventParticipantRepository eventParticipantRepository;
     private final EventStatusService eventStatusService;
+    private final ScheduleCacheDependencyService scheduleCacheDependencyService;
 
     /**
      * 이벤트 나가기 처리
@@ -45,9 +46,7 @@ public class EventLeaveService {
     @Caching(evict = {
         @CacheEvict(value = CacheNames.SCHEDULE_EVENT_LIST, allEntries = true),
         @CacheEvict(value = CacheNames.SCHEDULE_EVENT_DETAIL, key = "#eventId.toString()"),
-        @CacheEvict(value = CacheNames.SCHEDULE_PARTICIPANTS, allEntries = true),
-        @CacheEvict(value = CacheNames.SCHEDULE_AVAILABILITY, allEntries = true),
-        @CacheEvict(value = CacheNames.SCHEDULE_RECOMMENDED_TIMES, allEntries = true)
+        @CacheEvict(value = CacheNames.SCHEDULE_PARTICIPANTS, allEntries = true)
     })
     public LeaveResult leaveEvent(UUID eventId, UUID userId) {
         log.info("User {} attempting to leave event {}", userId, eventId);
@@ -75,6 +74,7 @@ public class EventLeaveService {
         // 나가기 처리
         participation.setLeftAt(LocalDateTime.now());
         eventParticipantRepository.save(participation);
+        scheduleCacheDependencyService.onParticipationChanged(eventId, userId);
         
         // 남은 활성 참여자 수 계산
         int activeParticipantCount = eventParticipantRepository.countActiveByEvent(event);
@@ -105,9 +105,7 @@ public class EventLeaveService {
     @Caching(evict = {
         @CacheEvict(value = CacheNames.SCHEDULE_EVENT_LIST, allEntries = true),
         @CacheEvict(value = CacheNames.SCHEDULE_EVENT_DETAIL, key = "#eventId.toString()"),
-        @CacheEvict(value = CacheNames.SCHEDULE_PARTICIPANTS, allEntries = true),
-        @CacheEvict(value = CacheNames.SCHEDULE_AVAILABILITY, allEntries = true),
-        @CacheEvict(value = CacheNames.SCHEDULE_RECOMMENDED_TIMES, allEntries = true)
+        @CacheEvict(value = CacheNames.SCHEDULE_PARTICIPANTS, allEntries = true)
     })
     public RejoinResult rejoinEvent(UUID eventId, UUID userId) {
         log.info("User {} attempting to rejoin event {}", userId, eventId);
@@ -141,6 +139,7 @@ public class EventLeaveService {
         // 재참여 처리
         participation.setLeftAt(null); // leftAt 초기화
         eventParticipantRepository.save(participation);
+        scheduleCacheDependencyService.onParticipationChanged(eventId, userId);
         
         // 활성 참여자 수 재계산
         int activeParticipantCount = eventParticipantRepository.countActiveByEvent(event);
@@ -0,0 +1,373 @@
+package com.crimecat.backend.schedule.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * iCal 피드 조회 공통 컴포넌트
+ * - 가상 스레드에서 여러 캘린더를 동시에 다운로드 (호스트별 동시 요청 수 제한 + 타임아웃)
+ * - 호스트별 허용 수는 요청부터 본문을 다 읽을 때까지 점유 (헤더만 받고 반환하지 않음)
+ * - join 은 awaitTimeout 까지만 대기 (느린 피드 하나가 호출 스레드를 붙잡지 않음)
+ * - ETag / Last-Modified 를 기억해 조건부 GET, 304 응답이면 이전 파싱 결과 재사용
+ * - 200 응답이라도 ETag(없으면 Last-Modified)가 이전과 같으면 본문을 읽지 않고 캐시된 결과 반환
+ * - 그 외 200 응답은 본문을 메모리에 모으지 않고 스트리밍으로 파싱하면서 해시
+ *   (해시가 이전과 같으면 새 파싱 결과 대신 캐시된 인스턴스를 유지)
+ * - 파싱 결과는 (파서, URL, 본문 해시) 키로 캐시, 본문 크기는 읽는 도중 maxBodyBytes 로 제한
+ * - 파싱 결과 캐시는 항목 수가 아니라 파서가 읽은 본문 바이트 합계(cacheMaxWeightBytes)로 제한
+ *   (수 MB 피드 수천 건이 한꺼번에 남아 힙을 채우지 않음)
+ */
+@Slf4j
+@Component
+public class ICalFeedFetcher {
+
+    private final HttpClient httpClient;
+    private final ExecutorService executor;
+    private final Duration requestTimeout;
+    private final Duration awaitTimeout;
+    private final int perHostConcurrency;
+    private final int maxBodyBytes;
+
+    /** 호스트별 동시 요청 제한 */
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    /** 파서 + URL → 마지막 응답의 검증자 (ETag, Last-Modified, 본문 해시) */
+    private final Cache<String, FeedValidator> validators;
+
+    /** 파서 + URL + 본문 해시 → 파싱 결과 (가중치 = 파서가 읽은 본문 바이트) */
+    private final Cache<String, ParsedFeed> parsedFeeds;
+
+    public ICalFeedFetcher(
+            @Value("${ical.fetch.connect-timeout-seconds:5}") long connectTimeoutSeconds,
+            @Value("${ical.fetch.request-timeout-seconds:15}") long requestTimeoutSeconds,
+            @Value("${ical.fetch.await-timeout-seconds:30}") long awaitTimeoutSeconds,
+            @Value("${ical.fetch.per-host-concurrency:4}") int perHostConcurrency,
+            @Value("${ical.fetch.max-body-bytes:20971520}") int maxBodyBytes,
+            @Value("${ical.fetch.cache-max-size:2000}") long cacheMaxSize,
+            @Value("${ical.fetch.cache-max-weight-bytes:67108864}") long cacheMaxWeightBytes,
+            @Value("${ical.fetch.cache-ttl-hours:6}") long cacheTtlHours) {
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.httpClient = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(connectTimeoutSeconds))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.requestTimeout = Duration.ofSeconds(requestTimeoutSeconds);
+        this.awaitTimeout = Duration.ofSeconds(awaitTimeoutSeconds);
+        this.perHostConcurrency = perHostConcurrency;
+        this.maxBodyBytes = maxBodyBytes;
+        this.validators = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterAccess(cacheTtlHours, TimeUnit.HOURS)
+                .build();
+        this.parsedFeeds = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxWeightBytes)
+                .weigher((String key, ParsedFeed feed) -> feed.weight())
+                .expireAfterAccess(cacheTtlHours, TimeUnit.HOURS)
+                .build();
+    }
+
+    /**
+     * 피드를 조회해 파싱 결과 반환 (변경 없으면 캐시된 결과)
+     *
+     * @param url        iCal URL (정규화 완료된 값)
+     * @param parserName 파싱 결과 종류 구분자 (같은 피드를 다른 형태로 파싱하는 호출자 구분)
+     * @param parser     본문 → 결과 변환 함수
+     * @throws ICalFetchException HTTP 오류 또는 네트워크 오류
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T fetch(String url, String parserName, FeedParser<T> parser) {
+        String feedKey = parserName + "|" + url;
+        FeedValidator validator = validators.getIfPresent(feedKey);
+        ParsedFeed cachedFeed = validator != null ? parsedFeeds.getIfPresent(parsedKey(feedKey, validator.contentHash())) : null;
+        T cached = cachedFeed != null ? (T) cachedFeed.value() : null;
+
+        URI uri = URI.create(url);
+        Semaphore permits = acquirePermit(uri);
+        try {
+            HttpResponse<InputStream> response = send(uri, cached != null ? validator : null);
+            try (InputStream body = response.body()) {
+                if (response.statusCode() == 304 && cached != null) {
+                    log.debug("📅 [ICAL_FETCH] 304 Not Modified, 캐시 사용: {}", url);
+                    return cached;
+                }
+                if (response.statusCode() >= 400) {
+                    throw new ICalFetchException(response.statusCode(), "HTTP " + response.statusCode());
+                }
+
+                String etag = response.headers().firstValue("ETag").orElse(null);
+                String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+                if (cached != null && validator.sameVersion(etag, lastModified)) {
+                    log.debug("📅 [ICAL_FETCH] 검증자 동일, 본문 읽기 생략: {}", url);
+                    return cached;
+                }
+
+                // 파싱하면서 해시 (파서가 중간에 멈춰도 남은 본문까지 읽어 해시는 본문 전체 기준)
+                MessageDigest digest = sha256();
+                BoundedInputStream bounded = new BoundedInputStream(body, maxBodyBytes);
+                DigestInputStream hashing = new DigestInputStream(bounded, digest);
+                T parsed = parser.parse(new InputStreamReader(hashing, StandardCharsets.UTF_8));
+                long parsedBytes = bounded.getCount();
+                hashing.transferTo(OutputStream.nullOutputStream());
+                if (bounded.isExceeded()) {
+                    // 파서가 예외를 삼켰더라도 잘린 본문의 결과는 사용하지 않음
+                    throw tooLarge();
+                }
+                String contentHash = HexFormat.of().formatHex(digest.digest());
+                FeedValidator updated = new FeedValidator(etag, lastModified, contentHash);
+
+                if (cached != null && contentHash.equals(validator.contentHash())) {
+                    log.debug("📅 [ICAL_FETCH] 본문 해시 동일, 캐시된 결과 유지: {}", url);
+                    validators.put(feedKey, updated);
+                    return cached;
+                }
+
+                validators.put(feedKey, updated);
+                if (parsed != null) {
+                    parsedFeeds.put(parsedKey(feedKey, contentHash), new ParsedFeed(parsed, parsedBytes));
+                }
+                return parsed;
+            }
+        } catch (IOException e) {
+            throw new ICalFetchException(-1, "응답 읽기 실패: " + e.getMessage());
+        } finally {
+            // 헤더 수신 시점이 아니라 본문을 다 읽고(또는 닫고) 나서 반환
+            permits.release();
+        }
+    }
+
+    /**
+     * 여러 피드를 가상 스레드에서 동시에 조회
+     * - 개별 실패는 해당 future 의 예외로 전달 (다른 피드에는 영향 없음)
+     *
+     * @return URL → 결과 future (입력 순서 유지)
+     */
+    public <T> Map<String, CompletableFuture<T>> fetchAll(Collection<String> urls, String parserName,
+                                                          FeedParser<T> parser) {
+        Map<String, CompletableFuture<T>> futures = new LinkedHashMap<>();
+        for (String url : urls) {
+            futures.computeIfAbsent(url, u -> CompletableFuture.supplyAsync(() -> fetch(u, parserName, parser), executor));
+        }
+        return futures;
+    }
+
+    /**
+     * 지정된 작업을 피드 조회용 가상 스레드에서 실행
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    /**
+     * future 결과 대기 (CompletionException 은 원인 예외로 풀어서 전달)
+     * @throws ICalFetchException awaitTimeout 안에 끝나지 않으면 네트워크 오류로 처리
+     */
+    public <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get(awaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ICalFetchException(-1, "응답 대기 타임아웃 (" + awaitTimeout.toSeconds() + "초)");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ICalFetchException(-1, "요청이 중단되었습니다");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 호스트별 허용 수 획득 (requestTimeout 안에 못 얻으면 실패)
+     */
+    private Semaphore acquirePermit(URI uri) {
+        Semaphore permits = hostPermits.computeIfAbsent(String.valueOf(uri.getHost()),
+                host -> new Semaphore(perHostConcurrency));
+        try {
+            if (!permits.tryAcquire(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ICalFetchException(-1, "동시 요청 대기 타임아웃: " + uri.getHost());
+            }
+            return permits;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ICalFetchException(-1, "요청이 중단되었습니다");
+        }
+    }
+
+    private HttpResponse<InputStream> send(URI uri, FeedValidator validator) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("Accept", "text/calendar, */*")
+                .GET();
+        if (validator != null) {
+            if (validator.etag() != null) {
+                request.header("If-None-Match", validator.etag());
+            }
+            if (validator.lastModified() != null) {
+                request.header("If-Modified-Since", validator.lastModified());
+            }
+        }
+
+        try {
+            return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ICalFetchException(-1, "요청이 중단되었습니다");
+        } catch (IOException e) {
+            throw new ICalFetchException(-1, "연결 실패 또는 타임아웃: " + e.getMessage());
+        }
+    }
+
+    private ICalFetchException tooLarge() {
+        return new ICalFetchException(-1, "피드 크기 제한 초과 (" + maxBodyBytes + " bytes)");
+    }
+
+    private static String parsedKey(String feedKey, String contentHash) {
+        return feedKey + "|" + contentHash;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 응답 본문 파서 (스트리밍으로 받는 본문을 읽음, 끝까지 읽지 않아도 됨)
+     */
+    @FunctionalInterface
+    public interface FeedParser<T> {
+        T parse(Reader reader) throws IOException;
+    }
+
+    private record FeedValidator(String etag, String lastModified, String contentHash) {
+
+        /**
+         * 응답 헤더가 같은 버전을 가리키는지 (ETag 우선, 없으면 Last-Modified)
+         */
+        boolean sameVersion(String etag, String lastModified) {
+            if (etag != null) {
+                return etag.equals(this.etag);
+            }
+            return lastModified != null && lastModified.equals(this.lastModified);
+        }
+    }
+
+    /**
+     * 캐시된 파싱 결과
+     * - 가중치는 파서가 읽은 본문 바이트 (헤더만 읽는 파서는 작고, 전체 이벤트를 읽는 파서는 본문 크기에 비례)
+     */
+    private record ParsedFeed(Object value, long bytes) {
+
+        int weight() {
+            return (int) Math.max(1, Math.min(Integer.MAX_VALUE, bytes));
+        }
+    }
+
+    /**
+     * 읽은 바이트 수가 limit 를 넘으면 읽기를 중단하는 스트림
+     */
+    private class BoundedInputStream extends FilterInputStream {
+        private final long limit;
+        @Getter
+        private long count;
+        @Getter
+        private boolean exceeded;
+
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // 건너뛴 바이트는 해시에 빠지므로 허용하지 않음
+            return 0;
+        }
+
+        private void count(int n) {
+            count += n;
+            if (count > limit) {
+                exceeded = true;
+                throw tooLarge();
+            }
+        }
+    }
+
+    /**
+     * iCal 피드 조회 실패 (statusCode: HTTP 상태 코드, 네트워크 오류는 -1)
+     */
+    @Getter
+    public static class ICalFetchException extends RuntimeException {
+        private final int statusCode;
+
+        public ICalFetchException(int statusCode, String message) {
+            super(message);
+            this.statusCode = statusCode;
+        }
+
+        public boolean isNetworkError() {
+            return statusCode < 0;
+        }
+    }
+}
@@ -1,16 +1,14 @@
 package com.crimecat.backend.schedule.service;
 
+import com.crimecat.backend.schedule.util.ICalStreamReader;
+import java.io.IOException;
+import java.io.Reader;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.RestTemplate;
 
 /**
  * iCal (.ics) 파일 실시간 파싱 서비스
@@ -18,21 +16,12 @@ import org.springframework.web.client.RestTemplate;
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class ICalParsingService {
     
-    private final RestTemplate restTemplate;
+    private static final String EVENT_DATES_PARSER = "event-dates";
     
-    // iCal 날짜 포맷 패턴들
-    private static final Pattern DTSTART_PATTERN = Pattern.compile("DTSTART(?:;[^:]*)?:([\\d]{8}T?[\\d]{0,6}Z?)");
-    private static final Pattern DTEND_PATTERN = Pattern.compile("DTEND(?:;[^:]*)?:([\\d]{8}T?[\\d]{0,6}Z?)");
-    private static final DateTimeFormatter ICAL_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
-    private static final DateTimeFormatter ICAL_DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
-    
-    public ICalParsingService() {
-        this.restTemplate = new RestTemplate();
-        // 타임아웃 설정 (10초)
-        restTemplate.getRequestFactory();
-    }
+    private final ICalFeedFetcher icalFeedFetcher;
     
     /**
      * iCal URL에서 지정된 기간의 날짜 목록 추출
@@ -44,11 +33,8 @@ public class ICalParsingService {
         log.info("📅 iCal 파싱 시작: url={}, months={}",icalUrl, months);
         
         try {
-            // 1. iCal 데이터 다운로드
-            String icalData = downloadICalData(icalUrl);
-            
-            // 2. 이벤트 날짜 추출
-            Set<LocalDate> dates = extractEventDates(icalData, months);
+            // iCal 스트림에서 조회 기간 내 이벤트 날짜만 추출 (변경 없는 피드는 캐시 사용)
+            Set<LocalDate> dates = downloadEventDates(icalUrl, months);
             
             log.info("✅ iCal 파싱 완료: {} 개 날짜 추출", dates.size());
             return dates;
@@ -71,14 +57,23 @@ public class ICalParsingService {
         Set<LocalDate> allDates = new HashSet<>();
         List<String> errors = new ArrayList<>();
         
-        for (String icalUrl : icalUrls) {
+        // 모든 캘린더를 동시에 다운로드
+        LocalDate startDate = LocalDate.now();
+        LocalDate endDate = periodEnd(startDate, months);
+        Map<String, CompletableFuture<Set<LocalDate>>> fetches = icalFeedFetcher.fetchAll(
+            icalUrls, parserName(startDate, endDate), reader -> parseEventDates(reader, startDate, endDate));
+        
+        for (Map.Entry<String, CompletableFuture<Set<LocalDate>>> entry : fetches.entrySet()) {
+            String icalUrl = entry.getKey();
             try {
-                Set<LocalDate> dates = parseICalDates(icalUrl, months);
+                Set<LocalDate> dates = icalFeedFetcher.join(entry.getValue());
                 allDates.addAll(dates);
                 log.debug("📅 캘린더 파싱 성공: {} 개 날짜", dates.size());
             } catch (Exception e) {
-                log.warn("⚠️ 개별 캘린더 파싱 실패: {}", e.getMessage());
-                errors.add(maskUrl(icalUrl) + ": " + e.getMessage());
+                String message = e instanceof ICalFeedFetcher.ICalFetchException fetchException
+                    ? toErrorMessage(fetchException) : e.getMessage();
+                log.warn("⚠️ 개별 캘린더 파싱 실패: {}", message);
+                errors.add(maskUrl(icalUrl) + ": " + message);
             }
         }
         
@@ -93,98 +88,58 @@ public class ICalParsingService {
     }
     
     /**
-     * iCal 데이터 다운로드
+     * iCal 데이터 다운로드 후 조회 기간(오늘 ~ months 개월) 내 이벤트 날짜 추출
      */
-    private String downloadICalData(String icalUrl) {
+    private Set<LocalDate> downloadEventDates(String icalUrl, int months) {
+        log.debug("🔄 iCal 다운로드: {}", maskUrl(icalUrl));
+        LocalDate startDate = LocalDate.now();
+        LocalDate endDate = periodEnd(startDate, months);
         try {
-            log.debug("🔄 iCal 다운로드: {}", maskUrl(icalUrl));
-            
-            String icalData = restTemplate.getForObject(icalUrl, String.class);
-            
-            if (icalData == null || icalData.trim().isEmpty()) {
-                throw new RuntimeException("빈 캘린더 데이터");
-            }
-            
-            if (!icalData.contains("BEGIN:VCALENDAR")) {
-                throw new RuntimeException("유효하지 않은 iCal 형식");
-            }
-            
-            log.debug("✅ iCal 다운로드 완료: {} bytes", icalData.length());
-            return icalData;
-            
-        } catch (ResourceAccessException e) {
-            throw new RuntimeException("캘린더 서버에 연결할 수 없습니다 (타임아웃 또는 네트워크 오류)");
-        } catch (HttpClientErrorException e) {
-            if (e.getStatusCode().value() == 404) {
-                throw new RuntimeException("캘린더 URL을 찾을 수 없습니다 (404)");
-            } else if (e.getStatusCode().value() == 403) {
-                throw new RuntimeException("캘린더에 접근할 권한이 없습니다 (403)");
-            } else {
-                throw new RuntimeException("캘린더 서버 오류: " + e.getStatusCode());
-            }
+            return icalFeedFetcher.fetch(icalUrl, parserName(startDate, endDate),
+                reader -> parseEventDates(reader, startDate, endDate));
+        } catch (ICalFeedFetcher.ICalFetchException e) {
+            throw new RuntimeException(toErrorMessage(e));
         }
     }
     
     /**
-     * iCal 데이터에서 이벤트 날짜 추출
+     * iCal 스트림에서 기간 내 이벤트 시작 날짜 추출 (반복 일정은 기간 안에서만 전개)
      */
-    private Set<LocalDate> extractEventDates(String icalData, int months) {
-        Set<LocalDate> dates = new HashSet<>();
-        LocalDate startDate = LocalDate.now();
-        LocalDate endDate = startDate.plusMonths(months);
-        
-        // 이벤트 블록별로 분할
-        String[] events = icalData.split("BEGIN:VEVENT");
+    private Set<LocalDate> parseEventDates(Reader reader, LocalDate startDate, LocalDate endDate) throws IOException {
+        ICalStreamReader.Result result = ICalStreamReader.read(reader, startDate, endDate);
+        if (!result.calendarFound()) {
+            throw new RuntimeException("유효하지 않은 iCal 형식");
+        }
         
-        for (String event : events) {
-            if (!event.contains("DTSTART")) continue;
-            
-            try {
-                LocalDate eventDate = extractEventDate(event);
-                
-                // 지정된 기간 내의 날짜만 포함
-                if (eventDate != null && 
-                    !eventDate.isBefore(startDate) && 
-                    eventDate.isBefore(endDate)) {
-                    dates.add(eventDate);
-                }
-                
-            } catch (Exception e) {
-                log.debug("⚠️ 개별 이벤트 파싱 실패: {}", e.getMessage());
-                // 개별 이벤트 실패는 무시하고 계속 진행
-            }
+        Set<LocalDate> dates = new HashSet<>();
+        for (ICalStreamReader.Event event : result.events()) {
+            dates.add(event.start().toLocalDate());
         }
         
-        log.debug("📅 이벤트 날짜 추출 완료: {} 개 (기간: {} ~ {})", 
-                 dates.size(), startDate, endDate.minusDays(1));
-        return dates;
+        log.debug("📅 이벤트 날짜 추출 완료: {} 개 (기간: {} ~ {})", dates.size(), startDate, endDate);
+        return Collections.unmodifiableSet(dates);
+    }
+    
+    private static LocalDate periodEnd(LocalDate startDate, int months) {
+        return startDate.plusMonths(months).minusDays(1);
+    }
+    
+    private static String parserName(LocalDate startDate, LocalDate endDate) {
+        return EVENT_DATES_PARSER + ":" + startDate + ":" + endDate;
     }
     
     /**
-     * 단일 이벤트에서 날짜 추출
+     * 조회 실패 사유를 사용자 메시지로 변환
      */
-    private LocalDate extractEventDate(String event) {
-        Matcher dtStartMatcher = DTSTART_PATTERN.matcher(event);
-        
-        if (!dtStartMatcher.find()) {
-            return null;
-        }
-        
-        String dateTimeString = dtStartMatcher.group(1);
-        
-        try {
-            // 날짜만 있는 경우 (YYYYMMDD)
-            if (dateTimeString.length() == 8) {
-                return LocalDate.parse(dateTimeString, ICAL_DATE_FORMAT);
-            }
-            
-            // 날짜+시간이 있는 경우 (YYYYMMDDTHHMMSS 또는 YYYYMMDDTHHMMSSZ)
-            String dateOnly = dateTimeString.substring(0, 8);
-            return LocalDate.parse(dateOnly, ICAL_DATE_FORMAT);
-            
-        } catch (DateTimeParseException e) {
-            log.debug("⚠️ 날짜 파싱 실패: {}", dateTimeString);
-            return null;
+    private String toErrorMessage(ICalFeedFetcher.ICalFetchException e) {
+        if (e.isNetworkError()) {
+            return "캘린더 서버에 연결할 수 없습니다 (타임아웃 또는 네트워크 오류)";
+        } else if (e.getStatusCode() == 404) {
+            return "캘린더 URL을 찾을 수 없습니다 (404)";
+        } else if (e.getStatusCode() == 403) {
+            return "캘린더에 접근할 권한이 없습니다 (403)";
+        } else {
+            return "캘린더 서버 오류: " + e.getStatusCode();
         }
     }
     
@@ -201,7 +156,7 @@ public class ICalParsingService {
      */
     public boolean isValidICalUrl(String icalUrl) {
         try {
-            downloadICalData(icalUrl);
+            downloadEventDates(icalUrl, 1);
             return true;
         } catch (Exception e) {
             log.debug("🚫 iCal URL 유효성 검증 실패: {}", e.getMessage());
@@ -2,6 +2,7 @@ package com.crimecat.backend.schedule.service;
 
 import com.crimecat.backend.schedule.domain.UserCalendar;
 import com.crimecat.backend.schedule.repository.UserCalendarRepository;
+import com.crimecat.backend.schedule.util.ICalStreamReader;
 import com.crimecat.backend.schedule.dto.request.CalendarCreateRequest;
 import com.crimecat.backend.schedule.dto.request.CalendarUpdateRequest;
 import com.crimecat.backend.schedule.dto.response.CalendarResponse;
@@ -10,30 +11,20 @@ import com.crimecat.backend.webUser.repository.WebUserRepository;
 import com.crimecat.backend.exception.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.fortuna.ical4j.data.CalendarBuilder;
-import net.fortuna.ical4j.model.Calendar;
-import net.fortuna.ical4j.model.Component;
-import net.fortuna.ical4j.model.Property;
-import net.fortuna.ical4j.model.component.VEvent;
-import net.fortuna.ical4j.model.property.Summary;
-import net.fortuna.ical4j.model.property.DtStart;
-import net.fortuna.ical4j.model.property.DtEnd;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 
-import java.io.StringReader;
-import java.net.URI;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -47,10 +38,13 @@ import java.util.stream.Collectors;
 @Slf4j
 public class MultipleCalendarService {
 
+    private static final String CALENDAR_HEADER_PARSER = "calendar-header";
+    private static final String CALENDAR_EVENTS_PARSER = "calendar-events";
+
     private final UserCalendarRepository userCalendarRepository;
     private final WebUserRepository webUserRepository;
     private final CalendarColorManager colorManager;
-    private final RestTemplate restTemplate;
+    private final ICalFeedFetcher icalFeedFetcher;
     
     @PersistenceContext
     private EntityManager entityManager;
@@ -66,18 +60,61 @@ public class MultipleCalendarService {
         
         log.info("📋 [SYNC_CALENDARS] Found {} active calendars to sync", calendars.size());
         
+        syncCalendars(calendars);
+        
+        log.info("🏁 [SYNC_COMPLETE] Sync completed for user: {}", userId);
+    }
+
+    /**
+     * 마지막 동기화 후 maxAge 가 지난 활성 캘린더만 동기화
+     * - 백그라운드 갱신이 최신 상태를 유지하면 조회 요청은 원격 서버를 기다리지 않음
+     */
+    @Transactional
+    public void syncStaleUserCalendars(UUID userId, Duration maxAge) {
+        LocalDateTime threshold = LocalDateTime.now().minus(maxAge);
+        List<UserCalendar> staleCalendars = userCalendarRepository.findByUserIdAndIsActiveOrderBySortOrder(userId, true)
+                .stream()
+                .filter(calendar -> calendar.getLastSyncedAt() == null || calendar.getLastSyncedAt().isBefore(threshold))
+                .collect(Collectors.toList());
+        
+        if (staleCalendars.isEmpty()) {
+            log.debug("✅ [SYNC_SKIP] All calendars are fresh for user: {}", userId);
+            return;
+        }
+        
+        log.info("🔄 [SYNC_STALE] Syncing {} stale calendars for user: {}", staleCalendars.size(), userId);
+        syncCalendars(staleCalendars);
+    }
+
+    /**
+     * 여러 캘린더 동기화
+     * - 다운로드/파싱은 동시에 수행 (엔티티 수정 없는 순수 함수)
+     * - 결과 반영은 현재 트랜잭션에서 순차 처리
+     * @return 캘린더 ID → 동기화 결과 (반영 실패 시 failure)
+     */
+    @Transactional
+    public Map<UUID, SyncResult> syncCalendars(List<UserCalendar> calendars) {
+        LocalDateTime syncAttemptTime = LocalDateTime.now();
+        Map<UUID, CompletableFuture<SyncResult>> pending = new LinkedHashMap<>();
+        for (UserCalendar calendar : calendars) {
+            pending.put(calendar.getId(),
+                icalFeedFetcher.supplyAsync(() -> syncSingleCalendar(calendar.getIcalUrl())));
+        }
+        
+        Map<UUID, SyncResult> results = new LinkedHashMap<>();
         for (UserCalendar calendar : calendars) {
-            // 각 캘린더 동기화 (단일 트랜잭션에서 처리)
             try {
-                syncSingleCalendarWithTransaction(calendar);
+                SyncResult syncResult = icalFeedFetcher.join(pending.get(calendar.getId()));
+                applySyncResult(calendar, syncResult, syncAttemptTime);
+                results.put(calendar.getId(), syncResult);
             } catch (Exception e) {
                 log.error("❌ [SYNC_INDIVIDUAL_FAILED] Calendar {} sync failed in batch: {}", 
                     calendar.getId(), e.getMessage());
                 // 개별 실패해도 다른 캘린더는 계속 진행
+                results.put(calendar.getId(), SyncResult.failure(e.getMessage()));
             }
         }
-        
-        log.info("🏁 [SYNC_COMPLETE] Sync completed for user: {}", userId);
+        return results;
     }
 
     /**
@@ -86,7 +123,13 @@ public class MultipleCalendarService {
     @Transactional
     public void syncSingleCalendarWithTransaction(UserCalendar calendar) {
         LocalDateTime syncAttemptTime = LocalDateTime.now();
-        
+        applySyncResult(calendar, syncSingleCalendar(calendar.getIcalUrl()), syncAttemptTime);
+    }
+
+    /**
+     * 동기화 결과를 캘린더 엔티티에 반영
+     */
+    private void applySyncResult(UserCalendar calendar, SyncResult syncResult, LocalDateTime syncAttemptTime) {
         log.info("🕰 [TX_START] 트랜잭션 시작: {}", syncAttemptTime);
         log.info("📅 [SYNC_CALENDAR] Starting sync for calendar: {}", calendar.getId());
         
@@ -102,11 +145,6 @@ public class MultipleCalendarService {
             managedCalendar.getSyncErrorMessage(), 
             managedCalendar.getLastSyncedAt());
         
-        log.info("🔄 [BEFORE_INNER_SYNC] 내부 동기화 전: {}", managedCalendar.getLastSyncedAt());
-        
-        // 순수 함수로 iCal 데이터 처리 (URL은 변경되지 않으므로 기존 객체 사용 가능)
-        SyncResult syncResult = syncSingleCalendar(managedCalendar.getIcalUrl());
-        
         log.info("🔄 [AFTER_INNER_SYNC] 동기화 결과: {}", syncResult);
         
         // 결과에 따라 엔티티 업데이트 (모든 경우를 여기서 처리)
@@ -254,18 +292,16 @@ public class MultipleCalendarService {
                 log.info("🔧 Using normalized URL: {}", processedUrl);
             }
             
-            // iCal 데이터 가져오기 (URI 객체 사용으로 재인코딩 방지)
+            // iCal 헤더만 스트리밍으로 읽기 (조건부 GET, 변경 없으면 캐시된 결과 사용)
             log.info("🌐 Making HTTP request to: {}", processedUrl);
-            String icalData;
+            ICalStreamReader.Result calendar;
             try {
-                URI uri = URI.create(processedUrl);
-                log.debug("🔗 Using URI object: {}", uri);
-                icalData = restTemplate.getForObject(uri, String.class);
-            } catch (Exception httpException) {
+                calendar = icalFeedFetcher.fetch(processedUrl, CALENDAR_HEADER_PARSER, ICalStreamReader::readHeader);
+            } catch (ICalFeedFetcher.ICalFetchException httpException) {
                 log.error("❌ HTTP request failed: {}", httpException.getMessage());
                 
                 // 404 오류는 부분적 실패로 처리 (캘린더 삭제됨/비공개 처리)
-                if (httpException.getMessage().contains("404")) {
+                if (httpException.getStatusCode() == 404) {
                     log.warn("📱 Calendar appears to be deleted or private, treating as partial success");
                     log.info("🔍 Possible reasons:");
                     log.info("   - Calendar became private or was deleted");
@@ -280,17 +316,12 @@ public class MultipleCalendarService {
                 throw httpException;
             }
             
-            if (icalData == null || icalData.trim().isEmpty()) {
+            if (!calendar.calendarFound()) {
                 log.error("📭 Empty iCal data received from: {}", processedUrl);
                 return SyncResult.failure("Empty iCal data received");
             }
             
-            log.info("✅ Successfully fetched iCal data, size: {} chars", icalData.length());
-
-            // iCal 파싱
-            CalendarBuilder builder = new CalendarBuilder();
-            Calendar calendar = builder.build(new StringReader(icalData));
-            log.info("📅 Successfully parsed iCal data");
+            log.info("📅 Successfully fetched and parsed iCal data");
 
             // 캘린더 이름 추출
             String calendarName = extractCalendarName(calendar);
@@ -310,18 +341,17 @@ public class MultipleCalendarService {
      * iCalendar에서 캘린더 이름 추출
      * 우선순위: X-WR-CALNAME > PRODID > URL 기반 추측
      */
-    private String extractCalendarName(Calendar calendar) {
+    private String extractCalendarName(ICalStreamReader.Result calendar) {
         try {
             // 1순위: X-WR-CALNAME (가장 일반적)
-            Property calName = calendar.getProperty("X-WR-CALNAME");
-            if (calName != null && !calName.getValue().trim().isEmpty()) {
-                return calName.getValue().trim();
+            String calName = calendar.calendarName();
+            if (calName != null && !calName.trim().isEmpty()) {
+                return calName.trim();
             }
 
             // 2순위: PRODID에서 추출
-            Property prodId = calendar.getProperty(Property.PRODID);
-            if (prodId != null) {
-                String prodIdValue = prodId.getValue();
+            String prodIdValue = calendar.prodId();
+            if (prodIdValue != null) {
                 if (prodIdValue.contains("Google")) {
                     return "Google Calendar";
                 } else if (prodIdValue.contains("Apple")) {
@@ -481,9 +511,16 @@ public class MultipleCalendarService {
         List<UserCalendar> calendars = userCalendarRepository.findByUserIdAndIsActiveOrderBySortOrder(userId, true);
         Map<String, CalendarGroup> groups = new LinkedHashMap<>();
 
+        // 모든 캘린더를 동시에 조회 (전체 소요 시간 ≈ 가장 느린 캘린더 1개)
+        Map<UUID, CompletableFuture<List<CalendarEvent>>> fetches = new LinkedHashMap<>();
+        for (UserCalendar calendar : calendars) {
+            fetches.put(calendar.getId(),
+                icalFeedFetcher.supplyAsync(() -> fetchEventsFromCalendar(calendar, startDate, endDate)));
+        }
+
         for (UserCalendar calendar : calendars) {
             try {
-                List<CalendarEvent> events = fetchEventsFromCalendar(calendar, startDate, endDate);
+                List<CalendarEvent> events = icalFeedFetcher.join(fetches.get(calendar.getId()));
                 
                 CalendarGroup group = CalendarGroup.builder()
                         .calendarId(calendar.getId())
@@ -531,21 +568,14 @@ public class MultipleCalendarService {
             // URL 정규화
             String processedUrl = normalizeIcalUrl(originalUrl);
             
-            URI uri = URI.create(processedUrl);
-            String icalData = restTemplate.getForObject(uri, String.class);
-            if (icalData == null) {
-                log.debug("📭 No iCal data received for calendar: {}", userCalendar.getId());
-                return Collections.emptyList();
-            }
+            // 기간 안의 이벤트만 스트리밍으로 추출 (반복 일정은 기간 안에서만 전개)
+            List<ICalStreamReader.Event> icalEvents = icalFeedFetcher.fetch(processedUrl,
+                    CALENDAR_EVENTS_PARSER + ":" + startDate + ":" + endDate,
+                    reader -> ICalStreamReader.read(reader, startDate, endDate).events());
 
-            CalendarBuilder builder = new CalendarBuilder();
-            Calendar calendar = builder.build(new StringReader(icalData));
-
-            List<CalendarEvent> events = calendar.getComponents(Component.VEVENT).stream()
-                    .map(component -> (VEvent) component)
+            List<CalendarEvent> events = icalEvents.stream()
                     .map(event -> convertToCalendarEvent(event, userCalendar))
                     .filter(Objects::nonNull)
-                    .filter(event -> isEventInDateRange(event, startDate, endDate))
                     .collect(Collectors.toList());
                     
             log.debug("📋 Found {} events in date range for calendar {}", events.size(), userCalendar.getId());
@@ -558,42 +588,24 @@ public class MultipleCalendarService {
     }
 
     /**
-     * VEvent를 CalendarEvent로 변환
+     * iCal 이벤트를 CalendarEvent로 변환
      */
-    private CalendarEvent convertToCalendarEvent(VEvent vEvent, UserCalendar userCalendar) {
-        try {
-            Summary summary = vEvent.getSummary();
-            DtStart dtStart = vEvent.getStartDate();
-            DtEnd dtEnd = vEvent.getEndDate();
-
-            if (summary == null || dtStart == null) {
-                return null;
-            }
-
-            return CalendarEvent.builder()
-                    .id(UUID.randomUUID().toString())
-                    .title(summary.getValue())
-                    .startTime(dtStart.getDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime())
-                    .endTime(dtEnd != null ? dtEnd.getDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime() : null)
-                    .allDay(dtStart.isUtc()) // 간단한 전일 이벤트 판별
-                    .source("icalendar")
-                    .calendarId(userCalendar.getId().toString())
-                    .calendarName(userCalendar.getDisplayName())
-                    .colorHex(colorManager.getColorByIndex(userCalendar.getColorIndex()))
-                    .build();
-
-        } catch (Exception e) {
-            log.warn("Failed to convert VEvent to CalendarEvent", e);
+    private CalendarEvent convertToCalendarEvent(ICalStreamReader.Event icalEvent, UserCalendar userCalendar) {
+        if (icalEvent.summary() == null) {
             return null;
         }
-    }
 
-    /**
-     * 이벤트가 날짜 범위 내에 있는지 확인
-     */
-    private boolean isEventInDateRange(CalendarEvent event, LocalDate startDate, LocalDate endDate) {
-        LocalDate eventStartDate = event.getStartTime().toLocalDate();
-        return !eventStartDate.isBefore(startDate) && !eventStartDate.isAfter(endDate);
+        return CalendarEvent.builder()
+                .id(UUID.randomUUID().toString())
+                .title(icalEvent.summary())
+                .startTime(icalEvent.start())
+                .endTime(icalEvent.end())
+                .allDay(icalEvent.allDay())
+                .source("icalendar")
+                .calendarId(userCalendar.getId().toString())
+                .calendarName(userCalendar.getDisplayName())
+                .colorHex(colorManager.getColorByIndex(userCalendar.getColorIndex()))
+                .build();
     }
 
     /**
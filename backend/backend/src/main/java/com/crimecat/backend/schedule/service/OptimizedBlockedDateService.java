@@ -3,12 +3,12 @@ package com.crimecat.backend.schedule.service;
 import com.crimecat.backend.config.CacheNames;
 import com.crimecat.backend.schedule.domain.UserBlockedPeriod;
 import com.crimecat.backend.schedule.repository.UserBlockedPeriodRepository;
+import com.crimecat.backend.schedule.util.AvailabilityBitset;
 import com.crimecat.backend.webUser.domain.WebUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +30,7 @@ public class OptimizedBlockedDateService {
     private static final int BITMAP_BYTES = 12; // 90비트 = 12바이트
     
     private final UserBlockedPeriodRepository userBlockedPeriodRepository;
+    private final ScheduleCacheDependencyService scheduleCacheDependencyService;
 
     /**
      * 현재 기준 3개월 기간의 시작일 계산 (매월 1일 기준)
@@ -72,11 +73,7 @@ public class OptimizedBlockedDateService {
     /**
      * 특정 날짜를 비활성화 (O(1))
      */
-    @Caching(evict = {
-        @CacheEvict(value = CacheNames.SCHEDULE_USER_BLOCKED_DATES, key = "#userId.toString()"),
-        @CacheEvict(value = CacheNames.SCHEDULE_AVAILABILITY, allEntries = true),
-        @CacheEvict(value = CacheNames.SCHEDULE_RECOMMENDED_TIMES, allEntries = true)
-    })
+    @CacheEvict(value = CacheNames.SCHEDULE_USER_BLOCKED_DATES, key = "#userId.toString()")
     public void blockDate(UUID userId, LocalDate date) {
         log.info("🔒 [BLOCK] Starting blockDate for user={} date={}", userId, date);
         
@@ -105,6 +102,7 @@ public class OptimizedBlockedDateService {
             
             period.setBlockedDaysBitmap(bitmap);
             UserBlockedPeriod savedPeriod = userBlockedPeriodRepository.save(period);
+            scheduleCacheDependencyService.onBlockedDatesChanged(userId);
             
             log.info("🔒 [BLOCK] Successfully blocked date {} for user {} at bit index {} (wasAlreadyBlocked={})", 
                 date, userId, bitIndex, wasAlreadyBlocked);
@@ -119,11 +117,7 @@ public class OptimizedBlockedDateService {
     /**
      * 날짜 범위 일괄 비활성화 (드래그 선택)
      */
-    @Caching(evict = {
-        @CacheEvict(value = CacheNames.SCHEDULE_USER_BLOCKED_DATES, key = "#userId.toString()"),
-        @CacheEvict(value = CacheNames.SCHEDULE_AVAILABILITY, allEntries = true),
-        @CacheEvict(value = CacheNames.SCHEDULE_RECOMMENDED_TIMES, allEntries = true)
-    })
+    @CacheEvict(value = CacheNames.SCHEDULE_USER_BLOCKED_DATES, key = "#userId.toString()")
     public void blockDateRange(UUID userId, LocalDate startDate, LocalDate endDate) {
         log.info("🔒📅 [BLOCK_RANGE] Starting blockDateRange for user={} from={} to={}", userId, startDate, endDate);
         
@@ -165,11 +159,7 @@ public class OptimizedBlockedDateService {
     /**
      * 날짜 범위 일괄 활성화 (드래그 선택)
      */
-    @Caching(evict = {
-        @CacheEvict(value = CacheNames.SCHEDULE_USER_BLOCKED_DATES, key = "#userId.toString()"),
-        @CacheEvict(value = CacheNames.SCHEDULE_AVAILABILITY, allEntries = true),
-        @CacheEvict(value = CacheNames.SCHEDULE_RECOMMENDED_TIMES, allEntries = true)
-    })
+    @CacheEvict(value = CacheNames.SCHEDULE_USER_BLOCKED_DATES, key = "#userId.toString()")
     public void unblockDateRange(UUID userId, LocalDate startDate, LocalDate endDate) {
         log.info("🔓📅 [UNBLOCK_RANGE] Starting unblockDateRange for user={} from={} to={}", userId, startDate, endDate);
         
@@ -211,11 +201,7 @@ public class OptimizedBlockedDateService {
     /**
      * 특정 날짜를 활성화 (O(1))
      */
-    @Caching(evict = {
-        @CacheEvict(value = CacheNames.SCHEDULE_USER_BLOCKED_DATES, key = "#userId.toString()"),
-        @CacheEvict(value = CacheNames.SCHEDULE_AVAILABILITY, allEntries = true),
-        @CacheEvict(value = CacheNames.SCHEDULE_RECOMMENDED_TIMES, allEntries = true)
-    })
+    @CacheEvict(value = CacheNames.SCHEDULE_USER_BLOCKED_DATES, key = "#userId.toString()")
     public void unblockDate(UUID userId, LocalDate date) {
         LocalDate periodStart = getCurrentPeriodStart();
         int bitIndex = dateToBitIndex(date, periodStart);
@@ -243,6 +229,7 @@ public class OptimizedBlockedDateService {
         
         period.setBlockedDaysBitmap(bitmap);
         userBlockedPeriodRepository.save(period);
+        scheduleCacheDependencyService.onBlockedDatesChanged(userId);
         
         log.debug("Unblocked date {} for user {} at bit index {}", date, userId, bitIndex);
     }
@@ -304,6 +291,24 @@ public class OptimizedBlockedDateService {
         return blockedDates;
     }
 
+    /**
+     * 여러 사용자의 비활성화 날짜를 검색 기간 기준 비트셋으로 일괄 조회
+     * - 비트 i = startDate + i 일이 비활성화됨 (LocalDate 집합으로 풀지 않고 비트맵을 그대로 사용)
+     * - 비활성 기간이 없는 사용자는 결과에 포함되지 않음
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, long[]> getBlockedDaysBitsets(Collection<UUID> userIds, LocalDate startDate, int days) {
+        LocalDate periodStart = getCurrentPeriodStart();
+        int offset = dateToBitIndex(startDate, periodStart);
+
+        Map<UUID, long[]> bitsets = new HashMap<>();
+        for (UserBlockedPeriod period : userBlockedPeriodRepository.findByUserIdInAndPeriodStart(userIds, periodStart)) {
+            bitsets.put(period.getUser().getId(),
+                AvailabilityBitset.fromPeriodBitmap(period.getBlockedDaysBitmap(), PERIOD_DAYS, offset, days));
+        }
+        return bitsets;
+    }
+
     /**
      * 사용자의 특정 기간 내 비활성화 날짜 조회
      */
@@ -12,6 +12,7 @@ import com.crimecat.backend.schedule.dto.response.TimeSlotRecommendation;
 import com.crimecat.backend.schedule.repository.EventParticipantRepository;
 import com.crimecat.backend.schedule.repository.EventRepository;
 import com.crimecat.backend.schedule.repository.RecommendedTimeRepository;
+import com.crimecat.backend.schedule.util.AvailabilityBitset;
 import com.crimecat.backend.webUser.domain.WebUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,7 +33,7 @@ import java.util.stream.Collectors;
  * 최적화된 이중 추천 시스템 서비스
  * - "현재 참여자" vs "나를 포함한" 이중 추천 제공
  * - 병렬 처리를 통한 고성능 추천 계산
- * - 바이너리 서치 기반 충돌 감지 알고리즘
+ * - 참여자별 날짜/30분 슬롯 비트셋 AND/OR 기반 충돌 감지, 상위 N개 힙 선별
  */
 @Service
 @RequiredArgsConstructor
@@ -45,12 +46,20 @@ public class OptimizedRecommendationService {
     private static final int MIN_DURATION_HOURS = 2; // 최소 이벤트 시간 (2시간)
     private static final LocalTime DEFAULT_START_TIME = LocalTime.of(10, 0); // 기본 시작 시간
     private static final LocalTime DEFAULT_END_TIME = LocalTime.of(22, 0); // 기본 종료 시간
+    private static final int SLOTS_PER_RECOMMENDATION = MIN_DURATION_HOURS * 60 / AvailabilityBitset.SLOT_MINUTES;
+    private static final List<LocalTime> CANDIDATE_START_TIMES = candidateStartTimes();
+    
+    // 점수 높은 순, 같은 점수면 가까운 시간 순
+    private static final Comparator<TimeSlotRecommendation> RANKING =
+        Comparator.comparing(TimeSlotRecommendation::getAvailabilityScore).reversed()
+            .thenComparing(TimeSlotRecommendation::getStartTime);
     
     private final EventRepository eventRepository;
     private final EventParticipantRepository eventParticipantRepository;
     private final RecommendedTimeRepository recommendedTimeRepository;
     private final OptimizedBlockedDateService blockedDateService;
     private final ScheduleService scheduleService;
+    private final ScheduleCacheDependencyService scheduleCacheDependencyService;
     
     // 병렬 처리를 위한 전용 스레드 풀 (CPU 코어 수 기반)
     private static final ForkJoinPool RECOMMENDATION_POOL = 
@@ -84,6 +93,9 @@ public class OptimizedRecommendationService {
         
         // 요청한 사용자가 이미 참여 중인지 확인
         boolean isUserParticipant = currentUserIds.contains(requestUserId);
+
+        // 이 결과가 참조하는 사용자 기록 (해당 사용자 변경 시에만 무효화)
+        scheduleCacheDependencyService.recordRecommendationDependencies(eventId, requestUserId, currentUserIds);
         
         // 병렬로 두 가지 추천 계산
         CompletableFuture<RecommendationSummary> currentTask = CompletableFuture.supplyAsync(() ->
@@ -137,34 +149,32 @@ public class OptimizedRecommendationService {
         LocalDate startDate = LocalDate.now().plusDays(1); // 내일부터
         LocalDate endDate = startDate.plusDays(SEARCH_DAYS_AHEAD);
         
-        // 각 사용자의 비활성화 날짜 및 기존 일정 수집 (병렬 처리)
-        Map<UUID, Set<LocalDate>> userBlockedDates = userIds.parallelStream()
-            .collect(Collectors.toConcurrentMap(
-                userId -> userId,
-                userId -> blockedDateService.getUserBlockedDatesInRange(userId, startDate, endDate)
-            ));
-        
-        Map<UUID, List<Event>> userExistingEvents = userIds.parallelStream()
-            .collect(Collectors.toConcurrentMap(
-                userId -> userId,
-                userId -> scheduleService.getUserCrimeCatEventsInRange(userId, startDate, endDate)
-            ));
-        
-        // 사용 가능한 시간대 계산
-        List<TimeSlotRecommendation> recommendations = findAvailableTimeSlots(
-            startDate, endDate, userBlockedDates, userExistingEvents, userIds.size());
-        
-        // 상위 N개 추천 선별
-        List<TimeSlotRecommendation> topRecommendations = recommendations.stream()
-            .limit(MAX_RECOMMENDATIONS)
-            .collect(Collectors.toList());
+        int searchDays = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        AvailabilityBitset availability = new AvailabilityBitset(startDate, searchDays);
+        
+        // 각 사용자의 비활성화 날짜 비트셋 AND (한 번의 쿼리로 일괄 조회)
+        blockedDateService.getBlockedDaysBitsets(userIds, startDate, searchDays).values()
+            .forEach(availability::blockDays);
+        
+        // 각 사용자의 기존 일정을 30분 슬롯 비트셋에 OR (병렬 조회)
+        userIds.parallelStream()
+            .map(userId -> scheduleService.getUserCrimeCatEventsInRange(userId, startDate, endDate))
+            .collect(Collectors.toList())
+            .forEach(events -> events.forEach(e -> availability.occupy(e.getStartTime(), e.getEndTime())));
+        
+        // 사용 가능한 시간대 중 상위 N개 선별
+        PriorityQueue<TimeSlotRecommendation> topSlots = new PriorityQueue<>(MAX_RECOMMENDATIONS + 1, RANKING.reversed());
+        int totalAvailable = findTopTimeSlots(availability, userIds.size(), topSlots);
+        
+        List<TimeSlotRecommendation> topRecommendations = new ArrayList<>(topSlots);
+        topRecommendations.sort(RANKING);
         
         log.debug("Found {} recommendations for {} users (showing top {})", 
-                recommendations.size(), userIds.size(), topRecommendations.size());
+                totalAvailable, userIds.size(), topRecommendations.size());
         
         return RecommendationSummary.builder()
             .recommendations(topRecommendations)
-            .totalSearched(recommendations.size())
+            .totalSearched(totalAvailable)
             .participantCount(userIds.size())
             .searchPeriod(String.format("%s ~ %s", startDate, endDate))
             .empty(topRecommendations.isEmpty())
@@ -172,116 +182,74 @@ public class OptimizedRecommendationService {
     }
 
     /**
-     * 사용 가능한 시간대 탐지 (바이너리 서치 기반 최적화)
-     */
-    private List<TimeSlotRecommendation> findAvailableTimeSlots(
-            LocalDate startDate, LocalDate endDate,
-            Map<UUID, Set<LocalDate>> userBlockedDates,
-            Map<UUID, List<Event>> userExistingEvents,
-            int participantCount) {
-        
-        List<TimeSlotRecommendation> availableSlots = new ArrayList<>();
-        
-        // 날짜별 병렬 검색
-        startDate.datesUntil(endDate.plusDays(1))
-            .parallel()
-            .forEach(date -> {
-                if (isDateAvailableForAllUsers(date, userBlockedDates)) {
-                    List<TimeSlotRecommendation> dailySlots = 
-                        findAvailableTimeSlotsForDate(date, userExistingEvents, participantCount);
-                    
-                    synchronized (availableSlots) {
-                        availableSlots.addAll(dailySlots);
-                    }
-                }
-            });
-        
-        // 날짜순으로 정렬하여 가장 가까운 날짜부터 추천
-        return availableSlots.stream()
-            .sorted(Comparator.comparing(TimeSlotRecommendation::getStartTime))
-            .collect(Collectors.toList());
-    }
-
-    /**
-     * 특정 날짜가 모든 사용자에게 사용 가능한지 확인
-     */
-    private boolean isDateAvailableForAllUsers(LocalDate date, Map<UUID, Set<LocalDate>> userBlockedDates) {
-        return userBlockedDates.values().stream()
-            .noneMatch(blockedDates -> blockedDates.contains(date));
-    }
-
-    /**
-     * 특정 날짜의 사용 가능한 시간대 계산
+     * 공통 가능일의 후보 시간대를 비트 마스크로 검사하고 크기 N의 힙으로 상위 추천 유지
+     * - 가능일은 비트셋에서 바로 건너뛰며 탐색, 후보 시간대는 long 하나와 AND 한 번으로 판정
+     * - 힙에 들어갈 시간대만 DTO 생성
+     * @return 사용 가능한 전체 시간대 수
      */
-    private List<TimeSlotRecommendation> findAvailableTimeSlotsForDate(
-            LocalDate date, Map<UUID, List<Event>> userExistingEvents, int participantCount) {
-        
-        // 하루 전체에서 사용 중인 시간대 수집
-        Set<LocalDateTime> occupiedTimes = userExistingEvents.values().stream()
-            .flatMap(events -> events.stream())
-            .filter(event -> event.getStartTime().toLocalDate().equals(date))
-            .flatMap(event -> generateTimeRange(event.getStartTime(), event.getEndTime()).stream())
-            .collect(Collectors.toSet());
-        
-        List<TimeSlotRecommendation> daySlots = new ArrayList<>();
-        
-        // 2시간 단위로 시간대 확인 (10:00 ~ 20:00)
-        LocalTime currentTime = DEFAULT_START_TIME;
-        while (currentTime.isBefore(DEFAULT_END_TIME.minusHours(MIN_DURATION_HOURS - 1))) {
-            LocalDateTime slotStart = date.atTime(currentTime);
-            LocalDateTime slotEnd = slotStart.plusHours(MIN_DURATION_HOURS);
+    private int findTopTimeSlots(AvailabilityBitset availability, int participantCount,
+                                 PriorityQueue<TimeSlotRecommendation> topSlots) {
+        int totalAvailable = 0;
+        LocalDate today = LocalDate.now();
+        
+        for (int day = availability.nextFreeDay(0); day >= 0; day = availability.nextFreeDay(day + 1)) {
+            LocalDate date = availability.dateOf(day);
+            long daysFromNow = ChronoUnit.DAYS.between(today, date);
             
-            // 해당 시간대가 비어있는지 확인
-            if (isTimeSlotAvailable(slotStart, slotEnd, occupiedTimes)) {
-                double score = calculateTimeSlotScore(slotStart, slotEnd, participantCount);
+            // 2시간 단위로 시간대 확인 (10:00 ~ 22:00)
+            for (LocalTime slotTime : CANDIDATE_START_TIMES) {
+                int fromSlot = slotTime.toSecondOfDay() / 60 / AvailabilityBitset.SLOT_MINUTES;
+                if (!availability.isSlotFree(day, fromSlot, SLOTS_PER_RECOMMENDATION)) {
+                    continue;
+                }
+                totalAvailable++;
+                
+                double score = calculateTimeSlotScore(date, slotTime, daysFromNow, participantCount);
+                TimeSlotRecommendation worst = topSlots.peek();
+                if (topSlots.size() >= MAX_RECOMMENDATIONS && worst != null
+                        && score <= worst.getAvailabilityScore()) {
+                    // 같은 점수면 먼저 찾은 (더 가까운) 시간대 유지
+                    continue;
+                }
                 
-                daySlots.add(TimeSlotRecommendation.builder()
+                LocalDateTime slotStart = date.atTime(slotTime);
+                LocalDateTime slotEnd = slotStart.plusHours(MIN_DURATION_HOURS);
+                topSlots.offer(TimeSlotRecommendation.builder()
                     .startTime(slotStart)
                     .endTime(slotEnd)
                     .participantCount(participantCount)
                     .availabilityScore(score)
                     .description(formatTimeSlotDescription(slotStart, slotEnd, score))
                     .build());
+                if (topSlots.size() > MAX_RECOMMENDATIONS) {
+                    topSlots.poll();
+                }
             }
-            
-            currentTime = currentTime.plusHours(2); // 2시간씩 증가
         }
         
-        return daySlots;
-    }
-
-    /**
-     * 특정 시간대가 사용 가능한지 확인
-     */
-    private boolean isTimeSlotAvailable(LocalDateTime slotStart, LocalDateTime slotEnd, 
-                                      Set<LocalDateTime> occupiedTimes) {
-        return generateTimeRange(slotStart, slotEnd).stream()
-            .noneMatch(occupiedTimes::contains);
+        return totalAvailable;
     }
 
     /**
-     * 시간 범위의 모든 시점을 생성 (30분 단위)
+     * 후보 시작 시간 (10:00 부터 2시간 간격, 종료가 22:00 를 넘지 않는 범위)
      */
-    private List<LocalDateTime> generateTimeRange(LocalDateTime start, LocalDateTime end) {
-        List<LocalDateTime> timePoints = new ArrayList<>();
-        LocalDateTime current = start;
-        
-        while (current.isBefore(end)) {
-            timePoints.add(current);
-            current = current.plusMinutes(30);
+    private static List<LocalTime> candidateStartTimes() {
+        List<LocalTime> times = new ArrayList<>();
+        LocalTime currentTime = DEFAULT_START_TIME;
+        while (!currentTime.plusHours(MIN_DURATION_HOURS).isAfter(DEFAULT_END_TIME)) {
+            times.add(currentTime);
+            currentTime = currentTime.plusHours(MIN_DURATION_HOURS);
         }
-        
-        return timePoints;
+        return List.copyOf(times);
     }
 
     /**
      * 시간대 점수 계산 (높을수록 좋은 시간)
      */
-    private double calculateTimeSlotScore(LocalDateTime start, LocalDateTime end, int participantCount) {
+    private double calculateTimeSlotScore(LocalDate date, LocalTime time, long daysFromNow, int participantCount) {
         double baseScore = 100.0;
         
         // 시간대별 가중치 (오후 2시~6시가 최적)
-        LocalTime time = start.toLocalTime();
         if (time.isAfter(LocalTime.of(13, 59)) && time.isBefore(LocalTime.of(18, 1))) {
             baseScore += 20; // 오후 시간대 보너스
         } else if (time.isAfter(LocalTime.of(9, 59)) && time.isBefore(LocalTime.of(14, 0))) {
@@ -289,7 +257,7 @@ public class OptimizedRecommendationService {
         }
         
         // 요일별 가중치 (주말은 높은 점수)
-        switch (start.getDayOfWeek()) {
+        switch (date.getDayOfWeek()) {
             case SATURDAY, SUNDAY:
                 baseScore += 15;
                 break;
@@ -307,7 +275,6 @@ public class OptimizedRecommendationService {
         }
         
         // 가까운 날짜일수록 높은 점수 (최대 7일 이내)
-        long daysFromNow = ChronoUnit.DAYS.between(LocalDate.now(), start.toLocalDate());
         if (daysFromNow <= 7) {
             baseScore += (7 - daysFromNow) * 2;
         }
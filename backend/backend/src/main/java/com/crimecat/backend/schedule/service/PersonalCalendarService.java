@@ -10,8 +10,6 @@ import com.crimecat.backend.schedule.dto.response.CalendarResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,7 +38,8 @@ public class PersonalCalendarService {
     private final MultipleCalendarService multipleCalendarService;
     private final UnifiedCalendarCacheService unifiedCacheService;
     private final OptimizedBlockedDateService blockedDateService;
-    private final CacheManager caffeineCacheManager;
+    private final ScheduleCacheDependencyService scheduleCacheDependencyService;
+    private final CalendarActivityTracker calendarActivityTracker;
 
     // =================================================================================
     // 캘린더 관리 API
@@ -65,11 +64,12 @@ public class PersonalCalendarService {
      * 새 캘린더 추가
      */
     @Transactional
-    @CacheEvict(value = {CacheNames.UNIFIED_CALENDAR_EVENTS, CacheNames.USER_CALENDARS}, allEntries = true)
     public CalendarResponse addCalendar(UUID userId, CalendarCreateRequest request) {
         try {
             log.info("📅 [PERSONAL] 캘린더 추가: userId={}, url={}", userId, request.getIcalUrl());
-            return multipleCalendarService.addCalendar(userId, request);
+            CalendarResponse response = multipleCalendarService.addCalendar(userId, request);
+            scheduleCacheDependencyService.onCalendarsChanged(userId);
+            return response;
         } catch (Exception e) {
             log.error("❌ [PERSONAL] 캘린더 추가 실패: userId={}, error={}", userId, e.getMessage());
             throw ErrorStatus.CALENDAR_ADD_FAILED.asServiceException();
@@ -80,11 +80,12 @@ public class PersonalCalendarService {
      * 캘린더 수정
      */
     @Transactional
-    @CacheEvict(value = {CacheNames.UNIFIED_CALENDAR_EVENTS, CacheNames.USER_CALENDARS}, allEntries = true)
     public CalendarResponse updateCalendar(UUID userId, UUID calendarId, CalendarUpdateRequest request) {
         try {
             log.info("📅 [PERSONAL] 캘린더 수정: userId={}, calendarId={}", userId, calendarId);
-            return multipleCalendarService.updateCalendar(calendarId, request, userId);
+            CalendarResponse response = multipleCalendarService.updateCalendar(calendarId, request, userId);
+            scheduleCacheDependencyService.onCalendarsChanged(userId);
+            return response;
         } catch (Exception e) {
             log.error("❌ [PERSONAL] 캘린더 수정 실패: userId={}, calendarId={}, error={}", 
                     userId, calendarId, e.getMessage());
@@ -96,11 +97,11 @@ public class PersonalCalendarService {
      * 캘린더 삭제
      */
     @Transactional
-    @CacheEvict(value = {CacheNames.UNIFIED_CALENDAR_EVENTS, CacheNames.USER_CALENDARS}, allEntries = true)
     public void deleteCalendar(UUID userId, UUID calendarId) {
         try {
             log.info("📅 [PERSONAL] 캘린더 삭제: userId={}, calendarId={}", userId, calendarId);
             multipleCalendarService.deleteCalendar(calendarId, userId);
+            scheduleCacheDependencyService.onCalendarsChanged(userId);
         } catch (Exception e) {
             log.error("❌ [PERSONAL] 캘린더 삭제 실패: userId={}, calendarId={}, error={}", 
                     userId, calendarId, e.getMessage());
@@ -118,20 +119,9 @@ public class PersonalCalendarService {
             
             CalendarResponse result = multipleCalendarService.syncCalendar(calendarId, userId);
             
-            // 순차적 캐시 무효화 (순서 중요)
-            log.info("🗑️ [CACHE_ORDER] Step 1 - Spring Cache 무효화");
-            if (caffeineCacheManager.getCache(CacheNames.USER_CALENDARS) != null) {
-                caffeineCacheManager.getCache(CacheNames.USER_CALENDARS).evict(userId);
-            }
-            if (caffeineCacheManager.getCache(CacheNames.UNIFIED_CALENDAR_EVENTS) != null) {
-                caffeineCacheManager.getCache(CacheNames.UNIFIED_CALENDAR_EVENTS).clear();
-            }
-            
-            log.info("🗑️ [CACHE_ORDER] Step 2 - UnifiedCalendarCacheService Redis 캐시 무효화");
+            // 해당 사용자의 캘린더 캐시만 무효화 (Spring Cache + Redis)
             unifiedCacheService.invalidateUserCache(userId);
             
-            log.info("✅ [CACHE_COMPLETE] 모든 캐시 레이어 무효화 완료");
-            
             return result;
         } catch (Exception e) {
             log.error("❌ [PERSONAL] 캘린더 동기화 실패: userId={}, calendarId={}, error={}", 
@@ -151,20 +141,9 @@ public class PersonalCalendarService {
             // 동기화만 수행 (목록 조회 제외)
             multipleCalendarService.syncAllUserCalendars(userId);
             
-            // 순차적 캐시 무효화 (순서 중요)
-            log.info("🗑️ [CACHE_ORDER] Step 1 - Spring Cache 전체 무효화");
-            if (caffeineCacheManager.getCache("user-calendars") != null) {
-                caffeineCacheManager.getCache(CacheNames.USER_CALENDARS).clear();
-            }
-            if (caffeineCacheManager.getCache(CacheNames.UNIFIED_CALENDAR_EVENTS) != null) {
-                caffeineCacheManager.getCache(CacheNames.UNIFIED_CALENDAR_EVENTS).clear();
-            }
-            
-            log.info("🗑️ [CACHE_ORDER] Step 2 - UnifiedCalendarCacheService Redis 캐시 무효화");
+            // 해당 사용자의 캘린더 캐시만 무효화 (Spring Cache + Redis)
             unifiedCacheService.invalidateUserCache(userId);
             
-            log.info("✅ [CACHE_COMPLETE] 모든 캐시 레이어 무효화 완료");
-            
             return Map.of(
                 "success", true,
                 "message", "전체 캘린더 동기화가 완료되었습니다. 목록을 새로고침해주세요."
@@ -186,6 +165,7 @@ public class PersonalCalendarService {
     public CalendarEventsResponse getCalendarEvents(UUID userId, LocalDate startDate, LocalDate endDate) {
         try {
             log.info("📅 [PERSONAL] 캘린더 이벤트 조회: userId={}, range={} ~ {} (UnifiedCache 활용)", userId, startDate, endDate);
+            calendarActivityTracker.recordView(userId, startDate, endDate);
             return unifiedCacheService.getCachedCalendarEvents(userId, startDate, endDate);
         } catch (Exception e) {
             log.error("❌ [PERSONAL] 캘린더 이벤트 조회 실패: userId={}, error={}", userId, e.getMessage());
@@ -200,6 +180,7 @@ public class PersonalCalendarService {
     public CalendarEventsResponse refreshCalendarEvents(UUID userId, LocalDate startDate, LocalDate endDate) {
         try {
             log.info("📅 [PERSONAL] 캘린더 이벤트 강제 새로고침: userId={}, range={} ~ {}", userId, startDate, endDate);
+            calendarActivityTracker.recordView(userId, startDate, endDate);
             return unifiedCacheService.forceRefreshCalendarEvents(userId, startDate, endDate);
         } catch (Exception e) {
             log.error("❌ [PERSONAL] 캘린더 이벤트 강제 새로고침 실패: userId={}, error={}", userId, e.getMessage());
@@ -322,7 +303,6 @@ public class PersonalCalendarService {
      * 사용자 캘린더 캐시 무효화
      */
     @Transactional
-    @CacheEvict(value = {CacheNames.UNIFIED_CALENDAR_EVENTS, CacheNames.USER_CALENDARS}, allEntries = true)
     public Map<String, Object> invalidateUserCache(UUID userId) {
         try {
             log.info("📅 [PERSONAL] 캐시 무효화: userId={}", userId);
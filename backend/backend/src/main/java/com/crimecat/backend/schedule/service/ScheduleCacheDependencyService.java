@@ -0,0 +1,110 @@
+package com.crimecat.backend.schedule.service;
+
+import com.crimecat.backend.config.CacheInvalidationUtil;
+import com.crimecat.backend.config.CacheNames;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 스케줄 캐시 의존성 추적 서비스
+ * - 추천/가용시간 결과를 계산할 때 사용된 사용자들을 캐시 키의 태그로 예약 (결과가 캐시에 저장될 때 등록)
+ * - 사용자의 비활성 날짜, 참여 일정, 캘린더가 바뀌면 해당 사용자 태그가 붙은 항목만 무효화
+ * - 무효화는 트랜잭션 커밋 이후 실행 (커밋 전 재계산된 이전 값이 캐시되는 것 방지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleCacheDependencyService {
+
+    private static final String USER_TAG_PREFIX = "user:";
+
+    private final CacheInvalidationUtil cacheInvalidationUtil;
+
+    /**
+     * getDualRecommendations(eventId, requestUserId) 결과가 참조한 사용자 기록
+     */
+    public void recordRecommendationDependencies(UUID eventId, UUID requestUserId, Collection<UUID> userIds) {
+        String cacheKey = eventId.toString() + "_" + requestUserId.toString();
+        cacheInvalidationUtil.tagOnPut(CacheNames.SCHEDULE_RECOMMENDED_TIMES, cacheKey, userTags(userIds, requestUserId));
+    }
+
+    /**
+     * 이벤트 가용시간 결과가 참조한 참여자 기록 (일반/공개 키 모두)
+     */
+    public void recordAvailabilityDependencies(UUID eventId, Collection<UUID> userIds) {
+        String[] tags = userTags(userIds, null);
+        cacheInvalidationUtil.tagOnPut(CacheNames.SCHEDULE_AVAILABILITY, eventId.toString(), tags);
+        cacheInvalidationUtil.tagOnPut(CacheNames.SCHEDULE_AVAILABILITY, "public:" + eventId, tags);
+    }
+
+    /**
+     * 사용자의 비활성 날짜 변경 → 해당 사용자가 포함된 추천/가용시간만 무효화
+     */
+    public void onBlockedDatesChanged(UUID userId) {
+        afterCommit(() -> {
+            String tag = userTag(userId);
+            cacheInvalidationUtil.evictByTag(CacheNames.SCHEDULE_RECOMMENDED_TIMES, tag);
+            cacheInvalidationUtil.evictByTag(CacheNames.SCHEDULE_AVAILABILITY, tag);
+            log.debug("🗑️ [SCHEDULE_CACHE] 비활성 날짜 변경 무효화: userId={}", userId);
+        });
+    }
+
+    /**
+     * 이벤트 참여 상태 변경 → 해당 이벤트 결과 + 해당 사용자가 포함된 결과 무효화
+     * (사용자의 참여 일정은 다른 이벤트 추천에도 반영되므로)
+     */
+    public void onParticipationChanged(UUID eventId, UUID userId) {
+        afterCommit(() -> {
+            String tag = userTag(userId);
+            cacheInvalidationUtil.evictByTag(CacheNames.SCHEDULE_RECOMMENDED_TIMES, eventId.toString());
+            cacheInvalidationUtil.evictByTag(CacheNames.SCHEDULE_RECOMMENDED_TIMES, tag);
+            cacheInvalidationUtil.evictSpecificKey(CacheNames.SCHEDULE_AVAILABILITY, eventId.toString());
+            cacheInvalidationUtil.evictSpecificKey(CacheNames.SCHEDULE_AVAILABILITY, "public:" + eventId);
+            cacheInvalidationUtil.evictByTag(CacheNames.SCHEDULE_AVAILABILITY, tag);
+            log.debug("🗑️ [SCHEDULE_CACHE] 참여 상태 변경 무효화: eventId={}, userId={}", eventId, userId);
+        });
+    }
+
+    /**
+     * 사용자 캘린더 변경 → 해당 사용자의 통합 캘린더/캘린더 목록과 참여 이벤트 가용시간만 무효화
+     */
+    public void onCalendarsChanged(UUID userId) {
+        afterCommit(() -> {
+            cacheInvalidationUtil.evictByTag(CacheNames.UNIFIED_CALENDAR_EVENTS, userId.toString());
+            cacheInvalidationUtil.evictSpecificKey(CacheNames.USER_CALENDARS, userId);
+            cacheInvalidationUtil.evictByTag(CacheNames.SCHEDULE_AVAILABILITY, userTag(userId));
+            log.debug("🗑️ [SCHEDULE_CACHE] 캘린더 변경 무효화: userId={}", userId);
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String[] userTags(Collection<UUID> userIds, UUID extraUserId) {
+        return Stream.concat(userIds.stream(), extraUserId != null ? Stream.of(extraUserId) : Stream.empty())
+                .distinct()
+                .map(ScheduleCacheDependencyService::userTag)
+                .toArray(String[]::new);
+    }
+
+    private static String userTag(UUID userId) {
+        return USER_TAG_PREFIX + userId;
+    }
+}
@@ -35,6 +35,7 @@ public class ScheduleService {
     private final EventParticipantRepository eventParticipantRepository;
     private final UserCalendarRepository userCalendarRepository;
     private final ICalParsingService icalParsingService;
+    private final ScheduleCacheDependencyService scheduleCacheDependencyService;
     // private final NotificationService notificationService; // Assuming notification service exists
 
     @CacheEvict(value = CacheNames.SCHEDULE_EVENT_LIST, allEntries = true)
@@ -80,6 +81,7 @@ public class ScheduleService {
                 .status("PENDING") // Initial participant status
                 .build();
         eventParticipantRepository.save(participant);
+        scheduleCacheDependencyService.onParticipationChanged(eventId, currentUser.getId());
 
         // TODO: Trigger notification to the event creator
         // notificationService.send(event.getCreator(), currentUser.getNickname() + " has joined your event: " + event.getTitle());
@@ -121,10 +123,11 @@ public class ScheduleService {
 
     @Caching(evict = {
         @CacheEvict(value = CacheNames.SCHEDULE_ICAL_DATA, allEntries = true),
-        @CacheEvict(value = CacheNames.SCHEDULE_AVAILABILITY, allEntries = true),
         @CacheEvict(value = CacheNames.USER_CALENDARS, key = "#currentUser.id.toString()")
     })
     public void saveUserCalendar(UserCalendarRequest request, WebUser currentUser) {
+        scheduleCacheDependencyService.onCalendarsChanged(currentUser.getId());
+
         // webcal:// -> https:// 변환하여 저장 (Apple Calendar 지원)
         String normalizedUrl = normalizeICalUrl(request.getIcalUrl());
         
@@ -159,6 +162,8 @@ public class ScheduleService {
                 .orElseThrow(() -> ErrorStatus.EVENT_NOT_FOUND.asServiceException());
 
         List<EventParticipant> participants = eventParticipantRepository.findByEvent(event);
+        scheduleCacheDependencyService.recordAvailabilityDependencies(eventId,
+                participants.stream().map(participant -> participant.getUser().getId()).toList());
 
         // Collect all busy times from participants (다중 캘린더 지원)
         List<LocalDateTime[]> allBusyTimes = new ArrayList<>();
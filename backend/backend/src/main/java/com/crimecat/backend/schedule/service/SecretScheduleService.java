@@ -1,5 +1,6 @@
 package com.crimecat.backend.schedule.service;
 
+import com.crimecat.backend.ratelimit.limiter.RateLimiter;
 import com.crimecat.backend.schedule.domain.Event;
 import com.crimecat.backend.schedule.domain.EventPasswordAttempt;
 import com.crimecat.backend.schedule.repository.EventPasswordAttemptRepository;
@@ -12,7 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
-import java.time.LocalDateTime;
+import java.time.Duration;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -31,15 +32,12 @@ public class SecretScheduleService {
 
     private final EventPasswordAttemptRepository attemptRepository;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final RateLimiter rateLimiter;
     
-    // 메모리 기반 차단된 IP 관리 (실제 운영 환경에서는 Redis 사용 권장)
-    private final Set<String> blockedIps = ConcurrentHashMap.newKeySet();
-    
-    // 보안 설정 상수
+    // 보안 설정 상수 (RATE_LIMIT_WINDOW 마다 최대 시도 수만큼 보충)
     private static final int MAX_ATTEMPTS_PER_IP = 5;
     private static final int MAX_ATTEMPTS_PER_USER = 3;
-    private static final int RATE_LIMIT_WINDOW_MINUTES = 5;
-    private static final int IP_BLOCK_DURATION_MINUTES = 15;
+    private static final Duration RATE_LIMIT_WINDOW = Duration.ofMinutes(5);
     private static final String VERIFIED_EVENTS_SESSION_KEY = "verified_secret_events";
 
     /**
@@ -70,7 +68,7 @@ public class SecretScheduleService {
         }
         
         // 2. Rate Limiting 검사
-        RateLimitResult rateLimitResult = checkRateLimit(event, user, clientIp);
+        RateLimitResult rateLimitResult = checkRateLimit(user, clientIp);
         if (rateLimitResult.isBlocked()) {
             logFailedAttempt(event, user, clientIp, userAgent, "Rate Limit 초과");
             return PasswordVerificationResult.createRateLimited(rateLimitResult.getMessage());
@@ -92,7 +90,8 @@ public class SecretScheduleService {
             
             return PasswordVerificationResult.createSuccess(sessionId);
         } else {
-            // 실패 기록
+            // 실패 기록 (실패한 시도만 제한 횟수에 포함)
+            recordFailure(user, clientIp);
             logFailedAttempt(event, user, clientIp, userAgent, "잘못된 비밀번호");
             
             log.warn("비밀 일정 인증 실패: eventId={}, userId={}, ip={}", 
@@ -162,40 +161,57 @@ public class SecretScheduleService {
 
     /**
      * Rate Limiting 검사
+     * - 비밀번호 비교(bcrypt) 전에 IP / 사용자 버킷을 모두 조회만 하고 토큰은 소비하지 않음
+     *   (성공한 시도나 다른 쪽 제한으로 거부된 시도는 횟수에 포함되지 않음)
+     * - 토큰은 비밀번호가 틀렸을 때 recordFailure 에서 두 버킷 모두 소비 (여러 인스턴스가 같은 버킷 공유)
+     * - 검사와 소비 사이에 동시에 들어온 요청만큼은 한도를 넘을 수 있음
+     * - 시도 기록(EventPasswordAttempt)은 통계용으로만 저장하고 매 요청 COUNT 쿼리는 하지 않음
      */
-    private RateLimitResult checkRateLimit(Event event, WebUser user, String clientIp) {
-        LocalDateTime timeWindow = LocalDateTime.now().minusMinutes(RATE_LIMIT_WINDOW_MINUTES);
-        
+    private RateLimitResult checkRateLimit(WebUser user, String clientIp) {
         // IP 기반 제한
-        long ipAttempts = attemptRepository.countFailedAttemptsByIpSince(clientIp, timeWindow);
-        if (ipAttempts >= MAX_ATTEMPTS_PER_IP) {
-            blockedIps.add(clientIp);
+        RateLimiter.Decision ipDecision = rateLimiter.check(
+            ipKey(clientIp), MAX_ATTEMPTS_PER_IP, RATE_LIMIT_WINDOW, MAX_ATTEMPTS_PER_IP);
+        if (!ipDecision.allowed()) {
             return RateLimitResult.blocked(String.format(
                 "IP 주소가 일시적으로 차단되었습니다. %d분 후 다시 시도해주세요.", 
-                IP_BLOCK_DURATION_MINUTES));
+                toMinutes(ipDecision.retryAfterMillis())));
         }
         
         // 사용자 기반 제한 (로그인된 경우)
         if (user != null) {
-            long userAttempts = attemptRepository.countFailedAttemptsByUserSince(
-                user.getId(), timeWindow);
-            if (userAttempts >= MAX_ATTEMPTS_PER_USER) {
+            RateLimiter.Decision userDecision = rateLimiter.check(
+                userKey(user), MAX_ATTEMPTS_PER_USER, RATE_LIMIT_WINDOW, MAX_ATTEMPTS_PER_USER);
+            if (!userDecision.allowed()) {
                 return RateLimitResult.blocked(
                     "계정이 일시적으로 차단되었습니다. 잠시 후 다시 시도해주세요.");
             }
         }
         
-        // 이벤트별 IP 제한
-        long eventIpAttempts = attemptRepository.countFailedAttemptsByEventAndIpSince(
-            event.getId(), clientIp, timeWindow);
-        if (eventIpAttempts >= MAX_ATTEMPTS_PER_IP) {
-            return RateLimitResult.blocked(
-                "이 이벤트에 대한 접근이 일시적으로 제한되었습니다.");
-        }
-        
         return RateLimitResult.allowed();
     }
 
+    /**
+     * 잘못된 비밀번호 시도를 IP / 사용자 버킷에 반영
+     */
+    private void recordFailure(WebUser user, String clientIp) {
+        rateLimiter.tryAcquire(ipKey(clientIp), MAX_ATTEMPTS_PER_IP, RATE_LIMIT_WINDOW, MAX_ATTEMPTS_PER_IP);
+        if (user != null) {
+            rateLimiter.tryAcquire(userKey(user), MAX_ATTEMPTS_PER_USER, RATE_LIMIT_WINDOW, MAX_ATTEMPTS_PER_USER);
+        }
+    }
+
+    private static String ipKey(String clientIp) {
+        return "secret-schedule:ip:" + clientIp;
+    }
+
+    private static String userKey(WebUser user) {
+        return "secret-schedule:user:" + user.getId();
+    }
+
+    private static long toMinutes(long millis) {
+        return Math.max(1, (millis + 59_999) / 60_000);
+    }
+
     /**
      * 실패한 시도 기록
      */
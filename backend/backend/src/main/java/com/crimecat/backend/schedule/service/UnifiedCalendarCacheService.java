@@ -6,12 +6,16 @@ import com.crimecat.backend.schedule.dto.MyScheduleResponse;
 import com.crimecat.backend.webUser.repository.WebUserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -36,18 +40,30 @@ public class UnifiedCalendarCacheService {
     private final OptimizedBlockedDateService blockedDateService;
     private final DateFormatService dateFormatService;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final ScheduleCacheDependencyService scheduleCacheDependencyService;
+    private final CalendarActivityTracker calendarActivityTracker;
+    private final CacheManager caffeineCacheManager;
+    private final Duration calendarFreshness;
 
     public UnifiedCalendarCacheService(
             MultipleCalendarService multipleCalendarService,
             WebUserRepository webUserRepository,
             OptimizedBlockedDateService blockedDateService,
             DateFormatService dateFormatService,
-            @Qualifier("redisObjectTemplate") RedisTemplate<String, Object> redisTemplate) {
+            @Qualifier("redisObjectTemplate") RedisTemplate<String, Object> redisTemplate,
+            ScheduleCacheDependencyService scheduleCacheDependencyService,
+            CalendarActivityTracker calendarActivityTracker,
+            @Qualifier("caffeineCacheManager") CacheManager caffeineCacheManager,
+            @Value("${calendar.refresh.fresh-minutes:30}") long freshMinutes) {
         this.multipleCalendarService = multipleCalendarService;
         this.webUserRepository = webUserRepository;
         this.blockedDateService = blockedDateService;
         this.dateFormatService = dateFormatService;
         this.redisTemplate = redisTemplate;
+        this.scheduleCacheDependencyService = scheduleCacheDependencyService;
+        this.calendarActivityTracker = calendarActivityTracker;
+        this.caffeineCacheManager = caffeineCacheManager;
+        this.calendarFreshness = Duration.ofMinutes(freshMinutes);
     }
 
     // 캐시 설정
@@ -67,15 +83,45 @@ public class UnifiedCalendarCacheService {
     @Transactional(readOnly = true)
     public CalendarEventsResponse getCachedCalendarEvents(UUID userId, LocalDate startDate, LocalDate endDate) {
         log.info("📊 [CACHE_MISS] iCal 동기화 및 캐시 생성: userId={}, range={} ~ {} (30분 캐싱)", userId, startDate, endDate);
-        
+        return loadCalendarEvents(userId, startDate, endDate, true);
+    }
+
+    /**
+     * 백그라운드 갱신 후 캐시 미리 채우기
+     * - 동기화는 호출자가 이미 수행했으므로 DB/피드 캐시 기준으로만 재구성
+     * - getCachedCalendarEvents 와 같은 키로 저장 → 다음 조회는 캐시 히트
+     * - 오류 응답은 캐시하지 않음
+     * @return 저장된 응답 (오류 시 null)
+     */
+    public CalendarEventsResponse warmCalendarEvents(UUID userId, LocalDate startDate, LocalDate endDate) {
+        CalendarEventsResponse response = loadCalendarEvents(userId, startDate, endDate, false);
+        if (response.getStatistics().isHasErrors() && response.getStatistics().getTotalCalendars() == 0) {
+            return null;
+        }
+
+        Cache cache = caffeineCacheManager.getCache(CacheNames.UNIFIED_CALENDAR_EVENTS);
+        if (cache != null) {
+            cache.put(userId + ":" + startDate + ":" + endDate, response);
+            log.debug("🔥 [CACHE_WARM] 캘린더 이벤트 캐시 갱신: userId={}, range={} ~ {}", userId, startDate, endDate);
+        }
+        return response;
+    }
+
+    /**
+     * 통합 캘린더 이벤트 구성
+     * @param sync true 면 오래된 캘린더를 먼저 동기화
+     */
+    private CalendarEventsResponse loadCalendarEvents(UUID userId, LocalDate startDate, LocalDate endDate, boolean sync) {
         try {
-            // 1. 모든 활성 캘린더 동기화 (부분 실패 허용)
-            try {
-                multipleCalendarService.syncAllUserCalendars(userId);
-                log.debug("✅ [SYNC_SUCCESS] 캘린더 동기화 완료: userId={}", userId);
-            } catch (Exception e) {
-                log.warn("⚠️ [SYNC_WARNING] 캘린더 동기화 중 일부 실패 (계속 진행): userId={}, error={}", 
-                        userId, e.getMessage());
+            // 1. 오래된 활성 캘린더만 동기화 (백그라운드 갱신이 최신이면 생략, 부분 실패 허용)
+            if (sync) {
+                try {
+                    multipleCalendarService.syncStaleUserCalendars(userId, calendarFreshness);
+                    log.debug("✅ [SYNC_SUCCESS] 캘린더 동기화 완료: userId={}", userId);
+                } catch (Exception e) {
+                    log.warn("⚠️ [SYNC_WARNING] 캘린더 동기화 중 일부 실패 (계속 진행): userId={}, error={}", 
+                            userId, e.getMessage());
+                }
             }
 
             // 2. 그룹화된 캘린더 이벤트 조회
@@ -152,6 +198,7 @@ public class UnifiedCalendarCacheService {
             // 날짜 범위 설정
             LocalDate startDate = LocalDate.now();
             LocalDate endDate = startDate.plusMonths(months);
+            calendarActivityTracker.recordView(webUser.getId(), startDate, endDate);
 
             // 통합 캐시에서 이벤트 조회
             CalendarEventsResponse cachedEvents = getCachedCalendarEvents(webUser.getId(), startDate, endDate);
@@ -200,8 +247,14 @@ public class UnifiedCalendarCacheService {
             // 새로고침 진행 중 마커 설정 (60초)
             redisTemplate.opsForValue().set(forceRefreshKey, "refreshing", 60, TimeUnit.SECONDS);
 
-            // 캐시 무효화 후 새로 조회
-            CalendarEventsResponse response = getCachedCalendarEvents(userId, startDate, endDate);
+            // 신선도와 관계없이 모든 캘린더 동기화 후 새로 조회
+            try {
+                multipleCalendarService.syncAllUserCalendars(userId);
+            } catch (Exception e) {
+                log.warn("⚠️ [SYNC_WARNING] 캘린더 동기화 중 일부 실패 (계속 진행): userId={}, error={}", 
+                        userId, e.getMessage());
+            }
+            CalendarEventsResponse response = loadCalendarEvents(userId, startDate, endDate, false);
 
             log.info("✅ [FORCE_REFRESH] 강제 새로고침 완료: userId={}, totalEvents={}", 
                     userId, response.getStatistics().getTotalEvents());
@@ -218,9 +271,11 @@ public class UnifiedCalendarCacheService {
      * 사용자별 캐시 전체 무효화
      * @param userId 사용자 ID
      */
-    @CacheEvict(value = {CacheNames.UNIFIED_CALENDAR_EVENTS, CacheNames.USER_CALENDARS}, allEntries = true)  // 패턴 매칭이 어려워 전체 무효화
     public void invalidateUserCache(UUID userId) {
         log.info("🗑️ [CACHE_EVICT] 사용자 캐시 무효화: userId={}", userId);
+
+        // Spring Cache는 소유자(userId) 인덱스로 해당 사용자 항목만 삭제
+        scheduleCacheDependencyService.onCalendarsChanged(userId);
         
         // Redis에서 해당 사용자의 캐시 키 패턴 삭제
         try {
@@ -0,0 +1,131 @@
+package com.crimecat.backend.schedule.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+
+/**
+ * 참여자 공통 가용시간 비트셋
+ * - 일 단위: 검색 기간의 각 날짜를 1비트로 표현 (long 워드 배열, 1 = 모든 참여자 가능)
+ * - 시간 단위: 하루를 30분 슬롯 48개로 나눠 long 하나에 저장 (1 = 누군가 일정 있음)
+ * - 참여자별 비트셋을 AND(가능일) / OR(점유 슬롯) 로 누적해 공통 빈 시간을 워드 연산으로 계산
+ */
+public class AvailabilityBitset {
+
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+    private final LocalDate startDate;
+    private final int days;
+    private final long[] freeDays;
+    private final long[] occupiedSlots;
+
+    public AvailabilityBitset(LocalDate startDate, int days) {
+        this.startDate = startDate;
+        this.days = days;
+        this.freeDays = new long[wordCount(days)];
+        this.occupiedSlots = new long[days];
+        for (int i = 0; i < days; i++) {
+            freeDays[i >>> 6] |= 1L << i;
+        }
+    }
+
+    /**
+     * 비활성 날짜 비트셋 반영 (비트 i = startDate + i 일이 막힘)
+     */
+    public void blockDays(long[] blockedDays) {
+        int words = Math.min(freeDays.length, blockedDays.length);
+        for (int w = 0; w < words; w++) {
+            freeDays[w] &= ~blockedDays[w];
+        }
+    }
+
+    /**
+     * 기존 일정이 차지하는 30분 슬롯 반영 (자정을 넘는 일정은 다음 날 슬롯까지 표시)
+     */
+    public void occupy(LocalDateTime start, LocalDateTime end) {
+        long from = Math.max(0, slotIndex(start, false));
+        long to = Math.min((long) days * SLOTS_PER_DAY, slotIndex(end, true));
+        while (from < to) {
+            int day = (int) (from / SLOTS_PER_DAY);
+            int fromSlot = (int) (from % SLOTS_PER_DAY);
+            int toSlot = (int) Math.min(SLOTS_PER_DAY, to - (long) day * SLOTS_PER_DAY);
+            occupiedSlots[day] |= slotMask(fromSlot, toSlot - fromSlot);
+            from = (long) (day + 1) * SLOTS_PER_DAY;
+        }
+    }
+
+    /**
+     * dayIndex 이후 첫 가능일 (없으면 -1)
+     */
+    public int nextFreeDay(int dayIndex) {
+        int word = dayIndex >>> 6;
+        if (word >= freeDays.length) {
+            return -1;
+        }
+        long bits = freeDays[word] & (-1L << dayIndex);
+        while (true) {
+            if (bits != 0) {
+                int day = (word << 6) + Long.numberOfTrailingZeros(bits);
+                return day < days ? day : -1;
+            }
+            if (++word >= freeDays.length) {
+                return -1;
+            }
+            bits = freeDays[word];
+        }
+    }
+
+    /**
+     * 해당 날짜의 [fromSlot, fromSlot + slotCount) 구간이 모두 비어있는지 확인
+     */
+    public boolean isSlotFree(int dayIndex, int fromSlot, int slotCount) {
+        return (occupiedSlots[dayIndex] & slotMask(fromSlot, slotCount)) == 0;
+    }
+
+    public LocalDate dateOf(int dayIndex) {
+        return startDate.plusDays(dayIndex);
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    /**
+     * 기간 비트맵(바이트 배열, 비트 i = periodStart + i 일)을 검색 기간 기준 비트셋으로 변환
+     *
+     * @param bitmap     UserBlockedPeriod.blockedDaysBitmap
+     * @param periodDays 비트맵이 표현하는 일 수
+     * @param offset     periodStart 로부터 검색 시작일까지의 일 수
+     * @param days       검색 기간 일 수
+     */
+    public static long[] fromPeriodBitmap(byte[] bitmap, int periodDays, int offset, int days) {
+        long[] result = new long[wordCount(days)];
+        if (bitmap == null) {
+            return result;
+        }
+        BitSet source = BitSet.valueOf(bitmap);
+        int from = Math.max(0, offset);
+        int to = Math.min(periodDays, offset + days);
+        for (int i = source.nextSetBit(from); i >= 0 && i < to; i = source.nextSetBit(i + 1)) {
+            int day = i - offset;
+            result[day >>> 6] |= 1L << day;
+        }
+        return result;
+    }
+
+    public static int wordCount(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private long slotIndex(LocalDateTime time, boolean roundUp) {
+        long minutes = ChronoUnit.MINUTES.between(startDate.atStartOfDay(), time);
+        return roundUp ? Math.floorDiv(minutes + SLOT_MINUTES - 1, SLOT_MINUTES) : Math.floorDiv(minutes, SLOT_MINUTES);
+    }
+
+    private static long slotMask(int fromSlot, int slotCount) {
+        long mask = slotCount >= Long.SIZE ? -1L : (1L << slotCount) - 1;
+        return mask << fromSlot;
+    }
+}
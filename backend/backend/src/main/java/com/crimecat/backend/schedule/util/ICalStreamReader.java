@@ -0,0 +1,777 @@
+package com.crimecat.backend.schedule.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스트리밍 iCal(VEVENT) 리더
+ * - 줄 단위로 읽으며 DTSTART / DTEND / DURATION / SUMMARY / RRULE / EXDATE / UID / RECURRENCE-ID 만 추출
+ * - 조회 기간 [windowStart, windowEnd] 밖의 단일 이벤트는 객체 생성 없이 건너뜀
+ * - RRULE 은 조회 기간 안에서만 전개 (DAILY / WEEKLY / MONTHLY / YEARLY, INTERVAL, COUNT, UNTIL, BYDAY)
+ *   YEARLY 의 BYDAY, BYSETPOS 등 지원하지 않는 규칙은 잘못 전개하지 않고 DTSTART 1건으로만 처리
+ *   전개는 DTSTART 의 시간대(TZID) 벽시계 기준으로 하고 발생마다 대상 시간대로 변환 (DST 전후로 시각이 밀리지 않음)
+ * - EXDATE;VALUE=DATE 는 해당 날짜의 발생 전체를 제외
+ * - RECURRENCE-ID 가 있는 VEVENT 는 같은 UID 의 해당 발생을 대체 (순서와 무관하게 파싱 끝에 반영)
+ * - 시간대가 있는 값(TZID, UTC)은 시스템 기본 시간대로 변환, 날짜만 있는 값은 종일 일정
+ */
+public class ICalStreamReader {
+
+    /** 반복 일정 하나당 최대 전개 기간 수 (잘못된 RRULE 방어) */
+    private static final int MAX_EXPANSIONS = 5000;
+
+    private static final Map<String, ZoneId> ZONE_CACHE = new ConcurrentHashMap<>();
+    private static final ZoneId UNKNOWN_ZONE = ZoneOffset.UTC;
+
+    /**
+     * 조회 기간 안의 이벤트 발생 1건
+     */
+    public record Event(String summary, LocalDateTime start, LocalDateTime end, boolean allDay) {
+    }
+
+    /**
+     * 파싱 결과 (calendarFound: BEGIN:VCALENDAR 존재 여부)
+     */
+    public record Result(boolean calendarFound, String calendarName, String prodId, List<Event> events) {
+    }
+
+    private final LocalDate windowStart;
+    private final LocalDate windowEnd;
+    private final ZoneId targetZone;
+
+    /** 단일 이벤트 사전 판정용 YYYYMMDD 정수 범위 (시간대 변환 여유 ±1일) */
+    private final int windowStartKey;
+    private final int windowEndKey;
+
+    private ICalStreamReader(LocalDate windowStart, LocalDate windowEnd, ZoneId targetZone) {
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.targetZone = targetZone;
+        this.windowStartKey = dateKey(windowStart.minusDays(1));
+        this.windowEndKey = dateKey(windowEnd.plusDays(1));
+    }
+
+    /**
+     * 조회 기간(양 끝 포함) 안에서 시작하는 이벤트 발생 목록 읽기
+     */
+    public static Result read(Reader reader, LocalDate windowStart, LocalDate windowEnd) throws IOException {
+        return read(reader, windowStart, windowEnd, ZoneId.systemDefault());
+    }
+
+    /**
+     * 대상 시간대를 지정해 읽기
+     */
+    static Result read(Reader reader, LocalDate windowStart, LocalDate windowEnd, ZoneId targetZone) throws IOException {
+        return new ICalStreamReader(windowStart, windowEnd, targetZone).parse(reader, false);
+    }
+
+    /**
+     * 캘린더 헤더(X-WR-CALNAME, PRODID)만 읽고 첫 컴포넌트에서 중단
+     */
+    public static Result readHeader(Reader reader) throws IOException {
+        return new ICalStreamReader(LocalDate.EPOCH, LocalDate.EPOCH, ZoneId.systemDefault()).parse(reader, true);
+    }
+
+    private Result parse(Reader source, boolean headerOnly) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source, 16 * 1024);
+
+        boolean calendarFound = false;
+        String calendarName = null;
+        String prodId = null;
+        List<Event> events = new ArrayList<>();
+        Overrides overrides = new Overrides();
+
+        VEventFields current = new VEventFields(); // VEVENT 마다 재사용
+        int depth = 0; // VCALENDAR 아래 컴포넌트 중첩 깊이
+        boolean inEvent = false;
+
+        String line = reader.readLine();
+        while (line != null) {
+            // RFC 5545 줄 접기(folding) 해제: 공백/탭으로 시작하는 다음 줄은 이어붙임
+            String next = reader.readLine();
+            if (next != null && isContinuation(next)) {
+                StringBuilder unfolded = new StringBuilder(line);
+                do {
+                    unfolded.append(next, 1, next.length());
+                    next = reader.readLine();
+                } while (next != null && isContinuation(next));
+                line = unfolded.toString();
+            }
+
+            if (line.startsWith("BEGIN:")) {
+                String component = line.substring(6).trim();
+                if ("VCALENDAR".equalsIgnoreCase(component)) {
+                    calendarFound = true;
+                } else {
+                    if (headerOnly) {
+                        break;
+                    }
+                    depth++;
+                    if (depth == 1 && "VEVENT".equalsIgnoreCase(component)) {
+                        inEvent = true;
+                        current.clear();
+                    }
+                }
+            } else if (line.startsWith("END:")) {
+                if (!"VCALENDAR".equalsIgnoreCase(line.substring(4).trim())) {
+                    if (depth == 1 && inEvent) {
+                        emit(current, events, overrides);
+                        inEvent = false;
+                    }
+                    depth = Math.max(0, depth - 1);
+                }
+            } else if (depth == 0) {
+                if (startsWithName(line, "X-WR-CALNAME")) {
+                    calendarName = valueOf(line);
+                } else if (startsWithName(line, "PRODID")) {
+                    prodId = valueOf(line);
+                }
+            } else if (depth == 1 && inEvent) {
+                collect(current, line);
+            }
+
+            line = next;
+        }
+
+        overrides.apply(events);
+        return new Result(calendarFound, calendarName, prodId, events);
+    }
+
+    /**
+     * VEVENT 안의 필요한 속성만 원문 그대로 보관 (변환은 기간 판정 후)
+     */
+    private static void collect(VEventFields fields, String line) {
+        if (startsWithName(line, "DTSTART")) {
+            fields.dtStart = line;
+        } else if (startsWithName(line, "DTEND")) {
+            fields.dtEnd = line;
+        } else if (startsWithName(line, "DURATION")) {
+            fields.duration = valueOf(line);
+        } else if (startsWithName(line, "SUMMARY")) {
+            fields.summary = line;
+        } else if (startsWithName(line, "RRULE")) {
+            fields.rrule = valueOf(line);
+        } else if (startsWithName(line, "UID")) {
+            fields.uid = valueOf(line);
+        } else if (startsWithName(line, "RECURRENCE-ID")) {
+            fields.recurrenceId = line;
+        } else if (startsWithName(line, "EXDATE")) {
+            if (fields.exDates == null) {
+                fields.exDates = new ArrayList<>();
+            }
+            fields.exDates.add(line);
+        }
+    }
+
+    private void emit(VEventFields fields, List<Event> events, Overrides overrides) {
+        if (fields.dtStart == null) {
+            return;
+        }
+        String startValue = valueOf(fields.dtStart);
+        if (startValue.length() < 8) {
+            return;
+        }
+
+        // 반복 일정의 특정 발생 수정본: 원래 발생 시각을 기록 (기간 밖으로 옮겨졌어도 원래 발생은 제외)
+        if (fields.recurrenceId != null && fields.uid != null && fields.rrule == null) {
+            LocalDateTime originalStart = toLocalDateTime(fields.recurrenceId, valueOf(fields.recurrenceId));
+            if (originalStart != null) {
+                overrides.replaced(fields.uid, originalStart);
+            }
+        }
+
+        // 단일 이벤트는 YYYYMMDD 숫자만 보고 기간 밖이면 바로 건너뜀
+        if (fields.rrule == null) {
+            int key;
+            try {
+                key = digits(startValue, 0, 8);
+            } catch (NumberFormatException e) {
+                return;
+            }
+            if (key < windowStartKey || key > windowEndKey) {
+                return;
+            }
+        }
+
+        boolean allDay = isDateValue(fields.dtStart, startValue);
+        LocalDateTime start = toLocalDateTime(fields.dtStart, startValue);
+        if (start == null) {
+            return;
+        }
+        Duration length = eventLength(fields, start, allDay);
+
+        if (fields.rrule == null) {
+            if (inWindow(start)) {
+                events.add(new Event(unescape(valueOf(fields.summary)), start, start.plus(length), allDay));
+            }
+            return;
+        }
+
+        expand(fields, startValue, start, length, allDay, events, overrides);
+    }
+
+    /**
+     * RRULE 을 조회 기간 안에서만 전개
+     * - DTSTART 시간대의 벽시계 시각으로 전개한 뒤 발생마다 대상 시간대로 변환
+     */
+    private void expand(VEventFields fields, String startValue, LocalDateTime start, Duration length, boolean allDay,
+                        List<Event> events, Overrides overrides) {
+        // 전개 기준 시간대 (floating time 이면 대상 시간대 그대로)
+        ZoneId sourceZone = sourceZoneOf(fields.dtStart, startValue);
+        ZoneId ruleZone = sourceZone != null ? sourceZone : targetZone;
+        LocalDateTime ruleStart = toZone(fields.dtStart, startValue, ruleZone);
+        RecurrenceRule rule = ruleStart != null ? RecurrenceRule.parse(fields.rrule, this, ruleZone, ruleStart) : null;
+        if (rule == null) {
+            // 해석할 수 없거나 지원하지 않는 규칙은 DTSTART 발생만 사용
+            if (inWindow(start)) {
+                events.add(new Event(unescape(valueOf(fields.summary)), start, start.plus(length), allDay));
+            }
+            return;
+        }
+
+        Set<LocalDateTime> excluded = new HashSet<>();
+        Set<LocalDate> excludedDays = new HashSet<>();
+        excludedDates(fields.exDates, ruleZone, excluded, excludedDays);
+        String summary = null;
+        LocalDateTime windowStartTime = windowStart.atStartOfDay();
+
+        List<LocalDateTime> candidates = new ArrayList<>();
+        // COUNT 가 없거나 기간당 발생이 정확히 1건이면 조회 시작 이전 기간을 계산으로 건너뜀
+        // (전개 시간대와 대상 시간대 차이를 감안해 하루 앞에서 시작)
+        long period = rule.count < 0 || rule.onePerPeriod()
+                ? rule.periodsBefore(ruleStart, windowStartTime.minusDays(1)) : 0;
+        long produced = rule.count >= 0 ? period : 0;
+        for (int guard = 0; guard < MAX_EXPANSIONS; guard++, period++) {
+            candidates.clear();
+            rule.occurrencesInPeriod(ruleStart, period, candidates);
+            boolean pastEnd = false;
+            for (LocalDateTime occurrence : candidates) {
+                if (occurrence.isBefore(ruleStart)) {
+                    continue;
+                }
+                LocalDateTime converted = convert(occurrence, ruleZone);
+                if ((rule.until != null && occurrence.isAfter(rule.until))
+                        || converted.toLocalDate().isAfter(windowEnd)
+                        || (rule.count >= 0 && produced >= rule.count)) {
+                    pastEnd = true;
+                    break;
+                }
+                produced++;
+                if (converted.isBefore(windowStartTime) || excluded.contains(occurrence)
+                        || excludedDays.contains(occurrence.toLocalDate())) {
+                    continue;
+                }
+                if (summary == null) {
+                    summary = unescape(valueOf(fields.summary));
+                }
+                Event event = new Event(summary, converted, converted.plus(length), allDay);
+                events.add(event);
+                if (fields.uid != null) {
+                    overrides.generated(fields.uid, converted, event);
+                }
+            }
+            if (pastEnd) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * EXDATE → 제외 시각(전개 시간대 기준) / 제외 날짜(VALUE=DATE)
+     */
+    private void excludedDates(List<String> exDateLines, ZoneId ruleZone,
+                               Set<LocalDateTime> excluded, Set<LocalDate> excludedDays) {
+        if (exDateLines == null) {
+            return;
+        }
+        for (String line : exDateLines) {
+            for (String value : valueOf(line).split(",")) {
+                String trimmed = value.trim();
+                LocalDateTime time = toZone(line, trimmed, ruleZone);
+                if (time == null) {
+                    continue;
+                }
+                if (isDateValue(line, trimmed)) {
+                    // 날짜 제외는 시각과 무관하게 그날의 발생 전체
+                    excludedDays.add(time.toLocalDate());
+                } else {
+                    excluded.add(time);
+                }
+            }
+        }
+    }
+
+    private Duration eventLength(VEventFields fields, LocalDateTime start, boolean allDay) {
+        if (fields.dtEnd != null) {
+            LocalDateTime end = toLocalDateTime(fields.dtEnd, valueOf(fields.dtEnd));
+            if (end != null && !end.isBefore(start)) {
+                return Duration.between(start, end);
+            }
+        }
+        if (fields.duration != null) {
+            Duration parsed = parseDuration(fields.duration);
+            if (parsed != null) {
+                return parsed;
+            }
+        }
+        return allDay ? Duration.ofDays(1) : Duration.ZERO;
+    }
+
+    private boolean inWindow(LocalDateTime start) {
+        LocalDate date = start.toLocalDate();
+        return !date.isBefore(windowStart) && !date.isAfter(windowEnd);
+    }
+
+    /**
+     * 날짜/시간 속성 줄 → 대상 시간대의 LocalDateTime
+     */
+    LocalDateTime toLocalDateTime(String propertyLine, String value) {
+        return toZone(propertyLine, value, targetZone);
+    }
+
+    /**
+     * 날짜/시간 속성 줄 → zone 의 LocalDateTime (floating time 과 날짜 값은 변환하지 않음)
+     */
+    LocalDateTime toZone(String propertyLine, String value, ZoneId zone) {
+        if (value.length() < 8) {
+            return null;
+        }
+        try {
+            int year = digits(value, 0, 4);
+            int month = digits(value, 4, 2);
+            int day = digits(value, 6, 2);
+            if (value.length() < 15 || value.charAt(8) != 'T') {
+                return LocalDateTime.of(year, month, day, 0, 0);
+            }
+            LocalDateTime local = LocalDateTime.of(year, month, day,
+                    digits(value, 9, 2), digits(value, 11, 2), digits(value, 13, 2));
+            ZoneId sourceZone = sourceZoneOf(propertyLine, value);
+            if (sourceZone == null || sourceZone.equals(zone)) {
+                return local; // 시간대 없는 floating time 은 그대로 사용
+            }
+            return local.atZone(sourceZone).withZoneSameInstant(zone).toLocalDateTime();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 값의 시간대 (UTC 'Z' 또는 TZID, floating time 이면 null)
+     */
+    private ZoneId sourceZoneOf(String propertyLine, String value) {
+        return value.endsWith("Z") ? ZoneOffset.UTC : zoneOf(paramOf(propertyLine, "TZID"));
+    }
+
+    /**
+     * 전개 시간대의 시각 → 대상 시간대
+     */
+    private LocalDateTime convert(LocalDateTime local, ZoneId zone) {
+        if (zone.equals(targetZone)) {
+            return local;
+        }
+        return local.atZone(zone).withZoneSameInstant(targetZone).toLocalDateTime();
+    }
+
+    private static boolean isDateValue(String propertyLine, String value) {
+        return value.length() == 8 || "DATE".equalsIgnoreCase(paramOf(propertyLine, "VALUE"));
+    }
+
+    private static int dateKey(LocalDate date) {
+        return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    private static int digits(String value, int from, int length) {
+        int result = 0;
+        for (int i = from; i < from + length; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException(value);
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private ZoneId zoneOf(String tzid) {
+        if (tzid == null) {
+            return null;
+        }
+        ZoneId zone = ZONE_CACHE.computeIfAbsent(tzid, id -> {
+            try {
+                return ZoneId.of(id);
+            } catch (RuntimeException e) {
+                // Outlook 의 Windows 시간대 이름 등은 floating time 으로 처리
+                return UNKNOWN_ZONE;
+            }
+        });
+        return zone == UNKNOWN_ZONE && !"UTC".equalsIgnoreCase(tzid) ? null : zone;
+    }
+
+    /**
+     * iCal DURATION (예: PT1H30M, P1D, P2W) 파싱
+     */
+    private static Duration parseDuration(String value) {
+        try {
+            String normalized = value.startsWith("+") ? value.substring(1) : value;
+            int weekIndex = normalized.indexOf('W');
+            if (weekIndex > 0) {
+                return Duration.ofDays(7L * Integer.parseInt(normalized.substring(1, weekIndex)));
+            }
+            return Duration.parse(normalized);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean isContinuation(String line) {
+        return !line.isEmpty() && (line.charAt(0) == ' ' || line.charAt(0) == '\t');
+    }
+
+    private static boolean startsWithName(String line, String name) {
+        if (!line.regionMatches(true, 0, name, 0, name.length()) || line.length() <= name.length()) {
+            return false;
+        }
+        char separator = line.charAt(name.length());
+        return separator == ':' || separator == ';';
+    }
+
+    /**
+     * 속성 값 (따옴표 밖 첫 ':' 이후)
+     */
+    private static String valueOf(String line) {
+        if (line == null) {
+            return null;
+        }
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ':' && !quoted) {
+                return line.substring(i + 1);
+            }
+        }
+        return "";
+    }
+
+    /**
+     * 속성 파라미터 값 (예: DTSTART;TZID=Asia/Seoul:... → Asia/Seoul)
+     */
+    private static String paramOf(String line, String param) {
+        int valueStart = line.length() - valueOf(line).length() - 1;
+        int index = 0;
+        while ((index = line.indexOf(';', index)) >= 0 && index < valueStart) {
+            int nameEnd = index + 1 + param.length();
+            if (line.regionMatches(true, index + 1, param, 0, param.length())
+                    && nameEnd < line.length() && line.charAt(nameEnd) == '=') {
+                int end = nameEnd + 1;
+                while (end < valueStart && line.charAt(end) != ';') {
+                    end++;
+                }
+                String raw = line.substring(nameEnd + 1, end);
+                return raw.length() >= 2 && raw.startsWith("\"") && raw.endsWith("\"")
+                        ? raw.substring(1, raw.length() - 1) : raw;
+            }
+            index++;
+        }
+        return null;
+    }
+
+    private static String unescape(String text) {
+        if (text == null || text.indexOf('\\') < 0) {
+            return text;
+        }
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                char escaped = text.charAt(++i);
+                result.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * VEVENT 원문 속성 보관용
+     */
+    private static class VEventFields {
+        private String dtStart;
+        private String dtEnd;
+        private String duration;
+        private String summary;
+        private String rrule;
+        private String uid;
+        private String recurrenceId;
+        private List<String> exDates;
+
+        private void clear() {
+            dtStart = null;
+            dtEnd = null;
+            duration = null;
+            summary = null;
+            rrule = null;
+            uid = null;
+            recurrenceId = null;
+            exDates = null;
+        }
+    }
+
+    /**
+     * RECURRENCE-ID 로 수정된 발생 추적 (수정본이 원본보다 먼저 나와도 처리되도록 파싱 끝에 반영)
+     */
+    private static class Overrides {
+        /** UID → 원래 발생 시각(대상 시간대) → 전개된 발생 */
+        private final Map<String, Map<LocalDateTime, Event>> generated = new HashMap<>();
+        /** UID → 수정본이 대체한 원래 발생 시각 */
+        private final Map<String, Set<LocalDateTime>> replaced = new HashMap<>();
+
+        private void generated(String uid, LocalDateTime originalStart, Event event) {
+            generated.computeIfAbsent(uid, k -> new HashMap<>()).put(originalStart, event);
+        }
+
+        private void replaced(String uid, LocalDateTime originalStart) {
+            replaced.computeIfAbsent(uid, k -> new HashSet<>()).add(originalStart);
+        }
+
+        /**
+         * 수정본이 있는 전개 발생 제거
+         */
+        private void apply(List<Event> events) {
+            if (replaced.isEmpty() || generated.isEmpty()) {
+                return;
+            }
+            Set<Event> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+            replaced.forEach((uid, originalStarts) -> {
+                Map<LocalDateTime, Event> instances = generated.get(uid);
+                if (instances != null) {
+                    for (LocalDateTime originalStart : originalStarts) {
+                        Event instance = instances.get(originalStart);
+                        if (instance != null) {
+                            removed.add(instance);
+                        }
+                    }
+                }
+            });
+            if (!removed.isEmpty()) {
+                events.removeIf(removed::contains);
+            }
+        }
+    }
+
+    /**
+     * 지원하는 RRULE 부분집합
+     * - 기간(period) 단위로 발생 시각을 계산: DAILY = 일, WEEKLY = 주, MONTHLY = 월, YEARLY = 년 (× INTERVAL)
+     * - BYDAY: DAILY / WEEKLY 는 요일 필터, MONTHLY 는 서수(예: 2MO, -1FR) 포함, YEARLY 는 미지원
+     * - BYMONTH / BYMONTHDAY 는 DTSTART 와 같은 값(기본 전개와 동일)일 때만 허용
+     * - BYSETPOS, BYYEARDAY, BYWEEKNO, BYHOUR 등 그 밖의 BY* 규칙은 미지원 → parse 가 null 반환
+     */
+    private static class RecurrenceRule {
+        private ChronoUnit unit;
+        private int interval = 1;
+        private int count = -1;
+        private LocalDateTime until;
+        private final List<DayOfWeek> byDay = new ArrayList<>();
+        private final List<Integer> byDayOrdinal = new ArrayList<>();
+        private int byMonth;
+        private int byMonthDay;
+        private boolean unsupported;
+
+        /**
+         * @param zone  전개 시간대 (UNTIL 을 이 시간대 벽시계 시각으로 변환)
+         * @param start 전개 시간대의 DTSTART
+         * @return 지원하지 않는 규칙이 있으면 null
+         */
+        static RecurrenceRule parse(String value, ICalStreamReader owner, ZoneId zone, LocalDateTime start) {
+            RecurrenceRule rule = new RecurrenceRule();
+            for (String part : value.split(";")) {
+                int eq = part.indexOf('=');
+                if (eq < 0) {
+                    continue;
+                }
+                String key = part.substring(0, eq).toUpperCase();
+                String val = part.substring(eq + 1);
+                try {
+                    switch (key) {
+                        case "FREQ" -> rule.unit = switch (val.toUpperCase()) {
+                            case "DAILY" -> ChronoUnit.DAYS;
+                            case "WEEKLY" -> ChronoUnit.WEEKS;
+                            case "MONTHLY" -> ChronoUnit.MONTHS;
+                            case "YEARLY" -> ChronoUnit.YEARS;
+                            default -> null;
+                        };
+                        case "INTERVAL" -> rule.interval = Math.max(1, Integer.parseInt(val));
+                        case "COUNT" -> rule.count = Integer.parseInt(val);
+                        case "UNTIL" -> {
+                            rule.until = owner.toZone("UNTIL", val, zone);
+                            if (rule.until != null && val.length() == 8) {
+                                // 날짜만 있는 UNTIL 은 해당 날짜 전체 포함
+                                rule.until = rule.until.plusDays(1).minusNanos(1);
+                            }
+                        }
+                        case "BYDAY" -> {
+                            for (String day : val.split(",")) {
+                                String code = day.substring(day.length() - 2);
+                                String ordinal = day.substring(0, day.length() - 2);
+                                rule.byDay.add(dayOf(code));
+                                rule.byDayOrdinal.add(ordinal.isEmpty() ? 0 : Integer.parseInt(ordinal.replace("+", "")));
+                            }
+                        }
+                        case "BYMONTH" -> rule.byMonth = Integer.parseInt(val);
+                        case "BYMONTHDAY" -> rule.byMonthDay = Integer.parseInt(val);
+                        case "WKST" -> {
+                            // 주 시작 요일은 월요일 기준으로 전개
+                        }
+                        default -> {
+                            // BYSETPOS, BYYEARDAY, BYWEEKNO, BYHOUR 등은 무시하면 발생이 달라지므로 미지원 처리
+                            if (key.startsWith("BY")) {
+                                rule.unsupported = true;
+                            }
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    return null;
+                }
+            }
+            if (rule.unit == null || rule.unsupported || !rule.supports(start)) {
+                return null;
+            }
+            return rule;
+        }
+
+        /**
+         * 기본 전개로 정확히 표현되는 규칙인지
+         */
+        private boolean supports(LocalDateTime start) {
+            boolean monthOrYear = unit == ChronoUnit.MONTHS || unit == ChronoUnit.YEARS;
+            if (byMonth != 0 && (unit != ChronoUnit.YEARS || byMonth != start.getMonthValue())) {
+                return false;
+            }
+            if (byMonthDay != 0 && (!monthOrYear || !byDay.isEmpty() || byMonthDay != start.getDayOfMonth())) {
+                return false;
+            }
+            if (byDay.isEmpty() || unit == ChronoUnit.MONTHS) {
+                return true;
+            }
+            // DAILY / WEEKLY 의 BYDAY 는 서수 없는 요일만, YEARLY 는 미지원
+            return unit != ChronoUnit.YEARS && byDayOrdinal.stream().allMatch(ordinal -> ordinal == 0);
+        }
+
+        boolean onePerPeriod() {
+            return (unit == ChronoUnit.DAYS || unit == ChronoUnit.WEEKS) && byDay.isEmpty();
+        }
+
+        /**
+         * 조회 시작 이전 기간을 한 번에 건너뛰기 위한 시작 기간 번호
+         */
+        long periodsBefore(LocalDateTime start, LocalDateTime windowStartTime) {
+            if (!windowStartTime.isAfter(start)) {
+                return 0;
+            }
+            LocalDateTime alignedStart = unit == ChronoUnit.WEEKS ? weekStart(start) : start;
+            long between = unit.between(alignedStart, windowStartTime) / interval - 1;
+            return Math.max(0, between);
+        }
+
+        /**
+         * period 번째 기간의 발생 시각들 (시간순)
+         */
+        void occurrencesInPeriod(LocalDateTime start, long period, List<LocalDateTime> out) {
+            long step = period * interval;
+            switch (unit) {
+                case DAYS -> {
+                    LocalDateTime day = start.plusDays(step);
+                    if (byDay.isEmpty() || byDay.contains(day.getDayOfWeek())) {
+                        out.add(day);
+                    }
+                }
+                case WEEKS -> {
+                    if (byDay.isEmpty()) {
+                        out.add(start.plusWeeks(step));
+                    } else {
+                        LocalDateTime week = weekStart(start).plusWeeks(step);
+                        for (DayOfWeek day : byDay) {
+                            out.add(week.plusDays(day.getValue() - 1L));
+                        }
+                        out.sort(null);
+                    }
+                }
+                case MONTHS -> {
+                    LocalDateTime month = start.withDayOfMonth(1).plusMonths(step);
+                    if (byDay.isEmpty()) {
+                        // 말일 보정된 날짜는 RFC 5545 에 따라 건너뜀
+                        if (start.getDayOfMonth() <= month.toLocalDate().lengthOfMonth()) {
+                            out.add(month.withDayOfMonth(start.getDayOfMonth()));
+                        }
+                    } else {
+                        addByDayInMonth(month, out);
+                        out.sort(null);
+                    }
+                }
+                case YEARS -> {
+                    LocalDateTime year = start.plusYears(step);
+                    if (year.getDayOfMonth() == start.getDayOfMonth()) {
+                        out.add(year);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        private void addByDayInMonth(LocalDateTime month, List<LocalDateTime> out) {
+            for (int i = 0; i < byDay.size(); i++) {
+                DayOfWeek day = byDay.get(i);
+                int ordinal = byDayOrdinal.get(i);
+                if (ordinal == 0) {
+                    LocalDateTime date = month.with(TemporalAdjusters.firstInMonth(day));
+                    while (date.getMonth() == month.getMonth()) {
+                        out.add(date);
+                        date = date.plusWeeks(1);
+                    }
+                } else {
+                    LocalDateTime date = month.with(TemporalAdjusters.dayOfWeekInMonth(ordinal, day));
+                    if (date.getMonth() == month.getMonth()) {
+                        out.add(date);
+                    }
+                }
+            }
+        }
+
+        private static LocalDateTime weekStart(LocalDateTime time) {
+            return time.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        private static DayOfWeek dayOf(String code) {
+            return switch (code.toUpperCase()) {
+                case "MO" -> DayOfWeek.MONDAY;
+                case "TU" -> DayOfWeek.TUESDAY;
+                case "WE" -> DayOfWeek.WEDNESDAY;
+                case "TH" -> DayOfWeek.THURSDAY;
+                case "FR" -> DayOfWeek.FRIDAY;
+                case "SA" -> DayOfWeek.SATURDAY;
+                case "SU" -> DayOfWeek.SUNDAY;
+                default -> throw new IllegalArgumentException(code);
+            };
+        }
+    }
+}
@@ -109,6 +109,11 @@ public class FileSystemStorageService implements StorageService {
         }
     }
 
+    @Override
+    public StoredFile loadAsStoredFile(String filename) throws IOException {
+        return StoredFile.of(load(filename));
+    }
+
     @Override
     public void deleteAll() {
         FileSystemUtils.deleteRecursively(rootLocation.toFile());
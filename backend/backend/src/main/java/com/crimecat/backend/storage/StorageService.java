@@ -21,6 +21,12 @@ public interface StorageService {
 
     Resource loadAsResource(String filename);
 
+    /**
+     * 파일 크기/수정 시각/ETag 와 함께 위치 지정 전송이 가능한 형태로 조회
+     * @throws java.nio.file.NoSuchFileException 파일이 없는 경우
+     */
+    StoredFile loadAsStoredFile(String filename) throws IOException;
+
     void deleteAll();
 
     void delete(StorageFileType type, String filename);
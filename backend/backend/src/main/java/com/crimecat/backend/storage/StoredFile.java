@@ -0,0 +1,50 @@
+package com.crimecat.backend.storage;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * 저장된 파일의 메타정보 + 구간 전송
+ * - 구간 전송은 InputStream skip 없이 FileChannel 위치 지정 후 transferTo (대상이 소켓/파일 채널이면 sendfile)
+ * - eTag 는 수정 시각과 크기로 만든 strong ETag (저장 파일은 덮어쓰면 수정 시각이 바뀜)
+ *
+ * @param lastModified epoch millis
+ */
+public record StoredFile(Path path, long length, long lastModified, String eTag) {
+
+    public static StoredFile of(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            throw new NoSuchFileException(path.toString());
+        }
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String eTag = "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(attributes.size()) + "\"";
+        return new StoredFile(path, attributes.size(), lastModified, eTag);
+    }
+
+    public FileChannel openChannel() throws IOException {
+        return FileChannel.open(path, StandardOpenOption.READ);
+    }
+
+    /**
+     * channel 의 position 부터 count 바이트를 target 으로 전송
+     */
+    public static void transfer(FileChannel channel, long position, long count, WritableByteChannel target)
+            throws IOException {
+        while (count > 0) {
+            long transferred = channel.transferTo(position, count, target);
+            if (transferred <= 0 && position >= channel.size()) {
+                throw new EOFException("파일이 예상보다 짧습니다: position=" + position);
+            }
+            position += transferred;
+            count -= transferred;
+        }
+    }
+}
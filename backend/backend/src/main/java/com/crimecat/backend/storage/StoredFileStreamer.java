@@ -0,0 +1,186 @@
+package com.crimecat.backend.storage;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 저장 파일 HTTP 전송 (조건부 요청 + Range)
+ * - If-None-Match / If-Modified-Since 가 일치하면 304 (ETag, Last-Modified 응답)
+ * - Range: 단일 구간은 206, 여러 구간은 multipart/byteranges, If-Range 가 현재 버전과 다르면 전체 200
+ * - 본문: Tomcat sendfile 을 지원하면 컨테이너에 위임(커널 복사), 아니면 FileChannel.transferTo
+ */
+@Slf4j
+@Component
+public class StoredFileStreamer {
+
+    // Tomcat 커넥터가 sendfile 로 본문을 전송하게 하는 요청 속성 (org.apache.catalina.Globals)
+    static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private record ByteRange(long start, long end) {
+        long length() {
+            return end - start + 1;
+        }
+    }
+
+    public void stream(StoredFile file, String contentType, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        if (webRequest.checkNotModified(file.eTag(), file.lastModified())) {
+            // 304 (재생할 때마다 같은 파일을 다시 받지 않음)
+            return;
+        }
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        List<ByteRange> ranges = requestedRanges(request, file);
+        if (ranges == null) {
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.length());
+            return;
+        }
+
+        if (ranges.isEmpty()) {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(contentType);
+            response.setContentLengthLong(file.length());
+            writeRegion(file, new ByteRange(0, file.length() - 1), request, response);
+        } else if (ranges.size() == 1) {
+            ByteRange range = ranges.get(0);
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setContentType(contentType);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(range, file.length()));
+            response.setContentLengthLong(range.length());
+            writeRegion(file, range, request, response);
+        } else {
+            writeMultipart(file, contentType, ranges, request, response);
+        }
+    }
+
+    /**
+     * 전송할 구간 목록 (빈 목록이면 전체, null 이면 416)
+     */
+    private List<ByteRange> requestedRanges(HttpServletRequest request, StoredFile file) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !ifRangeMatches(request, file)) {
+            return List.of();
+        }
+        if (file.length() == 0) {
+            return null;
+        }
+        List<ByteRange> ranges = new ArrayList<>();
+        long total = 0;
+        try {
+            for (HttpRange httpRange : HttpRange.parseRanges(rangeHeader)) {
+                long start = httpRange.getRangeStart(file.length());
+                long end = httpRange.getRangeEnd(file.length());
+                if (start < file.length() && start <= end) {
+                    ByteRange range = new ByteRange(start, end);
+                    ranges.add(range);
+                    total += range.length();
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("잘못된 Range 헤더: {}", rangeHeader);
+            return null;
+        }
+        // 겹치는 구간으로 파일보다 큰 응답을 만드는 요청 차단
+        if (ranges.isEmpty() || total > file.length()) {
+            return null;
+        }
+        return ranges;
+    }
+
+    /**
+     * If-Range 가 없거나 현재 버전(strong ETag 또는 Last-Modified)과 같으면 true
+     */
+    private boolean ifRangeMatches(HttpServletRequest request, StoredFile file) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // strong 비교 (weak ETag 는 일치하지 않음)
+            return ifRange.equals(file.eTag());
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) == file.lastModified() / 1000 * 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void writeRegion(StoredFile file, ByteRange range, HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        if (HttpMethod.HEAD.matches(request.getMethod()) || range.length() == 0) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            // 응답 헤더만 쓰고 본문은 커넥터가 파일에서 소켓으로 직접 전송
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, range.start());
+            request.setAttribute(SENDFILE_END_ATTR, range.end() + 1);
+            return;
+        }
+        try (FileChannel channel = file.openChannel()) {
+            StoredFile.transfer(channel, range.start(), range.length(),
+                    Channels.newChannel(response.getOutputStream()));
+        }
+    }
+
+    private void writeMultipart(StoredFile file, String contentType, List<ByteRange> ranges,
+                                HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (ByteRange range : ranges) {
+            byte[] partHeader = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": " + contentRange(range, file.length()) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(partHeader);
+            contentLength += partHeader.length + range.length();
+        }
+        byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        contentLength += closing.length;
+
+        response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        ServletOutputStream out = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = file.openChannel()) {
+            for (int i = 0; i < ranges.size(); i++) {
+                ByteRange range = ranges.get(i);
+                out.write(partHeaders.get(i));
+                StoredFile.transfer(channel, range.start(), range.length(), target);
+            }
+        }
+        out.write(closing);
+    }
+
+    private static String contentRange(ByteRange range, long length) {
+        return "bytes " + range.start() + "-" + range.end() + "/" + length;
+    }
+}
@@ -1,10 +0,0 @@
-package com.crimecat.backend.trace;
-
-public interface LogTrace {
-    
-    TraceStatus begin(String message);
-    
-    void end(TraceStatus status);
-    
-    void exception(TraceStatus status, Exception e);
-}
\ No newline at end of file
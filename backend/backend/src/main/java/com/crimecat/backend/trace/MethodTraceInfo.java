@@ -0,0 +1,56 @@
+package com.crimecat.backend.trace;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 메서드별 추적 메타데이터 (메서드당 한 번 생성해 재사용)
+ * - 로그 라벨 문자열을 미리 만들어 호출마다 문자열 조합을 하지 않음
+ * - 활성 여부는 정책 version 이 바뀔 때만 다시 계산
+ * - Micrometer 타이머는 처음 기록될 때 등록
+ */
+public final class MethodTraceInfo {
+
+    public static final String TIMER_NAME = "trace.method";
+
+    private final String className;
+    private final String simpleClassName;
+    private final String methodName;
+    private final String label;
+
+    private volatile long policyVersion = -1;
+    private volatile boolean enabled;
+    private volatile Timer timer;
+
+    public MethodTraceInfo(String className, String methodName) {
+        this.className = className;
+        this.simpleClassName = className.substring(className.lastIndexOf('.') + 1);
+        this.methodName = methodName;
+        this.label = simpleClassName + "." + methodName + "()";
+    }
+
+    public boolean isEnabled(TracingPolicy policy) {
+        long current = policy.version();
+        if (policyVersion != current) {
+            enabled = policy.isEnabled(className);
+            policyVersion = current;
+        }
+        return enabled;
+    }
+
+    public Timer timer(MeterRegistry meterRegistry) {
+        Timer registered = timer;
+        if (registered == null) {
+            registered = Timer.builder(TIMER_NAME)
+                    .tag("class", simpleClassName)
+                    .tag("method", methodName)
+                    .register(meterRegistry);
+            timer = registered;
+        }
+        return registered;
+    }
+
+    public String label() {
+        return label;
+    }
+}
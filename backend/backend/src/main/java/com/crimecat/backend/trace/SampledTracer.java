@@ -0,0 +1,121 @@
+package com.crimecat.backend.trace;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+
+/**
+ * 샘플링 기반 메서드 추적기
+ * - 스레드에서 처음 추적되는 호출이 루트 스팬 → 루트 시작 시 헤드 샘플링 여부 결정
+ * - 하위 호출은 로그 없이 링 버퍼에만 기록
+ * - 루트 종료 시 샘플링 / 느림 / 예외 중 하나라도 해당하면 스팬 전체를 로그 한 줄로 덤프하고 메서드별 타이머 기록
+ * - 그 외 요청은 로그도 지표도 남기지 않음
+ */
+@Slf4j
+public class SampledTracer {
+
+    public static final String MDC_TRACE_ID = "traceId";
+
+    private final TracingPolicy policy;
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<TraceContext> contexts;
+
+    public SampledTracer(TracingPolicy policy, MeterRegistry meterRegistry) {
+        this.policy = policy;
+        this.meterRegistry = meterRegistry;
+        this.contexts = ThreadLocal.withInitial(() -> new TraceContext(policy.getRingBufferSize()));
+    }
+
+    public Object trace(TracedInvocation invocation, MethodTraceInfo method) throws Throwable {
+        if (!method.isEnabled(policy)) {
+            return invocation.proceed();
+        }
+
+        TraceContext context = contexts.get();
+        boolean root = context.depth == 0;
+        if (root) {
+            context.begin(newTraceId(), policy.shouldSample(), policy.getRingBufferSize());
+            if (context.sampled) {
+                MDC.put(MDC_TRACE_ID, context.traceId);
+            }
+        }
+
+        int depth = context.depth++;
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            return invocation.proceed();
+        } catch (Throwable t) {
+            failed = true;
+            if (context.error == null) {
+                context.error = t;
+            }
+            throw t;
+        } finally {
+            long duration = System.nanoTime() - start;
+            context.depth = depth;
+            context.record(method, start, duration, depth, failed);
+            if (root) {
+                complete(context, method, duration);
+            }
+        }
+    }
+
+    private void complete(TraceContext context, MethodTraceInfo root, long duration) {
+        try {
+            boolean slow = policy.isSlow(duration);
+            boolean error = context.error != null;
+            if (!context.sampled && !slow && !error) {
+                return;
+            }
+
+            for (int i = 0, size = context.size(); i < size; i++) {
+                context.method(i).timer(meterRegistry).record(context.duration(i), TimeUnit.NANOSECONDS);
+            }
+            dump(context, root, duration, slow, error);
+        } catch (Exception e) {
+            // 추적 실패가 요청 처리에 영향을 주지 않도록 함
+            log.debug("⚠️ [TRACE] 스팬 덤프 실패: {}", e.getMessage());
+        } finally {
+            if (context.sampled) {
+                MDC.remove(MDC_TRACE_ID);
+            }
+            context.end();
+        }
+    }
+
+    private void dump(TraceContext context, MethodTraceInfo root, long duration, boolean slow, boolean error) {
+        StringBuilder out = new StringBuilder(256);
+        out.append('[').append(context.traceId).append("] ")
+                .append(root.label())
+                .append(" time=").append(TimeUnit.NANOSECONDS.toMillis(duration)).append("ms")
+                .append(" spans=").append(context.size());
+        if (context.dropped() > 0) {
+            out.append(" dropped=").append(context.dropped());
+        }
+        context.appendTree(out);
+
+        if (error) {
+            log.warn("🔍 [TRACE] 예외 발생 요청 {}\nex={}", out, context.error.toString());
+        } else if (slow) {
+            log.warn("🐢 [TRACE] 느린 요청 {}", out);
+        } else {
+            log.info("🔍 [TRACE] 샘플링 요청 {}", out);
+        }
+    }
+
+    private static String newTraceId() {
+        String hex = Long.toHexString(ThreadLocalRandom.current().nextLong() | Long.MIN_VALUE);
+        return hex.substring(0, 8);
+    }
+
+    /**
+     * 추적 대상 호출 (ProceedingJoinPoint::proceed)
+     */
+    @FunctionalInterface
+    public interface TracedInvocation {
+        Object proceed() throws Throwable;
+    }
+}
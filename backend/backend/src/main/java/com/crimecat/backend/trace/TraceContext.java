@@ -0,0 +1,103 @@
+package com.crimecat.backend.trace;
+
+import java.util.Arrays;
+
+/**
+ * 스레드별 스팬 링 버퍼 (요청마다 재사용, 할당 없음)
+ * - 스팬은 메서드 종료 시점에 기록, 버퍼가 차면 오래된 스팬부터 덮어씀
+ * - 덤프할 때만 시작 시각 순으로 정렬해 호출 트리 형태로 출력
+ */
+final class TraceContext {
+
+    private MethodTraceInfo[] methods;
+    private long[] startNanos;
+    private long[] durationNanos;
+    private int[] depths;
+    private boolean[] failed;
+
+    private int recorded;
+    int depth;
+    String traceId;
+    boolean sampled;
+    Throwable error;
+
+    TraceContext(int capacity) {
+        allocate(capacity);
+    }
+
+    void begin(String traceId, boolean sampled, int capacity) {
+        if (capacity != methods.length) {
+            allocate(capacity);
+        }
+        this.traceId = traceId;
+        this.sampled = sampled;
+        this.error = null;
+        this.recorded = 0;
+        this.depth = 0;
+    }
+
+    void record(MethodTraceInfo method, long start, long duration, int depth, boolean failed) {
+        int slot = recorded % methods.length;
+        this.methods[slot] = method;
+        this.startNanos[slot] = start;
+        this.durationNanos[slot] = duration;
+        this.depths[slot] = depth;
+        this.failed[slot] = failed;
+        recorded++;
+    }
+
+    /** 버퍼에 남아 있는 스팬 수 */
+    int size() {
+        return Math.min(recorded, methods.length);
+    }
+
+    /** 버퍼 용량 초과로 덮어쓴 스팬 수 */
+    int dropped() {
+        return recorded - size();
+    }
+
+    MethodTraceInfo method(int index) {
+        return methods[index];
+    }
+
+    long duration(int index) {
+        return durationNanos[index];
+    }
+
+    void end() {
+        traceId = null;
+        error = null;
+    }
+
+    /**
+     * 스팬을 호출 순서(시작 시각 → 깊이)로 출력
+     */
+    void appendTree(StringBuilder out) {
+        int size = size();
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int byStart = Long.compare(startNanos[a], startNanos[b]);
+            return byStart != 0 ? byStart : Integer.compare(depths[a], depths[b]);
+        });
+
+        for (int index : order) {
+            out.append('\n');
+            out.append("|   ".repeat(depths[index]));
+            out.append(failed[index] ? "|<X-" : "|-->");
+            out.append(methods[index].label())
+                    .append(" time=").append(durationNanos[index] / 1_000_000).append("ms");
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.methods = new MethodTraceInfo[capacity];
+        this.startNanos = new long[capacity];
+        this.durationNanos = new long[capacity];
+        this.depths = new int[capacity];
+        this.failed = new boolean[capacity];
+        this.recorded = 0;
+    }
+}
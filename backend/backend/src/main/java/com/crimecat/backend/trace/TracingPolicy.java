@@ -0,0 +1,107 @@
+package com.crimecat.backend.trace;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메서드 추적 정책 (런타임 변경 가능)
+ * - 헤드 샘플링 비율: 요청 시작 시 한 번 결정
+ * - 느린 요청 기준: 샘플링되지 않아도 기준 초과 시 스팬 덤프
+ * - 패키지별 활성/비활성: 가장 긴 접두어 규칙 우선, 변경 시 version 증가로 메서드별 캐시 갱신
+ */
+public class TracingPolicy {
+
+    private volatile double sampleRate;
+    private volatile long slowThresholdNanos;
+    private volatile int ringBufferSize;
+
+    /** 패키지(또는 클래스) 접두어 → 활성 여부 */
+    private volatile Map<String, Boolean> packageRules = Map.of();
+    private final AtomicLong version = new AtomicLong();
+
+    public TracingPolicy(double sampleRate, long slowThresholdMillis, int ringBufferSize) {
+        setSampleRate(sampleRate);
+        setSlowThresholdMillis(slowThresholdMillis);
+        this.ringBufferSize = Math.max(16, ringBufferSize);
+    }
+
+    public boolean shouldSample() {
+        double rate = sampleRate;
+        return rate > 0 && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    public boolean isSlow(long durationNanos) {
+        return durationNanos >= slowThresholdNanos;
+    }
+
+    /**
+     * 클래스 이름에 적용되는 규칙 (규칙 없으면 활성)
+     */
+    public boolean isEnabled(String className) {
+        Map<String, Boolean> rules = packageRules;
+        String matched = null;
+        boolean enabled = true;
+        for (Map.Entry<String, Boolean> rule : rules.entrySet()) {
+            String prefix = rule.getKey();
+            if (className.startsWith(prefix)
+                    && (className.length() == prefix.length() || className.charAt(prefix.length()) == '.')
+                    && (matched == null || prefix.length() > matched.length())) {
+                matched = prefix;
+                enabled = rule.getValue();
+            }
+        }
+        return enabled;
+    }
+
+    public synchronized void setPackageEnabled(String packageName, boolean enabled) {
+        Map<String, Boolean> rules = new TreeMap<>(packageRules);
+        rules.put(packageName, enabled);
+        packageRules = Map.copyOf(rules);
+        version.incrementAndGet();
+    }
+
+    public synchronized void clearPackageRule(String packageName) {
+        Map<String, Boolean> rules = new TreeMap<>(packageRules);
+        if (rules.remove(packageName) != null) {
+            packageRules = Map.copyOf(rules);
+            version.incrementAndGet();
+        }
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public Map<String, Boolean> getPackageRules() {
+        return new TreeMap<>(packageRules);
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        if (Double.isNaN(sampleRate) || sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sampleRate 는 0 ~ 1 사이여야 합니다: " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    public long getSlowThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+    }
+
+    public void setSlowThresholdMillis(long slowThresholdMillis) {
+        if (slowThresholdMillis < 0) {
+            throw new IllegalArgumentException("slowThresholdMs 는 0 이상이어야 합니다: " + slowThresholdMillis);
+        }
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
+    public int getRingBufferSize() {
+        return ringBufferSize;
+    }
+}
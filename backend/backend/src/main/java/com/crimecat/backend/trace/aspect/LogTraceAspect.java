@@ -1,25 +1,31 @@
 package com.crimecat.backend.trace.aspect;
 
-import com.crimecat.backend.trace.LogTrace;
-import com.crimecat.backend.trace.TraceStatus;
-import com.crimecat.backend.trace.annotation.NoTrace;
+import com.crimecat.backend.trace.MethodTraceInfo;
+import com.crimecat.backend.trace.SampledTracer;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.core.annotation.Order;
-import org.springframework.stereotype.Component;
 
-@Slf4j
+/**
+ * 빈 메서드 추적 Aspect
+ * - 호출마다 로그를 남기지 않고 SampledTracer 의 링 버퍼에만 기록
+ * - 메서드별 메타데이터는 최초 호출 시 한 번만 생성
+ */
 @Aspect
-@Component
 @Order(1)
 @RequiredArgsConstructor
 public class LogTraceAspect {
-    
-    private final LogTrace logTrace;
+
+    private final SampledTracer tracer;
+    /** 대상 클래스 → 메서드 → 추적 메타데이터 (같은 인터페이스 메서드라도 구현 빈별로 구분) */
+    private final Map<Class<?>, Map<Method, MethodTraceInfo>> methods = new ConcurrentHashMap<>();
     
     // Controller 포인트컷
     @Pointcut("@within(org.springframework.web.bind.annotation.RestController) || " +
@@ -51,36 +57,21 @@ public class LogTraceAspect {
     @Around("(controllerPointcut() || servicePointcut() || repositoryPointcut() || componentPointcut()) " +
             "&& notNoTrace() && notTracePackage()")
     public Object execute(ProceedingJoinPoint joinPoint) throws Throwable {
-        TraceStatus status = null;
-        
-        try {
-            String message = getMethodSignature(joinPoint);
-            status = logTrace.begin(message);
-            
-            // 실제 메서드 실행
-            Object result = joinPoint.proceed();
-            
-            logTrace.end(status);
-            return result;
-            
-        } catch (Exception e) {
-            if (status != null) {
-                logTrace.exception(status, e);
-            }
-            throw e;
-        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Object target = joinPoint.getTarget();
+        Class<?> targetClass = target != null ? target.getClass() : method.getDeclaringClass();
+        MethodTraceInfo info = methods
+                .computeIfAbsent(targetClass, type -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, m -> createInfo(targetClass, m));
+        return tracer.trace(joinPoint::proceed, info);
     }
-    
-    private String getMethodSignature(ProceedingJoinPoint joinPoint) {
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
-        
-        // Controller인 경우 HTTP 메서드 정보도 포함
-        if (joinPoint.getTarget().getClass().isAnnotationPresent(org.springframework.web.bind.annotation.RestController.class) ||
-            joinPoint.getTarget().getClass().isAnnotationPresent(org.springframework.stereotype.Controller.class)) {
-            return String.format("%s.%s()", className, methodName);
+
+    private static MethodTraceInfo createInfo(Class<?> targetClass, Method method) {
+        // CGLIB 프록시 클래스면 원래 클래스 기준 (패키지 규칙 매칭용)
+        Class<?> type = targetClass;
+        while (type.getName().contains("$$") && type.getSuperclass() != null) {
+            type = type.getSuperclass();
         }
-        
-        return String.format("%s.%s()", className, methodName);
+        return new MethodTraceInfo(type.getName(), method.getName());
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,12 @@
 package com.crimecat.backend.trace.config;
 
-import com.crimecat.backend.trace.LogTrace;
-import com.crimecat.backend.trace.ThreadLocalLogTrace;
+import com.crimecat.backend.trace.SampledTracer;
+import com.crimecat.backend.trace.TracingPolicy;
+import com.crimecat.backend.trace.aspect.LogTraceAspect;
+import com.crimecat.backend.trace.endpoint.TracingEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,10 +21,29 @@ import org.springframework.context.annotation.EnableAspectJAutoProxy;
     matchIfMissing = true  // 기본값은 활성화
 )
 public class TraceConfiguration {
-    
+
+    @Bean
+    public TracingPolicy tracingPolicy(
+            @Value("${trace.sample-rate:0.01}") double sampleRate,
+            @Value("${trace.slow-threshold-ms:500}") long slowThresholdMs,
+            @Value("${trace.ring-buffer-size:256}") int ringBufferSize) {
+        return new TracingPolicy(sampleRate, slowThresholdMs, ringBufferSize);
+    }
+
+    @Bean
+    public SampledTracer sampledTracer(TracingPolicy tracingPolicy, MeterRegistry meterRegistry) {
+        log.info("🔍 샘플링 기반 메서드 추적 활성화 - sampleRate={}, slowThresholdMs={}",
+                tracingPolicy.getSampleRate(), tracingPolicy.getSlowThresholdMillis());
+        return new SampledTracer(tracingPolicy, meterRegistry);
+    }
+
+    @Bean
+    public LogTraceAspect logTraceAspect(SampledTracer sampledTracer) {
+        return new LogTraceAspect(sampledTracer);
+    }
+
     @Bean
-    public LogTrace logTrace() {
-        log.info("🔍 ThreadLocal 기반 로그 추적 시스템 활성화");
-        return new ThreadLocalLogTrace();
+    public TracingEndpoint tracingEndpoint(TracingPolicy tracingPolicy) {
+        return new TracingEndpoint(tracingPolicy);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package com.crimecat.backend.trace.endpoint;
+
+import com.crimecat.backend.trace.TracingPolicy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * 메서드 추적 정책 조회/변경 Actuator 엔드포인트 (/actuator/tracing)
+ * - 노출하려면 management.endpoints.web.exposure.include 에 tracing 추가
+ * - 예: POST {"sampleRate": 0.05}, {"packageName": "com.crimecat.backend.point", "enabled": false}
+ */
+@Slf4j
+@Endpoint(id = "tracing")
+@RequiredArgsConstructor
+public class TracingEndpoint {
+
+    private final TracingPolicy policy;
+
+    @ReadOperation
+    public Map<String, Object> policy() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sampleRate", policy.getSampleRate());
+        result.put("slowThresholdMs", policy.getSlowThresholdMillis());
+        result.put("ringBufferSize", policy.getRingBufferSize());
+        result.put("packages", policy.getPackageRules());
+        return result;
+    }
+
+    /**
+     * 정책 변경 (전달된 항목만 반영)
+     * - enabled 없이 packageName 만 전달하면 해당 패키지 규칙 제거
+     */
+    @WriteOperation
+    public Map<String, Object> update(@Nullable Double sampleRate,
+                                      @Nullable Long slowThresholdMs,
+                                      @Nullable String packageName,
+                                      @Nullable Boolean enabled) {
+        if (sampleRate != null) {
+            policy.setSampleRate(sampleRate);
+        }
+        if (slowThresholdMs != null) {
+            policy.setSlowThresholdMillis(slowThresholdMs);
+        }
+        if (packageName != null && !packageName.isBlank()) {
+            if (enabled != null) {
+                policy.setPackageEnabled(packageName.trim(), enabled);
+            } else {
+                policy.clearPackageRule(packageName.trim());
+            }
+        }
+        log.info("🔧 [TRACE] 추적 정책 변경: sampleRate={}, slowThresholdMs={}, package={}, enabled={}",
+                sampleRate, slowThresholdMs, packageName, enabled);
+        return policy();
+    }
+}
@@ -76,15 +76,6 @@ public class DiscordUser {
         return user.getPoint();
     }
 
-    public void subtractPoint(int amount) {
-          this.user.subtractPoint(amount);
-    }
-
-
-    public void addPoint(Integer point){
-        this.user.addPoint(point);
-    }
-
     public void setAvatar(String avatar) {
         if (avatar == null) {
             return;
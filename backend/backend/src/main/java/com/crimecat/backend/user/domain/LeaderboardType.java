@@ -0,0 +1,23 @@
+package com.crimecat.backend.user.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 랭킹 보드 종류 (Redis Sorted Set 한 개씩)
+ * - member: 유저/길드 디스코드 snowflake, score: 랭킹 기준 값
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LeaderboardType {
+    /** 유저 보유 포인트 */
+    POINT("leaderboard:point"),
+    /** 유저 플레이 횟수 */
+    PLAY_COUNT("leaderboard:play_count"),
+    /** 유저가 소유한 공개 길드 수 (비공개/탈퇴 길드 제외 - 기존 제작자 랭킹과 같은 기준) */
+    MAKER_GUILD_COUNT("leaderboard:maker_guild_count"),
+    /** 길드 플레이 횟수 */
+    GUILD_PLAY_COUNT("leaderboard:guild_play_count");
+
+    private final String key;
+}
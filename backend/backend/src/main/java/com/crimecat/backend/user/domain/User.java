@@ -31,8 +31,11 @@ public class User {
     @Column(name = "DISCORD_SNOWFLAKE", unique = true)
     private String discordSnowflake;
 
+    /**
+     * 잔액 변경은 PointLedger 의 원자적 UPDATE 로만 반영 (엔티티 flush 로 덮어쓰지 않도록 updatable = false)
+     */
     @Setter
-    @Column(name = "POINT")
+    @Column(name = "POINT", updatable = false)
     @Builder.Default
     private Integer point = 0;
 
@@ -59,16 +62,6 @@ public class User {
     @Column(name = "UPDATED_AT")
     private LocalDateTime updatedAt;
 
-    public void addPoint(int amount) {
-        if (amount < 0) throw new IllegalArgumentException("음수는 더할 수 없습니다.");
-        this.point += amount;
-    }
-
-    public void subtractPoint(int amount) {
-        if (amount < 0) throw new IllegalArgumentException("음수를 뺄 수 없습니다.");
-        if (this.point < amount) throw new IllegalStateException("잔여 포인트 부족");
-        this.point -= amount;
-    }
     public void linkDiscordUser(DiscordUser discordUser) {
         this.discordUser = discordUser;
         if (discordUser.getUser() != this) {
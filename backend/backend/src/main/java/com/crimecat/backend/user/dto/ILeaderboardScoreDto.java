@@ -0,0 +1,9 @@
+package com.crimecat.backend.user.dto;
+
+/**
+ * 랭킹 보드 재구성용 집계 결과 (member = snowflake)
+ */
+public interface ILeaderboardScoreDto {
+	String getMember();
+	Number getScore();
+}
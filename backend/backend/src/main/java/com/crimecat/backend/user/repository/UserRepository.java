@@ -2,6 +2,7 @@ package com.crimecat.backend.user.repository;
 
 import com.crimecat.backend.user.domain.DiscordUser;
 import com.crimecat.backend.user.domain.User;
+import com.crimecat.backend.user.dto.ILeaderboardScoreDto;
 import com.crimecat.backend.webUser.domain.WebUser;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -28,6 +29,13 @@ public interface UserRepository extends JpaRepository<User, UUID> {
   @Query("SELECT COUNT(u) FROM User u WHERE u.discordUser IS NOT NULL")
   long countUsersWithDiscordAccount();
 
+  /**
+   * 포인트 랭킹 보드 재구성용 (디스코드 계정이 있는 유저)
+   */
+  @Query("SELECT u.discordSnowflake AS member, u.point AS score FROM User u " +
+         "WHERE u.discordUser IS NOT NULL AND u.discordSnowflake IS NOT NULL")
+  List<ILeaderboardScoreDto> findPointScores();
+
   @Query("SELECT u FROM User u WHERE u.webUser IS NOT NULL AND u.updatedAt > :since ORDER BY u.updatedAt DESC")
   List<User> findActiveUsersForSitemap(@Param("since") LocalDateTime since, Pageable pageable);
 }
@@ -0,0 +1,381 @@
+package com.crimecat.backend.user.service;
+
+import com.crimecat.backend.gameHistory.repository.GameHistoryRepository;
+import com.crimecat.backend.guild.repository.GuildRepository;
+import com.crimecat.backend.user.domain.LeaderboardType;
+import com.crimecat.backend.user.domain.User;
+import com.crimecat.backend.user.dto.ILeaderboardScoreDto;
+import com.crimecat.backend.user.repository.UserRepository;
+import com.crimecat.backend.utils.RedisLockService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 랭킹 보드 (Redis Sorted Set)
+ * - 순위 조회: 나보다 점수가 높은 멤버 수 + 1 (ZCOUNT, O(log n)) → 동점자는 같은 순위
+ * - 페이지 조회: ZREVRANGE WITHSCORES (O(log n + 페이지 크기))
+ * - 포인트 변경 / 게임 기록 저장·삭제 / 길드 변경 시 트랜잭션 커밋 후 해당 멤버 점수만 갱신
+ *   (보드 키가 없으면 갱신하지 않음 → 일부 멤버만 든 키가 완성된 보드로 보이지 않도록)
+ * - 주기적으로 DB 집계로 전체 재구성 (임시 키에 쌓고 RENAME 으로 교체) → 누락된 갱신 보정
+ *   재구성 중(타입별 잠금이 있는 동안) 들어온 갱신은 대기 해시에도 기록하고, 교체 직전 같은 Lua 안에서 임시 키에 재적용
+ *   (커밋 후 콜백이 잠금 획득 직후에 실행된 갱신은 DB 집계와 중복 반영될 수 있으나 다음 재구성에서 보정)
+ * - 조회 경로는 키 존재 확인을 매번 하지 않고 타입별로 최대 1분에 한 번만 확인
+ */
+@Slf4j
+@Service
+public class LeaderboardService {
+
+    private static final String LOCK_KEY_PREFIX = "leaderboard:rebuild:lock:";
+    private static final int WRITE_CHUNK_SIZE = 1000;
+    private static final long MISSING_REBUILD_INTERVAL_MILLIS = 60_000;
+    private static final long EXISTS_CHECK_INTERVAL_MILLIS = 60_000;
+
+    /** 값 덮어쓰기 갱신 (ARGV[2] 가 빈 문자열이면 제거) + 재구성 중이면 대기 해시에 기록 */
+    private static final RedisScript<Long> SET_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              if ARGV[2] == '' then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+              else
+                redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+              end
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+              redis.call('HSET', KEYS[3], ARGV[1], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    /** 증감 갱신 (0 이하가 되면 제거) + 재구성 중이면 대기 해시에 누적 */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              local score = tonumber(redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1]))
+              if score <= 0 then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+              end
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+              redis.call('HINCRBY', KEYS[3], ARGV[1], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 재구성 마무리: 대기 갱신을 임시 키에 재적용 → RENAME → 대기 해시 삭제 → 토큰이 같을 때만 잠금 해제
+     * ARGV[1]: 'count' 면 증감, 아니면 덮어쓰기 / ARGV[2]: 잠금 토큰
+     */
+    private static final RedisScript<Long> FINISH_SCRIPT = new DefaultRedisScript<>("""
+            local pending = redis.call('HGETALL', KEYS[4])
+            for i = 1, #pending, 2 do
+              local member, value = pending[i], pending[i + 1]
+              if ARGV[1] == 'count' then
+                local score = tonumber(redis.call('ZINCRBY', KEYS[2], value, member))
+                if score <= 0 then
+                  redis.call('ZREM', KEYS[2], member)
+                end
+              elseif value == '' then
+                redis.call('ZREM', KEYS[2], member)
+              else
+                redis.call('ZADD', KEYS[2], value, member)
+              end
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+              redis.call('RENAME', KEYS[2], KEYS[1])
+            else
+              redis.call('DEL', KEYS[1])
+            end
+            redis.call('DEL', KEYS[4])
+            if redis.call('GET', KEYS[3]) == ARGV[2] then
+              redis.call('DEL', KEYS[3])
+            end
+            return #pending / 2
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLockService redisLockService;
+    private final UserRepository userRepository;
+    private final GameHistoryRepository gameHistoryRepository;
+    private final GuildRepository guildRepository;
+    private final Duration lockTtl;
+
+    /** 키가 없을 때 조회마다 재구성하지 않도록 마지막 재구성 시각 기록 */
+    private final Map<LeaderboardType, Long> lastRebuiltAt = new ConcurrentHashMap<>();
+    /** 키 존재를 마지막으로 확인한 시각 (조회마다 EXISTS 를 보내지 않음) */
+    private final Map<LeaderboardType, Long> verifiedAt = new ConcurrentHashMap<>();
+
+    public LeaderboardService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisLockService redisLockService,
+            UserRepository userRepository,
+            GameHistoryRepository gameHistoryRepository,
+            GuildRepository guildRepository,
+            @Value("${ranking.rebuild.lock-ttl-minutes:10}") long lockTtlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.redisLockService = redisLockService;
+        this.userRepository = userRepository;
+        this.gameHistoryRepository = gameHistoryRepository;
+        this.guildRepository = guildRepository;
+        this.lockTtl = Duration.ofMinutes(lockTtlMinutes);
+    }
+
+    public record Entry(String member, long score, long rank) {
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 멤버 점수 (없으면 0)
+     */
+    public long scoreOf(LeaderboardType type, String member) {
+        ensureBuilt(type);
+        Double score = redisTemplate.opsForZSet().score(type.getKey(), member);
+        return score != null ? score.longValue() : 0L;
+    }
+
+    /**
+     * 해당 점수의 순위 (점수가 더 높은 멤버 수 + 1)
+     */
+    public long rankOf(LeaderboardType type, long score) {
+        ensureBuilt(type);
+        // 점수는 정수 → score + 0.5 이상 = score 초과
+        Long higher = redisTemplate.opsForZSet().count(type.getKey(), score + 0.5, Double.POSITIVE_INFINITY);
+        return (higher != null ? higher : 0L) + 1;
+    }
+
+    /**
+     * 점수 내림차순 페이지
+     */
+    public List<Entry> page(LeaderboardType type, long offset, int limit) {
+        ensureBuilt(type);
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(type.getKey(), offset, offset + limit - 1);
+        List<Entry> entries = new ArrayList<>();
+        if (tuples == null) {
+            return entries;
+        }
+        long rank = offset + 1;
+        for (TypedTuple<String> tuple : tuples) {
+            long score = tuple.getScore() != null ? tuple.getScore().longValue() : 0L;
+            entries.add(new Entry(tuple.getValue(), score, rank++));
+        }
+        return entries;
+    }
+
+    // ===== 증분 갱신 (커밋 후 반영) =====
+
+    /**
+     * 포인트 변경 반영 (커밋 시점의 잔액으로 덮어씀)
+     */
+    public void updatePoint(User user) {
+        String member = user.getDiscordSnowflake();
+        if (member == null || user.getDiscordUser() == null) {
+            return;
+        }
+        afterCommit(() -> set(LeaderboardType.POINT, member, String.valueOf(user.getPoint())));
+    }
+
+    /**
+     * 게임 기록 저장 반영 (유저/길드 플레이 횟수 +1)
+     */
+    public void recordGamePlayed(String userSnowflake, String guildSnowflake) {
+        afterCommit(() -> incrementPlays(userSnowflake, guildSnowflake, 1));
+    }
+
+    /**
+     * 게임 기록 삭제 반영 (유저/길드 플레이 횟수 -1, 0 이 되면 보드에서 제거)
+     */
+    public void recordGameDeleted(String userSnowflake, String guildSnowflake) {
+        afterCommit(() -> incrementPlays(userSnowflake, guildSnowflake, -1));
+    }
+
+    /**
+     * 길드 생성/삭제/공개 전환/오너 변경 반영 (해당 오너의 공개 길드 수 재계산)
+     */
+    public void refreshMaker(String ownerSnowflake) {
+        if (ownerSnowflake == null) {
+            return;
+        }
+        afterCommit(() -> {
+            long count = guildRepository.countPublicActiveGuildsByOwner(ownerSnowflake);
+            set(LeaderboardType.MAKER_GUILD_COUNT, ownerSnowflake, count > 0 ? String.valueOf(count) : "");
+        });
+    }
+
+    private void incrementPlays(String userSnowflake, String guildSnowflake, long delta) {
+        if (userSnowflake != null) {
+            increment(LeaderboardType.PLAY_COUNT, userSnowflake, delta);
+        }
+        if (guildSnowflake != null) {
+            increment(LeaderboardType.GUILD_PLAY_COUNT, guildSnowflake, delta);
+        }
+    }
+
+    private void set(LeaderboardType type, String member, String value) {
+        redisTemplate.execute(SET_SCRIPT, updateKeys(type), member, value);
+    }
+
+    private void increment(LeaderboardType type, String member, long delta) {
+        redisTemplate.execute(INCREMENT_SCRIPT, updateKeys(type), member, String.valueOf(delta));
+    }
+
+    private static List<String> updateKeys(LeaderboardType type) {
+        return List.of(type.getKey(), lockKey(type), pendingKey(type));
+    }
+
+    // ===== 재구성 =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildMissing() {
+        for (LeaderboardType type : LeaderboardType.values()) {
+            try {
+                ensureBuilt(type);
+            } catch (Exception e) {
+                log.warn("⚠️ [LEADERBOARD] 초기 구성 실패 - type: {}, error: {}", type, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 전체 재구성 (타입별로 잠금을 얻은 인스턴스 한 곳만 수행)
+     */
+    @Scheduled(cron = "${ranking.rebuild.cron:0 30 4 * * *}")
+    public void rebuildAll() {
+        for (LeaderboardType type : LeaderboardType.values()) {
+            try {
+                rebuild(type);
+            } catch (Exception e) {
+                log.warn("⚠️ [LEADERBOARD] 재구성 실패 - type: {}, error: {}", type, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 타입 하나 재구성 (다른 인스턴스가 재구성 중이면 건너뜀)
+     * - 잠금을 잡은 뒤 DB 집계 → 잠금이 있는 동안의 증분 갱신은 대기 해시에 쌓였다가 교체 직전에 재적용
+     */
+    public void rebuild(LeaderboardType type) {
+        String lockKey = lockKey(type);
+        String token = redisLockService.tryLock(lockKey, lockTtl);
+        if (token == null) {
+            log.debug("⏭️ [LEADERBOARD] 다른 인스턴스에서 재구성 중 - type: {}", type);
+            return;
+        }
+        String key = type.getKey();
+        String tempKey = key + ":rebuild";
+        String pendingKey = pendingKey(type);
+        boolean finished = false;
+        try {
+            long startedAt = System.currentTimeMillis();
+            redisTemplate.delete(List.of(tempKey, pendingKey));
+
+            List<ILeaderboardScoreDto> scores = switch (type) {
+                case POINT -> userRepository.findPointScores();
+                case PLAY_COUNT -> gameHistoryRepository.countPlaysByUser();
+                case MAKER_GUILD_COUNT -> guildRepository.countPublicActiveGuildsByOwner();
+                case GUILD_PLAY_COUNT -> gameHistoryRepository.countPlaysByGuild();
+            };
+
+            Set<TypedTuple<String>> chunk = new HashSet<>();
+            for (ILeaderboardScoreDto score : scores) {
+                if (score.getMember() == null) {
+                    continue;
+                }
+                double value = score.getScore() != null ? score.getScore().doubleValue() : 0d;
+                chunk.add(new DefaultTypedTuple<>(score.getMember(), value));
+                if (chunk.size() >= WRITE_CHUNK_SIZE) {
+                    redisTemplate.opsForZSet().add(tempKey, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                redisTemplate.opsForZSet().add(tempKey, chunk);
+            }
+
+            Long replayed = redisTemplate.execute(FINISH_SCRIPT,
+                    List.of(key, tempKey, lockKey, pendingKey), isCounter(type) ? "count" : "set", token);
+            finished = true;
+            long now = System.currentTimeMillis();
+            lastRebuiltAt.put(type, now);
+            verifiedAt.put(type, now);
+
+            log.info("🏆 [LEADERBOARD] 재구성 완료 - type: {}, members: {}, replayed: {}, {}ms",
+                    type, scores.size(), replayed, now - startedAt);
+        } finally {
+            if (!finished) {
+                redisTemplate.delete(List.of(tempKey, pendingKey));
+                redisLockService.unlock(lockKey, token);
+            }
+        }
+    }
+
+    private void ensureBuilt(LeaderboardType type) {
+        long now = System.currentTimeMillis();
+        Long verified = verifiedAt.get(type);
+        if (verified != null && now - verified < EXISTS_CHECK_INTERVAL_MILLIS) {
+            return;
+        }
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(type.getKey()))) {
+            verifiedAt.put(type, now);
+            return;
+        }
+        Long last = lastRebuiltAt.get(type);
+        if (last != null && now - last < MISSING_REBUILD_INTERVAL_MILLIS) {
+            return; // 최근 재구성 결과가 비어 있음
+        }
+        synchronized (this) {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(type.getKey()))) {
+                rebuild(type);
+            }
+        }
+    }
+
+    private static boolean isCounter(LeaderboardType type) {
+        return type == LeaderboardType.PLAY_COUNT || type == LeaderboardType.GUILD_PLAY_COUNT;
+    }
+
+    private static String lockKey(LeaderboardType type) {
+        return LOCK_KEY_PREFIX + type.name();
+    }
+
+    private static String pendingKey(LeaderboardType type) {
+        return type.getKey() + ":pending";
+    }
+
+    private void afterCommit(Runnable update) {
+        Runnable safeUpdate = () -> {
+            try {
+                update.run();
+            } catch (Exception e) {
+                // 다음 재구성에서 보정됨
+                log.warn("⚠️ [LEADERBOARD] 증분 갱신 실패: {}", e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeUpdate.run();
+                }
+            });
+        } else {
+            safeUpdate.run();
+        }
+    }
+}
@@ -1,12 +1,11 @@
 package com.crimecat.backend.user.service;
 
-import com.crimecat.backend.guild.domain.Guild;
 import com.crimecat.backend.guild.service.bot.GuildQueryService;
-import com.crimecat.backend.guild.service.bot.GuildService;
 import com.crimecat.backend.permission.domain.Permission;
 import com.crimecat.backend.permission.service.PermissionService;
 import com.crimecat.backend.point.service.PointHistoryService;
 import com.crimecat.backend.user.domain.DiscordUser;
+import com.crimecat.backend.user.domain.LeaderboardType;
 import com.crimecat.backend.user.domain.User;
 import com.crimecat.backend.user.domain.UserPermission;
 import com.crimecat.backend.user.dto.*;
@@ -14,26 +13,19 @@ import com.crimecat.backend.user.repository.DiscordUserRepository;
 import com.crimecat.backend.user.repository.UserRepository;
 import com.crimecat.backend.exception.ErrorStatus;
 import com.crimecat.backend.gameHistory.domain.GameHistory;
-import com.crimecat.backend.gameHistory.dto.IGameHistoryRankingDto;
 import com.crimecat.backend.gameHistory.service.GameHistoryQueryService;
 import com.crimecat.backend.webUser.repository.WebUserRepository;
 import io.micrometer.common.util.StringUtils;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -54,11 +46,11 @@ public class UserService {
 	private final PermissionService permissionService;
 	private final UserPermissionService userPermissionService;
 	private final GameHistoryQueryService gameHistoryQueryService;
-	private final GuildService guildService;
 	private final GuildQueryService guildQueryService;
 	private final UserRepository userRepository;
 	private final WebUserRepository webUserRepository;
 	private final DiscordUserRepository discordUserRepository;
+	private final LeaderboardService leaderboardService;
 
 	@PersistenceContext
 	private final EntityManager entityManager;
@@ -293,7 +285,7 @@ public class UserService {
 
 	/**
 	 * 유저의 현재 랭킹 반환
-	 * 플레이 횟수 순, 보유 포인트 순
+	 * 플레이 횟수 순, 보유 포인트 순 (랭킹 보드 조회, 동점자는 같은 순위)
 	 * @param userSnowflake
 	 * @return
 	 */
@@ -310,23 +302,21 @@ public class UserService {
 		}
 
 		// 플레이 횟수 순위
-		Integer gameHistoryCountByUserSnowflake
-				 = gameHistoryQueryService.getGameHistoryByUserSnowflake(userSnowflake).size();
-		Integer userRankByGameHistoryCount
-				= gameHistoryQueryService.getGameHistoryWithPlayCountGreaterThan(gameHistoryCountByUserSnowflake).size() + 1;
+		long playCount = leaderboardService.scoreOf(LeaderboardType.PLAY_COUNT, userSnowflake);
+		long userRankByGameHistoryCount = leaderboardService.rankOf(LeaderboardType.PLAY_COUNT, playCount);
 
 		// 보유 포인트 순위
-		Integer userRankByPoint = discordUserQueryService.getUsersWithPointGreaterThan(user.getPoint()).size() + 1;
+		long userRankByPoint = leaderboardService.rankOf(LeaderboardType.POINT, user.getPoint());
 
 		Integer totalUserCount = discordUserQueryService.getUserCount();
 
 		return new UserRankingSuccessResponseDto(
 				"user info find successfully",
 				userSnowflake,
-				gameHistoryCountByUserSnowflake,
-				userRankByGameHistoryCount,
+				(int) playCount,
+				(int) userRankByGameHistoryCount,
 				user.getPoint(),
-				userRankByPoint,
+				(int) userRankByPoint,
 				totalUserCount
 				);
 	}
@@ -339,88 +329,39 @@ public class UserService {
 			return new TotalUserRankingFailedResponseDto("Invalid request format");
 		}
 
-		Integer totalUserCount = discordUserQueryService.getUserCount();
-
-		List<TotalUserRankingDto> ranking = new ArrayList<>();
-
-		// 보유 포인트 기준 랭킹
-		if (sortingCondition.equals(SORT_BY_POINT)) {
-			pageable = PageRequest.of(
-					pageable.getPageNumber(),
-					pageable.getPageSize(),
-					Sort.by(Sort.Order.desc(sortingCondition)));
-			Page<DiscordUser> userWithPagination = discordUserQueryService.getUserWithPagination(pageable);
-
-			AtomicInteger rank = new AtomicInteger(1);
-			ranking = userWithPagination.stream()
-					.map(u -> new TotalUserRankingByPointDto(
-							u.getSnowflake(),
-							rank.getAndIncrement(),
-							u.getPoint()))
-					.collect(Collectors.toList());
-
-
-			// 게임 횟수 별 랭킹
-		} else if (sortingCondition.equals(SORT_BY_PLAY_TIME)) {
-			List<IGameHistoryRankingDto> gameHistoryWithPagination
-					= gameHistoryQueryService.getGameHistorySortingByPlayTimeWithPagination(pageable);
-
-			AtomicInteger rank = new AtomicInteger(1);
-			ranking = gameHistoryWithPagination.stream()
-					.map(ghp -> new TotalUserRankingByPlayTimeDto(
-							ghp.getUserSnowflake(),
-							rank.getAndIncrement(),
-							ghp.getPlayCount()))
-					.collect(Collectors.toList());
-
-		} else if (sortingCondition.equals(SORT_BY_MAKERS)) {
-			List<Guild> allGuild = guildService.findAllGuild();
-
-			// ownerSnowflake -> guild count 매핑
-			Map<String, Long> guildCountMap = allGuild.stream()
-					.collect(Collectors.groupingBy(Guild::getOwnerSnowflake, Collectors.counting()));
-
-			AtomicInteger rank = new AtomicInteger(1);
-
-			ranking = guildCountMap.entrySet().stream()
-					.sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-					.map(entry -> new TotalUserRankingByMakerDto(
-							entry.getKey(),
-							rank.getAndIncrement(),
-							entry.getValue().intValue()
-					))
-					.skip((long) pageable.getPageNumber() * pageable.getPageSize()) // 페이징 처리
-					.limit(pageable.getPageSize())
-					.collect(Collectors.toList());
-		}
-		else if(sortingCondition.equals(SORT_BY_BEST_THEME)){
-			List<GameHistory> allGameHistory = gameHistoryQueryService.getAllGameHistory();
-
-			// 길드별 플레이 수 집계
-			Map<String, Long> guildPlayCountMap = allGameHistory.stream()
-					.collect(Collectors.groupingBy(
-							gh -> gh.getGuild().getSnowflake(),
-							Collectors.counting()
-					));
-			AtomicInteger rank = new AtomicInteger(1);
-
-			ranking = guildPlayCountMap.entrySet().stream()
-					.sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-					.map(entry -> new TotalGuildRankingByPlayCountDto(
-							entry.getKey(),
-							rank.getAndIncrement(),
-							entry.getValue().intValue()
-					))
-					.skip((long) pageable.getPageNumber() * pageable.getPageSize())
-					.limit(pageable.getPageSize())
-					.collect(Collectors.toList());
-		}
-		else {
+		LeaderboardType type = switch (sortingCondition) {
+			case SORT_BY_POINT -> LeaderboardType.POINT;
+			case SORT_BY_PLAY_TIME -> LeaderboardType.PLAY_COUNT;
+			// 공개 + 탈퇴하지 않은 길드만 집계 (findAllActiveGuilds 기반 기존 집계와 동일)
+			case SORT_BY_MAKERS -> LeaderboardType.MAKER_GUILD_COUNT;
+			case SORT_BY_BEST_THEME -> LeaderboardType.GUILD_PLAY_COUNT;
+			default -> null;
+		};
+		if (type == null) {
 			return new TotalUserRankingFailedResponseDto("params type error");
 		}
+
+		Integer totalUserCount = discordUserQueryService.getUserCount();
+
+		List<TotalUserRankingDto> ranking = leaderboardService
+				.page(type, pageable.getOffset(), pageable.getPageSize()).stream()
+				.map(entry -> toRankingDto(type, entry))
+				.collect(Collectors.toList());
+
 		return new TotalUserRankingSuccessResponseDto(pageable.getPageNumber(), ranking.size(), totalUserCount, ranking);
 	}
 
+	private TotalUserRankingDto toRankingDto(LeaderboardType type, LeaderboardService.Entry entry) {
+		int rank = (int) entry.rank();
+		int score = (int) entry.score();
+		return switch (type) {
+			case POINT -> new TotalUserRankingByPointDto(entry.member(), rank, score);
+			case PLAY_COUNT -> new TotalUserRankingByPlayTimeDto(entry.member(), rank, score);
+			case MAKER_GUILD_COUNT -> new TotalUserRankingByMakerDto(entry.member(), rank, score);
+			case GUILD_PLAY_COUNT -> new TotalGuildRankingByPlayCountDto(entry.member(), rank, score);
+		};
+	}
+
 	public UserListResponseDto getUserList(String guildSnowflake, Boolean discordAlarm) {
 		if (!guildQueryService.existsBySnowflake(guildSnowflake)) {
 			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "guild not exists");
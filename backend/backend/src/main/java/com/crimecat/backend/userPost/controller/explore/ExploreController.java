@@ -1,5 +1,6 @@
 package com.crimecat.backend.userPost.controller.explore;
 
+import com.crimecat.backend.common.dto.CursorPageResponseDto;
 import com.crimecat.backend.common.dto.PageResponseDto;
 import com.crimecat.backend.userPost.dto.UserPostGalleryPageDto;
 import com.crimecat.backend.userPost.service.UserPostService;
@@ -8,6 +9,7 @@ import com.crimecat.backend.webUser.domain.WebUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -16,6 +18,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/v1")
 @RequiredArgsConstructor
@@ -33,12 +37,13 @@ public class ExploreController {
     }
 
     @GetMapping("/public/posts/explore/random")
-    public ResponseEntity<PageResponseDto<UserPostGalleryPageDto>> getRandomPosts(
+    public ResponseEntity<CursorPageResponseDto<UserPostGalleryPageDto>> getRandomPosts(
+            @RequestParam(required = false) Long seed,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(size = 20) Pageable pageable) {
 
         WebUser currentUser = AuthenticationUtil.getCurrentWebUserOptional().orElse(null);
-        Page<UserPostGalleryPageDto> posts = userPostService.getRandomPosts(currentUser, pageable);
-        return ResponseEntity.ok(new PageResponseDto<>(posts));
+        return ResponseEntity.ok(userPostService.getRandomPosts(currentUser, seed, cursor, pageable));
     }
 
     @GetMapping("/public/posts/explore/search")
@@ -54,10 +59,11 @@ public class ExploreController {
     
     @GetMapping("/public/posts/feed")
     public ResponseEntity<PageResponseDto<UserPostGalleryPageDto>> getFeedPosts(
+            @RequestParam(required = false) UUID cursor,
             @PageableDefault(size = 10) Pageable pageable) {
         
         WebUser currentUser = AuthenticationUtil.getCurrentWebUserOptional().orElse(null);
-        Page<UserPostGalleryPageDto> posts = userPostService.getFeedPosts(currentUser, pageable);
+        Slice<UserPostGalleryPageDto> posts = userPostService.getFeedPosts(currentUser, cursor, pageable);
         return ResponseEntity.ok(new PageResponseDto<>(posts));
     }
 
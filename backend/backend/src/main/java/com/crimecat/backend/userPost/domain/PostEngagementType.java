@@ -0,0 +1,18 @@
+package com.crimecat.backend.userPost.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 인기도 점수에 반영되는 반응 종류
+ * - columnName: user_posts 의 누적 카운터 컬럼
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PostEngagementType {
+    LIKE("like_count"),
+    COMMENT("comment_count"),
+    VIEW("view_count");
+
+    private final String columnName;
+}
@@ -72,13 +72,16 @@ public class UserPost {
     @Builder.Default
     private List<PostHashTag> hashtags = new ArrayList<>();
 
-    // 조회수 필드 추가
-    @Column(name = "view_count")
+    /**
+     * 조회수 / 인기도 점수는 PostEngagementCounter, UserPostHotList 의 JDBC 배치로만 갱신
+     * (엔티티 flush 로 덮어쓰지 않도록 updatable = false)
+     */
+    @Column(name = "view_count", updatable = false)
     @Builder.Default
     private int viewCount = 0;
 
-    // 피드에서의 인기도 점수 (알고리즘 기반)
-    @Column(name = "popularity_score")
+    // 피드에서의 인기도 점수 (시간 감쇠 적용, 주기적으로 재계산)
+    @Column(name = "popularity_score", updatable = false)
     @Builder.Default
     private double popularityScore = 0.0;
 
@@ -113,22 +116,6 @@ public class UserPost {
         this.isFollowersOnly = isFollowersOnly;
     }
     
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-    
-    public void updatePopularityScore() {
-        // 인기도 점수 계산 로직
-        // 예: 좋아요 수 * 0.5 + 댓글 수 * 0.3 + 저장 수 * 0.2
-        double likeWeight = 0.5;
-        double commentWeight = 0.3;
-        double saveWeight = 0.2;
-        
-        this.popularityScore = 
-            this.likes.size() * likeWeight + 
-            this.comments.size() * commentWeight;
-    }
-    
     public void setLocationInfo(String locationName, Double latitude, Double longitude) {
         this.locationName = locationName;
         this.latitude = latitude;
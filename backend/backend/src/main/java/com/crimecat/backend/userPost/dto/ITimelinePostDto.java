@@ -0,0 +1,12 @@
+package com.crimecat.backend.userPost.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 팔로워 타임라인 구성용 게시물 (ID + 작성 시각만)
+ */
+public interface ITimelinePostDto {
+	UUID getId();
+	LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,158 @@
+package com.crimecat.backend.userPost.repository;
+
+import com.crimecat.backend.userPost.domain.PostEngagementType;
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 반응 카운터 / 인기도 점수 JDBC 배치 처리
+ * - 엔티티와 likes/comments 컬렉션을 로딩하지 않고 카운터 컬럼만 읽고 씀
+ * - 점수 재계산은 (created_at, id) 키셋으로 최근 게시글만 잘라서 순회
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserPostEngagementJdbcRepository {
+
+    private static final String ADD_COUNTS_SQL = "UPDATE user_posts SET "
+            + "like_count = GREATEST(like_count + ?, 0), "
+            + "comment_count = GREATEST(comment_count + ?, 0), "
+            + "view_count = view_count + ? "
+            + "WHERE id = ?";
+
+    private static final String SCORING_ROWS_SQL = "SELECT id, user_id, created_at, like_count, comment_count, "
+            + "view_count, is_private, is_followers_only FROM user_posts "
+            + "WHERE created_at >= ? AND (created_at > ? OR (created_at = ? AND id > ?)) "
+            + "ORDER BY created_at, id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 점수 계산에 필요한 게시글 한 줄
+     */
+    public record ScoringRow(
+            UUID id,
+            UUID authorId,
+            LocalDateTime createdAt,
+            long likes,
+            long comments,
+            long views,
+            boolean isPrivate,
+            boolean isFollowersOnly) {
+    }
+
+    /**
+     * 반응 증분을 일괄 반영 (한 트랜잭션 → 실패 시 전부 롤백되어 호출 측에서 전체를 재시도해도 중복 반영 없음)
+     * @param deltas 게시글 ID별 증분 (PostEngagementType.ordinal() 순서)
+     * @return 실제 반영된 row 수
+     */
+    @Transactional
+    public int addCounts(Map<UUID, long[]> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        List<Map.Entry<UUID, long[]>> entries = new ArrayList<>(deltas.entrySet());
+        int[] results = jdbcTemplate.batchUpdate(ADD_COUNTS_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<UUID, long[]> entry = entries.get(i);
+                long[] delta = entry.getValue();
+                ps.setLong(1, delta[PostEngagementType.LIKE.ordinal()]);
+                ps.setLong(2, delta[PostEngagementType.COMMENT.ordinal()]);
+                ps.setLong(3, delta[PostEngagementType.VIEW.ordinal()]);
+                ps.setBytes(4, toBytes(entry.getKey()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+        return countUpdated(results);
+    }
+
+    /**
+     * since 이후 작성된 게시글을 (createdAt, id) 다음 위치부터 limit 개 조회
+     */
+    public List<ScoringRow> findScoringRows(LocalDateTime since, LocalDateTime afterCreatedAt, UUID afterId,
+                                            int limit) {
+        Timestamp after = Timestamp.valueOf(afterCreatedAt);
+        return jdbcTemplate.query(SCORING_ROWS_SQL, (rs, rowNum) -> new ScoringRow(
+                        fromBytes(rs.getBytes("id")),
+                        fromBytes(rs.getBytes("user_id")),
+                        rs.getTimestamp("created_at").toLocalDateTime(),
+                        rs.getLong("like_count"),
+                        rs.getLong("comment_count"),
+                        rs.getLong("view_count"),
+                        rs.getBoolean("is_private"),
+                        rs.getBoolean("is_followers_only")),
+                Timestamp.valueOf(since), after, after, toBytes(afterId), limit);
+    }
+
+    /**
+     * 재계산한 점수를 일괄 반영
+     */
+    public int updateScores(Map<UUID, Double> scores) {
+        if (scores.isEmpty()) {
+            return 0;
+        }
+        List<Map.Entry<UUID, Double>> entries = new ArrayList<>(scores.entrySet());
+        int[] results = jdbcTemplate.batchUpdate("UPDATE user_posts SET popularity_score = ? WHERE id = ?",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Map.Entry<UUID, Double> entry = entries.get(i);
+                        ps.setDouble(1, entry.getValue());
+                        ps.setBytes(2, toBytes(entry.getKey()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return entries.size();
+                    }
+                });
+        return countUpdated(results);
+    }
+
+    /**
+     * 재계산 구간을 벗어난 게시글 점수 초기화 (감쇠가 끝난 글이 예전 점수로 남지 않도록)
+     */
+    public int resetScoresBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update(
+                "UPDATE user_posts SET popularity_score = 0 WHERE created_at < ? AND popularity_score <> 0",
+                Timestamp.valueOf(cutoff));
+    }
+
+    private static int countUpdated(int[] results) {
+        int updated = 0;
+        for (int result : results) {
+            // 드라이버가 SUCCESS_NO_INFO(-2)를 반환하는 경우도 성공으로 간주
+            updated += result > 0 ? result : (result == Statement.SUCCESS_NO_INFO ? 1 : 0);
+        }
+        return updated;
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    private static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -21,4 +22,13 @@ public interface UserPostImageRepository extends JpaRepository<UserPostImage, UU
     @Modifying
     @Query("DELETE FROM UserPostImage i WHERE i.id IN :ids")
     void deleteAllByIdInBatch(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 여러 게시글의 대표 이미지(정렬 순서가 가장 앞선 이미지) 일괄 조회
+     * @return [postId, imageUrl] 목록
+     */
+    @Query("SELECT i.post.id, i.imageUrl FROM UserPostImage i " +
+            "WHERE i.post.id IN :postIds AND i.sortOrder = " +
+            "(SELECT MIN(i2.sortOrder) FROM UserPostImage i2 WHERE i2.post = i.post)")
+    List<Object[]> findThumbnailsByPostIds(@Param("postIds") Collection<UUID> postIds);
 }
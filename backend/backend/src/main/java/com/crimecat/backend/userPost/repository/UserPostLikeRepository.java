@@ -2,8 +2,12 @@ package com.crimecat.backend.userPost.repository;
 
 import com.crimecat.backend.userPost.domain.UserPostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,4 +22,11 @@ public interface UserPostLikeRepository extends JpaRepository<UserPostLike, UUID
      * 특정 게시글의 좋아요 수 카운트
      */
     long countByPostId(UUID postId);
+
+    /**
+     * 여러 게시글의 좋아요 수 일괄 카운트
+     * @return [postId, count] 목록 (좋아요 없는 게시글은 포함되지 않음)
+     */
+    @Query("SELECT l.post.id, COUNT(l) FROM UserPostLike l WHERE l.post.id IN :postIds GROUP BY l.post.id")
+    List<Object[]> countByPostIds(@Param("postIds") Collection<UUID> postIds);
 }
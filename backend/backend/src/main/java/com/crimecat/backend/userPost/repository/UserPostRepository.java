@@ -1,12 +1,16 @@
 package com.crimecat.backend.userPost.repository;
 
 import com.crimecat.backend.userPost.domain.UserPost;
+import com.crimecat.backend.userPost.dto.ITimelinePostDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,13 +28,13 @@ public interface UserPostRepository extends JpaRepository<UserPost, UUID> {
     Optional<UserPost> findByIdWithUserAndImages(UUID postId);
 
     /**
-     * 유저, 이미지 포함 페이징 조회
+     * 유저 포함 페이징 조회
+     * - 컬렉션(images) 페치 조인 시 페이징이 메모리에서 처리되므로 제외 → 이미지는 UserPostGalleryAssembler 가 묶음 조회
      */
-    @Query(value = "SELECT DISTINCT p FROM UserPost p " +
-            "LEFT JOIN FETCH p.user " +
-            "LEFT JOIN FETCH p.images",
+    @Query(value = "SELECT p FROM UserPost p " +
+            "LEFT JOIN FETCH p.user",
             countQuery = "SELECT COUNT(p) FROM UserPost p")
-    Page<UserPost> findAllWithUserAndImages(Pageable pageable);
+    Page<UserPost> findAllWithUser(Pageable pageable);
 
     @Query("SELECT p FROM UserPost p " +
                 "LEFT JOIN FETCH p.images " +
@@ -38,22 +42,20 @@ public interface UserPostRepository extends JpaRepository<UserPost, UUID> {
     Optional<UserPost> findByIdWithImages(UUID postId);
     
     /**
-     * 특정 사용자의 게시글 목록 페이징 조회 (이미지 포함, 좋아요는 사용자 텍스트 조인)
+     * 특정 사용자의 게시글 목록 페이징 조회 (이미지/좋아요는 목록 조립 시 묶음 조회)
      */
-    @Query(value = "SELECT DISTINCT p FROM UserPost p " +
+    @Query(value = "SELECT p FROM UserPost p " +
             "LEFT JOIN FETCH p.user " +
-            "LEFT JOIN FETCH p.images " +
             "WHERE p.user = :user",
             countQuery = "SELECT COUNT(p) FROM UserPost p WHERE p.user = :user")
-    Page<UserPost> findByUserWithImages(com.crimecat.backend.webUser.domain.WebUser user, Pageable pageable);
+    Page<UserPost> findPageByUser(com.crimecat.backend.webUser.domain.WebUser user, Pageable pageable);
     
     /**
-     * 공개 게시글 및 특정 사용자가 접근 가능한 게시글 목록 조회 (이미지 포함)
+     * 공개 게시글 및 특정 사용자가 접근 가능한 게시글 목록 조회
      * 모든 공개 게시글 + 내가 쓴 비공개 게시글 + 팔로워 공개이고 내가 팔로워인 게시글
      */
-    @Query(value = "SELECT DISTINCT p FROM UserPost p " +
+    @Query(value = "SELECT p FROM UserPost p " +
             "LEFT JOIN FETCH p.user " +
-            "LEFT JOIN FETCH p.images " +
             "WHERE (p.isPrivate = false AND p.isFollowersOnly = false) " +  // 모든 공개 게시글
             "   OR p.user.id = :userId " +  // 내가 쓴 게시글
             "   OR (p.isFollowersOnly = true AND EXISTS " +  // 팔로워 공개이고 내가 팔로워인 게시글
@@ -68,9 +70,8 @@ public interface UserPostRepository extends JpaRepository<UserPost, UUID> {
     /**
      * 특정 사용자가 쓴 게시글 중 다른 사용자가 접근 가능한 게시글만 조회
      */
-    @Query(value = "SELECT DISTINCT p FROM UserPost p " +
+    @Query(value = "SELECT p FROM UserPost p " +
             "LEFT JOIN FETCH p.user " +
-            "LEFT JOIN FETCH p.images " +
             "WHERE p.user.id = :authorId AND " +
             "      ((p.isPrivate = false AND p.isFollowersOnly = false) " +  // 모든 공개 게시글
             "       OR p.user.id = :viewerId " +  // 내가 쓴 게시글
@@ -116,22 +117,41 @@ public interface UserPostRepository extends JpaRepository<UserPost, UUID> {
     Page<UserPost> findAccessiblePostsByPopularityScore(@Param("userId") UUID userId, Pageable pageable);
 
     /**
-     * 무작위로 공개 게시물 조회
+     * 인기 목록 이후 구간 - 인기 목록 게시물을 제외한 공개 게시물 (인기도 점수 순, 개수 조회 없음)
+     */
+    @Query("SELECT p FROM UserPost p WHERE p.isPrivate = false AND p.isFollowersOnly = false " +
+            "AND p.id NOT IN :excludedIds ORDER BY p.popularityScore DESC")
+    Slice<UserPost> findPublicPostsByPopularityScoreExcluding(@Param("excludedIds") Collection<UUID> excludedIds,
+                                                              Pageable pageable);
+
+    /**
+     * 인기 목록 이후 구간 - 인기 목록 게시물을 제외한 접근 가능 게시물 (인기도 점수 순, 개수 조회 없음)
      */
-    @Query(value = "SELECT * FROM user_posts p WHERE p.is_private = false AND p.is_followers_only = false ORDER BY RANDOM() LIMIT :limits",
-            nativeQuery = true)
-    Page<UserPost> findRandomPublicPosts(Pageable pageable, @Param("limit") int limits);
+    @Query("SELECT p FROM UserPost p WHERE " +
+            "(p.isPrivate = false AND p.isFollowersOnly = false OR " +
+            "p.user.id = :userId OR " +
+            "(p.isFollowersOnly = true AND EXISTS (SELECT f FROM Follow f WHERE f.follower.id = :userId AND f.following.id = p.user.id))) " +
+            "AND p.id NOT IN :excludedIds ORDER BY p.popularityScore DESC")
+    Slice<UserPost> findAccessiblePostsByPopularityScoreExcluding(@Param("userId") UUID userId,
+                                                                  @Param("excludedIds") Collection<UUID> excludedIds,
+                                                                  Pageable pageable);
+
+    @Query("SELECT COUNT(p) FROM UserPost p WHERE p.isPrivate = false AND p.isFollowersOnly = false")
+    long countPublicPosts();
+
+    @Query("SELECT COUNT(p) FROM UserPost p WHERE " +
+            "(p.isPrivate = false AND p.isFollowersOnly = false OR " +
+            "p.user.id = :userId OR " +
+            "(p.isFollowersOnly = true AND EXISTS (SELECT f FROM Follow f WHERE f.follower.id = :userId AND f.following.id = p.user.id)))")
+    long countAccessiblePosts(@Param("userId") UUID userId);
 
     /**
-     * 무작위로 접근 가능한 게시물 조회
+     * 탐색 무작위 풀 구성용 최근 게시물 조회 (비밀글 제외, [게시물 ID, 작성자 ID])
      */
-    @Query(value = "SELECT * FROM user_posts p WHERE " +
-            "(p.is_private = false AND p.is_followers_only = false OR " +
-            "p.user_id = :userId OR " +
-            "(p.is_followers_only = true AND EXISTS (SELECT 1 FROM follows f WHERE f.follower_id = :userId AND f.following_id = p.user_id))) " +
-            "ORDER BY RAND()",
-            nativeQuery = true)
-    Page<UserPost> findRandomAccessiblePosts(@Param("userId") UUID userId, Pageable pageable);
+    @Query("SELECT p.id, p.user.id FROM UserPost p " +
+            "WHERE p.isPrivate = false AND p.isFollowersOnly = :followersOnly " +
+            "ORDER BY p.createdAt DESC")
+    List<Object[]> findExplorePoolRows(@Param("followersOnly") boolean followersOnly, Pageable pageable);
 
     /**
      * 키워드로 공개 게시물 검색
@@ -217,21 +237,38 @@ public interface UserPostRepository extends JpaRepository<UserPost, UUID> {
     Page<UserPost> findPostsByFollowingUsers(@Param("userIds") List<UUID> userIds, @Param("currentUserId") UUID currentUserId, Pageable pageable);
     
     /**
-     * 피드용 혼합 게시물 조회 (팔로우한 사용자 + 인기 게시물)
+     * 피드용 팔로우한 사용자 게시물 조회 (타임라인 저장소 장애 시 대체 조회)
      * 최신 순으로 정렬
      */
     @Query("SELECT p FROM UserPost p WHERE " +
-            "((p.user.id IN :followingIds AND " +
-            "  (p.isPrivate = false AND p.isFollowersOnly = false OR " +
-            "   p.user.id = :currentUserId OR " +
-            "   (p.isFollowersOnly = true AND EXISTS (SELECT f FROM Follow f WHERE f.follower.id = :currentUserId AND f.following.id = p.user.id)))) " +
-            " OR " +
-            " (p.isPrivate = false AND p.isFollowersOnly = false AND p.popularityScore > :minPopularityScore)) " +
+            "p.user.id IN :followingIds AND " +
+            "(p.isPrivate = false AND p.isFollowersOnly = false OR " +
+            " p.user.id = :currentUserId OR " +
+            " (p.isFollowersOnly = true AND EXISTS (SELECT f FROM Follow f WHERE f.follower.id = :currentUserId AND f.following.id = p.user.id))) " +
+            "ORDER BY p.createdAt DESC")
+    Page<UserPost> findFollowingFeedPosts(@Param("followingIds") List<UUID> followingIds,
+                                           @Param("currentUserId") UUID currentUserId,
+                                           Pageable pageable);
+
+    /**
+     * 팔로워 타임라인 구성용 게시물 조회 (비밀글 제외, 최신순)
+     */
+    @Query("SELECT p.id AS id, p.createdAt AS createdAt FROM UserPost p " +
+            "WHERE p.user.id IN :authorIds AND p.isPrivate = false " +
             "ORDER BY p.createdAt DESC")
-    Page<UserPost> findFeedPosts(@Param("followingIds") List<UUID> followingIds, 
-                                  @Param("currentUserId") UUID currentUserId, 
-                                  @Param("minPopularityScore") Double minPopularityScore, 
-                                  Pageable pageable);
+    List<ITimelinePostDto> findTimelinePosts(@Param("authorIds") Collection<UUID> authorIds, Pageable pageable);
+
+    /**
+     * 작성자의 최근 게시물 ID 조회 (언팔로우 시 타임라인 정리용, 최신순)
+     */
+    @Query("SELECT p.id FROM UserPost p WHERE p.user.id = :authorId ORDER BY p.createdAt DESC")
+    List<UUID> findRecentPostIdsByAuthor(@Param("authorId") UUID authorId, Pageable pageable);
+
+    /**
+     * 게시물 작성 시각 조회 (피드 커서 위치 계산용)
+     */
+    @Query("SELECT p.createdAt FROM UserPost p WHERE p.id = :postId")
+    Optional<LocalDateTime> findCreatedAtById(@Param("postId") UUID postId);
 
     /**
      * 사이트맵용 공개 게시물 조회 (최신순)
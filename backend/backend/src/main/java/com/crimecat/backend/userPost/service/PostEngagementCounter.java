@@ -0,0 +1,118 @@
+package com.crimecat.backend.userPost.service;
+
+import com.crimecat.backend.userPost.domain.PostEngagementType;
+import com.crimecat.backend.userPost.repository.UserPostEngagementJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Write-behind 게시글 반응 카운터
+ * - 좋아요/댓글/조회 이벤트는 트랜잭션 커밋 후 메모리(LongAdder)에만 누적
+ * - 스케줄러가 게시글별 증분을 배치 UPDATE 한 번으로 user_posts 카운터 컬럼에 반영
+ * - 점수 재계산(UserPostHotList)은 이 카운터 컬럼만 읽음 → likes/comments 컬렉션 로딩 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostEngagementCounter {
+
+    private static final int TYPE_COUNT = PostEngagementType.values().length;
+
+    private final UserPostEngagementJdbcRepository engagementJdbcRepository;
+
+    /** 게시글별 미반영 증분 (PostEngagementType.ordinal() 순서) */
+    private final ConcurrentHashMap<UUID, LongAdder[]> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 반응 증분 기록 (트랜잭션 안이면 커밋 후에만 반영, 롤백 시 무시)
+     */
+    public void record(PostEngagementType type, UUID postId, long delta) {
+        if (postId == null || delta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(type, postId, delta);
+                }
+            });
+        } else {
+            add(type, postId, delta);
+        }
+    }
+
+    /**
+     * 누적된 반응 증분을 DB에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${user-post.popularity.flush-interval-ms:10000}")
+    public void flush() {
+        Map<UUID, long[]> deltas = new HashMap<>();
+        for (UUID postId : pending.keySet()) {
+            // 카운터를 맵에서 떼어낸 뒤 합산 (이후 증분은 새 카운터로 들어감)
+            LongAdder[] adders = pending.remove(postId);
+            if (adders == null) {
+                continue;
+            }
+            long[] delta = new long[TYPE_COUNT];
+            boolean changed = false;
+            for (int i = 0; i < TYPE_COUNT; i++) {
+                delta[i] = adders[i].sum();
+                changed |= delta[i] != 0;
+            }
+            if (changed) {
+                deltas.put(postId, delta);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            int updated = engagementJdbcRepository.addCounts(deltas);
+            log.debug("📈 [ENGAGEMENT] flush 완료 - {}건 반영", updated);
+        } catch (Exception e) {
+            // 반영 실패 시 증분을 되돌려 다음 주기에 재시도
+            deltas.forEach((postId, delta) -> pending.compute(postId, (k, adders) -> {
+                LongAdder[] counters = adders != null ? adders : newAdders();
+                for (int i = 0; i < TYPE_COUNT; i++) {
+                    counters[i].add(delta[i]);
+                }
+                return counters;
+            }));
+            log.error("⚠️ [ENGAGEMENT] flush 실패 - {}건 재시도 예정", deltas.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 미반영 게시글 반응 flush");
+        flush();
+    }
+
+    private void add(PostEngagementType type, UUID postId, long delta) {
+        // compute 안에서 증가 → flush 의 remove 와 같은 버킷 잠금으로 직렬화되어 떼어낸 카운터에 늦게 더해지지 않음
+        pending.compute(postId, (k, adders) -> {
+            LongAdder[] counters = adders != null ? adders : newAdders();
+            counters[type.ordinal()].add(delta);
+            return counters;
+        });
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[TYPE_COUNT];
+        for (int i = 0; i < TYPE_COUNT; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
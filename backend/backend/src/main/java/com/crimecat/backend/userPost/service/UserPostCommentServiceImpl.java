@@ -4,6 +4,7 @@ import com.crimecat.backend.exception.ErrorStatus;
 import com.crimecat.backend.notification.event.NotificationEventPublisher;
 import com.crimecat.backend.notification.event.UserPostCommentedEvent;
 import com.crimecat.backend.notification.event.UserPostCommentRepliedEvent;
+import com.crimecat.backend.userPost.domain.PostEngagementType;
 import com.crimecat.backend.userPost.domain.UserPost;
 import com.crimecat.backend.userPost.domain.UserPostComment;
 import com.crimecat.backend.userPost.dto.UserPostCommentDto;
@@ -28,6 +29,7 @@ public class UserPostCommentServiceImpl implements UserPostCommentService {
     private final UserPostRepository userPostRepository;
     private final UserPostCommentRepository userPostCommentRepository;
     private final NotificationEventPublisher notificationEventPublisher;
+    private final PostEngagementCounter postEngagementCounter;
 
     @Override
     @Transactional
@@ -69,6 +71,7 @@ public class UserPostCommentServiceImpl implements UserPostCommentService {
         }
         
         userPostCommentRepository.save(comment);
+        postEngagementCounter.record(PostEngagementType.COMMENT, postId, 1);
         
         // 알림 발송 (비동기)
         CompletableFuture.runAsync(() -> {
@@ -171,6 +174,7 @@ public class UserPostCommentServiceImpl implements UserPostCommentService {
         // 소프트 딜리트
         comment.delete();
         userPostCommentRepository.save(comment);
+        postEngagementCounter.record(PostEngagementType.COMMENT, comment.getPost().getId(), -1);
     }
 
     @Override
@@ -0,0 +1,209 @@
+package com.crimecat.backend.userPost.service;
+
+import com.crimecat.backend.exception.ErrorStatus;
+import com.crimecat.backend.userPost.repository.UserPostRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 탐색 페이지 무작위 게시물 풀
+ * - 공개 범위별(공개 / 팔로워 공개) 최근 게시물 ID 를 최대 poolSize 개씩 메모리에 보관, 주기적으로 교체
+ * - 순서는 seed 와 게시물 ID 를 섞은 해시값 오름차순 → seed 마다 고정된 무작위 순열
+ * - 커서(이전 페이지 마지막 게시물)의 해시값 이후만 고르므로 풀이 교체되어도 "더 보기" 에서 중복이 없음
+ * - 요청마다 풀 크기만큼만 훑음 → 테이블 크기와 무관한 일정한 지연
+ * - 기동 시(ApplicationReadyEvent) 미리 채움, 그 전에 들어온 요청은 진행 중인 갱신을 기다림 (awaitReady)
+ * - 커서에 seed 를 함께 담음 (Cursor) → 날짜가 바뀌거나 기본 seed 가 달라져도 같은 순열로 이어서 조회
+ */
+@Slf4j
+@Service
+public class UserPostExplorePool {
+
+    private final UserPostRepository userPostRepository;
+    private final int poolSize;
+
+    private volatile Pool pool = new Pool(List.of(), List.of());
+    private volatile boolean ready = false;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    /** 갱신 완료 대기용 모니터 */
+    private final Object refreshMonitor = new Object();
+
+    public UserPostExplorePool(
+            UserPostRepository userPostRepository,
+            @Value("${user-post.explore.pool-size:10000}") int poolSize) {
+        this.userPostRepository = userPostRepository;
+        this.poolSize = poolSize;
+    }
+
+    private record Entry(UUID postId, UUID authorId) {
+    }
+
+    private record Pool(List<Entry> publicPosts, List<Entry> followersOnlyPosts) {
+    }
+
+    private record Ranked(UUID postId, long key) {
+    }
+
+    /**
+     * seed 와 이전 페이지 마지막 게시물 ID 를 함께 담은 커서 ("{seed 16진수}:{게시물 ID}")
+     */
+    public record Cursor(long seed, UUID postId) {
+
+        public String encode() {
+            return Long.toHexString(seed) + ":" + postId;
+        }
+
+        /**
+         * @return seed 가 없는 이전 형식(게시물 ID 만)이면 null seed 로 간주해 fallbackSeed 사용
+         */
+        public static Cursor parse(String value, long fallbackSeed) {
+            int separator = value.indexOf(':');
+            try {
+                if (separator < 0) {
+                    return new Cursor(fallbackSeed, UUID.fromString(value));
+                }
+                return new Cursor(Long.parseUnsignedLong(value.substring(0, separator), 16),
+                        UUID.fromString(value.substring(separator + 1)));
+            } catch (IllegalArgumentException e) {
+                throw ErrorStatus.INVALID_PARAMETER.asServiceException();
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 풀이 준비될 때까지 최대 timeoutMillis 동안 대기
+     * - 갱신 중이 아니면 이 스레드에서 갱신, 다른 스레드가 갱신 중이면 끝날 때까지 대기 (빈 풀로 응답하지 않음)
+     * @return 준비되었으면 true (갱신 실패/시간 초과면 false → 호출 측이 DB 조회로 대체)
+     */
+    public boolean awaitReady(long timeoutMillis) {
+        if (ready) {
+            return true;
+        }
+        refresh();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (refreshMonitor) {
+            while (!ready && refreshing.get()) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    break;
+                }
+                try {
+                    refreshMonitor.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        return ready;
+    }
+
+    /**
+     * 조회자가 볼 수 있는 게시물을 seed 순열 순서로 조회
+     * @param viewerId 비로그인이면 null
+     * @param followingIds 조회자가 팔로우한 사용자 (팔로워 공개글 필터용)
+     * @param cursor 이전 페이지 마지막 게시물 ID (null 이면 처음부터)
+     * @param skip 커서 이후 건너뛸 개수 (오프셋 페이지용)
+     */
+    public Sample sample(long seed, UUID viewerId, Collection<UUID> followingIds, UUID cursor, int skip, int limit) {
+        Pool current = pool;
+        long cursorKey = cursor == null ? 0L : key(seed, cursor);
+        int keep = skip + limit;
+
+        // 가장 작은 keep 개만 남기는 최대 힙
+        PriorityQueue<Ranked> heap = new PriorityQueue<>(
+                Comparator.comparing(Ranked::key, Long::compareUnsigned).reversed());
+        int[] visible = {0};
+        Consumer<Entry> offer = entry -> {
+            visible[0]++;
+            long key = key(seed, entry.postId());
+            if (cursor != null && Long.compareUnsigned(key, cursorKey) <= 0) {
+                return;
+            }
+            if (heap.size() < keep) {
+                heap.offer(new Ranked(entry.postId(), key));
+            } else if (keep > 0 && Long.compareUnsigned(key, heap.peek().key()) < 0) {
+                heap.poll();
+                heap.offer(new Ranked(entry.postId(), key));
+            }
+        };
+        current.publicPosts().forEach(offer);
+        if (viewerId != null) {
+            for (Entry entry : current.followersOnlyPosts()) {
+                if (viewerId.equals(entry.authorId()) || followingIds.contains(entry.authorId())) {
+                    offer.accept(entry);
+                }
+            }
+        }
+
+        List<Ranked> ranked = new ArrayList<>(heap);
+        ranked.sort(Comparator.comparing(Ranked::key, Long::compareUnsigned));
+        List<UUID> postIds = ranked.stream().skip(skip).map(Ranked::postId).toList();
+        return new Sample(postIds, visible[0]);
+    }
+
+    /**
+     * @param total 조회자가 볼 수 있는 풀 전체 크기
+     */
+    public record Sample(List<UUID> postIds, long total) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${user-post.explore.refresh-interval-ms:600000}",
+            initialDelayString = "${user-post.explore.refresh-interval-ms:600000}")
+    public void refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            Pool next = new Pool(load(false), load(true));
+            pool = next;
+            ready = true;
+            log.info("🎲 [EXPLORE_POOL] 갱신 완료 - public: {}, followers: {}, {}ms",
+                    next.publicPosts().size(), next.followersOnlyPosts().size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.warn("⚠️ [EXPLORE_POOL] 갱신 실패: {}", e.getMessage());
+        } finally {
+            synchronized (refreshMonitor) {
+                refreshing.set(false);
+                refreshMonitor.notifyAll();
+            }
+        }
+    }
+
+    private List<Entry> load(boolean followersOnly) {
+        List<Object[]> rows = userPostRepository.findExplorePoolRows(followersOnly, PageRequest.of(0, poolSize));
+        List<Entry> entries = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            entries.add(new Entry((UUID) row[0], (UUID) row[1]));
+        }
+        return List.copyOf(entries);
+    }
+
+    /**
+     * seed 별 순열 위치 (SplitMix64 최종 혼합 → 0 ~ 2^64-1 에 고르게 분포, 부호 없는 비교)
+     */
+    static long key(long seed, UUID postId) {
+        long z = seed ^ postId.getMostSignificantBits() ^ Long.rotateLeft(postId.getLeastSignificantBits(), 32);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
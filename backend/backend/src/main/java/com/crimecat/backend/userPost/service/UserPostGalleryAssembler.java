@@ -0,0 +1,171 @@
+package com.crimecat.backend.userPost.service;
+
+import com.crimecat.backend.hashtag.repository.PostHashTagRepository;
+import com.crimecat.backend.userPost.domain.UserPost;
+import com.crimecat.backend.userPost.dto.UserPostGalleryPageDto;
+import com.crimecat.backend.userPost.repository.UserPostImageRepository;
+import com.crimecat.backend.userPost.repository.UserPostLikeRepository;
+import com.crimecat.backend.webUser.repository.WebUserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 목록(갤러리/피드/검색/해시태그/인기/랜덤) 카드 조립
+ * - 좋아요 수, 작성자 요약은 페이지의 게시글 ID 전체에 대해 묶음 쿼리 한 번씩
+ * - 대표 이미지, 해시태그는 게시글 ID + 버전(수정 시각) 단위로 로컬 캐시 → 미스 난 게시글만 묶음 쿼리 한 번씩
+ * - 페이지 크기와 무관하게 페이지 쿼리 외 최대 4회
+ */
+@Component
+public class UserPostGalleryAssembler {
+
+    private final UserPostLikeRepository userPostLikeRepository;
+    private final UserPostImageRepository userPostImageRepository;
+    private final PostHashTagRepository postHashTagRepository;
+    private final WebUserRepository webUserRepository;
+    private final Cache<UUID, Card> cards;
+
+    public UserPostGalleryAssembler(
+            UserPostLikeRepository userPostLikeRepository,
+            UserPostImageRepository userPostImageRepository,
+            PostHashTagRepository postHashTagRepository,
+            WebUserRepository webUserRepository,
+            @Value("${user-post.card-cache.max-size:20000}") long maxSize,
+            @Value("${user-post.card-cache.ttl-minutes:30}") long ttlMinutes) {
+        this.userPostLikeRepository = userPostLikeRepository;
+        this.userPostImageRepository = userPostImageRepository;
+        this.postHashTagRepository = postHashTagRepository;
+        this.webUserRepository = webUserRepository;
+        this.cards = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    /**
+     * 게시글 내용 중 수정 시에만 바뀌는 부분 (버전이 다르면 캐시 미스로 취급)
+     */
+    private record Card(LocalDateTime version, String thumbnailUrl, List<String> hashtags) {
+    }
+
+    private record Author(String nickname, String avatarUrl) {
+    }
+
+    public Page<UserPostGalleryPageDto> assemble(Page<UserPost> posts) {
+        return new PageImpl<>(assemble(posts.getContent()), posts.getPageable(), posts.getTotalElements());
+    }
+
+    public List<UserPostGalleryPageDto> assemble(List<UserPost> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        Set<UUID> postIds = new LinkedHashSet<>();
+        Set<UUID> authorIds = new LinkedHashSet<>();
+        for (UserPost post : posts) {
+            postIds.add(post.getId());
+            authorIds.add(post.getUser().getId()); // 프록시 초기화 없이 FK 값만 사용
+        }
+
+        Map<UUID, Card> cardsByPost = loadCards(posts);
+        Map<UUID, Integer> likeCounts = loadLikeCounts(postIds);
+        Map<UUID, Author> authors = loadAuthors(authorIds);
+
+        List<UserPostGalleryPageDto> result = new ArrayList<>(posts.size());
+        for (UserPost post : posts) {
+            Card card = cardsByPost.get(post.getId());
+            UUID authorId = post.getUser().getId();
+            Author author = authors.getOrDefault(authorId, new Author(null, null));
+
+            result.add(UserPostGalleryPageDto.builder()
+                    .postId(post.getId())
+                    .authorId(authorId)
+                    .authorNickname(author.nickname())
+                    .authorAvatarUrl(author.avatarUrl())
+                    .content(post.getContent())
+                    .thumbnailUrl(card.thumbnailUrl())
+                    .likeCount(likeCounts.getOrDefault(post.getId(), 0))
+                    .isPrivate(post.isPrivate())
+                    .isFollowersOnly(post.isFollowersOnly())
+                    .createdAt(post.getCreatedAt())
+                    .hashtags(new ArrayList<>(card.hashtags()))
+                    .locationName(post.getLocationName())
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 게시글 수정/삭제 시 카드 캐시 제거
+     */
+    public void evict(UUID postId) {
+        cards.invalidate(postId);
+    }
+
+    private Map<UUID, Card> loadCards(List<UserPost> posts) {
+        Map<UUID, Card> result = new HashMap<>();
+        Map<UUID, LocalDateTime> misses = new HashMap<>();
+        for (UserPost post : posts) {
+            LocalDateTime version = versionOf(post);
+            Card cached = cards.getIfPresent(post.getId());
+            if (cached != null && Objects.equals(cached.version(), version)) {
+                result.put(post.getId(), cached);
+            } else {
+                misses.put(post.getId(), version);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        Map<UUID, String> thumbnails = new HashMap<>();
+        for (Object[] row : userPostImageRepository.findThumbnailsByPostIds(misses.keySet())) {
+            thumbnails.putIfAbsent((UUID) row[0], (String) row[1]);
+        }
+        Map<UUID, List<String>> hashtags = new HashMap<>();
+        for (Object[] row : postHashTagRepository.findHashTagNamesByPostIds(misses.keySet())) {
+            hashtags.computeIfAbsent((UUID) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        misses.forEach((postId, version) -> {
+            Card card = new Card(version, thumbnails.get(postId),
+                    List.copyOf(hashtags.getOrDefault(postId, List.of())));
+            cards.put(postId, card);
+            result.put(postId, card);
+        });
+        return result;
+    }
+
+    private Map<UUID, Integer> loadLikeCounts(Set<UUID> postIds) {
+        Map<UUID, Integer> result = new HashMap<>();
+        for (Object[] row : userPostLikeRepository.countByPostIds(postIds)) {
+            result.put((UUID) row[0], ((Number) row[1]).intValue());
+        }
+        return result;
+    }
+
+    private Map<UUID, Author> loadAuthors(Set<UUID> authorIds) {
+        Map<UUID, Author> result = new HashMap<>();
+        for (Object[] row : webUserRepository.findAuthorSummariesByIds(authorIds)) {
+            result.put((UUID) row[0], new Author((String) row[1], (String) row[2]));
+        }
+        return result;
+    }
+
+    private static LocalDateTime versionOf(UserPost post) {
+        return post.getUpdatedAt() != null ? post.getUpdatedAt() : post.getCreatedAt();
+    }
+}
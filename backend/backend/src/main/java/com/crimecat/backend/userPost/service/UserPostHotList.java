@@ -0,0 +1,345 @@
+package com.crimecat.backend.userPost.service;
+
+import com.crimecat.backend.userPost.repository.UserPostEngagementJdbcRepository;
+import com.crimecat.backend.userPost.repository.UserPostEngagementJdbcRepository.ScoringRow;
+import com.crimecat.backend.utils.RedisLockService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 인기 목록 (공개 범위별 상위 K개)
+ * - 점수 = (좋아요×w + 댓글×w + 조회×w) / (경과 시간(h) + 2)^gravity (Hacker News 방식 시간 감쇠)
+ * - 주기적으로 최근 게시글만 키셋 배치로 재계산 → popularity_score 갱신 + 공개 범위별 최소 힙으로 상위 K개 유지
+ * - 상위 K개는 Redis Sorted Set 에 저장 (임시 키에 쌓고 RENAME 으로 교체), 여러 인스턴스 중 잠금을 얻은 한 곳만 재계산
+ * - 각 인스턴스는 Redis 목록을 짧은 주기로 메모리에 복사해 조회 → 인기/피드 조회 시 테이블 정렬 없음
+ * - 목록은 상위 K개 + 최근 window 기간만 담음 → 그 이후 페이지는 호출 측이 DB 인기도 점수 순으로 이어서 조회
+ */
+@Slf4j
+@Service
+public class UserPostHotList {
+
+    private static final String KEY_PREFIX = "userpost:hot:";
+    private static final String LOCK_KEY = "userpost:hot:rescore:lock";
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLockService redisLockService;
+    private final UserPostEngagementJdbcRepository engagementJdbcRepository;
+    private final double likeWeight;
+    private final double commentWeight;
+    private final double viewWeight;
+    private final double gravity;
+    private final Duration window;
+    private final int topK;
+    private final int batchSize;
+    private final Duration lockTtl;
+    private final long snapshotTtlMillis;
+
+    /** 인스턴스 로컬 사본 (Redis 조회 실패 시 이전 사본 유지) */
+    private volatile Snapshot snapshot;
+
+    public UserPostHotList(
+            RedisTemplate<String, String> redisTemplate,
+            RedisLockService redisLockService,
+            UserPostEngagementJdbcRepository engagementJdbcRepository,
+            @Value("${user-post.popularity.like-weight:1.0}") double likeWeight,
+            @Value("${user-post.popularity.comment-weight:2.0}") double commentWeight,
+            @Value("${user-post.popularity.view-weight:0.1}") double viewWeight,
+            @Value("${user-post.popularity.gravity:1.5}") double gravity,
+            @Value("${user-post.popularity.window-days:14}") long windowDays,
+            @Value("${user-post.popularity.top-k:500}") int topK,
+            @Value("${user-post.popularity.batch-size:1000}") int batchSize,
+            @Value("${user-post.popularity.lock-ttl-minutes:5}") long lockTtlMinutes,
+            @Value("${user-post.popularity.snapshot-ttl-seconds:30}") long snapshotTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.redisLockService = redisLockService;
+        this.engagementJdbcRepository = engagementJdbcRepository;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.viewWeight = viewWeight;
+        this.gravity = gravity;
+        this.window = Duration.ofDays(windowDays);
+        this.topK = topK;
+        this.batchSize = batchSize;
+        this.lockTtl = Duration.ofMinutes(lockTtlMinutes);
+        this.snapshotTtlMillis = snapshotTtlSeconds * 1000;
+    }
+
+    /**
+     * 게시글 공개 범위
+     */
+    public enum Visibility {
+        PUBLIC, FOLLOWERS_ONLY, PRIVATE;
+
+        String key() {
+            return KEY_PREFIX + name().toLowerCase();
+        }
+
+        static Visibility of(boolean isPrivate, boolean isFollowersOnly) {
+            if (isPrivate) {
+                return PRIVATE;
+            }
+            return isFollowersOnly ? FOLLOWERS_ONLY : PUBLIC;
+        }
+    }
+
+    /**
+     * @param createdAt 작성 시각 (epoch millis, 피드에서 시간순으로 섞을 때 사용)
+     */
+    public record Entry(UUID postId, UUID authorId, long createdAt, double score) {
+
+        String member() {
+            return postId + ":" + authorId + ":" + createdAt;
+        }
+
+        static Entry parse(String member, Double score) {
+            String[] parts = member.split(":");
+            return new Entry(UUID.fromString(parts[0]), UUID.fromString(parts[1]),
+                    parts.length > 2 ? Long.parseLong(parts[2]) : 0L,
+                    score != null ? score : 0d);
+        }
+    }
+
+    /**
+     * @param recentPublic 공개 인기글을 작성 시각 내림차순으로 정렬한 사본 (피드 병합용)
+     */
+    private record Snapshot(Map<Visibility, List<Entry>> lists, List<Entry> recentPublic, long loadedAt) {
+
+        static Snapshot of(Map<Visibility, List<Entry>> lists, long loadedAt) {
+            List<Entry> recentPublic = new ArrayList<>(lists.get(Visibility.PUBLIC));
+            recentPublic.sort(Comparator.comparingLong(Entry::createdAt).reversed());
+            return new Snapshot(lists, List.copyOf(recentPublic), loadedAt);
+        }
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 인기 목록을 사용할 수 있는지 (아직 구성 전이거나 Redis 장애로 비어 있으면 호출 측이 DB 조회로 대체)
+     */
+    public boolean isReady() {
+        Snapshot current = current();
+        return current != null && current.lists().values().stream().anyMatch(list -> !list.isEmpty());
+    }
+
+    /**
+     * 조회자가 볼 수 있는 인기 게시글 ID (점수 내림차순)
+     * - 공개글 + 팔로우한 작성자(또는 본인)의 팔로워 공개글 + 본인 비밀글
+     * @param viewerId 비로그인이면 null
+     */
+    public List<UUID> rankedFor(UUID viewerId, Collection<UUID> followingIds) {
+        Snapshot current = current();
+        if (current == null) {
+            return List.of();
+        }
+        List<Entry> merged = new ArrayList<>(current.lists().get(Visibility.PUBLIC));
+        if (viewerId != null) {
+            Set<UUID> following = new HashSet<>(followingIds);
+            for (Entry entry : current.lists().get(Visibility.FOLLOWERS_ONLY)) {
+                if (viewerId.equals(entry.authorId()) || following.contains(entry.authorId())) {
+                    merged.add(entry);
+                }
+            }
+            for (Entry entry : current.lists().get(Visibility.PRIVATE)) {
+                if (viewerId.equals(entry.authorId())) {
+                    merged.add(entry);
+                }
+            }
+            merged.sort(Comparator.comparingDouble(Entry::score).reversed());
+        }
+        return merged.stream().map(Entry::postId).toList();
+    }
+
+    /**
+     * 작성 시각이 maxCreatedAt 이하인 공개 인기 게시글 (작성 시각 내림차순, 최대 limit 개)
+     * - 정렬된 사본에서 이진 탐색으로 시작 위치를 찾아 필요한 만큼만 반환
+     */
+    public List<Entry> recentPublicEntries(double maxCreatedAt, long limit) {
+        Snapshot current = current();
+        if (current == null) {
+            return List.of();
+        }
+        List<Entry> recent = current.recentPublic();
+        int low = 0;
+        int high = recent.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (recent.get(mid).createdAt() > maxCreatedAt) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return recent.subList(low, (int) Math.min(recent.size(), low + limit));
+    }
+
+    // ===== 재계산 =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildMissing() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(Visibility.PUBLIC.key()))) {
+                rescore();
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ [HOT_LIST] 초기 구성 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 최근 게시글 점수 재계산 + 인기 목록 교체 (여러 인스턴스 중 잠금을 얻은 한 곳만 수행)
+     */
+    @Scheduled(fixedDelayString = "${user-post.popularity.rescore-interval-ms:300000}",
+            initialDelayString = "${user-post.popularity.rescore-interval-ms:300000}")
+    public void rescore() {
+        String lockToken = redisLockService.tryLock(LOCK_KEY, lockTtl);
+        if (lockToken == null) {
+            log.debug("⏭️ [HOT_LIST] 다른 인스턴스에서 재계산 중");
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime since = now.minus(window);
+
+            Map<Visibility, PriorityQueue<Entry>> heaps = new EnumMap<>(Visibility.class);
+            for (Visibility visibility : Visibility.values()) {
+                heaps.put(visibility, new PriorityQueue<>(Comparator.comparingDouble(Entry::score)));
+            }
+
+            int scanned = 0;
+            LocalDateTime afterCreatedAt = MIN_CREATED_AT;
+            UUID afterId = MIN_ID;
+            List<ScoringRow> rows;
+            do {
+                rows = engagementJdbcRepository.findScoringRows(since, afterCreatedAt, afterId, batchSize);
+                Map<UUID, Double> scores = new HashMap<>(rows.size() * 2);
+                for (ScoringRow row : rows) {
+                    double score = score(row, now);
+                    scores.put(row.id(), score);
+                    if (score > 0) {
+                        offer(heaps.get(Visibility.of(row.isPrivate(), row.isFollowersOnly())),
+                                new Entry(row.id(), row.authorId(), toEpochMilli(row.createdAt()), score));
+                    }
+                }
+                engagementJdbcRepository.updateScores(scores);
+                scanned += rows.size();
+                if (!rows.isEmpty()) {
+                    ScoringRow last = rows.getLast();
+                    afterCreatedAt = last.createdAt();
+                    afterId = last.id();
+                }
+            } while (rows.size() == batchSize);
+
+            // 재계산 구간을 벗어난 게시글은 감쇠가 끝난 것으로 보고 0점 처리
+            int reset = engagementJdbcRepository.resetScoresBefore(since);
+
+            Map<Visibility, List<Entry>> lists = new EnumMap<>(Visibility.class);
+            heaps.forEach((visibility, heap) -> {
+                List<Entry> entries = new ArrayList<>(heap);
+                entries.sort(Comparator.comparingDouble(Entry::score).reversed());
+                write(visibility, entries);
+                lists.put(visibility, List.copyOf(entries));
+            });
+            snapshot = Snapshot.of(lists, System.currentTimeMillis());
+
+            log.info("🔥 [HOT_LIST] 재계산 완료 - scanned: {}, reset: {}, public: {}, followers: {}, private: {}, {}ms",
+                    scanned, reset, lists.get(Visibility.PUBLIC).size(), lists.get(Visibility.FOLLOWERS_ONLY).size(),
+                    lists.get(Visibility.PRIVATE).size(), System.currentTimeMillis() - startedAt);
+        } finally {
+            redisLockService.unlock(LOCK_KEY, lockToken);
+        }
+    }
+
+    double score(ScoringRow row, LocalDateTime now) {
+        double points = row.likes() * likeWeight + row.comments() * commentWeight + row.views() * viewWeight;
+        if (points <= 0) {
+            return 0d;
+        }
+        double ageHours = Math.max(0, Duration.between(row.createdAt(), now).toMinutes()) / 60d;
+        return points / Math.pow(ageHours + 2, gravity);
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private void offer(PriorityQueue<Entry> heap, Entry entry) {
+        if (heap.size() < topK) {
+            heap.offer(entry);
+        } else if (entry.score() > heap.peek().score()) {
+            heap.poll();
+            heap.offer(entry);
+        }
+    }
+
+    private void write(Visibility visibility, List<Entry> entries) {
+        String key = visibility.key();
+        String tempKey = key + ":rebuild";
+        redisTemplate.delete(tempKey);
+        if (entries.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        for (Entry entry : entries) {
+            tuples.add(new DefaultTypedTuple<>(entry.member(), entry.score()));
+        }
+        redisTemplate.opsForZSet().add(tempKey, tuples);
+        redisTemplate.rename(tempKey, key);
+    }
+
+    /**
+     * 로컬 사본 (만료되었으면 Redis 에서 다시 읽음)
+     */
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && System.currentTimeMillis() - current.loadedAt() < snapshotTtlMillis) {
+            return current;
+        }
+        try {
+            Map<Visibility, List<Entry>> lists = new EnumMap<>(Visibility.class);
+            for (Visibility visibility : Visibility.values()) {
+                Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                        .reverseRangeWithScores(visibility.key(), 0, topK - 1);
+                List<Entry> entries = new ArrayList<>();
+                if (tuples != null) {
+                    for (TypedTuple<String> tuple : tuples) {
+                        if (tuple.getValue() != null) {
+                            entries.add(Entry.parse(tuple.getValue(), tuple.getScore()));
+                        }
+                    }
+                }
+                lists.put(visibility, List.copyOf(entries));
+            }
+            current = Snapshot.of(lists, System.currentTimeMillis());
+            snapshot = current;
+        } catch (Exception e) {
+            // Redis 장애 시 이전 사본으로 계속 응답 (없으면 호출 측이 DB 조회로 대체)
+            log.warn("⚠️ [HOT_LIST] 인기 목록 조회 실패: {}", e.getMessage());
+        }
+        return current;
+    }
+}
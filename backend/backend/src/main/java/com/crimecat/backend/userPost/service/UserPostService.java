@@ -1,10 +1,12 @@
 package com.crimecat.backend.userPost.service;
 
+import com.crimecat.backend.common.dto.CursorPageResponseDto;
 import com.crimecat.backend.userPost.dto.UserPostDto;
 import com.crimecat.backend.userPost.dto.UserPostGalleryPageDto;
 import com.crimecat.backend.webUser.domain.WebUser;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -200,6 +202,18 @@ public interface UserPostService {
      * @return 모든 해시태그를 포함하는 게시물 목록
      */
     Page<UserPostGalleryPageDto> getPostsByAllHashTags(List<String> tagNames, WebUser currentUser, Pageable pageable);
+
+    /**
+     * 여러 해시태그로 게시물 검색 (AND 조건, 최신순, 커서 지원)
+     * - 항상 최신순 (pageable 의 정렬은 무시)
+     * - totalElements 는 짧게 캐시된 근사값
+     * @param tagNames 해시태그 이름 목록 (# 제외)
+     * @param currentUser 현재 사용자
+     * @param cursor 이전 페이지 마지막 게시물 ID (null 이거나 더 이상 검색 결과에 없으면 pageable 오프셋 사용)
+     * @param pageable 페이징 정보 (페이지 번호/크기만 사용)
+     * @return 모든 해시태그를 포함하는 게시물 목록
+     */
+    Page<UserPostGalleryPageDto> getPostsByHashTags(List<String> tagNames, WebUser currentUser, UUID cursor, Pageable pageable);
     
     /**
      * 인기 게시물 목록 조회 (인기도 점수 기준)
@@ -210,12 +224,15 @@ public interface UserPostService {
     Page<UserPostGalleryPageDto> getPopularPosts(WebUser currentUser, Pageable pageable);
     
     /**
-     * 무작위 게시물 목록 조회 (탐색 페이지용)
+     * 무작위 게시물 목록 조회 (탐색 페이지용, seed 별 고정 순열, 커서 지원)
      * @param currentUser 현재 사용자
+     * @param seed 무작위 순열 seed (null 이면 사용자 + 날짜 기준)
+     * @param cursor 이전 응답의 nextCursor (seed 포함, null 이면 pageable 오프셋 사용)
      * @param pageable 페이징 정보
-     * @return 무작위 게시물 목록
+     * @return 무작위 게시물 목록 + 다음 페이지 커서
      */
-    Page<UserPostGalleryPageDto> getRandomPosts(WebUser currentUser, Pageable pageable);
+    CursorPageResponseDto<UserPostGalleryPageDto> getRandomPosts(WebUser currentUser, Long seed, String cursor,
+                                                                 Pageable pageable);
     
     /**
      * 키워드로 게시물 검색
@@ -264,10 +281,11 @@ public interface UserPostService {
     Page<UserPostGalleryPageDto> searchPostsWithAuthor(String query, WebUser currentUser, Pageable pageable);
     
     /**
-     * 피드 게시물 조회 (팔로우한 사용자 + 인기 게시물)
+     * 피드 게시물 조회 (팔로우한 사용자 + 인기 게시물, 최신순, 커서 지원)
      * @param currentUser 현재 사용자
+     * @param cursor 이전 페이지 마지막 게시물 ID (null 이면 pageable 오프셋 사용)
      * @param pageable 페이징 정보
-     * @return 피드 게시물 목록
+     * @return 피드 게시물 목록 (타임라인 조회는 전체 개수 없이 다음 페이지 여부만 포함)
      */
-    Page<UserPostGalleryPageDto> getFeedPosts(WebUser currentUser, Pageable pageable);
+    Slice<UserPostGalleryPageDto> getFeedPosts(WebUser currentUser, UUID cursor, Pageable pageable);
 }
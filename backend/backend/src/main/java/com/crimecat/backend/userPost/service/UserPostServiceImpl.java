@@ -1,15 +1,16 @@
 package com.crimecat.backend.userPost.service;
 
+import com.crimecat.backend.common.dto.CursorPageResponseDto;
 import com.crimecat.backend.exception.ErrorStatus;
 import com.crimecat.backend.follow.repository.FollowRepository;
 import com.crimecat.backend.follow.service.FollowService;
-import com.crimecat.backend.hashtag.domain.HashTag;
-import com.crimecat.backend.hashtag.domain.PostHashTag;
+import com.crimecat.backend.hashtag.index.HashTagPostingIndex;
 import com.crimecat.backend.hashtag.service.HashTagService;
 import com.crimecat.backend.notification.event.NotificationEventPublisher;
 import com.crimecat.backend.notification.event.UserPostCreatedEvent;
 import com.crimecat.backend.storage.StorageFileType;
 import com.crimecat.backend.storage.StorageService;
+import com.crimecat.backend.userPost.domain.PostEngagementType;
 import com.crimecat.backend.userPost.domain.UserPost;
 import com.crimecat.backend.userPost.domain.UserPostComment;
 import com.crimecat.backend.userPost.domain.UserPostImage;
@@ -27,11 +28,17 @@ import com.crimecat.backend.webUser.repository.WebUserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -52,6 +59,15 @@ public class UserPostServiceImpl implements UserPostService {
     private final FollowService followService;
     private final HashTagService hashTagService;
     private final NotificationEventPublisher notificationEventPublisher;
+    private final UserPostGalleryAssembler userPostGalleryAssembler;
+    private final HashTagPostingIndex hashTagPostingIndex;
+    private final PostEngagementCounter postEngagementCounter;
+    private final UserPostHotList userPostHotList;
+    private final UserPostTimeline userPostTimeline;
+    private final UserPostExplorePool userPostExplorePool;
+
+    /** 탐색 풀이 아직 준비되지 않았을 때 진행 중인 갱신을 기다리는 최대 시간 */
+    private static final long EXPLORE_POOL_WAIT_MILLIS = 3_000;
 
     @Override
     @Transactional
@@ -81,6 +97,9 @@ public class UserPostServiceImpl implements UserPostService {
         
         // 해시태그 처리 - 명시적 태그 목록 사용
         hashTagService.processPostHashTagsExplicit(post, hashtags);
+
+        // 팔로워 타임라인 반영 (커밋 후)
+        userPostTimeline.publish(post.getId(), user.getId(), post.getCreatedAt(), isPrivate);
         
         // 팔로워들에게 알림 발송 (비동기)
         CompletableFuture.runAsync(() -> {
@@ -137,6 +156,9 @@ public class UserPostServiceImpl implements UserPostService {
 
         // 2️⃣ 게시글 · 이미지 · 좋아요 전부 DB 삭제(cascade = ALL)
         userPostRepository.delete(post);
+        userPostGalleryAssembler.evict(postId);
+        hashTagPostingIndex.removeAfterCommit(postId);
+        userPostTimeline.remove(postId, user.getId());
     }
 
     @Override
@@ -148,6 +170,7 @@ public class UserPostServiceImpl implements UserPostService {
         if (!canAccessPost(post, currentUser)) {
             throw ErrorStatus.USER_POST_ACCESS_DENIED.asServiceException();
         }
+        postEngagementCounter.record(PostEngagementType.VIEW, postId, 1);
 
         List<String> images = post.getImages().stream()
                 .sorted(Comparator.comparingInt(UserPostImage::getSortOrder))
@@ -249,10 +272,12 @@ public class UserPostServiceImpl implements UserPostService {
         Optional<UserPostLike> likeOpt = userPostLikeRepository.findByPostIdAndUserId(postId, user.getId());
         if (likeOpt.isPresent()) {
             userPostLikeRepository.delete(likeOpt.get());
+            postEngagementCounter.record(PostEngagementType.LIKE, postId, -1);
             return false;
         } else {
             UserPostLike like = UserPostLike.from(user, post);
             userPostLikeRepository.save(like);
+            postEngagementCounter.record(PostEngagementType.LIKE, postId, 1);
             return true;
         }
     }
@@ -263,40 +288,13 @@ public class UserPostServiceImpl implements UserPostService {
         
         if (currentUser == null) {
             // 로그인하지 않은 사용자는 공개 게시글만 볼 수 있음
-            posts = userPostRepository.findAllWithUserAndImages(pageable); // 목록 쿼리 개선 필요
+            posts = userPostRepository.findAllWithUser(pageable);
         } else {
             // 로그인한 사용자는 자신의 게시글, 팔로워 공개글, 공개 게시글 볼 수 있음
             posts = userPostRepository.findAccessiblePostsForUser(currentUser.getId(), pageable);
         }
 
-        return posts.map(post -> {
-            String thumbnail = post.getImages().stream()
-                    .sorted(Comparator.comparingInt(UserPostImage::getSortOrder))
-                    .findFirst()
-                    .map(UserPostImage::getImageUrl)
-                    .orElse(null);
-
-            // 좋아요 수는 별도 조회
-            long likeCount = userPostLikeRepository.countByPostId(post.getId());
-            
-            // 해시태그 정보 조회
-            List<String> hashtags = hashTagService.getPostHashTagNames(post.getId());
-
-            return UserPostGalleryPageDto.builder()
-                    .postId(post.getId())
-                    .authorId(post.getUser().getId())
-                    .authorNickname(post.getUser().getNickname())
-                    .authorAvatarUrl(post.getUser().getProfileImagePath())
-                    .content(post.getContent())
-                    .thumbnailUrl(thumbnail)
-                    .likeCount(Long.valueOf(likeCount).intValue())
-                    .isPrivate(post.isPrivate())
-                    .isFollowersOnly(post.isFollowersOnly())
-                    .createdAt(post.getCreatedAt())
-                    .hashtags(hashtags)
-                    .locationName(post.getLocationName())
-                    .build();
-        });
+        return convertToGalleryDtos(posts);
     }
 
     @Override
@@ -392,14 +390,26 @@ public class UserPostServiceImpl implements UserPostService {
         post.setContent(content);
 
         // ── 비밀글/팔로워 공개 설정 수정 ───────────────────
+        boolean wasPrivate = post.isPrivate();
         post.setIsPrivate(isPrivate);
         post.setIsFollowersOnly(isFollowersOnly);
 
+        // 공개 → 비밀글이면 타임라인에서 제거, 비밀글 → 공개면 팔로워 타임라인에 반영 (커밋 후)
+        if (wasPrivate && !isPrivate) {
+            userPostTimeline.publish(postId, user.getId(), post.getCreatedAt(), false);
+        } else if (!wasPrivate && isPrivate) {
+            userPostTimeline.remove(postId, user.getId());
+        }
+
         // ── 위치 정보 수정 ────────────────────────────────
         post.setLocationInfo(locationName, latitude, longitude);
 
         // ── 해시태그 처리 ────────────────────────────────
         hashTagService.processPostHashTagsExplicit(post, hashtags);
+
+        // ── 버전 갱신 (이미지/해시태그만 바뀐 경우에도 목록 카드 캐시가 무효화되도록) ──
+        post.updateTimestamp();
+        userPostGalleryAssembler.evict(postId);
     }
 
     @Override
@@ -413,77 +423,23 @@ public class UserPostServiceImpl implements UserPostService {
         if (currentUser == null) {
             // 로그인하지 않은 사용자는 공개 게시글만 볼 수 있음
             // TODO: 공개 게시글만 조회하는 쿼리로 변경 필요
-            posts = userPostRepository.findByUserWithImages(targetUser, pageable);
+            posts = userPostRepository.findPageByUser(targetUser, pageable);
         } else if (currentUser.getId().equals(userId)) {
             // 자신의 게시글은 모두 볼 수 있음
-            posts = userPostRepository.findByUserWithImages(targetUser, pageable);
+            posts = userPostRepository.findPageByUser(targetUser, pageable);
         } else {
             // 다른 사용자의 게시글은 접근 권한에 따라 필터링
             posts = userPostRepository.findAccessiblePostsByUserIdForViewer(userId, currentUser.getId(), pageable);
         }
 
-        return posts.map(post -> {
-            String thumbnail = post.getImages().stream()
-                    .sorted(Comparator.comparingInt(UserPostImage::getSortOrder))
-                    .findFirst()
-                    .map(UserPostImage::getImageUrl)
-                    .orElse(null);
-
-            // 좋아요 수는 별도 조회
-            long likeCount = userPostLikeRepository.countByPostId(post.getId());
-
-            // 해시태그 정보 조회
-            List<String> hashtags = hashTagService.getPostHashTagNames(post.getId());
-            
-            return UserPostGalleryPageDto.builder()
-                    .postId(post.getId())
-                    .authorId(post.getUser().getId())
-                    .authorNickname(post.getUser().getNickname())
-                    .authorAvatarUrl(post.getUser().getProfileImagePath())
-                    .content(post.getContent())
-                    .thumbnailUrl(thumbnail)
-                    .likeCount(Long.valueOf(likeCount).intValue())
-                    .isPrivate(post.isPrivate())
-                    .isFollowersOnly(post.isFollowersOnly())
-                    .createdAt(post.getCreatedAt())
-                    .hashtags(hashtags)
-                    .locationName(post.getLocationName())
-                    .build();
-        });
+        return convertToGalleryDtos(posts);
     }
 
     @Override
     public Page<UserPostGalleryPageDto> getMyUserPostGalleryPage(WebUser user, Pageable pageable) {
-        Page<UserPost> posts = userPostRepository.findByUserWithImages(user, pageable);
-
-        return posts.map(post -> {
-            String thumbnail = post.getImages().stream()
-                    .sorted(Comparator.comparingInt(UserPostImage::getSortOrder))
-                    .findFirst()
-                    .map(UserPostImage::getImageUrl)
-                    .orElse(null);
+        Page<UserPost> posts = userPostRepository.findPageByUser(user, pageable);
 
-            // 좋아요 수는 별도 조회
-            long likeCount = userPostLikeRepository.countByPostId(post.getId());
-            
-            // 해시태그 정보 조회
-            List<String> hashtags = hashTagService.getPostHashTagNames(post.getId());
-
-            return UserPostGalleryPageDto.builder()
-                    .postId(post.getId())
-                    .authorId(post.getUser().getId())
-                    .authorNickname(post.getUser().getNickname())
-                    .authorAvatarUrl(post.getUser().getProfileImagePath())
-                    .content(post.getContent())
-                    .thumbnailUrl(thumbnail)
-                    .likeCount(Long.valueOf(likeCount).intValue())
-                    .isPrivate(post.isPrivate())
-                    .isFollowersOnly(post.isFollowersOnly())
-                    .createdAt(post.getCreatedAt())
-                    .hashtags(hashtags)
-                    .locationName(post.getLocationName())
-                    .build();
-        });
+        return convertToGalleryDtos(posts);
     }
     
     
@@ -553,78 +509,203 @@ public class UserPostServiceImpl implements UserPostService {
 
     @Override
     public Page<UserPostGalleryPageDto> getPostsByHashTag(String tagName, WebUser currentUser, Pageable pageable) {
-        // 해시태그 조회
-        HashTag hashTag = hashTagService.getOrCreateHashTag(tagName);
-
-        // 해시태그가 있는 게시물 ID 목록 조회
-        List<PostHashTag> postHashTags = hashTagService.getPostHashTagsByHashTag(hashTag.getId());
-        List<UUID> postIds = postHashTags.stream()
-                .map(pht -> pht.getPost().getId())
-                .collect(Collectors.toList());
-
-        // 게시물 ID 목록으로 게시물 조회 (접근 권한 확인)
-        Page<UserPost> posts;
-        if (currentUser == null) {
-            // 로그인하지 않은 사용자는 공개 게시글만 조회
-            posts = userPostRepository.findPublicPostsByIds(postIds, pageable);
-        } else {
-            // 로그인한 사용자는 권한에 따라 조회
-            posts = userPostRepository.findAccessiblePostsByIds(postIds, currentUser.getId(), pageable);
-        }
+        return getPostsByHashTags(List.of(tagName), currentUser, null, pageable);
+    }
 
-        return convertToGalleryDtos(posts);
+    @Override
+    public Page<UserPostGalleryPageDto> getPostsByAllHashTags(List<String> tagNames, WebUser currentUser, Pageable pageable) {
+        return getPostsByHashTags(tagNames, currentUser, null, pageable);
     }
+
     @Override
     @Transactional(readOnly = true)
-    public Page<UserPostGalleryPageDto> getPostsByAllHashTags(List<String> tagNames, WebUser currentUser, Pageable pageable) {
+    public Page<UserPostGalleryPageDto> getPostsByHashTags(List<String> tagNames, WebUser currentUser, UUID cursor, Pageable pageable) {
         if (tagNames == null || tagNames.isEmpty()) {
             return Page.empty(pageable);
         }
 
-        // 모든 해시태그를 포함하는 게시물 ID 목록 조회
-        List<UUID> postIds = hashTagService.findPostsWithAllHashTags(tagNames);
-
-        if (postIds.isEmpty()) {
-            return Page.empty(pageable);
-        }
-
-        // 게시물 ID 목록으로 게시물 조회 (접근 권한 확인)
-        Page<UserPost> posts;
-        if (currentUser == null) {
-            posts = userPostRepository.findPublicPostsByIds(postIds, pageable);
-        } else {
-            posts = userPostRepository.findAccessiblePostsByIds(postIds, currentUser.getId(), pageable);
-        }
+        // 역색인 구성 전에는 DB 집계로 대체
+        if (!hashTagPostingIndex.isReady()) {
+            List<UUID> postIds = hashTagService.findPostsWithAllHashTags(tagNames);
+            if (postIds.isEmpty()) {
+                return Page.empty(pageable);
+            }
+            Page<UserPost> posts;
+            if (currentUser == null) {
+                posts = userPostRepository.findPublicPostsByIds(postIds, pageable);
+            } else {
+                posts = userPostRepository.findAccessiblePostsByIds(postIds, currentUser.getId(), pageable);
+            }
+            return convertToGalleryDtos(posts);
+        }
+
+        // 역색인 교집합 (최신순, 페이지가 차면 조기 종료) → 해당 게시물만 조회
+        // - Pageable 정렬은 적용하지 않음 (색인이 작성 시각 역순으로만 정렬됨)
+        // - 커서가 만료되면(삭제/태그 제거) 오프셋 기준으로 대체
+        // - 전체 개수는 색인의 캐시된 근사값 (페이지마다 교집합 전체를 세지 않음)
+        HashTagPostingIndex.Viewer viewer = currentUser == null
+                ? HashTagPostingIndex.Viewer.ANONYMOUS
+                : new HashTagPostingIndex.Viewer(currentUser.getId(), new HashSet<>(followService.getFollowingIds(currentUser.getId())));
+        List<UUID> postIds = hashTagPostingIndex.find(tagNames, viewer, cursor, (int) pageable.getOffset(), pageable.getPageSize());
+
+        Map<UUID, UserPost> loaded = userPostRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(UserPost::getId, post -> post));
+        List<UserPost> posts = postIds.stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .toList();
 
-        return convertToGalleryDtos(posts);
+        return PageableExecutionUtils.getPage(
+                userPostGalleryAssembler.assemble(posts),
+                pageable,
+                () -> hashTagPostingIndex.count(tagNames, viewer));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<UserPostGalleryPageDto> getPopularPosts(WebUser currentUser, Pageable pageable) {
-        // 인기도 점수 기준으로 정렬된 게시물 조회
-        Page<UserPost> posts;
-        if (currentUser == null) {
-            posts = userPostRepository.findPublicPostsByPopularityScore(pageable);
-        } else {
-            posts = userPostRepository.findAccessiblePostsByPopularityScore(currentUser.getId(), pageable);
+        List<UUID> followingIds = currentUser == null || !userPostHotList.isReady()
+                ? List.of()
+                : followService.getFollowingIds(currentUser.getId());
+        return getPopularPosts(currentUser, followingIds, pageable);
+    }
+
+    private Page<UserPostGalleryPageDto> getPopularPosts(WebUser currentUser, List<UUID> followingIds, Pageable pageable) {
+        // 인기 목록 구성 전에는 저장된 인기도 점수 정렬로 대체
+        if (!userPostHotList.isReady()) {
+            Page<UserPost> posts;
+            if (currentUser == null) {
+                posts = userPostRepository.findPublicPostsByPopularityScore(pageable);
+            } else {
+                posts = userPostRepository.findAccessiblePostsByPopularityScore(currentUser.getId(), pageable);
+            }
+            return convertToGalleryDtos(posts);
+        }
+
+        // 미리 계산된 인기 목록에서 페이지 구간만 잘라 해당 게시물만 조회
+        UUID viewerId = currentUser == null ? null : currentUser.getId();
+        List<UUID> rankedIds = userPostHotList.rankedFor(viewerId, followingIds);
+        long offset = pageable.getOffset();
+        int pageSize = pageable.getPageSize();
+        int from = (int) Math.min(offset, rankedIds.size());
+        int to = (int) Math.min(offset + pageSize, rankedIds.size());
+        List<UUID> postIds = rankedIds.subList(from, to);
+
+        // 목록 계산 이후 공개 범위가 바뀐 게시물은 제외
+        Set<UUID> following = new HashSet<>(followingIds);
+        Map<UUID, UserPost> loaded = userPostRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(UserPost::getId, post -> post));
+        List<UserPost> posts = new ArrayList<>(pageSize);
+        postIds.stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .filter(post -> isVisibleTo(post, viewerId, following))
+                .forEach(posts::add);
+
+        // 인기 목록(공개 범위별 상위 K개, 최근 기간)을 넘어선 구간은 DB 인기도 점수 순으로 이어서 조회
+        if (offset + pageSize > rankedIds.size()) {
+            long restOffset = Math.max(0, offset - rankedIds.size());
+            int restLimit = (int) (offset + pageSize - Math.max(offset, rankedIds.size()));
+            posts.addAll(findPopularPostsAfterHotList(viewerId, rankedIds, restOffset, restLimit, pageSize));
+        }
+
+        // 전체 개수는 접근 가능한 게시물 수 (공개 범위 필터 적용 후), 마지막 페이지면 조회하지 않음
+        return PageableExecutionUtils.getPage(
+                userPostGalleryAssembler.assemble(posts),
+                pageable,
+                () -> viewerId == null
+                        ? userPostRepository.countPublicPosts()
+                        : userPostRepository.countAccessiblePosts(viewerId));
+    }
+
+    /**
+     * 인기 목록에 없는 게시물 중 [restOffset, restOffset + restLimit) 구간 (인기도 점수 순)
+     * - 페이지 크기 단위 조회 1~2회로 구간을 잘라냄
+     */
+    private List<UserPost> findPopularPostsAfterHotList(UUID viewerId, List<UUID> hotIds,
+                                                        long restOffset, int restLimit, int pageSize) {
+        List<UserPost> rest = new ArrayList<>(restLimit);
+        int page = (int) (restOffset / pageSize);
+        int skip = (int) (restOffset % pageSize);
+        while (rest.size() < restLimit) {
+            PageRequest request = PageRequest.of(page++, pageSize);
+            Slice<UserPost> slice;
+            if (hotIds.isEmpty()) {
+                slice = viewerId == null
+                        ? userPostRepository.findPublicPostsByPopularityScore(request)
+                        : userPostRepository.findAccessiblePostsByPopularityScore(viewerId, request);
+            } else {
+                slice = viewerId == null
+                        ? userPostRepository.findPublicPostsByPopularityScoreExcluding(hotIds, request)
+                        : userPostRepository.findAccessiblePostsByPopularityScoreExcluding(viewerId, hotIds, request);
+            }
+            List<UserPost> content = slice.getContent();
+            for (int i = skip; i < content.size() && rest.size() < restLimit; i++) {
+                rest.add(content.get(i));
+            }
+            skip = 0;
+            if (!slice.hasNext()) {
+                break;
+            }
         }
+        return rest;
+    }
 
-        return convertToGalleryDtos(posts);
+    private boolean isVisibleTo(UserPost post, UUID viewerId, Set<UUID> followingIds) {
+        UUID authorId = post.getUser().getId();
+        if (authorId.equals(viewerId)) {
+            return true;
+        }
+        if (post.isPrivate()) {
+            return false;
+        }
+        return !post.isFollowersOnly() || followingIds.contains(authorId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<UserPostGalleryPageDto> getRandomPosts(WebUser currentUser, Pageable pageable) {
-        // 무작위 게시물 조회
-        Page<UserPost> posts;
-        if (currentUser == null) {
-            posts = userPostRepository.findRandomPublicPosts(pageable, pageable.getPageSize());
-        } else {
-            posts = userPostRepository.findRandomAccessiblePosts(currentUser.getId(), pageable);
-        }
+    public CursorPageResponseDto<UserPostGalleryPageDto> getRandomPosts(WebUser currentUser, Long seed, String cursor,
+                                                                         Pageable pageable) {
+        if (!userPostExplorePool.awaitReady(EXPLORE_POOL_WAIT_MILLIS)) {
+            // 풀 구성 실패/지연 시 빈 목록 대신 인기 게시물로 대체 (커서 없음)
+            log.warn("⚠️ [EXPLORE_POOL] 풀이 준비되지 않아 인기 게시물로 대체");
+            return new CursorPageResponseDto<>(getPopularPosts(currentUser, pageable), null);
+        }
+
+        // seed 가 없으면 조회자 + 날짜로 고정 → 쪽 번호만 보내는 클라이언트도 하루 동안 같은 순열로 페이징
+        // 커서에는 seed 가 담겨 있으므로 커서로 이어 보는 동안에는 날짜가 바뀌어도 같은 순열 유지
+        UUID viewerId = currentUser == null ? null : currentUser.getId();
+        long defaultSeed = seed != null
+                ? seed
+                : Objects.hash(viewerId, LocalDate.now()) * 0x9E3779B97F4A7C15L;
+        UserPostExplorePool.Cursor parsedCursor = cursor == null || cursor.isBlank()
+                ? null
+                : UserPostExplorePool.Cursor.parse(cursor, defaultSeed);
+        long effectiveSeed = parsedCursor != null ? parsedCursor.seed() : defaultSeed;
+        UUID afterPostId = parsedCursor != null ? parsedCursor.postId() : null;
+        Set<UUID> followingIds = viewerId == null
+                ? Set.of()
+                : new HashSet<>(followService.getFollowingIds(viewerId));
+        int skip = parsedCursor == null ? (int) pageable.getOffset() : 0;
+
+        UserPostExplorePool.Sample sample = userPostExplorePool.sample(
+                effectiveSeed, viewerId, followingIds, afterPostId, skip, pageable.getPageSize());
+
+        // 풀 갱신 이후 삭제되었거나 비밀글로 바뀐 게시물은 제외
+        Map<UUID, UserPost> loaded = userPostRepository.findAllById(sample.postIds()).stream()
+                .collect(Collectors.toMap(UserPost::getId, post -> post));
+        List<UserPost> posts = sample.postIds().stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .filter(post -> isVisibleTo(post, viewerId, followingIds))
+                .toList();
 
-        return convertToGalleryDtos(posts);
+        // 다음 커서는 필터링 전 마지막 표본 기준 (제외된 게시물 때문에 같은 구간을 다시 훑지 않음)
+        String nextCursor = sample.postIds().size() < pageable.getPageSize()
+                ? null
+                : new UserPostExplorePool.Cursor(effectiveSeed, sample.postIds().getLast()).encode();
+        return new CursorPageResponseDto<>(
+                new PageImpl<>(userPostGalleryAssembler.assemble(posts), pageable, sample.total()), nextCursor);
     }
 
     @Override
@@ -703,36 +784,10 @@ public class UserPostServiceImpl implements UserPostService {
     }
 
     /**
-     * UserPost 목록을 UserPostGalleryPageDto 목록으로 변환
+     * UserPost 목록을 UserPostGalleryPageDto 목록으로 변환 (페이지 단위 묶음 조회)
      */
     private Page<UserPostGalleryPageDto> convertToGalleryDtos(Page<UserPost> posts) {
-        return posts.map(post -> {
-            String thumbnail = post.getImages().stream()
-                    .sorted(Comparator.comparingInt(UserPostImage::getSortOrder))
-                    .findFirst()
-                    .map(UserPostImage::getImageUrl)
-                    .orElse(null);
-
-            long likeCount = userPostLikeRepository.countByPostId(post.getId());
-            
-            // 해시태그 정보 조회
-            List<String> hashtags = hashTagService.getPostHashTagNames(post.getId());
-
-            return UserPostGalleryPageDto.builder()
-                    .postId(post.getId())
-                    .authorId(post.getUser().getId())
-                    .authorNickname(post.getUser().getNickname())
-                    .authorAvatarUrl(post.getUser().getProfileImagePath())
-                    .content(post.getContent())
-                    .thumbnailUrl(thumbnail)
-                    .likeCount(Long.valueOf(likeCount).intValue())
-                    .isPrivate(post.isPrivate())
-                    .isFollowersOnly(post.isFollowersOnly())
-                    .createdAt(post.getCreatedAt())
-                    .hashtags(hashtags)
-                    .locationName(post.getLocationName())
-                    .build();
-        });
+        return userPostGalleryAssembler.assemble(posts);
     }
     
     @Override
@@ -776,26 +831,57 @@ public class UserPostServiceImpl implements UserPostService {
     
     @Override
     @Transactional(readOnly = true)
-    public Page<UserPostGalleryPageDto> getFeedPosts(WebUser currentUser, Pageable pageable) {
+    public Slice<UserPostGalleryPageDto> getFeedPosts(WebUser currentUser, UUID cursor, Pageable pageable) {
         if (currentUser == null) {
             // 로그인하지 않은 사용자는 인기 게시물만 조회
             return getPopularPosts(null, pageable);
         }
-        
-        // 팔로우한 사용자 목록 조회
+
+        // 팔로워 타임라인 (팔로우한 사용자 + 셀럽 outbox + 인기 공개글) 에서 커서 이후 한 페이지만 조회
+        int skip = cursor == null ? (int) pageable.getOffset() : 0;
+        List<UserPostTimeline.Item> items;
+        try {
+            items = userPostTimeline.read(currentUser.getId(), cursor, skip, pageable.getPageSize());
+        } catch (Exception e) {
+            log.warn("⚠️ [TIMELINE] 타임라인 조회 실패, DB 조회로 대체: {}", e.getMessage());
+            return getFeedPostsFromDatabase(currentUser, pageable);
+        }
+
+        if (items.isEmpty() && cursor == null && skip == 0) {
+            // 팔로우한 사용자의 게시물이 없으면 인기 게시물만 조회
+            return getPopularPosts(currentUser, List.of(), pageable);
+        }
+
+        boolean hasNext = items.size() > pageable.getPageSize();
+        List<UserPostTimeline.Item> pageItems = hasNext ? items.subList(0, pageable.getPageSize()) : items;
+
+        // 타임라인 반영 이후 삭제되었거나 비밀글로 바뀐 게시물은 제외
+        UUID viewerId = currentUser.getId();
+        Map<UUID, UserPost> loaded = userPostRepository.findAllById(
+                        pageItems.stream().map(UserPostTimeline.Item::postId).toList()).stream()
+                .collect(Collectors.toMap(UserPost::getId, post -> post));
+        List<UserPost> posts = new ArrayList<>(pageItems.size());
+        for (UserPostTimeline.Item item : pageItems) {
+            UserPost post = loaded.get(item.postId());
+            if (post == null) {
+                continue;
+            }
+            boolean own = post.getUser().getId().equals(viewerId);
+            if (own || (!post.isPrivate() && (!post.isFollowersOnly() || item.followed()))) {
+                posts.add(post);
+            }
+        }
+
+        // 커서 방식이라 전체 개수는 세지 않음 → 다음 페이지 여부만 반환
+        return new SliceImpl<>(userPostGalleryAssembler.assemble(posts), pageable, hasNext);
+    }
+
+    private Page<UserPostGalleryPageDto> getFeedPostsFromDatabase(WebUser currentUser, Pageable pageable) {
         List<UUID> followingIds = followService.getFollowingIds(currentUser.getId());
-        
-        Page<UserPost> posts;
         if (followingIds.isEmpty()) {
-            // 팔로우한 사용자가 없으면 인기 게시물만 조회
-            posts = userPostRepository.findAccessiblePostsByPopularityScore(currentUser.getId(), pageable);
-        } else {
-            // 팔로우한 사용자의 게시물 + 인기 게시물 혼합
-            // popularityScore 임계값 (상위 20% 정도의 인기 게시물)
-            Double minPopularityScore = 0.6;
-            posts = userPostRepository.findFeedPosts(followingIds, currentUser.getId(), minPopularityScore, pageable);
+            return getPopularPosts(currentUser, followingIds, pageable);
         }
-        
-        return convertToGalleryDtos(posts);
+        return convertToGalleryDtos(
+                userPostRepository.findFollowingFeedPosts(followingIds, currentUser.getId(), pageable));
     }
 }
@@ -0,0 +1,496 @@
+package com.crimecat.backend.userPost.service;
+
+import com.crimecat.backend.follow.repository.FollowRepository;
+import com.crimecat.backend.userPost.dto.ITimelinePostDto;
+import com.crimecat.backend.userPost.repository.UserPostRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 팔로워 타임라인 (fan-out on write + 셀럽 pull 혼합)
+ * - 게시물 작성 시 팔로워별 Redis Sorted Set(게시물 ID → 작성 시각)에 push, 최대 maxSize 개만 유지
+ * - 팔로워가 많은 작성자(셀럽)는 push 대신 작성자 outbox 에만 쌓고, 조회 시 팔로우 중인 셀럽 outbox 를 합침
+ * - 조회는 커서(마지막 게시물) 이후 페이지 크기만큼만 각 목록에서 읽어 병합 (한 번의 파이프라인) → 팔로우 수와 무관
+ * - 타임라인이 없거나 만료되면 첫 조회 때 DB 에서 한 번 구성 (구성 중 들어온 fan-out 은 교체 시 함께 병합)
+ * - 팔로워가 기준의 demote 비율 아래로 줄어든 셀럽은 일반 작성자로 되돌림 (outbox → 팔로워 타임라인)
+ * - 커밋 후 갱신은 전용 스레드 풀에서 실행 (공용 ForkJoinPool 을 막지 않음)
+ */
+@Slf4j
+@Service
+public class UserPostTimeline {
+
+    private static final String TIMELINE_KEY_PREFIX = "userpost:timeline:";
+    private static final String BUILT_KEY_PREFIX = "userpost:timeline:built:";
+    private static final String CELEBS_KEY_PREFIX = "userpost:timeline:celebs:";
+    private static final String OUTBOX_KEY_PREFIX = "userpost:outbox:";
+    private static final String CELEBRITIES_KEY = "userpost:celebrities";
+    /** 같은 작성 시각(ms) 게시물이 커서 경계에 걸릴 때를 대비한 여유분 */
+    private static final int TIE_SLACK = 8;
+    /** 구성 시작 이전 작성 글이 커밋 지연으로 늦게 fan-out 되는 경우를 위한 병합 여유 (ms) */
+    private static final long REBUILD_MERGE_SLACK_MILLIS = 60_000;
+
+    /**
+     * 구성 결과(임시 키)로 교체하면서, 구성 중 fan-out 으로 들어온 최근 항목(ARGV[1] 이후 작성)을 함께 병합
+     * ARGV[2]: 최대 개수, ARGV[3]: TTL(초)
+     */
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+            local recent = redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[1], '+inf', 'WITHSCORES')
+            for i = 1, #recent, 2 do
+              redis.call('ZADD', KEYS[2], recent[i + 1], recent[i])
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+              redis.call('RENAME', KEYS[2], KEYS[1])
+              redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[2]) + 1))
+              redis.call('EXPIRE', KEYS[1], ARGV[3])
+            else
+              redis.call('DEL', KEYS[1])
+            end
+            return #recent / 2
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserPostRepository userPostRepository;
+    private final FollowRepository followRepository;
+    private final UserPostHotList userPostHotList;
+    private final int maxSize;
+    private final long celebrityThreshold;
+    private final long demoteThreshold;
+    private final int followBackfill;
+    private final Duration ttl;
+    private final ThreadPoolExecutor executor;
+
+    public UserPostTimeline(
+            RedisTemplate<String, String> redisTemplate,
+            UserPostRepository userPostRepository,
+            FollowRepository followRepository,
+            UserPostHotList userPostHotList,
+            @Value("${user-post.timeline.max-size:800}") int maxSize,
+            @Value("${user-post.timeline.celebrity-follower-threshold:5000}") long celebrityThreshold,
+            @Value("${user-post.timeline.celebrity-demote-ratio:0.8}") double demoteRatio,
+            @Value("${user-post.timeline.follow-backfill:50}") int followBackfill,
+            @Value("${user-post.timeline.ttl-days:7}") long ttlDays,
+            @Value("${user-post.timeline.executor.threads:4}") int executorThreads,
+            @Value("${user-post.timeline.executor.queue-capacity:1000}") int executorQueueCapacity) {
+        this.redisTemplate = redisTemplate;
+        this.userPostRepository = userPostRepository;
+        this.followRepository = followRepository;
+        this.userPostHotList = userPostHotList;
+        this.maxSize = maxSize;
+        this.celebrityThreshold = celebrityThreshold;
+        // 기준 근처에서 셀럽 전환/해제가 반복되지 않도록 해제 기준은 더 낮게
+        this.demoteThreshold = (long) (celebrityThreshold * demoteRatio);
+        this.followBackfill = followBackfill;
+        this.ttl = Duration.ofDays(ttlDays);
+        // 큐가 가득 차면 커밋한 스레드에서 실행 (배압, 갱신 유실 없음)
+        this.executor = new ThreadPoolExecutor(executorThreads, executorThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(executorQueueCapacity),
+                new CustomizableThreadFactory("UserPostTimeline-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 피드 항목
+     * @param followed 팔로우한 작성자의 글인지 (false 면 인기 목록에서 섞인 공개글)
+     */
+    public record Item(UUID postId, boolean followed) {
+    }
+
+    private record Candidate(UUID postId, double score, boolean followed) {
+    }
+
+    private static final Comparator<Candidate> NEWEST_FIRST = Comparator
+            .comparingDouble(Candidate::score).reversed()
+            .thenComparing(Candidate::postId, Comparator.reverseOrder());
+
+    // ===== 조회 =====
+
+    /**
+     * 커서 이후 피드 항목 (최신순, 다음 페이지 여부 확인용으로 최대 limit + 1 개)
+     * @param cursor 이전 페이지 마지막 게시물 ID (null 이면 처음부터)
+     * @param skip 커서 이후 건너뛸 개수 (오프셋 페이지용)
+     * @throws DataAccessException Redis 장애 시 (호출 측이 DB 조회로 대체)
+     */
+    public List<Item> read(UUID viewerId, UUID cursor, int skip, int limit) {
+        ensureBuilt(viewerId);
+
+        // 커서 점수 + 조회 대상 셀럽 목록 (한 번의 왕복)
+        String timelineKey = timelineKey(viewerId);
+        List<Object> heads = executePipelined(ops -> {
+            ops.opsForSet().members(celebsKey(viewerId));
+            if (cursor != null) {
+                ops.opsForZSet().score(timelineKey, cursor.toString());
+            }
+        });
+        @SuppressWarnings("unchecked")
+        Set<String> celebs = (Set<String>) heads.get(0);
+
+        double maxScore = Double.POSITIVE_INFINITY;
+        if (cursor != null) {
+            Double cursorScore = (Double) heads.get(1);
+            if (cursorScore == null) {
+                // 셀럽/인기 목록에서 온 게시물이거나 타임라인에서 밀려난 경우
+                cursorScore = userPostRepository.findCreatedAtById(cursor)
+                        .map(UserPostTimeline::toScore)
+                        .orElse(null);
+            }
+            if (cursorScore == null) {
+                return List.of(); // 커서 게시물이 삭제됨
+            }
+            maxScore = cursorScore;
+        }
+
+        // 타임라인 + 셀럽 outbox 를 한 번의 파이프라인으로 조회
+        long fetch = (long) skip + limit + 1 + TIE_SLACK;
+        List<String> keys = new ArrayList<>();
+        keys.add(timelineKey);
+        if (celebs != null) {
+            celebs.forEach(celebId -> keys.add(outboxKey(celebId)));
+        }
+        double rangeMax = maxScore;
+        List<Object> ranges = executePipelined(ops -> {
+            for (String key : keys) {
+                ops.opsForZSet().reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, rangeMax, 0, fetch);
+            }
+        });
+        Map<UUID, Candidate> candidates = new HashMap<>();
+        for (Object range : ranges) {
+            @SuppressWarnings("unchecked")
+            Set<TypedTuple<String>> tuples = (Set<TypedTuple<String>>) range;
+            collect(candidates, tuples);
+        }
+        // 인기 공개글은 작성 시각 순 사본에서 커서 이후 fetch 개만
+        for (UserPostHotList.Entry entry : userPostHotList.recentPublicEntries(maxScore, fetch)) {
+            candidates.putIfAbsent(entry.postId(), new Candidate(entry.postId(), entry.createdAt(), false));
+        }
+
+        double max = maxScore;
+        return candidates.values().stream()
+                .filter(c -> cursor == null || c.score() < max || (c.score() == max && c.postId().compareTo(cursor) < 0))
+                .sorted(NEWEST_FIRST)
+                .skip(skip)
+                .limit(limit + 1L)
+                .map(c -> new Item(c.postId(), c.followed()))
+                .toList();
+    }
+
+    private void collect(Map<UUID, Candidate> candidates, Set<TypedTuple<String>> tuples) {
+        if (tuples == null) {
+            return;
+        }
+        for (TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() == null || tuple.getScore() == null) {
+                continue;
+            }
+            UUID postId = UUID.fromString(tuple.getValue());
+            candidates.put(postId, new Candidate(postId, tuple.getScore(), true));
+        }
+    }
+
+    // ===== 게시물 / 팔로우 변경 (커밋 후 반영) =====
+
+    /**
+     * 새 게시물을 팔로워 타임라인 또는 작성자 outbox 에 추가 (비밀글 제외)
+     */
+    public void publish(UUID postId, UUID authorId, LocalDateTime createdAt, boolean isPrivate) {
+        if (isPrivate) {
+            return;
+        }
+        double score = toScore(createdAt != null ? createdAt : LocalDateTime.now());
+        afterCommitAsync(() -> fanOut(postId.toString(), authorId, score));
+    }
+
+    /**
+     * 삭제된 게시물을 작성자 outbox 에서 제거 (팔로워 타임라인은 조회 시 건너뛰고 밀려나며 정리됨)
+     */
+    public void remove(UUID postId, UUID authorId) {
+        afterCommitAsync(() -> redisTemplate.opsForZSet().remove(outboxKey(authorId.toString()), postId.toString()));
+    }
+
+    /**
+     * 팔로우 시 대상의 최근 게시물을 타임라인에 채움 (셀럽이면 조회 대상 outbox 목록에만 추가)
+     */
+    public void onFollow(UUID followerId, UUID followingId) {
+        afterCommitAsync(() -> {
+            if (!isBuilt(followerId)) {
+                return; // 다음 조회 때 DB 에서 구성
+            }
+            if (Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(CELEBRITIES_KEY, followingId.toString()))) {
+                redisTemplate.opsForSet().add(celebsKey(followerId), followingId.toString());
+                return;
+            }
+            List<ITimelinePostDto> posts = userPostRepository.findTimelinePosts(
+                    List.of(followingId), PageRequest.of(0, followBackfill));
+            if (!posts.isEmpty()) {
+                String key = timelineKey(followerId);
+                redisTemplate.opsForZSet().add(key, toTuples(posts));
+                redisTemplate.opsForZSet().removeRange(key, 0, -(maxSize + 1L));
+            }
+        });
+    }
+
+    /**
+     * 언팔로우 시 대상의 게시물을 타임라인에서 제거
+     */
+    public void onUnfollow(UUID followerId, UUID followingId) {
+        afterCommitAsync(() -> {
+            if (!isBuilt(followerId)) {
+                return;
+            }
+            redisTemplate.opsForSet().remove(celebsKey(followerId), followingId.toString());
+            List<UUID> postIds = userPostRepository.findRecentPostIdsByAuthor(followingId, PageRequest.of(0, maxSize));
+            if (!postIds.isEmpty()) {
+                redisTemplate.opsForZSet().remove(timelineKey(followerId),
+                        postIds.stream().map(UUID::toString).toArray());
+            }
+        });
+    }
+
+    private void fanOut(String member, UUID authorId, double score) {
+        long followerCount = followRepository.countByFollowingId(authorId);
+        boolean celebrity = Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(CELEBRITIES_KEY, authorId.toString()));
+        if (followerCount >= celebrityThreshold || (celebrity && followerCount >= demoteThreshold)) {
+            String outbox = outboxKey(authorId.toString());
+            if (!celebrity) {
+                Long added = redisTemplate.opsForSet().add(CELEBRITIES_KEY, authorId.toString());
+                if (added != null && added > 0) {
+                    promote(authorId);
+                }
+            }
+            redisTemplate.opsForZSet().add(outbox, member, score);
+            redisTemplate.opsForZSet().removeRange(outbox, 0, -(maxSize + 1L));
+            return;
+        }
+        if (celebrity) {
+            demote(authorId);
+        }
+
+        List<UUID> followerIds = followRepository.findFollowerIdsByUserId(authorId);
+        if (followerIds.isEmpty()) {
+            return;
+        }
+        executePipelined(ops -> {
+            for (UUID followerId : followerIds) {
+                String key = timelineKey(followerId);
+                ops.opsForZSet().add(key, member, score);
+                ops.opsForZSet().removeRange(key, 0, -(maxSize + 1L));
+                ops.expire(key, ttl);
+            }
+        });
+        log.debug("📮 [TIMELINE] fan-out 완료 - author: {}, followers: {}", authorId, followerIds.size());
+    }
+
+    /**
+     * 셀럽이 된 작성자: 최근 게시물로 outbox 를 채우고 팔로워들의 조회 대상에 추가 (한 번만 수행)
+     */
+    private void promote(UUID authorId) {
+        List<ITimelinePostDto> posts = userPostRepository.findTimelinePosts(
+                List.of(authorId), PageRequest.of(0, maxSize));
+        if (!posts.isEmpty()) {
+            redisTemplate.opsForZSet().add(outboxKey(authorId.toString()), toTuples(posts));
+        }
+        List<UUID> followerIds = followRepository.findFollowerIdsByUserId(authorId);
+        executePipelined(ops -> {
+            for (UUID followerId : followerIds) {
+                String key = celebsKey(followerId);
+                ops.opsForSet().add(key, authorId.toString());
+                ops.expire(key, ttl);
+            }
+        });
+        log.info("⭐ [TIMELINE] 셀럽 전환 - author: {}, followers: {}", authorId, followerIds.size());
+    }
+
+    /**
+     * 팔로워가 해제 기준 아래로 줄어든 셀럽을 일반 작성자로 되돌림 (새 글이 없는 셀럽도 정리)
+     */
+    @Scheduled(cron = "${user-post.timeline.celebrity-review.cron:0 20 * * * *}")
+    public void reviewCelebrities() {
+        Set<String> celebrities = redisTemplate.opsForSet().members(CELEBRITIES_KEY);
+        if (celebrities == null) {
+            return;
+        }
+        for (String celebId : celebrities) {
+            try {
+                UUID authorId = UUID.fromString(celebId);
+                if (followRepository.countByFollowingId(authorId) < demoteThreshold) {
+                    demote(authorId);
+                }
+            } catch (Exception e) {
+                log.warn("⚠️ [TIMELINE] 셀럽 해제 실패 - author: {}, error: {}", celebId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 셀럽 해제: outbox 의 최근 게시물을 팔로워 타임라인으로 옮기고 조회 대상 목록에서 제거 (한 번만 수행)
+     */
+    private void demote(UUID authorId) {
+        Long removed = redisTemplate.opsForSet().remove(CELEBRITIES_KEY, authorId.toString());
+        if (removed == null || removed == 0) {
+            return;
+        }
+        String outbox = outboxKey(authorId.toString());
+        Set<TypedTuple<String>> recent = redisTemplate.opsForZSet().reverseRangeWithScores(outbox, 0, followBackfill - 1L);
+        List<UUID> followerIds = followRepository.findFollowerIdsByUserId(authorId);
+        executePipelined(ops -> {
+            for (UUID followerId : followerIds) {
+                ops.opsForSet().remove(celebsKey(followerId), authorId.toString());
+                if (recent != null && !recent.isEmpty()) {
+                    String key = timelineKey(followerId);
+                    ops.opsForZSet().add(key, recent);
+                    ops.opsForZSet().removeRange(key, 0, -(maxSize + 1L));
+                    ops.expire(key, ttl);
+                }
+            }
+        });
+        redisTemplate.delete(outbox);
+        log.info("⭐ [TIMELINE] 셀럽 해제 - author: {}, followers: {}", authorId, followerIds.size());
+    }
+
+    // ===== 구성 =====
+
+    private boolean isBuilt(UUID userId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(builtKey(userId)));
+    }
+
+    /**
+     * 타임라인이 없으면 팔로우 목록으로 한 번 구성 (이후에는 fan-out 으로만 갱신)
+     * - 교체 시 구성 시작 이후 fan-out 된 항목은 기존 키에서 병합 (DB 조회와 RENAME 사이 push 유실 방지)
+     */
+    private void ensureBuilt(UUID userId) {
+        if (isBuilt(userId)) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        List<UUID> followingIds = followRepository.findFollowingIdsByUserId(userId);
+        Set<String> celebrities = redisTemplate.opsForSet().members(CELEBRITIES_KEY);
+        List<String> followedCelebs = new ArrayList<>();
+        List<UUID> regular = new ArrayList<>();
+        for (UUID followingId : followingIds) {
+            if (celebrities != null && celebrities.contains(followingId.toString())) {
+                followedCelebs.add(followingId.toString());
+            } else {
+                regular.add(followingId);
+            }
+        }
+        List<ITimelinePostDto> posts = regular.isEmpty()
+                ? List.of()
+                : userPostRepository.findTimelinePosts(regular, PageRequest.of(0, maxSize));
+
+        String key = timelineKey(userId);
+        String tempKey = key + ":rebuild";
+        redisTemplate.delete(tempKey);
+        if (!posts.isEmpty()) {
+            redisTemplate.opsForZSet().add(tempKey, toTuples(posts));
+        }
+        redisTemplate.execute(REPLACE_SCRIPT, List.of(key, tempKey),
+                String.valueOf(startedAt - REBUILD_MERGE_SLACK_MILLIS), String.valueOf(maxSize),
+                String.valueOf(ttl.toSeconds()));
+        String celebsKey = celebsKey(userId);
+        redisTemplate.delete(celebsKey);
+        if (!followedCelebs.isEmpty()) {
+            redisTemplate.opsForSet().add(celebsKey, followedCelebs.toArray(String[]::new));
+            redisTemplate.expire(celebsKey, ttl);
+        }
+        redisTemplate.opsForValue().set(builtKey(userId), "1", ttl);
+        log.debug("📮 [TIMELINE] 구성 완료 - user: {}, posts: {}, celebs: {}", userId, posts.size(), followedCelebs.size());
+    }
+
+    // ===== 공통 =====
+
+    private Set<TypedTuple<String>> toTuples(Collection<ITimelinePostDto> posts) {
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        for (ITimelinePostDto post : posts) {
+            tuples.add(new DefaultTypedTuple<>(post.getId().toString(), toScore(post.getCreatedAt())));
+        }
+        return tuples;
+    }
+
+    private List<Object> executePipelined(Consumer<RedisOperations<String, String>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+
+    private void afterCommitAsync(Runnable update) {
+        Runnable safeUpdate = () -> executor.execute(() -> {
+            try {
+                update.run();
+            } catch (Exception e) {
+                // 타임라인 만료 후 재구성 시 보정됨
+                log.warn("⚠️ [TIMELINE] 갱신 실패: {}", e.getMessage());
+            }
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeUpdate.run();
+                }
+            });
+        } else {
+            safeUpdate.run();
+        }
+    }
+
+    private static double toScore(LocalDateTime createdAt) {
+        return createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String timelineKey(UUID userId) {
+        return TIMELINE_KEY_PREFIX + userId;
+    }
+
+    private static String builtKey(UUID userId) {
+        return BUILT_KEY_PREFIX + userId;
+    }
+
+    private static String celebsKey(UUID userId) {
+        return CELEBS_KEY_PREFIX + userId;
+    }
+
+    private static String outboxKey(String authorId) {
+        return OUTBOX_KEY_PREFIX + authorId;
+    }
+}
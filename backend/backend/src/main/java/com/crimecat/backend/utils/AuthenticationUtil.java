@@ -1,5 +1,7 @@
 package com.crimecat.backend.utils;
 
+import com.crimecat.backend.auth.jwt.AuthenticatedPrincipal;
+import com.crimecat.backend.auth.jwt.PrincipalAuthenticationToken;
 import com.crimecat.backend.user.domain.DiscordUser;
 import com.crimecat.backend.user.domain.User;
 import com.crimecat.backend.exception.CrimeCatException;
@@ -16,6 +18,8 @@ import org.springframework.stereotype.Component;
 
 /**
  * 현재 인증된 사용자의 정보를 쉽게 가져오기 위한 유틸리티 클래스
+ * - ID / 역할 / 닉네임 / 인증 여부는 토큰의 스냅샷(AuthenticatedPrincipal)으로 판단해 DB 를 조회하지 않음
+ * - WebUser 엔티티가 꼭 필요한 경우에만 getCurrentWebUser() 로 조회
  */
 @Component
 @Slf4j
@@ -24,6 +28,7 @@ public class AuthenticationUtil {
   /**
    * 현재 인증된 사용자의 WebUser 객체를 반환합니다.
    * 인증되지 않은 사용자이거나 타입이 맞지 않으면 에러를 발생시킵니다.
+   * JWT 인증 요청에서는 요청당 한 번 DB 에서 엔티티를 조회하므로 ID/역할만 필요하면 getCurrentPrincipal() 을 사용합니다.
    *
    * @return 인증된 사용자의 WebUser 객체
    * @throws CrimeCatException 인증되지 않았거나 유효하지 않은 사용자
@@ -61,8 +66,53 @@ public class AuthenticationUtil {
     }
   }
 
+  /**
+   * 현재 인증된 사용자의 스냅샷을 반환합니다. (DB 조회 없음)
+   *
+   * @return 인증된 사용자의 스냅샷
+   * @throws CrimeCatException 인증되지 않은 사용자
+   */
+  public static AuthenticatedPrincipal getCurrentPrincipal() {
+    return getCurrentPrincipalOptional()
+        .orElseThrow(ErrorStatus.UNAUTHORIZED::asException);
+  }
+
+  /**
+   * 현재 인증된 사용자의 스냅샷을 Optional 로 반환합니다. (DB 조회 없음)
+   * - JWT 인증: 토큰에 담긴 스냅샷
+   * - 그 외(OAuth2 로그인 직후 등) WebUser 가 principal 인 인증: 해당 엔티티에서 생성
+   *
+   * @return 인증된 사용자의 스냅샷을 감싼 Optional
+   */
+  public static Optional<AuthenticatedPrincipal> getCurrentPrincipalOptional() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+    if (authentication == null || !authentication.isAuthenticated()) {
+      return Optional.empty();
+    }
+
+    if (authentication instanceof PrincipalAuthenticationToken token) {
+      return Optional.of(token.getSnapshot());
+    }
+
+    if (authentication.getPrincipal() instanceof WebUser webUser) {
+      return Optional.of(AuthenticatedPrincipal.of(webUser));
+    }
+
+    return Optional.empty();
+  }
+
   public static UUID getCurrentWebUserId() {
-    return getCurrentWebUser().getId();
+    return getCurrentPrincipal().id();
+  }
+
+  /**
+   * 현재 인증된 사용자의 역할을 반환합니다. (DB 조회 없음)
+   *
+   * @return 인증된 사용자의 역할
+   */
+  public static UserRole getCurrentWebUserRole() {
+    return getCurrentPrincipal().role();
   }
 
   public static Optional<WebUser> getCurrentWebUserOptional() {
@@ -82,7 +132,7 @@ public class AuthenticationUtil {
   }
 
   public static Optional<UUID> getCurrentWebUserIdOptional() {
-    return getCurrentWebUserOptional().map(WebUser::getId);
+    return getCurrentPrincipalOptional().map(AuthenticatedPrincipal::id);
   }
 
   /**
@@ -111,9 +161,7 @@ public class AuthenticationUtil {
    * @return 인증 여부
    */
   public static boolean isAuthenticated() {
-    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-    return authentication != null && authentication.isAuthenticated() &&
-        authentication.getPrincipal() instanceof WebUser;
+    return getCurrentPrincipalOptional().isPresent();
   }
 
   /**
@@ -123,9 +171,7 @@ public class AuthenticationUtil {
    * @param userId 웹에서 전달받은 사용자 ID
    */
   public static void validateCurrentUserMatches(UUID userId) {
-    WebUser currentUser = getCurrentWebUser();
-
-    if (!currentUser.getId().equals(userId)) {
+    if (!getCurrentWebUserId().equals(userId)) {
       throw ErrorStatus.FORBIDDEN.asException();
     }
   }
@@ -171,17 +217,18 @@ public class AuthenticationUtil {
    * @param userId 웹에서 전달받은 사용자 ID
    */
   public static void validateAdminOrSameUser(UUID userId) {
-    WebUser currentUser = getCurrentWebUser();
+    UUID currentUserId = getCurrentWebUserId();
     boolean isAdmin = SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
         .anyMatch(authority -> authority.getAuthority().equals("ROLE_" + UserRole.ADMIN.name()));
 
-    if (!isAdmin && !currentUser.getId().equals(userId)) {
+    if (!isAdmin && !currentUserId.equals(userId)) {
       throw ErrorStatus.FORBIDDEN.asException();
     }
   }
 
   /**
    * 현재 사용자가 해당 스노우플레이크의 소유자인지 확인합니다.
+   * (디스코드 연동 정보는 스냅샷에 없으므로 엔티티를 조회)
    *
    * @param snowflake 길드 소유자 ID
    */
@@ -200,8 +247,7 @@ public class AuthenticationUtil {
    * @param minimumRole 최소 필요 역할
    */
   public static void validateUserHasMinimumRole(UserRole minimumRole) {
-    WebUser currentUser = getCurrentWebUser();
-    UserRole userRole = currentUser.getRole();
+    UserRole userRole = getCurrentWebUserRole();
 
     // UserRole enum의 순서가 USER, MANAGER, ADMIN이라고 가정
     // ordinal 값이 클수록 권한이 높음
@@ -218,15 +264,15 @@ public class AuthenticationUtil {
    * @param minimumRole 이 역할 이상만 다른 사용자 데이터에 접근 가능
    */
   public static void validateSelfOrHasRole(UUID userId, UserRole minimumRole) {
-    WebUser currentUser = getCurrentWebUser();
+    AuthenticatedPrincipal currentUser = getCurrentPrincipal();
 
     // 본인의 데이터면 접근 허용
-    if (currentUser.getId().equals(userId)) {
+    if (currentUser.id().equals(userId)) {
       return;
     }
 
     // 본인이 아니라면 최소 역할 확인
-    UserRole userRole = currentUser.getRole();
+    UserRole userRole = currentUser.role();
     if (userRole.ordinal() < minimumRole.ordinal()) {
       throw ErrorStatus.FORBIDDEN.asException();
     }
@@ -266,10 +312,8 @@ public class AuthenticationUtil {
    * @param minimumRole 필요한 최소 권한 (기본: MANAGER)
    */
   public static void validateEventAccess(UUID eventCreatorId, UserRole minimumRole) {
-    WebUser currentUser = getCurrentWebUser();
-    
     // 본인이면 접근 허용
-    if (currentUser.getId().equals(eventCreatorId)) {
+    if (getCurrentWebUserId().equals(eventCreatorId)) {
       return;
     }
     
@@ -332,12 +376,9 @@ public class AuthenticationUtil {
    * @return 생성자 여부
    */
   public static boolean isEventCreator(UUID eventCreatorId) {
-    try {
-      WebUser currentUser = getCurrentWebUser();
-      return currentUser.getId().equals(eventCreatorId);
-    } catch (Exception e) {
-      return false;
-    }
+    return getCurrentWebUserIdOptional()
+        .map(id -> id.equals(eventCreatorId))
+        .orElse(false);
   }
 
   /**
@@ -347,12 +388,8 @@ public class AuthenticationUtil {
    * @return 권한 보유 여부
    */
   public static boolean hasMinimumRole(UserRole minimumRole) {
-    try {
-      WebUser currentUser = getCurrentWebUser();
-      UserRole userRole = currentUser.getRole();
-      return userRole.ordinal() >= minimumRole.ordinal();
-    } catch (Exception e) {
-      return false;
-    }
+    return getCurrentPrincipalOptional()
+        .map(principal -> principal.role().ordinal() >= minimumRole.ordinal())
+        .orElse(false);
   }
   }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.crimecat.backend.utils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis 단일 키 잠금
+ * - 획득 시 잠금 값으로 임의 토큰을 저장하고, 해제는 토큰이 같을 때만 삭제 (Lua compare-and-delete)
+ * - TTL 이 지나 다른 인스턴스가 다시 획득한 잠금을 이전 소유자가 지우지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisLockService {
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 잠금 획득
+     * @return 해제에 사용할 토큰 (이미 잠겨 있으면 null)
+     */
+    public String tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(locked) ? token : null;
+    }
+
+    /**
+     * 토큰이 일치할 때만 잠금 해제
+     * @return 해제했으면 true (TTL 만료 후 다른 소유자가 잡은 잠금이면 false)
+     */
+    public boolean unlock(String key, String token) {
+        if (token == null) {
+            return false;
+        }
+        try {
+            Long deleted = redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+            if (deleted == null || deleted == 0) {
+                log.warn("⚠️ [REDIS_LOCK] 잠금이 만료되어 다른 소유자에게 넘어감 - key: {}", key);
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            // 해제 실패 시 TTL 로 만료
+            log.warn("⚠️ [REDIS_LOCK] 잠금 해제 실패 - key: {}", key, e);
+            return false;
+        }
+    }
+}
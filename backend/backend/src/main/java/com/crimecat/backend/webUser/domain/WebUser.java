@@ -1,11 +1,13 @@
 package com.crimecat.backend.webUser.domain;
 
+import com.crimecat.backend.auth.service.AuthenticatedUserCacheListener;
 import com.crimecat.backend.user.domain.User;
 import com.crimecat.backend.webUser.dto.WebUserProfileEditRequestDto;
 import com.crimecat.backend.webUser.enums.LoginMethod;
 import com.crimecat.backend.webUser.enums.UserRole;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -35,6 +37,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
 @Entity
+@EntityListeners(AuthenticatedUserCacheListener.class)
 @Table(name = "web_users")
 @Getter
 @Setter
@@ -1,5 +1,7 @@
 package com.crimecat.backend.webUser.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -37,4 +39,11 @@ public interface WebUserRepository extends JpaRepository<WebUser, UUID> {
     Page<WebUser> findByDiscordUserSnowflake(String discordSnowflake, Pageable pageable);
 
     Optional<WebUser> findByDiscordUserSnowflake(String discordUserSnowflake);
+
+    /**
+     * 목록 화면용 작성자 요약 일괄 조회 (엔티티 로딩 없이 필요한 컬럼만)
+     * @return [id, nickname, profileImagePath] 목록
+     */
+    @Query("SELECT w.id, w.nickname, w.profileImagePath FROM WebUser w WHERE w.id IN :ids")
+    List<Object[]> findAuthorSummariesByIds(@Param("ids") Collection<UUID> ids);
 }
@@ -1,5 +1,6 @@
 package com.crimecat.backend.webUser.service;
 
+import com.crimecat.backend.auth.service.AuthenticatedUserCache;
 import com.crimecat.backend.exception.ErrorStatus;
 import com.crimecat.backend.gameHistory.repository.GameHistoryRepository;
 import com.crimecat.backend.gametheme.domain.MakerTeam;
@@ -53,6 +54,7 @@ public class WebUserService {
     private final StorageService storageService;
     private final GameHistoryRepository gameHistoryRepository;
     private final MakerTeamRepository makerTeamRepository;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
 
     public ResponseEntity<Map<String, Object>> isDailyCheck(String userId) {
@@ -133,6 +135,7 @@ public class WebUserService {
       }
         }
         webUserRepository.save(webUser);
+        authenticatedUserCache.evict(webUser.getId());
     }
 
     @Transactional(readOnly = true)
@@ -272,6 +275,7 @@ public class WebUserService {
         WebUser webUser = webUserRepository.findById(UUID.fromString(userId))
             .orElseThrow(ErrorStatus.USER_NOT_FOUND::asServiceException);
         alarmType.apply(webUser,body);
+        authenticatedUserCache.evict(webUser.getId());
         return NotificationSettingsResponseDto.from(webUser);
         }
 
@@ -406,6 +410,7 @@ public class WebUserService {
         
         webUser.setRole(newRole);
         WebUser savedUser = webUserRepository.save(webUser);
+        authenticatedUserCache.evict(userId);
         
         return WebUserResponse.from(savedUser);
     }
@@ -423,6 +428,7 @@ public class WebUserService {
         webUser.setBlockReason("관리자에 의한 차단"); // 기본 사유
         webUser.setBlockExpiresAt(null); // 영구 차단
         WebUser savedUser = webUserRepository.save(webUser);
+        authenticatedUserCache.evict(savedUser.getId());
         
         return WebUserResponse.from(savedUser);
     }
@@ -441,6 +447,7 @@ public class WebUserService {
         webUser.setBlockExpiresAt(request.getBlockExpiresAt());
         
         WebUser savedUser = webUserRepository.save(webUser);
+        authenticatedUserCache.evict(savedUser.getId());
         
         return WebUserResponse.from(savedUser);
     }
@@ -470,6 +477,7 @@ public class WebUserService {
         webUser.setBlockExpiresAt(null);
         
         WebUser savedUser = webUserRepository.save(webUser);
+        authenticatedUserCache.evict(savedUser.getId());
         
         return WebUserResponse.from(savedUser);
     }
@@ -493,6 +501,7 @@ public class WebUserService {
                 webUser.setBlockExpiresAt(null);
                 
                 webUserRepository.save(webUser);
+                authenticatedUserCache.evict(webUser.getId());
                 log.info("사용자 {} 의 차단이 만료되어 자동으로 해제되었습니다.", webUser.getNickname());
             }
         });
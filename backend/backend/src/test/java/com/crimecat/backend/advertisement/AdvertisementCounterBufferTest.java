@@ -0,0 +1,202 @@
+package com.crimecat.backend.advertisement;
+
+import com.crimecat.backend.advertisement.domain.AdvertisementCounterType;
+import com.crimecat.backend.advertisement.repository.AdvertisementCounterJdbcRepository;
+import com.crimecat.backend.advertisement.service.AdvertisementCounterBuffer;
+import com.crimecat.backend.config.CacheType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.Invocation;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class AdvertisementCounterBufferTest {
+
+    private static final int CLICK = AdvertisementCounterType.CLICK.ordinal();
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 클릭하고 flush 가 계속 돌아도 증분이 유실되지 않음")
+    void record_NoLostIncrementsUnderConcurrentFlush() throws Exception {
+        // Given
+        AdvertisementCounterJdbcRepository repository = mock(AdvertisementCounterJdbcRepository.class);
+        Map<UUID, LongAdder> persisted = new ConcurrentHashMap<>();
+        AtomicInteger flushCalls = new AtomicInteger();
+        doAnswer(invocation -> {
+            Map<UUID, long[]> deltas = invocation.getArgument(0);
+            flushCalls.incrementAndGet();
+            deltas.forEach((id, delta) -> persisted.computeIfAbsent(id, k -> new LongAdder()).add(delta[CLICK]));
+            return deltas.size();
+        }).when(repository).addCounts(anyMap());
+        AdvertisementCounterBuffer buffer = new AdvertisementCounterBuffer(repository, mock(CacheManager.class), 10_000);
+
+        List<UUID> adIds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            adIds.add(UUID.randomUUID());
+        }
+        int threads = 32;
+        int clicksPerThread = 5_000;
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean clicking = new AtomicBoolean(true);
+        executor.submit(() -> {
+            // 클릭 도중 계속 flush (유휴 키 정리 포함)
+            while (clicking.get()) {
+                buffer.flush();
+                Thread.sleep(1);
+            }
+            return null;
+        });
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < clicksPerThread; i++) {
+                    buffer.record(AdvertisementCounterType.CLICK, adIds.get((offset + i) % adIds.size()));
+                }
+                done.countDown();
+                return null;
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        clicking.set(false);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        buffer.flushOnShutdown();
+
+        // Then
+        long total = persisted.values().stream().mapToLong(LongAdder::sum).sum();
+        assertEquals((long) threads * clicksPerThread, total);
+        for (UUID adId : adIds) {
+            assertEquals((long) threads * clicksPerThread / adIds.size(), persisted.get(adId).sum());
+        }
+        // 클릭 수가 아니라 flush 횟수만큼만 DB 호출
+        assertTrue(flushCalls.get() < threads * clicksPerThread / 10, "flush calls: " + flushCalls.get());
+    }
+
+    @Test
+    @DisplayName("flush 한 번의 SQL 수는 광고 500개당 UPDATE 한 문장 + 신청자 조회 한 문장")
+    void flush_BoundedStatementsPerFlush() {
+        // Given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        AdvertisementCounterBuffer buffer = new AdvertisementCounterBuffer(
+                new AdvertisementCounterJdbcRepository(jdbcTemplate), mock(CacheManager.class), 10_000);
+        for (int i = 0; i < 1_200; i++) {
+            UUID adId = UUID.randomUUID();
+            for (int click = 0; click < 10; click++) {
+                buffer.record(AdvertisementCounterType.CLICK, adId);
+            }
+        }
+
+        // When
+        buffer.flush();
+
+        // Then
+        Collection<Invocation> statements = mockingDetails(jdbcTemplate).getInvocations();
+        assertEquals(6, statements.size());
+        int updates = 0;
+        for (Invocation statement : statements) {
+            String sql = statement.getArgument(0);
+            if (sql.startsWith("UPDATE theme_advertisement_requests SET click_count = click_count + CASE id")) {
+                updates++;
+            } else {
+                assertTrue(sql.startsWith("SELECT DISTINCT user_id FROM theme_advertisement_requests WHERE id IN"));
+            }
+        }
+        assertEquals(3, updates);
+
+        // 새 기록이 없으면 DB 호출 없음
+        clearInvocations(jdbcTemplate);
+        buffer.flush();
+        assertEquals(0, mockingDetails(jdbcTemplate).getInvocations().size());
+    }
+
+    @Test
+    @DisplayName("flush 후 반영된 광고 통계 / 신청자별 통계 / 플랫폼 통계 캐시만 삭제")
+    void flush_EvictStatsCachesOfFlushedAds() {
+        // Given
+        AdvertisementCounterJdbcRepository repository = mock(AdvertisementCounterJdbcRepository.class);
+        UUID adId = UUID.randomUUID();
+        UUID ownerId = UUID.randomUUID();
+        when(repository.addCounts(anyMap())).thenReturn(1);
+        when(repository.findUserIds(Set.of(adId))).thenReturn(Set.of(ownerId));
+        CacheManager cacheManager = mock(CacheManager.class);
+        Map<String, Cache> caches = new HashMap<>();
+        when(cacheManager.getCache(anyString())).thenAnswer(invocation ->
+                caches.computeIfAbsent(invocation.getArgument(0), name -> mock(Cache.class)));
+        AdvertisementCounterBuffer buffer = new AdvertisementCounterBuffer(repository, cacheManager, 10_000);
+
+        // When
+        buffer.record(AdvertisementCounterType.CLICK, adId);
+        buffer.record(AdvertisementCounterType.CLICK, adId);
+        buffer.flush();
+
+        // Then
+        verify(caches.get(CacheType.THEME_AD_STATS)).evict(adId);
+        verify(caches.get(CacheType.THEME_AD_USER_STATS)).evict(ownerId);
+        verify(caches.get(CacheType.THEME_AD_USER_SUMMARY)).evict(ownerId);
+        verify(caches.get(CacheType.THEME_AD_USER_REQUESTS)).evict(ownerId);
+        verify(caches.get(CacheType.THEME_AD_PLATFORM_STATS)).evict(SimpleKey.EMPTY);
+        assertFalse(caches.containsKey(CacheType.THEME_AD_ACTIVE));
+        assertFalse(caches.containsKey(CacheType.THEME_AD_ACTIVE_CAROUSEL));
+
+        // 새 기록이 없으면 캐시도 건드리지 않음
+        caches.values().forEach(cache -> clearInvocations(cache));
+        buffer.flush();
+        caches.values().forEach(cache -> verifyNoInteractions(cache));
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 증분을 되돌려 다음 flush 에서 재시도")
+    void flush_RestoreOnFailure() {
+        // Given
+        AdvertisementCounterJdbcRepository repository = mock(AdvertisementCounterJdbcRepository.class);
+        List<Long> flushed = new ArrayList<>();
+        doThrow(new RuntimeException("db down"))
+                .doAnswer(invocation -> {
+                    Map<UUID, long[]> deltas = invocation.getArgument(0);
+                    deltas.values().forEach(delta -> flushed.add(delta[CLICK]));
+                    return deltas.size();
+                })
+                .when(repository).addCounts(anyMap());
+        AdvertisementCounterBuffer buffer = new AdvertisementCounterBuffer(repository, mock(CacheManager.class), 10_000);
+        UUID adId = UUID.randomUUID();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            buffer.record(AdvertisementCounterType.CLICK, adId);
+        }
+        buffer.flush();
+        buffer.record(AdvertisementCounterType.CLICK, adId);
+        buffer.flush();
+
+        // Then
+        assertEquals(List.of(6L), flushed);
+    }
+}
@@ -0,0 +1,170 @@
+package com.crimecat.backend.api.discord;
+
+import com.crimecat.backend.guild.dto.web.ApiGetGuildInfoDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 Discord 스텁(JDK HttpServer) 을 상대로 한 DiscordBotApi 테스트
+ * - /guilds/{id} 는 LATENCY_MS 만큼 지연 후 응답하고 X-RateLimit-* 헤더를 내려줌
+ */
+class DiscordBotApiTest {
+
+    private static final long LATENCY_MS = 100;
+    /** discord.api.max-concurrency 기본값 */
+    private static final int MAX_CONCURRENCY = 8;
+    private static final String OWNER_ID = "owner-1";
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    /** 길드 ID → 응답에 실을 X-RateLimit-Remaining (없으면 넉넉하게) */
+    private final Map<String, String> remainingByGuild = new ConcurrentHashMap<>();
+    private DiscordBotApi discordBotApi;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        executor = Executors.newFixedThreadPool(64);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/guilds/", this::handleGuild);
+        server.setExecutor(executor);
+        server.start();
+        discordBotApi = new DiscordBotApi("test-token", "http://localhost:" + server.getAddress().getPort(), MAX_CONCURRENCY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleGuild(HttpExchange exchange) throws IOException {
+        String guildId = exchange.getRequestURI().getPath().substring("/guilds/".length());
+        hits.computeIfAbsent(guildId, k -> new AtomicInteger()).incrementAndGet();
+        try {
+            Thread.sleep(LATENCY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = ("{\"id\":\"" + guildId + "\",\"name\":\"guild-" + guildId
+                + "\",\"owner_id\":\"" + OWNER_ID + "\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.getResponseHeaders().add(DiscordRateLimiter.BUCKET, "guild-bucket");
+        exchange.getResponseHeaders().add(DiscordRateLimiter.REMAINING, remainingByGuild.getOrDefault(guildId, "50"));
+        exchange.getResponseHeaders().add(DiscordRateLimiter.RESET_AFTER, "0.5");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static List<String> guildIds(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "guild" + i).toList();
+    }
+
+    @Test
+    @DisplayName("30개 길드 동시 조회는 최대 동시 요청 수 단위 묶음만큼만 걸림")
+    void getGuildInfos_FanOutConcurrently() {
+        // Given
+        List<String> sequentialIds = guildIds(30);
+        List<String> concurrentIds = sequentialIds.stream().map(id -> id + "c").toList();
+
+        // When
+        long sequentialStart = System.nanoTime();
+        for (String guildId : sequentialIds) {
+            assertNotNull(discordBotApi.getGuildInfo(guildId).block());
+        }
+        long sequentialMs = (System.nanoTime() - sequentialStart) / 1_000_000;
+
+        long concurrentStart = System.nanoTime();
+        Map<String, ApiGetGuildInfoDto> result = discordBotApi.getGuildInfos(concurrentIds).block();
+        long concurrentMs = (System.nanoTime() - concurrentStart) / 1_000_000;
+
+        // Then
+        assertNotNull(result);
+        assertEquals(30, result.size());
+        assertEquals(OWNER_ID, result.get("guild0c").getOwnerId());
+        assertTrue(sequentialMs >= 30 * LATENCY_MS, "sequential: " + sequentialMs + "ms");
+        long waves = (30 + MAX_CONCURRENCY - 1) / MAX_CONCURRENCY;
+        assertTrue(concurrentMs >= waves * LATENCY_MS, "concurrent: " + concurrentMs + "ms");
+        assertTrue(concurrentMs < (waves + 2) * LATENCY_MS,
+                "concurrent: " + concurrentMs + "ms (sequential: " + sequentialMs + "ms)");
+    }
+
+    @Test
+    @DisplayName("같은 길드에 대한 동시 요청은 한 번만 전송하고 응답을 공유")
+    void getGuildInfo_CoalesceInFlightRequests() {
+        // When
+        List<ApiGetGuildInfoDto> results = Flux.range(0, 10)
+                .flatMap(i -> discordBotApi.getGuildInfo("shared"))
+                .collectList()
+                .block();
+
+        // Then
+        assertNotNull(results);
+        assertEquals(10, results.size());
+        assertTrue(results.stream().allMatch(info -> "shared".equals(info.getId())));
+        assertEquals(1, hits.get("shared").get());
+
+        // 완료 후 요청은 다시 전송
+        assertNotNull(discordBotApi.getGuildInfo("shared").block());
+        assertEquals(2, hits.get("shared").get());
+    }
+
+    @Test
+    @DisplayName("버킷 한도가 소진되면 리셋 시각까지 기다린 뒤 전송")
+    void getGuildInfo_WaitForExhaustedBucket() {
+        // Given
+        remainingByGuild.put("limited", "0");
+        assertNotNull(discordBotApi.getGuildInfo("limited").block());
+
+        // When
+        long start = System.nanoTime();
+        assertNotNull(discordBotApi.getGuildInfo("limited").block());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertEquals(2, hits.get("limited").get());
+        assertTrue(elapsedMs >= 300 + LATENCY_MS, "elapsed: " + elapsedMs + "ms");
+    }
+
+    @Test
+    @DisplayName("실패한 길드는 일괄 조회 결과에서 제외")
+    void getGuildInfos_SkipFailedGuild() {
+        // Given
+        server.createContext("/guilds/broken", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+
+        // When
+        Map<String, ApiGetGuildInfoDto> result = discordBotApi.getGuildInfos(List.of("ok", "broken"))
+                .onErrorResume(e -> Mono.empty())
+                .block();
+
+        // Then
+        assertNotNull(result);
+        assertEquals(1, result.size());
+        assertTrue(result.containsKey("ok"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.crimecat.backend.api.discord;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DiscordRateLimiter 버킷 상태 검증
+ */
+class DiscordRateLimiterTest {
+
+    private static final String ROUTE = "GET /guilds/{guildId}";
+    private static final String GUILD = "guild-1";
+
+    private static HttpHeaders headers(String limit, String remaining, String resetAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(DiscordRateLimiter.BUCKET, "guild-bucket");
+        if (limit != null) {
+            headers.add(DiscordRateLimiter.LIMIT, limit);
+        }
+        headers.add(DiscordRateLimiter.REMAINING, remaining);
+        headers.add(DiscordRateLimiter.RESET_AFTER, resetAfter);
+        return headers;
+    }
+
+    @Test
+    @DisplayName("리셋 시각이 지나면 마지막 한도만큼만 바로 보내고 나머지는 대기")
+    void acquire_RefillWithLastLimitAfterReset() throws InterruptedException {
+        // Given
+        DiscordRateLimiter limiter = new DiscordRateLimiter();
+        limiter.update(ROUTE, GUILD, headers("3", "0", "0.05"));
+        Thread.sleep(80);
+
+        // When
+        Duration first = limiter.acquire(ROUTE, GUILD);
+        Duration second = limiter.acquire(ROUTE, GUILD);
+        Duration third = limiter.acquire(ROUTE, GUILD);
+        Duration fourth = limiter.acquire(ROUTE, GUILD);
+
+        // Then
+        assertTrue(first.isZero());
+        assertTrue(second.isZero());
+        assertTrue(third.isZero());
+        assertTrue(fourth.toMillis() > 0, "fourth: " + fourth);
+    }
+
+    @Test
+    @DisplayName("한도를 모르면 리셋 후 한 건만 먼저 보내고 응답 헤더를 받은 뒤 이어서 전송")
+    void acquire_ProbeWhenLimitUnknown() throws InterruptedException {
+        // Given
+        DiscordRateLimiter limiter = new DiscordRateLimiter();
+        limiter.update(ROUTE, GUILD, headers(null, "0", "0.05"));
+        Thread.sleep(80);
+
+        // When
+        Duration probe = limiter.acquire(ROUTE, GUILD);
+        Duration blocked = limiter.acquire(ROUTE, GUILD);
+        limiter.update(ROUTE, GUILD, headers("5", "4", "1"));
+        Duration afterHeaders = limiter.acquire(ROUTE, GUILD);
+
+        // Then
+        assertTrue(probe.isZero());
+        assertTrue(blocked.toMillis() > 0, "blocked: " + blocked);
+        assertTrue(afterHeaders.isZero());
+    }
+
+    @Test
+    @DisplayName("오래 쓰이지 않은 버킷은 제거되고 계속 쓰이는 버킷은 유지")
+    void buckets_ExpireWhenIdle() {
+        // Given
+        AtomicLong nanos = new AtomicLong();
+        DiscordRateLimiter limiter = new DiscordRateLimiter(nanos::get);
+        limiter.update(ROUTE, GUILD, headers("5", "4", "1"));
+        limiter.update(ROUTE, "guild-2", headers("5", "4", "1"));
+        assertEquals(2, limiter.bucketCount());
+
+        // When: guild-1 만 계속 사용
+        nanos.addAndGet(DiscordRateLimiter.BUCKET_IDLE_TTL.toNanos() / 2);
+        limiter.acquire(ROUTE, GUILD);
+        nanos.addAndGet(DiscordRateLimiter.BUCKET_IDLE_TTL.toNanos() / 2 + 1);
+
+        // Then
+        assertEquals(1, limiter.bucketCount());
+    }
+}
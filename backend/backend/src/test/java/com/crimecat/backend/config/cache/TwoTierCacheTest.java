@@ -0,0 +1,159 @@
+package com.crimecat.backend.config.cache;
+
+import com.crimecat.backend.config.UnifiedRedisConfig;
+import com.crimecat.backend.guild.dto.web.ApiGetGuildInfoDto;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * L1/L2 캐시 조회 경로 검증
+ * - L2 → L1 적재 시 한 번만 역직렬화하고 L1 히트는 같은 인스턴스를 역직렬화 없이 반환
+ * - copyOnRead 캐시는 조회마다 새 인스턴스 반환
+ */
+class TwoTierCacheTest {
+
+    private final Map<String, byte[]> redis = new ConcurrentHashMap<>();
+    private final AtomicInteger deserializations = new AtomicInteger();
+    private RedisCache redisCache;
+
+    @BeforeEach
+    void setUp() {
+        RedisCacheWriter writer = mock(RedisCacheWriter.class);
+        doAnswer(invocation -> {
+            redis.put(key(invocation.getArgument(1)), invocation.getArgument(2));
+            return null;
+        }).when(writer).put(anyString(), any(byte[].class), any(byte[].class), any());
+        when(writer.get(anyString(), any(byte[].class))).thenAnswer(invocation ->
+                redis.get(key(invocation.getArgument(1))));
+        doAnswer(invocation -> redis.remove(key(invocation.getArgument(1))))
+                .when(writer).remove(anyString(), any(byte[].class));
+
+        RedisSerializer<Object> json =
+                new Jackson2JsonRedisSerializer<>(new UnifiedRedisConfig().redisObjectMapper(), Object.class);
+        RedisSerializer<Object> counting = new RedisSerializer<>() {
+            @Override
+            public byte[] serialize(Object value) {
+                return json.serialize(value);
+            }
+
+            @Override
+            public Object deserialize(byte[] bytes) {
+                deserializations.incrementAndGet();
+                return json.deserialize(bytes);
+            }
+        };
+        redisCache = (RedisCache) RedisCacheManager.builder(writer)
+                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
+                        .serializeValuesWith(SerializationPair.fromSerializer(counting)))
+                .build()
+                .getCache("near-test");
+    }
+
+    @Test
+    @DisplayName("L2 히트는 한 번 역직렬화해 L1 에 적재하고 이후 L1 히트는 역직렬화 없이 같은 인스턴스 반환")
+    void get_DeserializesOnceOnL2Fill() {
+        // Given: 다른 노드가 L2 에만 저장한 값
+        redisCache.put("ads", new ArrayList<>(List.of("ad-1", "ad-2")));
+        TwoTierCache cache = twoTierCache(false);
+
+        // When
+        Object first = cache.get("ads").get();
+        Object second = cache.get("ads").get();
+        Object third = cache.get("ads").get();
+
+        // Then
+        assertEquals(List.of("ad-1", "ad-2"), first);
+        assertSame(first, second);
+        assertSame(first, third);
+        assertEquals(1, deserializations.get());
+    }
+
+    @Test
+    @DisplayName("put 한 값은 L2 에 저장하고 L1 에서는 역직렬화 없이 반환")
+    void put_ServesFromL1WithoutDeserializing() {
+        // Given
+        TwoTierCache cache = twoTierCache(false);
+        List<String> value = List.of("ad-1");
+
+        // When
+        cache.put("ads", value);
+        Object cached = cache.get("ads").get();
+
+        // Then
+        assertSame(value, cached);
+        assertEquals(0, deserializations.get());
+        assertTrue(redis.containsKey("near-test::ads"));
+    }
+
+    @Test
+    @DisplayName("copyOnRead 캐시는 L1 에 바이트를 두고 조회마다 새 인스턴스 반환")
+    void get_CopyOnReadReturnsFreshInstances() {
+        // Given
+        ApiGetGuildInfoDto info = new ApiGetGuildInfoDto();
+        info.setName("길드");
+        TwoTierCache cache = twoTierCache(true);
+        cache.put("guild-1", info);
+
+        // When
+        ApiGetGuildInfoDto first = cache.get("guild-1", ApiGetGuildInfoDto.class);
+        first.setName("변경");
+        ApiGetGuildInfoDto second = cache.get("guild-1", ApiGetGuildInfoDto.class);
+
+        // Then
+        assertNotSame(info, first);
+        assertNotSame(first, second);
+        assertEquals("길드", second.getName());
+    }
+
+    @Test
+    @DisplayName("evict 하면 L1 과 L2 에서 모두 제거")
+    void evict_RemovesBothTiers() {
+        // Given
+        TwoTierCache cache = twoTierCache(false);
+        cache.put("ads", List.of("ad-1"));
+
+        // When
+        cache.evict("ads");
+
+        // Then
+        assertNull(cache.getLocalCache().getIfPresent("ads"));
+        assertFalse(redis.containsKey("near-test::ads"));
+        assertNull(cache.get("ads"));
+    }
+
+    private TwoTierCache twoTierCache(boolean copyOnRead) {
+        return new TwoTierCache(
+                "near-test",
+                Caffeine.newBuilder().maximumSize(100).build(),
+                redisCache,
+                mock(NearCacheInvalidationPublisher.class),
+                new SimpleMeterRegistry(),
+                copyOnRead);
+    }
+
+    private static String key(byte[] key) {
+        return new String(key, StandardCharsets.UTF_8);
+    }
+}
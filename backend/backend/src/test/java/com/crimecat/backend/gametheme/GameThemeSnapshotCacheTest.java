@@ -0,0 +1,216 @@
+package com.crimecat.backend.gametheme;
+
+import com.crimecat.backend.config.CacheType;
+import com.crimecat.backend.config.UnifiedRedisConfig;
+import com.crimecat.backend.gametheme.domain.CrimesceneTheme;
+import com.crimecat.backend.gametheme.domain.MakerTeam;
+import com.crimecat.backend.gametheme.domain.MakerTeamMember;
+import com.crimecat.backend.gametheme.dto.CrimesceneThemeDetailDto;
+import com.crimecat.backend.gametheme.dto.GameThemeDetailDto;
+import com.crimecat.backend.gametheme.dto.GameThemeSnapshot;
+import com.crimecat.backend.gametheme.repository.GameThemeRepository;
+import com.crimecat.backend.gametheme.service.GameThemeSnapshotCacheService;
+import com.crimecat.backend.guild.domain.Guild;
+import com.crimecat.backend.guild.dto.bot.GuildDto;
+import com.crimecat.backend.user.domain.User;
+import com.crimecat.backend.webUser.domain.WebUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 테마 스냅샷 캐시 왕복 검증
+ * - 실제 Redis 직렬화 설정(redisObjectMapper)으로 저장한 바이트를 다시 읽어 엔티티 없이 응답을 만들 수 있는지 확인
+ * - Redis 서버 대신 바이트를 메모리에 보관하는 RedisCacheWriter 사용
+ */
+class GameThemeSnapshotCacheTest {
+
+    private static final Map<String, byte[]> redis = new ConcurrentHashMap<>();
+
+    private AnnotationConfigApplicationContext context;
+    private GameThemeSnapshotCacheService service;
+    private GameThemeRepository repository;
+
+    @Configuration
+    @EnableCaching
+    static class CacheConfig {
+
+        @Bean
+        GameThemeRepository gameThemeRepository() {
+            return mock(GameThemeRepository.class);
+        }
+
+        @Bean
+        GameThemeSnapshotCacheService gameThemeSnapshotCacheService(GameThemeRepository gameThemeRepository) {
+            return new GameThemeSnapshotCacheService(gameThemeRepository);
+        }
+
+        @Bean("redisCacheManager")
+        CacheManager redisCacheManager() {
+            RedisCacheWriter writer = mock(RedisCacheWriter.class);
+            doAnswer(invocation -> {
+                redis.put(key(invocation.getArgument(1)), invocation.getArgument(2));
+                return null;
+            }).when(writer).put(anyString(), any(byte[].class), any(byte[].class), any());
+            when(writer.get(anyString(), any(byte[].class))).thenAnswer(invocation ->
+                    redis.get(key(invocation.getArgument(1))));
+
+            Jackson2JsonRedisSerializer<Object> serializer =
+                    new Jackson2JsonRedisSerializer<>(new UnifiedRedisConfig().redisObjectMapper(), Object.class);
+            return RedisCacheManager.builder(writer)
+                    .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
+                            .serializeValuesWith(SerializationPair.fromSerializer(serializer)))
+                    .build();
+        }
+
+        /** 키에는 이미 "{캐시명}::" 접두사가 붙어 있음 */
+        private static String key(byte[] key) {
+            return new String(key, StandardCharsets.UTF_8);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.clear();
+        context = new AnnotationConfigApplicationContext(CacheConfig.class);
+        service = context.getBean(GameThemeSnapshotCacheService.class);
+        repository = context.getBean(GameThemeRepository.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("캐시에서 다시 읽은 테마 스냅샷은 하위 타입과 연관 정보를 그대로 유지")
+    void getGameThemeSnapshot_RoundTripsThroughRedisSerializer() {
+        // Given
+        UUID themeId = UUID.randomUUID();
+        UUID authorId = UUID.randomUUID();
+        when(repository.findById(themeId)).thenReturn(Optional.of(crimesceneTheme(themeId, authorId)));
+
+        // When
+        GameThemeSnapshot loaded = service.getGameThemeSnapshot(themeId);
+        GameThemeSnapshot cached = service.getGameThemeSnapshot(themeId);
+
+        // Then: 두 번째 조회는 저장소를 거치지 않고 Redis 바이트에서 역직렬화
+        verify(repository, times(1)).findById(themeId);
+        assertNotSame(loaded, cached);
+        String json = new String(redis.get(CacheType.GAME_THEME_SNAPSHOT + "::" + themeId), StandardCharsets.UTF_8);
+        assertFalse(json.contains("hibernate"), json);
+        assertFalse(json.contains(WebUser.class.getName()), json);
+
+        assertEquals(themeId, cached.getId());
+        assertTrue(cached.isVisibleTo(null));
+        CrimesceneThemeDetailDto detail = assertInstanceOf(CrimesceneThemeDetailDto.class, cached.getDetail());
+        assertEquals("살인 사건", detail.getTitle());
+        assertEquals(Set.of("추리", "공포"), detail.getTags());
+        assertEquals(12, detail.getViews());
+        assertEquals(authorId, detail.getAuthor().getId());
+        assertEquals("작가", detail.getAuthor().getNickname());
+        assertEquals("제작팀", detail.getTeam().getName());
+        assertEquals(2, detail.getTeam().getCount());
+        assertEquals("guild-1", detail.getGuild().getSnowflake());
+        assertEquals("owner-1", detail.getGuild().getOwnerSnowflake());
+        assertEquals(Map.of("difficulty", "hard"), detail.getExtra());
+    }
+
+    @Test
+    @DisplayName("대기 중인 조회수는 복사본에만 더하고 캐시된 스냅샷은 변경하지 않음")
+    void withPendingViews_DoesNotMutateCachedDetail() {
+        // Given
+        UUID themeId = UUID.randomUUID();
+        when(repository.findById(themeId)).thenReturn(Optional.of(crimesceneTheme(themeId, UUID.randomUUID())));
+        GameThemeSnapshot cached = service.getGameThemeSnapshot(themeId);
+
+        // When
+        GameThemeDetailDto response = cached.getDetail().withPendingViews(3);
+
+        // Then
+        assertInstanceOf(CrimesceneThemeDetailDto.class, response);
+        assertEquals(15, response.getViews());
+        assertEquals(12, cached.getDetail().getViews());
+        assertEquals("제작팀", ((CrimesceneThemeDetailDto) response).getTeam().getName());
+    }
+
+    @Test
+    @DisplayName("비공개 테마는 작성자에게만 보이고 삭제된 테마는 누구에게도 보이지 않음")
+    void isVisibleTo_ChecksPublicStatusAndAuthor() {
+        // Given
+        UUID privateId = UUID.randomUUID();
+        UUID deletedId = UUID.randomUUID();
+        UUID authorId = UUID.randomUUID();
+        CrimesceneTheme privateTheme = crimesceneTheme(privateId, authorId);
+        privateTheme.setPublicStatus(false);
+        CrimesceneTheme deletedTheme = crimesceneTheme(deletedId, authorId);
+        deletedTheme.setIsDelete(true);
+        when(repository.findById(privateId)).thenReturn(Optional.of(privateTheme));
+        when(repository.findById(deletedId)).thenReturn(Optional.of(deletedTheme));
+
+        // When
+        service.getGameThemeSnapshot(privateId);
+        service.getGameThemeSnapshot(deletedId);
+        GameThemeSnapshot privateSnapshot = service.getGameThemeSnapshot(privateId);
+        GameThemeSnapshot deletedSnapshot = service.getGameThemeSnapshot(deletedId);
+
+        // Then
+        assertTrue(privateSnapshot.isVisibleTo(authorId));
+        assertFalse(privateSnapshot.isVisibleTo(UUID.randomUUID()));
+        assertFalse(privateSnapshot.isVisibleTo(null));
+        assertFalse(deletedSnapshot.isVisibleTo(authorId));
+    }
+
+    private static CrimesceneTheme crimesceneTheme(UUID themeId, UUID authorId) {
+        WebUser author = WebUser.builder().id(authorId).nickname("작가").build();
+        MakerTeam team = MakerTeam.builder()
+                .id(UUID.randomUUID())
+                .name("제작팀")
+                .members(List.of(mock(MakerTeamMember.class), mock(MakerTeamMember.class)))
+                .build();
+        User owner = mock(User.class);
+        when(owner.getDiscordSnowflake()).thenReturn("owner-1");
+        Guild guild = Guild.of(GuildDto.builder().snowflake("guild-1").name("길드").build(), owner);
+        return CrimesceneTheme.builder()
+                .id(themeId)
+                .title("살인 사건")
+                .tags(new HashSet<>(Set.of("추리", "공포")))
+                .views(12)
+                .author(author)
+                .authorId(authorId)
+                .team(team)
+                .guild(guild)
+                .guildSnowflake("guild-1")
+                .extra(new HashMap<>(Map.of("difficulty", "hard")))
+                .createdAt(LocalDateTime.of(2025, 9, 1, 0, 0))
+                .updatedAt(LocalDateTime.of(2025, 9, 1, 0, 0))
+                .build();
+    }
+}
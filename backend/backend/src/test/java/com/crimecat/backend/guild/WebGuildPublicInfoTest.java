@@ -0,0 +1,365 @@
+package com.crimecat.backend.guild;
+
+import com.crimecat.backend.api.discord.CachedDiscordBotService;
+import com.crimecat.backend.api.discord.DiscordBotApi;
+import com.crimecat.backend.gameHistory.repository.GuildStatsJdbcRepository;
+import com.crimecat.backend.gameHistory.repository.GuildStatsJdbcRepository.GuildStats;
+import com.crimecat.backend.gameHistory.service.GuildStatsService;
+import com.crimecat.backend.guild.domain.Guild;
+import com.crimecat.backend.guild.dto.web.ApiGetGuildInfoDto;
+import com.crimecat.backend.guild.dto.web.GuildInfoResponseDto;
+import com.crimecat.backend.guild.repository.GuildRepository;
+import com.crimecat.backend.guild.service.web.WebGuildService;
+import com.crimecat.backend.user.service.LeaderboardService;
+import com.crimecat.backend.utils.RedisLockService;
+import com.crimecat.backend.webUser.repository.WebUserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 길드 통계 증분 반영 / 재구성 / 공개 길드 정보 조회를 실제 MariaDB 로 검증
+ * - guild_stats 스키마는 배포용 마이그레이션(V1.8.3_001) 을 그대로 실행해 생성
+ * - 증분 반영(addPlay / applyUpdate / removePlay) 결과가 game_histories 그룹 집계(rebuildAll) 와 같아야 함
+ * - 공개 길드 정보 조회는 기록 수와 무관하게 같은 수의 SQL 만 실행해야 함
+ * - Docker 가 없으면 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class WebGuildPublicInfoTest {
+
+    private static final String GUILD = "123456789012345678";
+    private static final String OTHER_GUILD = "223456789012345678";
+    private static final Path MIGRATION =
+            Path.of("../../docker/mariadb/db/migrations/V1.8.3/V1.8.3_001_create_guild_stats.sql");
+
+    @Container
+    private static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private GuildStatsJdbcRepository repository;
+    private RedisLockService redisLockService;
+    private GuildStatsService guildStatsService;
+
+    @BeforeAll
+    static void createSchema() throws Exception {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                MARIADB.getJdbcUrl(), MARIADB.getUsername(), MARIADB.getPassword()));
+        jdbcTemplate.execute("CREATE TABLE guilds (snowflake VARCHAR(50) PRIMARY KEY) " +
+                "DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci");
+        jdbcTemplate.execute("CREATE TABLE game_histories (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "guild_snowflake VARCHAR(50) NULL, " +
+                "user_id BINARY(16) NULL, " +
+                "is_win BOOLEAN NOT NULL DEFAULT FALSE, " +
+                "created_at TIMESTAMP NULL)");
+        String migration = Files.readString(MIGRATION)
+                .replace("${DB_DISCORD}", MARIADB.getDatabaseName());
+        try (Connection connection = jdbcTemplate.getDataSource().getConnection()) {
+            ScriptUtils.executeSqlScript(connection,
+                    new ByteArrayResource(migration.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM guild_player_stats");
+        jdbcTemplate.update("DELETE FROM guild_stats");
+        jdbcTemplate.update("DELETE FROM game_histories");
+        jdbcTemplate.update("DELETE FROM guilds");
+        jdbcTemplate.update("INSERT INTO guilds (snowflake) VALUES (?), (?)", GUILD, OTHER_GUILD);
+
+        repository = new GuildStatsJdbcRepository(jdbcTemplate);
+        redisLockService = mock(RedisLockService.class);
+        guildStatsService = new GuildStatsService(repository, redisLockService, 10);
+    }
+
+    /**
+     * 기록 저장 + 증분 반영 (GuildStatsService.recordSaved 와 같이 유저 없는 기록은 반영하지 않음)
+     * @return game_histories.id
+     */
+    private long play(String guild, UUID userId, boolean win, LocalDateTime playedAt) {
+        jdbcTemplate.update("INSERT INTO game_histories (guild_snowflake, user_id, is_win, created_at) VALUES (?, ?, ?, ?)",
+                guild, userId != null ? toBytes(userId) : null, win, Timestamp.valueOf(playedAt));
+        if (userId != null) {
+            repository.addPlay(guild, userId, win, playedAt);
+        }
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM game_histories", Long.class);
+    }
+
+    private GuildStats stats(String guild) {
+        return repository.find(guild).orElse(GuildStats.EMPTY);
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    @Test
+    @DisplayName("기록 추가 시 플레이 수 / 승리 수 / 고유 플레이어 수 / 마지막 플레이 시각 증분 반영")
+    void addPlay_Incremental() {
+        // Given
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        LocalDateTime latest = LocalDateTime.of(2025, 9, 3, 21, 0);
+
+        // When
+        play(GUILD, alice, true, LocalDateTime.of(2025, 9, 1, 21, 0));
+        play(GUILD, alice, false, latest);
+        play(GUILD, bob, false, LocalDateTime.of(2025, 9, 2, 21, 0));
+        play(OTHER_GUILD, bob, true, LocalDateTime.of(2025, 9, 4, 21, 0));
+
+        // Then
+        assertEquals(new GuildStats(3, 1, 2, latest), stats(GUILD));
+        assertEquals(new GuildStats(1, 1, 1, LocalDateTime.of(2025, 9, 4, 21, 0)), stats(OTHER_GUILD));
+    }
+
+    @Test
+    @DisplayName("승리 여부 / 플레이 시각 수정 시 승리 수와 마지막 플레이 시각 재계산")
+    void applyUpdate_WinAndPlayedAt() {
+        // Given
+        UUID alice = UUID.randomUUID();
+        play(GUILD, alice, false, LocalDateTime.of(2025, 9, 1, 21, 0));
+        long latestId = play(GUILD, alice, false, LocalDateTime.of(2025, 9, 3, 21, 0));
+
+        // When: 마지막 기록을 승리로 바꾸고 날짜를 과거로 수정
+        jdbcTemplate.update("UPDATE game_histories SET is_win = TRUE, created_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.of(2025, 8, 30, 21, 0)), latestId);
+        repository.applyUpdate(GUILD, 1);
+
+        // Then
+        assertEquals(new GuildStats(2, 1, 1, LocalDateTime.of(2025, 9, 1, 21, 0)), stats(GUILD));
+    }
+
+    @Test
+    @DisplayName("기록 삭제 시 마지막 기록이었던 유저만 고유 플레이어 수에서 빠짐")
+    void removePlay_DecrementsUniqueOnLastHistory() {
+        // Given
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        long aliceFirst = play(GUILD, alice, true, LocalDateTime.of(2025, 9, 1, 21, 0));
+        play(GUILD, alice, false, LocalDateTime.of(2025, 9, 2, 21, 0));
+        long bobOnly = play(GUILD, bob, true, LocalDateTime.of(2025, 9, 3, 21, 0));
+
+        // When
+        jdbcTemplate.update("DELETE FROM game_histories WHERE id = ?", aliceFirst);
+        repository.removePlay(GUILD, alice, true);
+        GuildStats afterAlice = stats(GUILD);
+        jdbcTemplate.update("DELETE FROM game_histories WHERE id = ?", bobOnly);
+        repository.removePlay(GUILD, bob, true);
+
+        // Then
+        assertEquals(new GuildStats(2, 1, 2, LocalDateTime.of(2025, 9, 3, 21, 0)), afterAlice);
+        assertEquals(new GuildStats(1, 0, 1, LocalDateTime.of(2025, 9, 2, 21, 0)), stats(GUILD));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM guild_player_stats WHERE guild_snowflake = ? AND user_id = ?",
+                Integer.class, GUILD, toBytes(bob)));
+    }
+
+    @Test
+    @DisplayName("재구성 결과는 증분 반영과 같고, 유저 없는 기록은 양쪽 모두 제외")
+    void rebuildAll_MatchesIncrementalAndSkipsNullUser() {
+        // Given
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        play(GUILD, alice, true, LocalDateTime.of(2025, 9, 1, 21, 0));
+        play(GUILD, bob, false, LocalDateTime.of(2025, 9, 2, 21, 0));
+        play(GUILD, null, true, LocalDateTime.of(2025, 9, 5, 21, 0));
+        GuildStats incremental = stats(GUILD);
+        when(redisLockService.tryLock(anyString(), any(Duration.class))).thenReturn("token");
+
+        // When
+        guildStatsService.rebuildAll();
+
+        // Then
+        assertEquals(new GuildStats(2, 1, 2, LocalDateTime.of(2025, 9, 2, 21, 0)), incremental);
+        assertEquals(incremental, stats(GUILD));
+        verify(redisLockService).unlock("guild-stats:rebuild:lock", "token");
+    }
+
+    @Test
+    @DisplayName("재구성은 증분으로 잡히지 않은 삭제(CASCADE)를 보정하고 기록이 없어진 길드는 0 으로 초기화")
+    void rebuildAll_CorrectsDrift() {
+        // Given: 애플리케이션을 거치지 않고 기록 삭제 (users 삭제 CASCADE 와 같은 상황)
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        play(GUILD, alice, true, LocalDateTime.of(2025, 9, 1, 21, 0));
+        play(GUILD, bob, false, LocalDateTime.of(2025, 9, 2, 21, 0));
+        play(OTHER_GUILD, bob, true, LocalDateTime.of(2025, 9, 3, 21, 0));
+        jdbcTemplate.update("DELETE FROM game_histories WHERE user_id = ?", (Object) toBytes(bob));
+        when(redisLockService.tryLock(anyString(), any(Duration.class))).thenReturn("token");
+
+        // When
+        guildStatsService.rebuildAll();
+
+        // Then
+        assertEquals(new GuildStats(1, 1, 1, LocalDateTime.of(2025, 9, 1, 21, 0)), stats(GUILD));
+        assertEquals(new GuildStats(0, 0, 0, null), stats(OTHER_GUILD));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM guild_player_stats", Integer.class));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 재구성 중이면 건너뜀")
+    void rebuildAll_SkipWhenLocked() {
+        // Given
+        play(GUILD, UUID.randomUUID(), true, LocalDateTime.of(2025, 9, 1, 21, 0));
+        jdbcTemplate.update("UPDATE guild_stats SET play_count = 99 WHERE guild_snowflake = ?", GUILD);
+        when(redisLockService.tryLock(anyString(), any(Duration.class))).thenReturn(null);
+
+        // When
+        guildStatsService.rebuildAll();
+
+        // Then
+        assertEquals(99, stats(GUILD).playCount());
+        verify(redisLockService, never()).unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("공개 길드 정보는 guild_stats 집계값으로 응답하고, 통계가 없는 길드는 0")
+    void getGuildPublicInfo_ReadsGuildStats() {
+        // Given
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        LocalDateTime latest = LocalDateTime.of(2025, 9, 2, 21, 0);
+        play(GUILD, alice, true, LocalDateTime.of(2025, 9, 1, 21, 0));
+        play(GUILD, bob, false, latest);
+        play(GUILD, bob, false, LocalDateTime.of(2025, 8, 31, 21, 0));
+        play(GUILD, alice, true, LocalDateTime.of(2025, 8, 30, 21, 0));
+
+        // When
+        GuildInfoResponseDto response = webGuildService(GUILD).getGuildPublicInfo(GUILD);
+        GuildInfoResponseDto empty = webGuildService(OTHER_GUILD).getGuildPublicInfo(OTHER_GUILD);
+
+        // Then
+        assertEquals(4, response.getTotalHistoryUserCount());
+        assertEquals(2L, response.getUniquePlayerCount());
+        assertEquals(0.5, response.getWinRate(), 1e-9);
+        assertEquals(latest, response.getLastPlayTime());
+
+        assertEquals(0, empty.getTotalHistoryUserCount());
+        assertEquals(0L, empty.getUniquePlayerCount());
+        assertEquals(0d, empty.getWinRate());
+        assertNull(empty.getLastPlayTime());
+    }
+
+    @Test
+    @DisplayName("공개 길드 정보 조회는 기록 10만 건 길드도 기록 몇 건 길드와 같은 수의 SQL 만 실행")
+    void getGuildPublicInfo_StatementCountIndependentOfHistorySize() {
+        // Given: 작은 길드 3건, 큰 길드 100,000건 (유저 5,000명) 을 재구성으로 집계
+        UUID alice = UUID.randomUUID();
+        play(GUILD, alice, true, LocalDateTime.of(2025, 9, 1, 21, 0));
+        play(GUILD, alice, false, LocalDateTime.of(2025, 9, 2, 21, 0));
+        play(GUILD, UUID.randomUUID(), false, LocalDateTime.of(2025, 9, 3, 21, 0));
+        jdbcTemplate.update("INSERT INTO game_histories (guild_snowflake, user_id, is_win, created_at) " +
+                "SELECT ?, UNHEX(LPAD(HEX(seq % 5000), 32, '0')), seq % 4 = 0, " +
+                "TIMESTAMP '2025-09-01 00:00:00' - INTERVAL seq MINUTE FROM seq_1_to_100000", OTHER_GUILD);
+        when(redisLockService.tryLock(anyString(), any(Duration.class))).thenReturn("token");
+        guildStatsService.rebuildAll();
+
+        AtomicInteger statements = new AtomicInteger();
+        GuildStatsService countingStatsService = new GuildStatsService(
+                new GuildStatsJdbcRepository(new JdbcTemplate(countingDataSource(jdbcTemplate.getDataSource(), statements))),
+                redisLockService, 10);
+
+        // When
+        GuildInfoResponseDto small = webGuildService(GUILD, countingStatsService).getGuildPublicInfo(GUILD);
+        int smallStatements = statements.getAndSet(0);
+        GuildInfoResponseDto large = webGuildService(OTHER_GUILD, countingStatsService).getGuildPublicInfo(OTHER_GUILD);
+        int largeStatements = statements.get();
+
+        // Then: guild_stats PK 단건 조회 1회 (길드 조회는 GuildRepository 목)
+        assertEquals(3, small.getTotalHistoryUserCount());
+        assertEquals(100_000, large.getTotalHistoryUserCount());
+        assertEquals(5_000L, large.getUniquePlayerCount());
+        assertEquals(0.25, large.getWinRate(), 1e-9);
+        assertEquals(1, smallStatements);
+        assertEquals(smallStatements, largeStatements);
+    }
+
+    /**
+     * 커넥션에서 만든 Statement 수를 세는 DataSource
+     */
+    private static DataSource countingDataSource(DataSource target, AtomicInteger statements) {
+        return proxy(DataSource.class, target, (method, result) ->
+                result instanceof Connection connection
+                        ? proxy(Connection.class, connection, (connectionMethod, statement) -> {
+                            if (connectionMethod.getName().startsWith("prepare")
+                                    || connectionMethod.getName().equals("createStatement")) {
+                                statements.incrementAndGet();
+                            }
+                            return statement;
+                        })
+                        : result);
+    }
+
+    private static <T> T proxy(Class<T> type, T target, BiFunction<Method, Object, Object> after) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            try {
+                return after.apply(method, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }));
+    }
+
+    private WebGuildService webGuildService(String guildSnowflake) {
+        return webGuildService(guildSnowflake, guildStatsService);
+    }
+
+    private WebGuildService webGuildService(String guildSnowflake, GuildStatsService guildStatsService) {
+        GuildRepository guildRepository = mock(GuildRepository.class);
+        CachedDiscordBotService cachedDiscordBotService = mock(CachedDiscordBotService.class);
+
+        Guild guild = mock(Guild.class);
+        when(guild.getId()).thenReturn(UUID.randomUUID());
+        when(guild.getSnowflake()).thenReturn(guildSnowflake);
+        when(guild.getCreatedAt()).thenReturn(LocalDateTime.now());
+        when(guildRepository.findBySnowflake(guildSnowflake)).thenReturn(Optional.of(guild));
+
+        ApiGetGuildInfoDto apiGuildInfo = new ApiGetGuildInfoDto();
+        apiGuildInfo.setId(guildSnowflake);
+        apiGuildInfo.setName("test guild");
+        when(cachedDiscordBotService.getGuildInfo(guildSnowflake)).thenReturn(apiGuildInfo);
+
+        return new WebGuildService(
+                guildRepository,
+                mock(DiscordBotApi.class),
+                cachedDiscordBotService,
+                mock(WebUserRepository.class),
+                mock(LeaderboardService.class),
+                guildStatsService);
+    }
+}
@@ -1,4 +1,168 @@
 package com.crimecat.backend.pointHistory;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crimecat.backend.point.domain.PointHistory;
+import com.crimecat.backend.point.domain.TransactionType;
+import com.crimecat.backend.point.service.PointHistoryService;
+import com.crimecat.backend.point.service.PointLedger;
+import com.crimecat.backend.user.domain.User;
+import com.crimecat.backend.user.repository.UserRepository;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("local") // application-local.yml 사용
 public class PointHistoryServiceTest {
+
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired private PointHistoryService pointHistoryService;
+    @Autowired private PointLedger pointLedger;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private final List<UUID> createdUserIds = new ArrayList<>();
+
+    @Test
+    @DisplayName("동시 출석 체크 적립 - 각 스레드가 오래된 User 를 들고 있어도 포인트가 유실되지 않는다")
+    void 동시_적립_유실_없음() throws Exception {
+        User user = createUser(0);
+        int requests = 200;
+
+        Queue<Throwable> errors = runConcurrently(requests, i ->
+                // 스레드마다 별도로 조회한 (곧 오래될) 엔티티 사용
+                pointHistoryService.dailyCheckPoint(userRepository.findById(user.getId()).orElseThrow(), 100));
+
+        assertThat(errors).isEmpty();
+        assertThat(balance(user.getId())).isEqualTo(requests * 100);
+        assertThat(summaryTotal(user.getId(), "total_earned")).isEqualTo(requests * 100L);
+        assertThat(historyCount(user.getId())).isEqualTo(requests);
+    }
+
+    @Test
+    @DisplayName("동시 차감 - 잔액을 넘는 차감은 거절되고 잔액은 음수가 되지 않는다")
+    void 동시_차감_초과_방지() throws Exception {
+        User user = createUser(0);
+        pointLedger.credit(user, 1000, PointHistory.builder().type(TransactionType.CHARGE).memo("테스트 충전"));
+        AtomicInteger succeeded = new AtomicInteger();
+
+        Queue<Throwable> errors = runConcurrently(50, i -> {
+            User loaded = userRepository.findById(user.getId()).orElseThrow();
+            if (pointHistoryService.usePointsForAdvertisement(loaded, 100, "테스트 광고")) {
+                succeeded.incrementAndGet();
+            }
+        });
+
+        assertThat(errors).isEmpty();
+        assertThat(succeeded.get()).isEqualTo(10);
+        assertThat(balance(user.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("양방향 동시 선물 - 교착 없이 처리되고 두 유저 잔액 합이 보존된다")
+    void 양방향_동시_선물_교착_없음() throws Exception {
+        User a = createUser(0);
+        User b = createUser(0);
+        pointLedger.credit(a, 10_000, PointHistory.builder().type(TransactionType.CHARGE).memo("테스트 충전"));
+        pointLedger.credit(b, 10_000, PointHistory.builder().type(TransactionType.CHARGE).memo("테스트 충전"));
+        int requests = 200;
+
+        Queue<Throwable> errors = runConcurrently(requests, i -> {
+            User from = userRepository.findById(i % 2 == 0 ? a.getId() : b.getId()).orElseThrow();
+            User to = userRepository.findById(i % 2 == 0 ? b.getId() : a.getId()).orElseThrow();
+            pointLedger.transfer(from, to, 10,
+                    PointHistory.builder().type(TransactionType.GIFT).relatedUserId(to).memo("테스트 선물"),
+                    PointHistory.builder().type(TransactionType.RECEIVE).relatedUserId(from).memo("테스트 받음"));
+        });
+
+        assertThat(errors).isEmpty();
+        assertThat(balance(a.getId())).isEqualTo(10_000);
+        assertThat(balance(b.getId())).isEqualTo(10_000);
+        assertThat(summaryTotal(a.getId(), "total_gifted")).isEqualTo(requests / 2 * 10L);
+        assertThat(summaryTotal(a.getId(), "total_received")).isEqualTo(requests / 2 * 10L);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        for (UUID id : createdUserIds) {
+            jdbcTemplate.update("DELETE FROM point_histories WHERE user_id = ? OR related_user_id = ?",
+                    toBytes(id), toBytes(id));
+            jdbcTemplate.update("DELETE FROM point_balance_summaries WHERE user_id = ?", (Object) toBytes(id));
+        }
+        userRepository.deleteAllById(createdUserIds);
+        createdUserIds.clear();
+    }
+
+    private User createUser(int point) {
+        String snowflake = String.valueOf(ThreadLocalRandom.current().nextLong(100_000_000L, 1_000_000_000L));
+        User user = userRepository.save(User.builder().discordSnowflake(snowflake).point(point).build());
+        createdUserIds.add(user.getId());
+        return user;
+    }
+
+    private Queue<Throwable> runConcurrently(int requests, IntConsumer task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests);
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.accept(index);
+                } catch (Throwable t) {
+                    errors.add(t);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        return errors;
+    }
+
+    private int balance(UUID userId) {
+        return jdbcTemplate.queryForObject("SELECT point FROM users WHERE id = ?", Integer.class, (Object) toBytes(userId));
+    }
+
+    private long summaryTotal(UUID userId, String column) {
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT " + column + " FROM point_balance_summaries WHERE user_id = ?", Long.class, (Object) toBytes(userId));
+        return total != null ? total : 0L;
+    }
+
+    private int historyCount(UUID userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_histories WHERE user_id = ?",
+                Integer.class, (Object) toBytes(userId));
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
 }
@@ -0,0 +1,112 @@
+package com.crimecat.backend.ratelimit;
+
+import com.crimecat.backend.exception.ErrorStatus;
+import com.crimecat.backend.exception.ServiceException;
+import com.crimecat.backend.ratelimit.annotation.RateLimited;
+import com.crimecat.backend.ratelimit.aspect.RateLimitAspect;
+import com.crimecat.backend.ratelimit.limiter.LocalRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RateLimited 어노테이션 적용 검증 (SpEL 키, 반복 어노테이션, 429 예외)
+ */
+class RateLimitAspectTest {
+
+    private final AtomicLong millis = new AtomicLong(Instant.parse("2025-09-01T00:00:00Z").toEpochMilli());
+    private AdRequester requester;
+
+    public static class AdRequester {
+
+        @RateLimited(name = "ad:hourly", key = "#userId", rate = 2, unit = TimeUnit.HOURS)
+        @RateLimited(name = "ad:daily", key = "#userId", rate = 3, unit = TimeUnit.DAYS)
+        public String request(UUID userId, String themeName) {
+            return themeName;
+        }
+
+        @RateLimited(name = "global", rate = 1, period = 10)
+        public String ping() {
+            return "pong";
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis.get());
+            }
+        };
+        AspectJProxyFactory factory = new AspectJProxyFactory(new AdRequester());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new RateLimitAspect(new LocalRateLimiter(clock)));
+        requester = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("SpEL 키별로 제한하고 초과 시 TOO_MANY_REQUESTS")
+    void request_LimitedPerUser() {
+        // Given
+        UUID userA = UUID.randomUUID();
+        UUID userB = UUID.randomUUID();
+
+        // When / Then
+        assertEquals("theme", requester.request(userA, "theme"));
+        assertEquals("theme", requester.request(userA, "theme"));
+        ServiceException exception = assertThrows(ServiceException.class, () -> requester.request(userA, "theme"));
+        assertEquals(ErrorStatus.TOO_MANY_REQUESTS, exception.getErrorStatus());
+
+        // 다른 사용자는 독립
+        assertEquals("theme", requester.request(userB, "theme"));
+    }
+
+    @Test
+    @DisplayName("여러 @RateLimited 를 모두 통과해야 호출 (시간당 보충되어도 일일 제한 유지)")
+    void request_AllLimitsApply() {
+        // Given
+        UUID user = UUID.randomUUID();
+        requester.request(user, "theme");
+        requester.request(user, "theme");
+
+        // When: 한 시간 뒤 시간당 제한은 보충, 일일 제한은 1개 남음
+        millis.addAndGet(Duration.ofHours(1).toMillis());
+
+        // Then
+        assertEquals("theme", requester.request(user, "theme"));
+        assertThrows(ServiceException.class, () -> requester.request(user, "theme"));
+    }
+
+    @Test
+    @DisplayName("key 가 없으면 모든 호출이 버킷 하나를 공유")
+    void ping_GlobalBucket() {
+        assertEquals("pong", requester.ping());
+        assertThrows(ServiceException.class, () -> requester.ping());
+
+        millis.addAndGet(Duration.ofSeconds(10).toMillis());
+        assertEquals("pong", requester.ping());
+    }
+}
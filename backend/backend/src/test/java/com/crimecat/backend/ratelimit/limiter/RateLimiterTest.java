@@ -0,0 +1,165 @@
+package com.crimecat.backend.ratelimit.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 프로세스 내 GCRA Rate Limiter 검증
+ * - Redis 구현은 RedisRateLimiterTest 에서 실제 Redis 컨테이너로 검증
+ */
+class RateLimiterTest {
+
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+
+    @Test
+    @DisplayName("프로세스 내 구현만 쓰면 인스턴스 수만큼 제한이 늘어남 (공유 저장소가 필요한 이유)")
+    void local_MultiInstanceMultipliesLimit() throws Exception {
+        // Given
+        Clock frozen = Clock.fixed(Instant.parse("2025-09-01T00:00:00Z"), ZoneOffset.UTC);
+        List<RateLimiter> instances = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            instances.add(new LocalRateLimiter(frozen));
+        }
+
+        // When
+        int allowed = hammer(instances, 8, 250, "user-1", 5, Duration.ofHours(1), 10);
+
+        // Then
+        assertEquals(40, allowed);
+    }
+
+    @Test
+    @DisplayName("프로세스 내 구현도 동시 요청에서 정확히 burst 만큼만 허용")
+    void local_ConcurrentBurst() throws Exception {
+        // Given
+        LocalRateLimiter limiter = new LocalRateLimiter(
+                Clock.fixed(Instant.parse("2025-09-01T00:00:00Z"), ZoneOffset.UTC));
+
+        // When
+        int allowed = hammer(List.of(limiter), 16, 500, "user-1", 20, Duration.ofDays(1), 20);
+
+        // Then
+        assertEquals(20, allowed);
+    }
+
+    @Test
+    @DisplayName("프로세스 내 구현은 버킷이 다시 가득 찬 키를 정리")
+    void local_SweepsRefilledKeys() {
+        // Given
+        MutableClock clock = new MutableClock();
+        LocalRateLimiter limiter = new LocalRateLimiter(clock);
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("user:" + i, 6, MINUTE, 3);
+        }
+        assertEquals(1_000, limiter.size());
+
+        // When: 모든 키의 TAT 경과 후 요청이 이어지면 정리 주기에 함께 정리
+        clock.advance(Duration.ofSeconds(10));
+        for (int i = 0; i < 1_024; i++) {
+            limiter.tryAcquire("active", 1_000_000, MINUTE, 1_000_000);
+        }
+
+        // Then
+        assertTrue(limiter.size() <= 1, "남은 키: " + limiter.size());
+    }
+
+    @Test
+    @DisplayName("check 는 토큰을 소비하지 않고 tryAcquire 와 같은 판정을 반환")
+    void local_CheckDoesNotConsume() {
+        // Given
+        MutableClock clock = new MutableClock();
+        LocalRateLimiter limiter = new LocalRateLimiter(clock);
+
+        // When / Then: 여러 번 검사해도 burst 는 그대로
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.check("user:1", 6, MINUTE, 3).allowed());
+        }
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire("user:1", 6, MINUTE, 3).allowed());
+        }
+        RateLimiter.Decision denied = limiter.check("user:1", 6, MINUTE, 3);
+        assertFalse(denied.allowed());
+        assertEquals(10_000, denied.retryAfterMillis());
+
+        clock.advance(Duration.ofSeconds(10));
+        assertTrue(limiter.check("user:1", 6, MINUTE, 3).allowed());
+        assertTrue(limiter.tryAcquire("user:1", 6, MINUTE, 3).allowed());
+        assertFalse(limiter.check("user:1", 6, MINUTE, 3).allowed());
+    }
+
+    /**
+     * 여러 limiter 인스턴스에 요청을 나눠 동시에 보내고 허용된 수 반환
+     */
+    static int hammer(List<RateLimiter> instances, int threadsPerInstance, int attemptsPerThread,
+                              String key, long rate, Duration period, long burst) throws Exception {
+        int threads = instances.size() * threadsPerInstance;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            RateLimiter limiter = instances.get(t % instances.size());
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    if (limiter.tryAcquire(key, rate, period, burst).allowed()) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        return allowed.get();
+    }
+
+    static class MutableClock extends Clock {
+
+        private final AtomicLong millis = new AtomicLong(Instant.parse("2025-09-01T00:00:00Z").toEpochMilli());
+
+        void advance(Duration duration) {
+            millis.addAndGet(duration.toMillis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+    }
+}
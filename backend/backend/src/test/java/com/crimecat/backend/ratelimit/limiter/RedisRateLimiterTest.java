@@ -0,0 +1,213 @@
+package com.crimecat.backend.ratelimit.limiter;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Redis GCRA Rate Limiter 검증
+ * - 실제 Redis 컨테이너에서 GCRA_LUA 를 실행 (Docker 가 없으면 건너뜀)
+ * - 인스턴스마다 별도 커넥션을 쓰는 RedisRateLimiter 여러 개 = 여러 백엔드 인스턴스가 같은 Redis 를 쓰는 상황
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisRateLimiterTest {
+
+    private static final Duration TEN_SECONDS = Duration.ofSeconds(10);
+    private static final int INSTANCES = 4;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static final List<LettuceConnectionFactory> connectionFactories = new ArrayList<>();
+    private static final List<FlakyRedisTemplate> templates = new ArrayList<>();
+
+    private String keyPrefix;
+
+    @BeforeAll
+    static void connect() {
+        for (int i = 0; i < INSTANCES; i++) {
+            LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                    new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+            connectionFactory.afterPropertiesSet();
+            connectionFactories.add(connectionFactory);
+            templates.add(new FlakyRedisTemplate(connectionFactory));
+        }
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactories.forEach(LettuceConnectionFactory::destroy);
+    }
+
+    @BeforeEach
+    void setUp() {
+        keyPrefix = "test:" + UUID.randomUUID() + ":";
+        templates.forEach(template -> {
+            template.down = false;
+            template.scriptCalls.set(0);
+        });
+    }
+
+    @Test
+    @DisplayName("burst 만큼 연속 허용 후 거부, emission 간격마다 1개씩 보충")
+    void burstThenRefill() throws InterruptedException {
+        // Given: 10초당 10개 = 1초마다 1개, burst 3
+        RedisRateLimiter limiter = limiter(0);
+        String key = keyPrefix + "user:1";
+
+        // When / Then
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire(key, 10, TEN_SECONDS, 3).allowed());
+        }
+        RateLimiter.Decision denied = limiter.tryAcquire(key, 10, TEN_SECONDS, 3);
+        assertFalse(denied.allowed());
+        assertTrue(denied.retryAfterMillis() > 0 && denied.retryAfterMillis() <= 1_000,
+                "retryAfter: " + denied.retryAfterMillis());
+
+        Thread.sleep(1_100);
+        assertTrue(limiter.tryAcquire(key, 10, TEN_SECONDS, 3).allowed());
+        assertFalse(limiter.tryAcquire(key, 10, TEN_SECONDS, 3).allowed());
+
+        // 다른 키는 독립
+        assertTrue(limiter.tryAcquire(keyPrefix + "user:2", 10, TEN_SECONDS, 3).allowed());
+    }
+
+    @Test
+    @DisplayName("버킷이 다시 가득 차면 Redis 키가 PX 로 만료되어 유휴 키가 남지 않음")
+    void idleKeysExpire() throws InterruptedException {
+        // Given
+        RedisRateLimiter limiter = limiter(0);
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire(keyPrefix + "user:" + i, 10, TEN_SECONDS, 3);
+        }
+        assertEquals(100, liveKeys());
+        Long ttl = templates.get(0).getExpire(RedisRateLimiter.KEY_PREFIX + keyPrefix + "user:0", TimeUnit.MILLISECONDS);
+        assertTrue(ttl != null && ttl > 0 && ttl <= 1_000, "ttl: " + ttl);
+
+        // When
+        Thread.sleep(1_100);
+
+        // Then
+        assertEquals(0, liveKeys());
+    }
+
+    @Test
+    @DisplayName("check 는 토큰을 소비하지 않고 Redis 에 키도 만들지 않음")
+    void checkDoesNotConsume() {
+        // Given
+        RedisRateLimiter limiter = limiter(0);
+        String key = keyPrefix + "user:1";
+
+        // When / Then
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.check(key, 10, TEN_SECONDS, 3).allowed());
+        }
+        assertEquals(0, liveKeys());
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire(key, 10, TEN_SECONDS, 3).allowed());
+        }
+        RateLimiter.Decision denied = limiter.check(key, 10, TEN_SECONDS, 3);
+        assertFalse(denied.allowed());
+        assertTrue(denied.retryAfterMillis() > 0 && denied.retryAfterMillis() <= 1_000,
+                "retryAfter: " + denied.retryAfterMillis());
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 동시에 요청해도 Redis 버킷 하나로 burst 만큼만 허용")
+    void multiInstanceSharesBucket() throws Exception {
+        // Given: 백엔드 인스턴스 4개, 인스턴스마다 스레드 8개
+        List<RateLimiter> instances = new ArrayList<>();
+        for (int i = 0; i < INSTANCES; i++) {
+            instances.add(limiter(i));
+        }
+
+        // When
+        int allowed = RateLimiterTest.hammer(instances, 8, 50,
+                keyPrefix + "theme-ad:request:hourly:user-1", 5, Duration.ofHours(1), 10);
+
+        // Then
+        assertEquals(10, allowed);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 프로세스 내 제한으로 대체하고 복구되면 Redis 로 복귀")
+    void fallsBackToLocalWhenUnavailable() {
+        // Given
+        FlakyRedisTemplate template = templates.get(0);
+        RedisRateLimiter limiter = new RedisRateLimiter(template, new LocalRateLimiter(
+                Clock.fixed(Instant.parse("2025-09-01T00:00:00Z"), ZoneOffset.UTC)));
+        String key = keyPrefix + "user:1";
+        template.down = true;
+
+        // When / Then: 장애 중에도 제한은 유지
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire(key, 10, TEN_SECONDS, 3).allowed());
+        }
+        assertFalse(limiter.tryAcquire(key, 10, TEN_SECONDS, 3).allowed());
+        assertFalse(limiter.check(key, 10, TEN_SECONDS, 3).allowed());
+        assertEquals(0, template.scriptCalls.get());
+
+        // 복구 후에는 다시 Redis 버킷 사용
+        template.down = false;
+        assertTrue(limiter.tryAcquire(key, 10, TEN_SECONDS, 3).allowed());
+        assertEquals(1, template.scriptCalls.get());
+        assertEquals(1, liveKeys());
+    }
+
+    private RedisRateLimiter limiter(int instance) {
+        return new RedisRateLimiter(templates.get(instance), new LocalRateLimiter());
+    }
+
+    private int liveKeys() {
+        Set<String> keys = templates.get(0).keys(RedisRateLimiter.KEY_PREFIX + keyPrefix + "*");
+        return keys == null ? 0 : keys.size();
+    }
+
+    /**
+     * 장애를 흉내낼 수 있는 템플릿 (정상일 때는 실제 Redis 에서 스크립트 실행)
+     */
+    static class FlakyRedisTemplate extends StringRedisTemplate {
+
+        final AtomicInteger scriptCalls = new AtomicInteger();
+        volatile boolean down;
+
+        FlakyRedisTemplate(LettuceConnectionFactory connectionFactory) {
+            super(connectionFactory);
+        }
+
+        @Override
+        public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+            if (down) {
+                throw new RedisConnectionFailureException("redis down");
+            }
+            scriptCalls.incrementAndGet();
+            return super.execute(script, keys, args);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.crimecat.backend.schedule.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * iCal 반복 일정 전개 검증 (DTSTART 시간대 기준 전개 / RECURRENCE-ID 대체 / 날짜 EXDATE / 미지원 RRULE)
+ */
+class ICalStreamReaderTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private static List<ICalStreamReader.Event> read(String ical, LocalDate from, LocalDate to) throws Exception {
+        return ICalStreamReader.read(new StringReader(ical), from, to, SEOUL).events();
+    }
+
+    private static String calendar(String... lines) {
+        return "BEGIN:VCALENDAR\r\nVERSION:2.0\r\n" + String.join("\r\n", lines) + "\r\nEND:VCALENDAR\r\n";
+    }
+
+    @Test
+    @DisplayName("TZID 반복 일정은 원래 시간대 벽시계 기준으로 전개 (DST 이후 변환 시각이 한 시간 당겨짐)")
+    void read_RecurrenceFollowsSourceZoneAcrossDst() throws Exception {
+        // Given: 뉴욕 매주 토요일 09:00 (2025-03-09 서머타임 시작)
+        String ical = calendar(
+                "BEGIN:VEVENT",
+                "UID:weekly@test",
+                "DTSTART;TZID=America/New_York:20250301T090000",
+                "DTEND;TZID=America/New_York:20250301T100000",
+                "RRULE:FREQ=WEEKLY;COUNT=4",
+                "SUMMARY:Standup",
+                "END:VEVENT");
+
+        // When
+        List<ICalStreamReader.Event> events = read(ical, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+
+        // Then: EST(UTC-5) 동안 서울 23:00, EDT(UTC-4) 이후 서울 22:00
+        assertEquals(List.of(
+                LocalDateTime.of(2025, 3, 1, 23, 0),
+                LocalDateTime.of(2025, 3, 8, 23, 0),
+                LocalDateTime.of(2025, 3, 15, 22, 0),
+                LocalDateTime.of(2025, 3, 22, 22, 0)),
+                events.stream().map(ICalStreamReader.Event::start).toList());
+        assertEquals(LocalDateTime.of(2025, 3, 15, 23, 0), events.get(2).end());
+    }
+
+    @Test
+    @DisplayName("RECURRENCE-ID 수정본은 같은 UID 의 원래 발생을 대체 (수정본이 먼저 나와도)")
+    void read_RecurrenceIdReplacesInstance() throws Exception {
+        // Given
+        String ical = calendar(
+                "BEGIN:VEVENT",
+                "UID:daily@test",
+                "RECURRENCE-ID;TZID=Asia/Seoul:20250311T100000",
+                "DTSTART;TZID=Asia/Seoul:20250311T150000",
+                "DTEND;TZID=Asia/Seoul:20250311T160000",
+                "SUMMARY:Moved",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:daily@test",
+                "DTSTART;TZID=Asia/Seoul:20250310T100000",
+                "DTEND;TZID=Asia/Seoul:20250310T110000",
+                "RRULE:FREQ=DAILY;COUNT=3",
+                "SUMMARY:Daily",
+                "END:VEVENT");
+
+        // When
+        List<ICalStreamReader.Event> events = read(ical, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+
+        // Then
+        assertEquals(3, events.size());
+        List<LocalDateTime> starts = events.stream().map(ICalStreamReader.Event::start).sorted().toList();
+        assertEquals(List.of(
+                LocalDateTime.of(2025, 3, 10, 10, 0),
+                LocalDateTime.of(2025, 3, 11, 15, 0),
+                LocalDateTime.of(2025, 3, 12, 10, 0)), starts);
+        assertTrue(events.stream().anyMatch(event -> "Moved".equals(event.summary())));
+        assertFalse(events.stream().anyMatch(event -> event.start().equals(LocalDateTime.of(2025, 3, 11, 10, 0))));
+    }
+
+    @Test
+    @DisplayName("EXDATE;VALUE=DATE 는 시각이 있는 발생도 날짜로 비교해 제외")
+    void read_DateExdateExcludesTimedOccurrence() throws Exception {
+        // Given
+        String ical = calendar(
+                "BEGIN:VEVENT",
+                "UID:exdate@test",
+                "DTSTART;TZID=Asia/Seoul:20250310T100000",
+                "RRULE:FREQ=DAILY;COUNT=4",
+                "EXDATE;VALUE=DATE:20250311,20250312",
+                "SUMMARY:Daily",
+                "END:VEVENT");
+
+        // When
+        List<ICalStreamReader.Event> events = read(ical, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+
+        // Then
+        assertEquals(List.of(
+                LocalDateTime.of(2025, 3, 10, 10, 0),
+                LocalDateTime.of(2025, 3, 13, 10, 0)),
+                events.stream().map(ICalStreamReader.Event::start).toList());
+    }
+
+    @Test
+    @DisplayName("DAILY 의 BYDAY 는 요일 필터로 적용")
+    void read_DailyByDayFiltersWeekdays() throws Exception {
+        // Given: 2025-03-10 월요일부터 월/수/금 4회
+        String ical = calendar(
+                "BEGIN:VEVENT",
+                "UID:mwf@test",
+                "DTSTART;TZID=Asia/Seoul:20250310T100000",
+                "RRULE:FREQ=DAILY;BYDAY=MO,WE,FR;COUNT=4",
+                "SUMMARY:MWF",
+                "END:VEVENT");
+
+        // When
+        List<ICalStreamReader.Event> events = read(ical, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+
+        // Then
+        assertEquals(List.of(
+                LocalDateTime.of(2025, 3, 10, 10, 0),
+                LocalDateTime.of(2025, 3, 12, 10, 0),
+                LocalDateTime.of(2025, 3, 14, 10, 0),
+                LocalDateTime.of(2025, 3, 17, 10, 0)),
+                events.stream().map(ICalStreamReader.Event::start).toList());
+    }
+
+    @Test
+    @DisplayName("YEARLY 의 BYMONTH + BYDAY 는 지원하지 않으므로 같은 날짜로 전개하지 않고 DTSTART 만 사용")
+    void read_YearlyByDayFallsBackToDtStart() throws Exception {
+        // Given: 11월 넷째 목요일 (2025년은 11-27, 단순 연 단위 전개 시 11-28 로 틀림)
+        String ical = calendar(
+                "BEGIN:VEVENT",
+                "UID:thanksgiving@test",
+                "DTSTART;VALUE=DATE:20241128",
+                "RRULE:FREQ=YEARLY;BYMONTH=11;BYDAY=4TH",
+                "SUMMARY:Thanksgiving",
+                "END:VEVENT");
+
+        // When
+        List<ICalStreamReader.Event> events = read(ical, LocalDate.of(2024, 11, 1), LocalDate.of(2025, 12, 31));
+
+        // Then
+        assertEquals(List.of(LocalDateTime.of(2024, 11, 28, 0, 0)),
+                events.stream().map(ICalStreamReader.Event::start).toList());
+    }
+
+    @Test
+    @DisplayName("BYSETPOS 가 있으면 무시하고 전개하지 않고 DTSTART 만 사용")
+    void read_BySetPosFallsBackToDtStart() throws Exception {
+        // Given: 매월 마지막 평일
+        String ical = calendar(
+                "BEGIN:VEVENT",
+                "UID:last-weekday@test",
+                "DTSTART;TZID=Asia/Seoul:20250331T180000",
+                "RRULE:FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1",
+                "SUMMARY:Closing",
+                "END:VEVENT");
+
+        // When
+        List<ICalStreamReader.Event> events = read(ical, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 5, 31));
+
+        // Then
+        assertEquals(List.of(LocalDateTime.of(2025, 3, 31, 18, 0)),
+                events.stream().map(ICalStreamReader.Event::start).toList());
+    }
+
+    @Test
+    @DisplayName("DTSTART 와 같은 BYMONTH / BYMONTHDAY 는 기본 연 단위 전개와 같으므로 그대로 전개")
+    void read_RedundantByMonthExpandsYearly() throws Exception {
+        // Given
+        String ical = calendar(
+                "BEGIN:VEVENT",
+                "UID:anniversary@test",
+                "DTSTART;VALUE=DATE:20240310",
+                "RRULE:FREQ=YEARLY;BYMONTH=3;BYMONTHDAY=10",
+                "SUMMARY:Anniversary",
+                "END:VEVENT");
+
+        // When
+        List<ICalStreamReader.Event> events = read(ical, LocalDate.of(2024, 1, 1), LocalDate.of(2026, 12, 31));
+
+        // Then
+        assertEquals(List.of(
+                LocalDateTime.of(2024, 3, 10, 0, 0),
+                LocalDateTime.of(2025, 3, 10, 0, 0),
+                LocalDateTime.of(2026, 3, 10, 0, 0)),
+                events.stream().map(ICalStreamReader.Event::start).toList());
+    }
+}
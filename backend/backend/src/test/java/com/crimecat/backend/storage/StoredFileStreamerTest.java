@@ -0,0 +1,188 @@
+package com.crimecat.backend.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 저장 파일 전송 검증 (조건부 요청 / 단일·다중 Range / If-Range / sendfile 위임)
+ */
+class StoredFileStreamerTest {
+
+    private static final String CONTENT_TYPE = "audio/mpeg";
+
+    @TempDir
+    Path tempDir;
+
+    private final StoredFileStreamer streamer = new StoredFileStreamer();
+    private byte[] content;
+    private StoredFile file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        content = new byte[1_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        Path path = tempDir.resolve("track.mp3");
+        Files.write(path, content);
+        file = StoredFile.of(path);
+    }
+
+    private MockHttpServletResponse stream(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        streamer.stream(file, CONTENT_TYPE, request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/api/v1/board/audio/stream/track");
+    }
+
+    @Test
+    @DisplayName("Range 가 없으면 전체 200 과 ETag / Last-Modified 응답")
+    void stream_Full() throws Exception {
+        // When
+        MockHttpServletResponse response = stream(get());
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(content, response.getContentAsByteArray());
+        assertEquals(content.length, response.getContentLengthLong());
+        assertEquals(file.eTag(), response.getHeader("ETag"));
+        assertNotNull(response.getHeader("Last-Modified"));
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+    }
+
+    @Test
+    @DisplayName("단일 구간과 suffix 구간은 206 + Content-Range")
+    void stream_SingleRange() throws Exception {
+        // Given
+        MockHttpServletRequest request = get();
+        request.addHeader("Range", "bytes=100-199");
+        MockHttpServletRequest suffix = get();
+        suffix.addHeader("Range", "bytes=-10");
+
+        // When
+        MockHttpServletResponse response = stream(request);
+        MockHttpServletResponse suffixResponse = stream(suffix);
+
+        // Then
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 100-199/1000", response.getHeader("Content-Range"));
+        assertArrayEquals(Arrays.copyOfRange(content, 100, 200), response.getContentAsByteArray());
+
+        assertEquals(206, suffixResponse.getStatus());
+        assertEquals("bytes 990-999/1000", suffixResponse.getHeader("Content-Range"));
+        assertArrayEquals(Arrays.copyOfRange(content, 990, 1000), suffixResponse.getContentAsByteArray());
+    }
+
+    @Test
+    @DisplayName("여러 구간은 multipart/byteranges 로 응답하고 Content-Length 가 본문과 일치")
+    void stream_MultiRange() throws Exception {
+        // Given
+        MockHttpServletRequest request = get();
+        request.addHeader("Range", "bytes=0-9,500-509");
+
+        // When
+        MockHttpServletResponse response = stream(request);
+
+        // Then
+        assertEquals(206, response.getStatus());
+        assertTrue(response.getContentType().startsWith("multipart/byteranges; boundary="));
+        String boundary = response.getContentType().substring("multipart/byteranges; boundary=".length());
+        byte[] body = response.getContentAsByteArray();
+        assertEquals(body.length, response.getContentLengthLong());
+
+        String text = new String(body, StandardCharsets.ISO_8859_1);
+        assertTrue(text.contains("Content-Range: bytes 0-9/1000"));
+        assertTrue(text.contains("Content-Range: bytes 500-509/1000"));
+        assertTrue(text.endsWith("\r\n--" + boundary + "--\r\n"));
+        String firstPart = new String(Arrays.copyOfRange(content, 0, 10), StandardCharsets.ISO_8859_1);
+        String secondPart = new String(Arrays.copyOfRange(content, 500, 510), StandardCharsets.ISO_8859_1);
+        assertTrue(text.contains("\r\n\r\n" + firstPart + "\r\n--" + boundary));
+        assertTrue(text.contains("\r\n\r\n" + secondPart + "\r\n--" + boundary + "--"));
+    }
+
+    @Test
+    @DisplayName("같은 ETag 로 다시 요청하면 본문 없이 304")
+    void stream_NotModified() throws Exception {
+        // Given
+        MockHttpServletRequest request = get();
+        request.addHeader("If-None-Match", file.eTag());
+        request.addHeader("Range", "bytes=0-99");
+
+        // When
+        MockHttpServletResponse response = stream(request);
+
+        // Then
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(file.eTag(), response.getHeader("ETag"));
+    }
+
+    @Test
+    @DisplayName("If-Range 가 현재 ETag 와 같으면 206, 다르면 전체 200")
+    void stream_IfRange() throws Exception {
+        // Given
+        MockHttpServletRequest matching = get();
+        matching.addHeader("Range", "bytes=0-99");
+        matching.addHeader("If-Range", file.eTag());
+        MockHttpServletRequest stale = get();
+        stale.addHeader("Range", "bytes=0-99");
+        stale.addHeader("If-Range", "\"stale-etag\"");
+
+        // When / Then
+        assertEquals(206, stream(matching).getStatus());
+        MockHttpServletResponse staleResponse = stream(stale);
+        assertEquals(200, staleResponse.getStatus());
+        assertArrayEquals(content, staleResponse.getContentAsByteArray());
+    }
+
+    @Test
+    @DisplayName("파일 밖 구간이나 잘못된 Range 는 416")
+    void stream_Unsatisfiable() throws Exception {
+        // Given
+        MockHttpServletRequest outside = get();
+        outside.addHeader("Range", "bytes=5000-");
+        MockHttpServletRequest malformed = get();
+        malformed.addHeader("Range", "items=0-1");
+
+        // When / Then
+        MockHttpServletResponse response = stream(outside);
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */1000", response.getHeader("Content-Range"));
+        assertEquals(416, stream(malformed).getStatus());
+    }
+
+    @Test
+    @DisplayName("컨테이너가 sendfile 을 지원하면 본문을 쓰지 않고 파일 구간만 넘김")
+    void stream_DelegatesToSendfile() throws Exception {
+        // Given
+        MockHttpServletRequest request = get();
+        request.setAttribute(StoredFileStreamer.SENDFILE_SUPPORTED_ATTR, Boolean.TRUE);
+        request.addHeader("Range", "bytes=100-199");
+
+        // When
+        MockHttpServletResponse response = stream(request);
+
+        // Then
+        assertEquals(206, response.getStatus());
+        assertEquals(100, response.getContentLengthLong());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(file.path().toAbsolutePath().toString(),
+                request.getAttribute(StoredFileStreamer.SENDFILE_FILENAME_ATTR));
+        assertEquals(100L, request.getAttribute(StoredFileStreamer.SENDFILE_START_ATTR));
+        assertEquals(200L, request.getAttribute(StoredFileStreamer.SENDFILE_END_ATTR));
+    }
+}
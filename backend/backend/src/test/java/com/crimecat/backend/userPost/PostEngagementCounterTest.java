@@ -0,0 +1,116 @@
+package com.crimecat.backend.userPost;
+
+import com.crimecat.backend.userPost.domain.PostEngagementType;
+import com.crimecat.backend.userPost.repository.UserPostEngagementJdbcRepository;
+import com.crimecat.backend.userPost.service.PostEngagementCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+class PostEngagementCounterTest {
+
+    private static final int LIKE = PostEngagementType.LIKE.ordinal();
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 좋아요를 기록하고 flush 가 계속 돌아도 증분이 유실되지 않음")
+    void record_NoLostIncrementsUnderConcurrentFlush() throws Exception {
+        // Given
+        UserPostEngagementJdbcRepository repository = mock(UserPostEngagementJdbcRepository.class);
+        Map<UUID, LongAdder> persisted = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            Map<UUID, long[]> deltas = invocation.getArgument(0);
+            deltas.forEach((id, delta) -> persisted.computeIfAbsent(id, k -> new LongAdder()).add(delta[LIKE]));
+            return deltas.size();
+        }).when(repository).addCounts(anyMap());
+        PostEngagementCounter counter = new PostEngagementCounter(repository);
+
+        List<UUID> postIds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            postIds.add(UUID.randomUUID());
+        }
+        int threads = 32;
+        int likesPerThread = 5_000;
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean recording = new AtomicBoolean(true);
+        executor.submit(() -> {
+            // 기록 도중 계속 flush
+            while (recording.get()) {
+                counter.flush();
+                Thread.sleep(1);
+            }
+            return null;
+        });
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < likesPerThread; i++) {
+                    counter.record(PostEngagementType.LIKE, postIds.get((offset + i) % postIds.size()), 1);
+                }
+                done.countDown();
+                return null;
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        recording.set(false);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        counter.flushOnShutdown();
+
+        // Then
+        for (UUID postId : postIds) {
+            assertEquals((long) threads * likesPerThread / postIds.size(), persisted.get(postId).sum());
+        }
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증분은 다음 flush 에서 그대로 재시도")
+    void flush_RetriesFailedDeltas() {
+        // Given
+        UserPostEngagementJdbcRepository repository = mock(UserPostEngagementJdbcRepository.class);
+        List<Map<UUID, long[]>> calls = new ArrayList<>();
+        AtomicInteger attempts = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("db down");
+            }
+            calls.add(Map.copyOf(invocation.getArgument(0)));
+            return 1;
+        }).when(repository).addCounts(anyMap());
+        PostEngagementCounter counter = new PostEngagementCounter(repository);
+        UUID postId = UUID.randomUUID();
+        counter.record(PostEngagementType.LIKE, postId, 3);
+
+        // When
+        counter.flush();
+        counter.record(PostEngagementType.LIKE, postId, 2);
+        counter.flush();
+        counter.flush();
+
+        // Then
+        assertEquals(1, calls.size());
+        assertEquals(5, calls.get(0).get(postId)[LIKE]);
+        assertEquals(2, attempts.get());
+    }
+}
@@ -0,0 +1,125 @@
+package com.crimecat.backend.userPost;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.crimecat.backend.hashtag.service.HashTagService;
+import com.crimecat.backend.storage.StorageService;
+import com.crimecat.backend.userPost.domain.UserPost;
+import com.crimecat.backend.userPost.repository.UserPostImageRepository;
+import com.crimecat.backend.userPost.repository.UserPostRepository;
+import com.crimecat.backend.userPost.service.UserPostGalleryAssembler;
+import com.crimecat.backend.userPost.service.UserPostServiceImpl;
+import com.crimecat.backend.userPost.service.UserPostTimeline;
+import com.crimecat.backend.webUser.domain.WebUser;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * 게시글 수정 시 공개 범위 변경에 따른 타임라인 반영 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class UserPostServiceImplTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 9, 1, 12, 0);
+
+    @Mock
+    private UserPostRepository userPostRepository;
+
+    @Mock
+    private UserPostImageRepository userPostImageRepository;
+
+    @Mock
+    private StorageService storageService;
+
+    @Mock
+    private HashTagService hashTagService;
+
+    @Mock
+    private UserPostGalleryAssembler userPostGalleryAssembler;
+
+    @Mock
+    private UserPostTimeline userPostTimeline;
+
+    @InjectMocks
+    private UserPostServiceImpl service;
+
+    private UUID postId;
+    private WebUser author;
+
+    @BeforeEach
+    void setUp() {
+        postId = UUID.randomUUID();
+        author = WebUser.builder().id(UUID.randomUUID()).nickname("작성자").build();
+    }
+
+    @Test
+    @DisplayName("비밀글을 공개로 바꾸면 커밋 후 팔로워 타임라인에 반영")
+    void updateUserPostPartially_PrivateToPublic_Publishes() {
+        // Given
+        givenPost(true);
+
+        // When
+        update(false);
+
+        // Then
+        verify(userPostTimeline).publish(postId, author.getId(), CREATED_AT, false);
+        verify(userPostTimeline, never()).remove(any(), any());
+    }
+
+    @Test
+    @DisplayName("공개글을 비밀글로 바꾸면 타임라인에서 제거")
+    void updateUserPostPartially_PublicToPrivate_Removes() {
+        // Given
+        givenPost(false);
+
+        // When
+        update(true);
+
+        // Then
+        verify(userPostTimeline).remove(postId, author.getId());
+        verify(userPostTimeline, never()).publish(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("공개 범위가 그대로면 타임라인을 건드리지 않음")
+    void updateUserPostPartially_SameVisibility_LeavesTimeline() {
+        // Given
+        givenPost(false);
+
+        // When
+        update(false);
+
+        // Then
+        verifyNoInteractions(userPostTimeline);
+    }
+
+    private void givenPost(boolean isPrivate) {
+        UserPost post = UserPost.builder()
+                .id(postId)
+                .user(author)
+                .content("본문")
+                .createdAt(CREATED_AT)
+                .images(new ArrayList<>())
+                .isPrivate(isPrivate)
+                .build();
+        when(userPostRepository.findByIdWithImages(eq(postId))).thenReturn(Optional.of(post));
+    }
+
+    private void update(boolean isPrivate) {
+        service.updateUserPostPartially(postId, author, "수정된 본문", List.of(), null, null, List.of(),
+                isPrivate, false, null, null, null);
+    }
+}
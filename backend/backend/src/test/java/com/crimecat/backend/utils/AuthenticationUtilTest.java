@@ -0,0 +1,102 @@
+package com.crimecat.backend.utils;
+
+import com.crimecat.backend.auth.jwt.AuthenticatedPrincipal;
+import com.crimecat.backend.auth.jwt.PrincipalAuthenticationToken;
+import com.crimecat.backend.exception.CrimeCatException;
+import com.crimecat.backend.webUser.domain.WebUser;
+import com.crimecat.backend.webUser.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AuthenticationUtil 검증
+ * - ID / 역할 / 인증 여부 판단은 토큰 스냅샷만 사용하고 WebUser 를 조회하지 않음
+ */
+class AuthenticationUtilTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("ID / 역할 / 인증 여부 확인은 WebUser 를 조회하지 않음")
+    void snapshotAccessors_DoNotLoadWebUser() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        authenticate(userId, UserRole.MANAGER);
+
+        // When / Then
+        assertTrue(AuthenticationUtil.isAuthenticated());
+        assertEquals(userId, AuthenticationUtil.getCurrentWebUserId());
+        assertEquals(userId, AuthenticationUtil.getCurrentWebUserIdOptional().orElseThrow());
+        assertEquals(UserRole.MANAGER, AuthenticationUtil.getCurrentWebUserRole());
+        assertEquals("탐정", AuthenticationUtil.getCurrentPrincipal().nickname());
+        AuthenticationUtil.validateCurrentUserMatches(userId);
+        AuthenticationUtil.validateUserHasMinimumRole(UserRole.MANAGER);
+        AuthenticationUtil.validateSelfOrHasRole(UUID.randomUUID(), UserRole.MANAGER);
+        AuthenticationUtil.validateEventEditAccess(UUID.randomUUID());
+        assertTrue(AuthenticationUtil.isEventCreator(userId));
+        assertTrue(AuthenticationUtil.hasMinimumRole(UserRole.USER));
+        assertFalse(AuthenticationUtil.hasMinimumRole(UserRole.ADMIN));
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    @DisplayName("역할이 부족하면 스냅샷만으로 거부")
+    void validateUserHasMinimumRole_RejectsFromSnapshot() {
+        // Given
+        authenticate(UUID.randomUUID(), UserRole.USER);
+
+        // When / Then
+        assertThrows(CrimeCatException.class,
+                () -> AuthenticationUtil.validateUserHasMinimumRole(UserRole.ADMIN));
+        assertThrows(CrimeCatException.class,
+                () -> AuthenticationUtil.validateCurrentUserMatches(UUID.randomUUID()));
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    @DisplayName("엔티티가 필요한 getCurrentWebUser 는 요청당 한 번만 조회")
+    void getCurrentWebUser_LoadsOnce() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        authenticate(userId, UserRole.USER);
+
+        // When
+        WebUser first = AuthenticationUtil.getCurrentWebUser();
+        WebUser second = AuthenticationUtil.getCurrentWebUser();
+
+        // Then
+        assertSame(first, second);
+        assertEquals(userId, first.getId());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("인증 정보가 없으면 인증되지 않은 것으로 판단")
+    void unauthenticated() {
+        // When / Then
+        assertFalse(AuthenticationUtil.isAuthenticated());
+        assertTrue(AuthenticationUtil.getCurrentWebUserIdOptional().isEmpty());
+        assertFalse(AuthenticationUtil.hasMinimumRole(UserRole.USER));
+        assertThrows(CrimeCatException.class, AuthenticationUtil::getCurrentWebUserId);
+    }
+
+    private void authenticate(UUID userId, UserRole role) {
+        AuthenticatedPrincipal snapshot = new AuthenticatedPrincipal(userId, "탐정", role, false, null);
+        SecurityContextHolder.getContext().setAuthentication(new PrincipalAuthenticationToken(snapshot, id -> {
+            loads.incrementAndGet();
+            return WebUser.builder().id(id).nickname("탐정").role(role).build();
+        }));
+    }
+}
@@ -0,0 +1,40 @@
+-- Migration: V1.8.1_001_add_point_balance_summaries.sql
+-- Description: 사용자별 포인트 누적 합계 테이블 (포인트 요약 조회 시 point_histories 집계 제거)
+-- Created: 2025-09-01 00:00:00
+
+USE ${DB_DISCORD};
+START TRANSACTION;
+
+-- 1) 누적 합계 테이블 (PointLedger 가 거래와 같은 트랜잭션에서 갱신)
+CREATE TABLE IF NOT EXISTS `point_balance_summaries` (
+    `user_id`         BINARY(16) NOT NULL PRIMARY KEY COMMENT '유저 (users.id)',
+    `total_earned`    BIGINT NOT NULL DEFAULT 0 COMMENT '누적 적립 (CHARGE, DAILY, RECEIVE, COUPON)',
+    `total_spent`     BIGINT NOT NULL DEFAULT 0 COMMENT '누적 사용 (USE)',
+    `total_received`  BIGINT NOT NULL DEFAULT 0 COMMENT '누적 받은 선물 (RECEIVE)',
+    `total_gifted`    BIGINT NOT NULL DEFAULT 0 COMMENT '누적 보낸 선물 (GIFT)',
+    `updated_at`      TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    CONSTRAINT `fk_point_balance_summaries_user`
+        FOREIGN KEY (`user_id`) REFERENCES `users`(`id`)
+        ON DELETE CASCADE
+        ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='사용자별 포인트 누적 합계';
+
+-- 2) 기존 거래 내역으로 초기값 채우기
+INSERT INTO `point_balance_summaries` (`user_id`, `total_earned`, `total_spent`, `total_received`, `total_gifted`)
+SELECT
+    ph.user_id,
+    SUM(CASE WHEN ph.type IN ('CHARGE', 'DAILY', 'RECEIVE', 'COUPON') THEN ph.amount ELSE 0 END),
+    SUM(CASE WHEN ph.type = 'USE' THEN ph.amount ELSE 0 END),
+    SUM(CASE WHEN ph.type = 'RECEIVE' THEN ph.amount ELSE 0 END),
+    SUM(CASE WHEN ph.type = 'GIFT' THEN ph.amount ELSE 0 END)
+FROM `point_histories` ph
+GROUP BY ph.user_id
+ON DUPLICATE KEY UPDATE
+    `total_earned` = VALUES(`total_earned`),
+    `total_spent` = VALUES(`total_spent`),
+    `total_received` = VALUES(`total_received`),
+    `total_gifted` = VALUES(`total_gifted`);
+
+COMMIT;
@@ -0,0 +1,22 @@
+-- Migration: V1.8.2_001_add_user_post_engagement_counters.sql
+-- Description: 게시글 인기도 점수용 반응 카운터 (좋아요/댓글 수) 및 재계산용 인덱스
+-- Created: 2025-09-02 00:00:00
+
+USE ${DB_DISCORD};
+START TRANSACTION;
+
+-- 1) 반응 카운터 (PostEngagementCounter 가 주기적으로 증분 반영)
+ALTER TABLE `user_posts`
+    ADD COLUMN IF NOT EXISTS `like_count` INT NOT NULL DEFAULT 0 COMMENT '좋아요 수' AFTER `view_count`,
+    ADD COLUMN IF NOT EXISTS `comment_count` INT NOT NULL DEFAULT 0 COMMENT '삭제되지 않은 댓글 수 (답글 포함)' AFTER `like_count`;
+
+-- 2) 최근 게시글 점수 재계산 (created_at, id 키셋 순회)
+CREATE INDEX IF NOT EXISTS `idx_user_posts_created_id`
+    ON `user_posts` (`created_at`, `id`);
+
+-- 3) 기존 데이터로 초기값 채우기
+UPDATE `user_posts` p
+SET p.`like_count` = (SELECT COUNT(*) FROM `user_post_likes` l WHERE l.`post_id` = p.`id`),
+    p.`comment_count` = (SELECT COUNT(*) FROM `user_post_comments` c WHERE c.`post_id` = p.`id` AND c.`is_deleted` = 0);
+
+COMMIT;
@@ -0,0 +1,59 @@
+-- Migration: V1.8.3_001_create_guild_stats.sql
+-- Description: 길드별 게임 통계 집계 테이블 (공개 길드 정보가 game_histories 를 스캔하지 않도록)
+-- Created: 2025-09-05 00:00:00
+
+USE ${DB_DISCORD};
+START TRANSACTION;
+
+-- 1) 길드별 집계 (GuildStatsService 가 기록 저장/수정/삭제 트랜잭션 안에서 갱신)
+CREATE TABLE IF NOT EXISTS `guild_stats`
+(
+    `guild_snowflake`     VARCHAR(50) PRIMARY KEY COMMENT '디스코드 guild snowflake',
+    `play_count`          BIGINT      NOT NULL DEFAULT 0 COMMENT '게임 기록 수',
+    `win_count`           BIGINT      NOT NULL DEFAULT 0 COMMENT '승리 기록 수',
+    `unique_player_count` BIGINT      NOT NULL DEFAULT 0 COMMENT '기록이 있는 서로 다른 유저 수',
+    `last_played_at`      TIMESTAMP   NULL     DEFAULT NULL COMMENT '가장 최근 기록 시각',
+    CONSTRAINT `fk_guild_stats_guilds` FOREIGN KEY (`guild_snowflake`) REFERENCES `guilds` (`snowflake`)
+        ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci
+    COMMENT = '길드별 게임 통계';
+
+-- 2) 길드 + 유저별 기록 수 (고유 플레이어 수 증감 판단용)
+CREATE TABLE IF NOT EXISTS `guild_player_stats`
+(
+    `guild_snowflake` VARCHAR(50) NOT NULL COMMENT '디스코드 guild snowflake',
+    `user_id`         BINARY(16)  NOT NULL COMMENT '유저 ID',
+    `play_count`      BIGINT      NOT NULL DEFAULT 0 COMMENT '해당 길드에서의 기록 수',
+    PRIMARY KEY (`guild_snowflake`, `user_id`),
+    CONSTRAINT `fk_guild_player_stats_guilds` FOREIGN KEY (`guild_snowflake`) REFERENCES `guilds` (`snowflake`)
+        ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci
+    COMMENT = '길드별 유저 게임 기록 수';
+
+-- 3) 기록 수정/삭제 시 마지막 플레이 시각 재계산 (MAX(created_at) 인덱스 조회)
+CREATE INDEX IF NOT EXISTS `idx_game_histories_guild_created_at`
+    ON `game_histories` (`guild_snowflake`, `created_at`);
+
+-- 4) 기존 데이터로 초기값 채우기
+INSERT INTO `guild_player_stats` (`guild_snowflake`, `user_id`, `play_count`)
+SELECT `guild_snowflake`, `user_id`, COUNT(*)
+FROM `game_histories`
+WHERE `guild_snowflake` IS NOT NULL AND `user_id` IS NOT NULL
+GROUP BY `guild_snowflake`, `user_id`
+ON DUPLICATE KEY UPDATE `play_count` = VALUES(`play_count`);
+
+INSERT INTO `guild_stats` (`guild_snowflake`, `play_count`, `win_count`, `unique_player_count`, `last_played_at`)
+SELECT `guild_snowflake`, COUNT(*), SUM(IF(`is_win`, 1, 0)), COUNT(DISTINCT `user_id`), MAX(`created_at`)
+FROM `game_histories`
+WHERE `guild_snowflake` IS NOT NULL AND `user_id` IS NOT NULL
+GROUP BY `guild_snowflake`
+ON DUPLICATE KEY UPDATE `play_count`          = VALUES(`play_count`),
+                        `win_count`           = VALUES(`win_count`),
+                        `unique_player_count` = VALUES(`unique_player_count`),
+                        `last_played_at`      = VALUES(`last_played_at`);
+
+COMMIT;
@@ -0,0 +1,13 @@
+-- Migration: V1.8.3_002_add_user_calendars_change_indexes.sql
+-- Description: 캘린더 갱신 스케줄러의 변경분 조회용 인덱스 (전체 활성 캘린더를 주기적으로 다시 읽지 않도록)
+-- Created: 2025-09-06 00:00:00
+
+USE ${DB_DISCORD};
+START TRANSACTION;
+
+-- 1) 생성/수정 시각 기준 변경분 조회 (CalendarRefreshScheduler.reloadCalendars)
+ALTER TABLE `user_calendars`
+    ADD INDEX IF NOT EXISTS `idx_calendars_created_at` (`created_at`),
+    ADD INDEX IF NOT EXISTS `idx_calendars_updated_at` (`updated_at`);
+
+COMMIT;